@@ -0,0 +1,27 @@
+#!/bin/bash
+# File: benchmarks/run.sh
+#
+# Builds the application classes and the JMH jar, runs the benchmarks and compares the scores
+# against baseline.json. Extra arguments go to JMH, e.g. a filter: ./run.sh LogicalRunGrouper
+# Set UPDATE_BASELINE=1 to record the scores as the new baseline instead of comparing.
+
+set -e
+
+cd "$(dirname "$0")"
+
+echo "Building application classes..."
+mvn -q -f ../pom.xml -Pbenchmarks install -DskipTests
+
+echo "Building benchmarks..."
+mvn -q clean package
+
+echo "Running benchmarks..."
+java -jar target/benchmarks.jar -rf json -rff target/jmh-result.json "$@"
+
+if [ "${UPDATE_BASELINE}" = "1" ]; then
+    java -cp target/benchmarks.jar com.company.observability.benchmark.BaselineCheck \
+        target/jmh-result.json baseline.json --update
+else
+    java -cp target/benchmarks.jar com.company.observability.benchmark.BaselineCheck \
+        target/jmh-result.json baseline.json
+fi
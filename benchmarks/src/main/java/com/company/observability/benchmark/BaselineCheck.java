@@ -0,0 +1,172 @@
+package com.company.observability.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file ({@code -rf json}) against {@code baseline.json} and exits
+ * non-zero when any benchmark regressed by more than the baseline's tolerance. Throughput
+ * scores regress when they drop; time-per-op scores regress when they rise. Benchmarks missing
+ * from either side are reported but never fail the check, so a filtered run can be compared.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.company.observability.benchmark.BaselineCheck \
+ *     target/jmh-result.json baseline.json [--update]
+ * </pre>
+ *
+ * {@code --update} merges the new scores into the baseline instead of comparing.
+ */
+public final class BaselineCheck {
+
+    static final double DEFAULT_TOLERANCE = 0.20;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private BaselineCheck() {}
+
+    public record Score(double score, String unit, String mode) {}
+
+    public record Comparison(String benchmark, Score baseline, Score current, boolean regressed) {
+
+        /** current / baseline, oriented so that below 1.0 is always slower. */
+        public double speedup() {
+            if (baseline == null || current == null) {
+                return Double.NaN;
+            }
+            return higherIsBetter(current.mode())
+                    ? current.score() / baseline.score()
+                    : baseline.score() / current.score();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineCheck <jmh-result.json> <baseline.json> [--update]");
+            System.exit(2);
+        }
+        File resultFile = new File(args[0]);
+        File baselineFile = new File(args[1]);
+        Map<String, Score> results = readResults(MAPPER.readTree(resultFile));
+
+        JsonNode baselineJson = baselineFile.exists() ? MAPPER.readTree(baselineFile) : MAPPER.createObjectNode();
+        if (args.length > 2 && "--update".equals(args[2])) {
+            MAPPER.writeValue(baselineFile, merge(baselineJson, results));
+            System.out.printf("Updated %s with %d benchmark(s)%n", baselineFile, results.size());
+            return;
+        }
+
+        double tolerance = baselineJson.path("tolerance").asDouble(DEFAULT_TOLERANCE);
+        List<Comparison> comparisons = compare(readBaseline(baselineJson), results, tolerance);
+        int regressions = 0;
+        for (Comparison c : comparisons) {
+            String verdict = c.baseline() == null ? "NEW"
+                    : c.current() == null ? "NOT RUN"
+                    : c.regressed() ? "REGRESSED" : "ok";
+            if (c.regressed()) {
+                regressions++;
+            }
+            System.out.printf("%-10s %-90s %s -> %s %s%n", verdict, c.benchmark(),
+                    format(c.baseline()), format(c.current()),
+                    Double.isNaN(c.speedup()) ? "" : String.format("(x%.2f)", c.speedup()));
+        }
+        System.out.printf("%d benchmark(s) compared, %d regressed beyond %.0f%%%n",
+                comparisons.stream().filter(c -> c.baseline() != null && c.current() != null).count(),
+                regressions, tolerance * 100);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /** One comparison per benchmark on either side, sorted by name. */
+    public static List<Comparison> compare(Map<String, Score> baseline, Map<String, Score> results,
+                                           double tolerance) {
+        Map<String, Comparison> byName = new TreeMap<>();
+        results.forEach((name, current) -> {
+            Score base = baseline.get(name);
+            byName.put(name, new Comparison(name, base, current, base != null && regressed(base, current, tolerance)));
+        });
+        baseline.forEach((name, base) -> byName.putIfAbsent(name, new Comparison(name, base, null, false)));
+        return new ArrayList<>(byName.values());
+    }
+
+    /** Scores keyed {@code Class.method{param=value,...}} from a JMH JSON result array. */
+    public static Map<String, Score> readResults(JsonNode jmhResults) {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode result : jmhResults) {
+            JsonNode metric = result.path("primaryMetric");
+            scores.put(key(result.path("benchmark").asText(), result.path("params")),
+                    new Score(metric.path("score").asDouble(), metric.path("scoreUnit").asText(),
+                            result.path("mode").asText()));
+        }
+        return scores;
+    }
+
+    public static Map<String, Score> readBaseline(JsonNode baselineJson) {
+        Map<String, Score> scores = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = baselineJson.path("benchmarks").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            scores.put(field.getKey(), new Score(value.path("score").asDouble(), value.path("unit").asText(),
+                    value.path("mode").asText("thrpt")));
+        }
+        return scores;
+    }
+
+    static ObjectNode merge(JsonNode baselineJson, Map<String, Score> results) {
+        Map<String, Score> merged = readBaseline(baselineJson);
+        merged.putAll(results);
+
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("tolerance", baselineJson.path("tolerance").asDouble(DEFAULT_TOLERANCE));
+        ObjectNode benchmarks = root.putObject("benchmarks");
+        merged.forEach((name, score) -> benchmarks.putObject(name)
+                .put("score", Math.round(score.score() * 100) / 100.0)
+                .put("unit", score.unit())
+                .put("mode", score.mode()));
+        return root;
+    }
+
+    static boolean regressed(Score baseline, Score current, double tolerance) {
+        return higherIsBetter(current.mode())
+                ? current.score() < baseline.score() * (1 - tolerance)
+                : current.score() > baseline.score() * (1 + tolerance);
+    }
+
+    private static boolean higherIsBetter(String mode) {
+        return "thrpt".equals(mode);
+    }
+
+    private static String key(String benchmark, JsonNode params) {
+        // Drop the package: benchmark class names are unique within the module
+        String[] parts = benchmark.split("\\.");
+        String name = parts.length >= 2 ? parts[parts.length - 2] + "." + parts[parts.length - 1] : benchmark;
+        if (params.isMissingNode() || params.isEmpty()) {
+            return name;
+        }
+        StringBuilder sb = new StringBuilder(name).append('{');
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> param = fields.next();
+            sb.append(param.getKey()).append('=').append(param.getValue().asText());
+            if (fields.hasNext()) {
+                sb.append(',');
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    private static String format(Score score) {
+        return score == null ? "-" : String.format("%.1f %s", score.score(), score.unit());
+    }
+}
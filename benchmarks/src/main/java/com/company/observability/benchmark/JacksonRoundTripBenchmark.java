@@ -0,0 +1,74 @@
+package com.company.observability.benchmark;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.dto.response.CalculatorStatusResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialise-then-parse round trips of the two documents the caches store most: a
+ * {@link CalculatorRun} with both JSONB maps, and a {@link CalculatorStatusResponse} with
+ * {@code historySize} prior runs. The mapper is configured like the application's (Boot's
+ * builder defaults: JSR-310 module, ISO dates, unknown properties ignored).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonRoundTripBenchmark {
+
+    /** Same configuration as the application's mapper. */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @State(Scope.Thread)
+    public static class Runs {
+        CalculatorRun run;
+        ObjectWriter writer;
+        ObjectReader reader;
+
+        @Setup
+        public void setUp() {
+            ObjectMapper objectMapper = objectMapper();
+            writer = objectMapper.writerFor(CalculatorRun.class);
+            reader = objectMapper.readerFor(CalculatorRun.class);
+            run = new SyntheticData(42).storedRun("capital");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Statuses {
+        @Param({"5", "50"})
+        public int historySize;
+
+        CalculatorStatusResponse status;
+        ObjectWriter writer;
+        ObjectReader reader;
+
+        @Setup
+        public void setUp() {
+            ObjectMapper objectMapper = objectMapper();
+            writer = objectMapper.writerFor(CalculatorStatusResponse.class);
+            reader = objectMapper.readerFor(CalculatorStatusResponse.class);
+            status = new SyntheticData(42).statusResponse("capital", historySize);
+        }
+    }
+
+    @Benchmark
+    public CalculatorRun calculatorRun(Runs runs) throws IOException {
+        return runs.reader.readValue(runs.writer.writeValueAsBytes(runs.run));
+    }
+
+    @Benchmark
+    public CalculatorStatusResponse calculatorStatusResponse(Statuses statuses) throws IOException {
+        return statuses.reader.readValue(statuses.writer.writeValueAsBytes(statuses.status));
+    }
+}
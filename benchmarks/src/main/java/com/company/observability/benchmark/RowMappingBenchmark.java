@@ -0,0 +1,164 @@
+package com.company.observability.benchmark;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.RunWithSlaStatus;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.domain.enums.SlaBand;
+import com.company.observability.repository.CalculatorRunRowMapper;
+import com.company.observability.repository.CalculatorRunRows;
+import com.company.observability.repository.RunWithSlaStatusRowMapper;
+import com.company.observability.repository.SyntheticResultSet;
+import com.company.observability.util.JsonbConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static com.company.observability.util.TimeUtils.fromTimestamp;
+
+/**
+ * Row-mapping cost of the two {@code calculator_runs} mappers over 100k synthetic rows,
+ * against the previous name-based mappers (copied below as the baseline). Scores are rows per
+ * second; with {@code -prof gc}, {@code gc.alloc.rate.norm} is bytes allocated per row.
+ *
+ * <p>The rows come from {@link SyntheticResultSet}, so driver-side decoding is excluded and
+ * the numbers isolate the mapper: column lookup, enum parsing, Instant conversion and JSONB.
+ *
+ * <p>Run on its own with {@code java -jar target/benchmarks.jar RowMappingBenchmark -prof gc}
+ * (see {@code benchmarks/run.sh}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    static final int ROWS = 100_000;
+
+    @State(Scope.Thread)
+    public static class Runs {
+        /** Queries that select the JSONB columns (upsert RETURNING, findById) vs all others. */
+        @Param({"false", "true"})
+        public boolean includeJsonb;
+
+        final JsonbConverter jsonbConverter = new JsonbConverter(new ObjectMapper());
+        SyntheticResultSet rows;
+
+        @Setup
+        public void setUp() {
+            rows = CalculatorRunRows.calculatorRuns(ROWS);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RunsWithSla {
+        SyntheticResultSet rows;
+
+        @Setup
+        public void setUp() {
+            rows = CalculatorRunRows.runsWithSlaStatus(ROWS);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void calculatorRun_byName(Runs runs, Blackhole bh) throws SQLException {
+        mapAll(runs.rows, new LegacyCalculatorRunMapper(runs.jsonbConverter, runs.includeJsonb), bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void calculatorRun_byIndex(Runs runs, Blackhole bh) throws SQLException {
+        mapAll(runs.rows, new CalculatorRunRowMapper(runs.jsonbConverter, runs.includeJsonb), bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void runWithSlaStatus_byName(RunsWithSla runs, Blackhole bh) throws SQLException {
+        mapAll(runs.rows, LEGACY_RUN_WITH_SLA_STATUS, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void runWithSlaStatus_byIndex(RunsWithSla runs, Blackhole bh) throws SQLException {
+        mapAll(runs.rows, new RunWithSlaStatusRowMapper(), bh);
+    }
+
+    private static void mapAll(SyntheticResultSet rs, RowMapper<?> mapper, Blackhole bh) throws SQLException {
+        rs.rewind();
+        int rowNum = 0;
+        while (rs.next()) {
+            bh.consume(mapper.mapRow(rs, rowNum++));
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Baseline: the name-based mappers these replaced
+    // ---------------------------------------------------------------
+
+    private static final RowMapper<RunWithSlaStatus> LEGACY_RUN_WITH_SLA_STATUS = (rs, rowNum) -> {
+        String bandStr = rs.getString("sla_band");
+        SlaBand slaBand = bandStr != null ? SlaBand.valueOf(bandStr) : null;
+        return new RunWithSlaStatus(
+                rs.getString("run_id"),
+                rs.getString("calculator_id"),
+                rs.getString("calculator_name"),
+                rs.getObject("reporting_date", LocalDate.class),
+                fromTimestamp(rs.getTimestamp("start_time")),
+                fromTimestamp(rs.getTimestamp("end_time")),
+                rs.getObject("duration_ms", Long.class),
+                fromTimestamp(rs.getTimestamp("sla_time")),
+                fromTimestamp(rs.getTimestamp("estimated_start_time")),
+                Frequency.from(rs.getString("frequency")),
+                RunStatus.fromString(rs.getString("status")),
+                slaBand,
+                rs.getString("sla_breach_reason"),
+                rs.getString("correlation_id"),
+                rs.getString("run_number"),
+                rs.getObject("expected_duration_ms", Long.class));
+    };
+
+    private record LegacyCalculatorRunMapper(JsonbConverter jsonbConverter, boolean includeJsonb)
+            implements RowMapper<CalculatorRun> {
+
+        @Override
+        public CalculatorRun mapRow(ResultSet rs, int rowNum) throws SQLException {
+            var builder = CalculatorRun.builder()
+                    .runId(rs.getString("run_id"))
+                    .calculatorId(rs.getString("calculator_id"))
+                    .calculatorName(rs.getString("calculator_name"))
+                    .tenantId(rs.getString("tenant_id"))
+                    .frequency(Frequency.from(rs.getString("frequency")))
+                    .reportingDate(rs.getObject("reporting_date", LocalDate.class))
+                    .startTime(fromTimestamp(rs.getTimestamp("start_time")))
+                    .endTime(fromTimestamp(rs.getTimestamp("end_time")))
+                    .durationMs(rs.getObject("duration_ms", Long.class))
+                    .status(RunStatus.fromString(rs.getString("status")))
+                    .slaTime(fromTimestamp(rs.getTimestamp("sla_time")))
+                    .expectedDurationMs(rs.getObject("expected_duration_ms", Long.class))
+                    .estimatedStartTime(fromTimestamp(rs.getTimestamp("estimated_start_time")))
+                    .estimatedEndTime(fromTimestamp(rs.getTimestamp("estimated_end_time")))
+                    .slaBand(rs.getString("sla_band") != null ? SlaBand.valueOf(rs.getString("sla_band")) : null)
+                    .slaBreached(rs.getBoolean("sla_breached"))
+                    .slaBreachReason(rs.getString("sla_breach_reason"))
+                    .runNumber(rs.getString("run_number"))
+                    .runType(rs.getString("run_type"))
+                    .region(rs.getString("region"))
+                    .correlationId(rs.getString("correlation_id"))
+                    .createdAt(fromTimestamp(rs.getTimestamp("created_at")))
+                    .updatedAt(fromTimestamp(rs.getTimestamp("updated_at")));
+            if (includeJsonb) {
+                builder.runParameters(jsonbConverter.fromJsonb(rs.getObject("run_parameters")))
+                       .additionalAttributes(jsonbConverter.fromJsonb(rs.getObject("additional_attributes")));
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.company.observability.benchmark;
+
+import com.company.observability.domain.CalculatorProfile;
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.RunWithSlaStatus;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.domain.enums.SlaBand;
+import com.company.observability.dto.request.StartRunRequest;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
+import com.company.observability.dto.response.CalculatorStatusResponse;
+import com.company.observability.dto.response.RunStatusInfo;
+import com.company.observability.util.TimeUtils;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic generators for the shapes the hot paths see in production: aliases that map to
+ * env-specific calculator names, region- and run-type-dimensioned calculators, parallel splits
+ * sharing a correlationId, sequential reruns, and a mix of statuses, SLA bands and slaTime
+ * specs. The same seed always produces the same data, so runs of different builds measure the
+ * same work.
+ */
+public final class SyntheticData {
+
+    public static final LocalDate REPORTING_DATE = LocalDate.of(2026, 3, 6);
+
+    /** Mirrors {@code observability.calculator.regions} in application.yml. */
+    public static final Map<String, List<String>> REGIONS = Map.of(
+            "capital", List.of("WMAP", "WMDE", "ASIA", "WMUS", "AUNZ", "WMCH", "ZURI", "LDNL", "AMER", "EURO"));
+
+    /** Mirrors {@code observability.calculator.run-types} in application.yml. */
+    public static final Map<String, List<String>> RUN_TYPES = Map.of(
+            "modelled-exposure", List.of("ETD", "OTC", "SFT"),
+            "gemini-hedge", List.of("ETD", "OTC", "SFT"));
+
+    /** Alias → calculator_name, as in application-dev.yml. */
+    public static final Map<String, List<String>> ALIASES = orderedAliases();
+
+    private static final Instant DAY_START = REPORTING_DATE.plusDays(1).atTime(LocalTime.of(1, 0))
+            .toInstant(ZoneOffset.UTC);
+
+    private final Random random;
+    private int sequence;
+
+    public SyntheticData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public static String calculatorName(String alias) {
+        return ALIASES.getOrDefault(alias, List.of(alias)).get(0);
+    }
+
+    /** Declared dimension values for an alias; empty for calculators that are not dimensioned. */
+    public static List<String> dimensions(String alias) {
+        return REGIONS.getOrDefault(alias, RUN_TYPES.getOrDefault(alias, List.of()));
+    }
+
+    /**
+     * One calculator-day of {@code calculator_runs} rows, as {@code CalculatorStateService} reads
+     * them: every second dimension value runs as {@code splitsPerGroup} parallel splits, the rest
+     * as standalone runs of which about a third were rerun.
+     */
+    public List<CalculatorRun> calculatorDay(String alias, int splitsPerGroup) {
+        String name = calculatorName(alias);
+        boolean byRegion = REGIONS.containsKey(alias);
+        List<String> dims = dimensions(alias);
+        List<CalculatorRun> runs = new ArrayList<>();
+        for (int d = 0; d < Math.max(1, dims.size()); d++) {
+            String dim = dims.isEmpty() ? null : dims.get(d);
+            Instant start = DAY_START.plusSeconds(random.nextInt(3_600));
+            if (d % 2 == 0 && splitsPerGroup > 1) {
+                String correlationId = "corr-" + name + "-" + d;
+                for (int s = 0; s < splitsPerGroup; s++) {
+                    runs.add(run(name, dim, byRegion, correlationId, start.plusSeconds(s * 5L)));
+                }
+            } else {
+                int attempts = random.nextInt(3) == 0 ? 2 : 1;
+                for (int a = 0; a < attempts; a++) {
+                    runs.add(run(name, dim, byRegion, null, start.plusSeconds(a * 1_800L)));
+                }
+            }
+        }
+        return runs;
+    }
+
+    /** A split group of {@code splits} physical runs sharing one correlationId. */
+    public List<CalculatorRun> splitGroup(String alias, int splits) {
+        String name = calculatorName(alias);
+        String correlationId = "corr-" + name + "-" + (sequence++);
+        Instant start = DAY_START.plusSeconds(random.nextInt(3_600));
+        List<CalculatorRun> runs = new ArrayList<>(splits);
+        for (int s = 0; s < splits; s++) {
+            runs.add(run(name, null, false, correlationId, start.plusSeconds(s * 5L)));
+        }
+        return runs;
+    }
+
+    /**
+     * {@code days} of run history for one calculator in repository order (reporting date, then
+     * createdAt). About {@code splitRate} of the logical runs are split {@code splitsPerGroup}
+     * ways, and the splits of concurrent runs interleave as they do when Airflow starts them
+     * together.
+     */
+    public List<RunWithSlaStatus> runHistory(String alias, int days, int runsPerDay,
+                                             double splitRate, int splitsPerGroup) {
+        String name = calculatorName(alias);
+        List<RunWithSlaStatus> rows = new ArrayList<>(days * runsPerDay * 2);
+        LocalDate date = REPORTING_DATE.minusDays(days);
+        for (int day = 0; day < days; day++, date = date.plusDays(1)) {
+            List<RunWithSlaStatus> dayRows = new ArrayList<>();
+            Instant dayStart = date.plusDays(1).atTime(LocalTime.of(1, 0)).toInstant(ZoneOffset.UTC);
+            for (int r = 0; r < runsPerDay; r++) {
+                Instant start = dayStart.plusSeconds(r * 900L + random.nextInt(600));
+                int splits = random.nextDouble() < splitRate ? splitsPerGroup : 1;
+                String correlationId = splits > 1 ? "corr-" + name + "-" + date + "-" + r : null;
+                for (int s = 0; s < splits; s++) {
+                    dayRows.add(historyRow(name, date, start.plusSeconds(random.nextInt(120)),
+                            correlationId, r % 2 == 0 ? "1" : "2"));
+                }
+            }
+            // createdAt order; startTime is within seconds of it
+            dayRows.sort(Comparator.comparing(RunWithSlaStatus::startTime));
+            rows.addAll(dayRows);
+        }
+        return rows;
+    }
+
+    /**
+     * Start requests in one slaTime form — {@code tplus} ({@code T+N@HH:mm}), {@code duration}
+     * (ISO-8601), {@code clock} (bare {@code HH:mm}) or {@code blank} (profile fallback). One in ten
+     * is MONTHLY, except for {@code tplus}, which MONTHLY rejects.
+     */
+    public List<StartRunRequest> startRequests(int count, String form) {
+        List<StartRunRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean monthly = !"tplus".equals(form) && i % 10 == 0;
+            String sla = switch (form) {
+                case "tplus" -> "T+" + (1 + i % 3) + "@" + String.format("%02d:%02d", 6 + i % 4, (i * 15) % 60);
+                case "duration" -> "PT" + (1 + i % 4) + "H" + (i % 2 == 0 ? "30M" : "");
+                case "clock" -> String.format("%02d:%02d", 5 + i % 6, (i * 5) % 60);
+                default -> null;
+            };
+            String alias = aliasAt(i);
+            requests.add(StartRunRequest.builder()
+                    .runId("run-" + (sequence++))
+                    .calculatorId("calc-" + alias)
+                    .calculatorName(calculatorName(alias))
+                    .frequency(monthly ? Frequency.MONTHLY : Frequency.DAILY)
+                    .reportingDate(REPORTING_DATE.minusDays(i % 30))
+                    .startTime(DAY_START.plusSeconds(random.nextInt(7_200)))
+                    .slaTime(sla)
+                    .expectedDurationMs(i % 3 == 0 ? null : 1_800_000L + random.nextInt(600_000))
+                    .runNumber(i % 2 == 0 ? "1" : "2")
+                    .build());
+        }
+        return requests;
+    }
+
+    /**
+     * The {@code /batch/runs} state for every alias before padding. Dimensioned aliases report
+     * about {@code coverage} of their declared values (the rest have not started); aliases with
+     * no runs at all carry the not-started template with a projected deadline.
+     */
+    public Map<String, CalculatorEntry> batchState(double coverage) {
+        Map<String, CalculatorEntry> state = new LinkedHashMap<>();
+        Instant deadline = TimeUtils.nextBusinessDay(REPORTING_DATE, 1).atTime(LocalTime.of(8, 0))
+                .toInstant(ZoneOffset.UTC);
+        for (String alias : ALIASES.keySet()) {
+            String name = calculatorName(alias);
+            List<String> dims = dimensions(alias);
+            List<RunEntry> runs = new ArrayList<>();
+            boolean byRegion = REGIONS.containsKey(alias);
+            for (String dim : dims) {
+                if (random.nextDouble() < coverage) {
+                    runs.add(runEntry(name, byRegion ? dim : null, byRegion ? null : dim, deadline));
+                }
+            }
+            if (runs.isEmpty()) {
+                runs.add(RunEntry.builder()
+                        .status("NOT_STARTED")
+                        .slaStatus("ON_TIME")
+                        .estimatedStartTime(DAY_START)
+                        .estimatedEndTime(DAY_START.plus(Duration.ofMinutes(45)))
+                        .expectedDurationMs(2_700_000L)
+                        .sla(deadline)
+                        .build());
+            }
+            state.put(alias, new CalculatorEntry(name, "calc-" + alias, runs));
+        }
+        return state;
+    }
+
+    /** A dimension-scoped profile with enough samples to drive estimates. */
+    public CalculatorProfile profile(String calculatorName, String runNumber, String dimensionValue) {
+        int startMin = 60 + random.nextInt(120);
+        long durationMs = 1_200_000L + random.nextInt(2_400_000);
+        return new CalculatorProfile(calculatorName, Frequency.DAILY.name(), runNumber, dimensionValue,
+                durationMs, startMin, startMin + (int) (durationMs / 60_000), 20 + random.nextInt(10));
+    }
+
+    /** A run as stored, including both JSONB maps. */
+    public CalculatorRun storedRun(String alias) {
+        CalculatorRun run = run(calculatorName(alias), "WMAP", true, "corr-" + (sequence++), DAY_START);
+        run.setTenantId("tenant-1");
+        run.setRunParameters(Map.of("run_number", "1", "region", "WMAP", "run_type", "BASE",
+                "airflow_dag", "risk_daily", "retries", 0));
+        run.setAdditionalAttributes(Map.of("airflow_task", "task-" + sequence, "priority", "normal"));
+        return run;
+    }
+
+    /** {@code /calculators/{name}/status} with the current run and {@code historySize} prior runs. */
+    public CalculatorStatusResponse statusResponse(String alias, int historySize) {
+        List<RunStatusInfo> history = new ArrayList<>(historySize);
+        LocalDate date = REPORTING_DATE;
+        for (int i = 0; i < historySize; i++) {
+            date = previousBusinessDay(date);
+            history.add(statusInfo(run(calculatorName(alias), null, false, null,
+                    date.plusDays(1).atTime(LocalTime.of(1, 0)).toInstant(ZoneOffset.UTC))));
+        }
+        return new CalculatorStatusResponse(calculatorName(alias), DAY_START.plusSeconds(7_200),
+                statusInfo(run(calculatorName(alias), null, false, null, DAY_START)), history);
+    }
+
+    private static String aliasAt(int i) {
+        List<String> aliases = List.copyOf(ALIASES.keySet());
+        return aliases.get(i % aliases.size());
+    }
+
+    private CalculatorRun run(String name, String dim, boolean byRegion, String correlationId, Instant start) {
+        RunStatus status = status();
+        long durationMs = 600_000L + random.nextInt(3_000_000);
+        Instant end = status == RunStatus.RUNNING ? null : start.plusMillis(durationMs);
+        SlaBand band = end == null ? null : band();
+        return CalculatorRun.builder()
+                .runId("run-" + (sequence++))
+                .calculatorId("calc-" + name)
+                .calculatorName(name)
+                .frequency(Frequency.DAILY)
+                .reportingDate(REPORTING_DATE)
+                .startTime(start)
+                .endTime(end)
+                .durationMs(end == null ? null : durationMs)
+                .status(status)
+                .slaTime(DAY_START.plus(Duration.ofHours(6)))
+                .expectedDurationMs(2_400_000L)
+                .estimatedStartTime(DAY_START)
+                .estimatedEndTime(DAY_START.plusMillis(2_400_000L))
+                .slaBand(band)
+                .slaBreached(band != null && band != SlaBand.ON_TIME)
+                .slaBreachReason(band == null || band == SlaBand.ON_TIME ? null : "Finished after SLA deadline")
+                .runNumber("1")
+                .region(byRegion ? dim : null)
+                .runType(byRegion ? null : dim)
+                .correlationId(correlationId)
+                .createdAt(start)
+                .updatedAt(end != null ? end : start)
+                .build();
+    }
+
+    private RunWithSlaStatus historyRow(String name, LocalDate date, Instant start, String correlationId,
+                                        String runNumber) {
+        RunStatus status = status();
+        long durationMs = 600_000L + random.nextInt(3_000_000);
+        Instant end = status == RunStatus.RUNNING ? null : start.plusMillis(durationMs);
+        SlaBand band = end == null ? null : band();
+        return new RunWithSlaStatus("run-" + (sequence++), "calc-" + name, name, date, start, end,
+                end == null ? null : durationMs, start.plus(Duration.ofHours(6)), start, Frequency.DAILY,
+                status, band, band == null || band == SlaBand.ON_TIME ? null : "Finished after SLA deadline",
+                correlationId, runNumber, 2_400_000L);
+    }
+
+    private RunEntry runEntry(String name, String region, String runType, Instant deadline) {
+        Instant start = DAY_START.plusSeconds(random.nextInt(3_600));
+        long durationMs = 600_000L + random.nextInt(3_000_000);
+        return RunEntry.builder()
+                .calculatorName(name)
+                .runId("run-" + (sequence++))
+                .region(region)
+                .runType(runType)
+                .status("SUCCESS")
+                .slaStatus("ON_TIME")
+                .startTime(start)
+                .endTime(start.plusMillis(durationMs))
+                .sla(deadline)
+                .durationMs(durationMs)
+                .expectedDurationMs(2_400_000L)
+                .build();
+    }
+
+    private static RunStatusInfo statusInfo(CalculatorRun run) {
+        return new RunStatusInfo(run.getRunId(), run.getStatus().name(), run.getStartTime(), run.getEndTime(),
+                run.getEstimatedStartTime(), run.getEstimatedEndTime(), run.getSlaTime(), run.getDurationMs(),
+                run.getDurationMs() == null ? null : Duration.ofMillis(run.getDurationMs()).toString(),
+                run.getSlaBand() == null ? null : run.getSlaBand().name(), run.getSlaBreachReason());
+    }
+
+    /** ~90% SUCCESS, the rest split between RUNNING, FAILED, TIMEOUT and CANCELLED. */
+    private RunStatus status() {
+        int roll = random.nextInt(100);
+        if (roll < 90) return RunStatus.SUCCESS;
+        if (roll < 94) return RunStatus.RUNNING;
+        if (roll < 97) return RunStatus.FAILED;
+        if (roll < 99) return RunStatus.TIMEOUT;
+        return RunStatus.CANCELLED;
+    }
+
+    /** ~80% on time, 15% late, 5% very late. */
+    private SlaBand band() {
+        int roll = random.nextInt(100);
+        if (roll < 80) return SlaBand.ON_TIME;
+        if (roll < 95) return SlaBand.LATE;
+        return SlaBand.VERY_LATE;
+    }
+
+    private static LocalDate previousBusinessDay(LocalDate date) {
+        LocalDate result = date.minusDays(1);
+        while (result.getDayOfWeek() == DayOfWeek.SATURDAY || result.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            result = result.minusDays(1);
+        }
+        return result;
+    }
+
+    private static Map<String, List<String>> orderedAliases() {
+        Map<String, List<String>> aliases = new LinkedHashMap<>();
+        aliases.put("capital", List.of("capitalcalcdev"));
+        aliases.put("portfolio", List.of("portfoliocalcdev"));
+        aliases.put("group-portfolio", List.of("grportfoliocalcdev"));
+        aliases.put("modelled-exposure", List.of("modelledexposurecalcdev"));
+        aliases.put("gemini-hedge", List.of("geminihedgefundcalcdev"));
+        aliases.put("consolidation", List.of("consenrichmentcalcdev"));
+        aliases.put("output-floor", List.of("outputfloorcalcdev"));
+        aliases.put("sectoral-floor", List.of("floorscalcdev"));
+        return Collections.unmodifiableMap(aliases);
+    }
+}
@@ -0,0 +1,132 @@
+package com.company.observability.service;
+
+import com.company.observability.benchmark.SyntheticData;
+import com.company.observability.config.AnalyticsProperties;
+import com.company.observability.config.CalculatorProperties;
+import com.company.observability.config.SlaProperties;
+import com.company.observability.domain.DailyAggregate;
+import com.company.observability.dto.response.TrendAnalyticsResponse;
+import com.company.observability.repository.DailyAggregateRepository;
+import com.company.observability.repository.SlaBreachEventRepository;
+import com.company.observability.repository.SlaBreachEventRepository.BreachRollup;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The fleet overview on a cold analytics cache: {@code perCalculator} calls
+ * {@link AnalyticsService#getTrends} once per calculator, as the dashboard did, and {@code batch}
+ * makes one {@link AnalyticsService#getTrendsBatch} call for the whole fleet.
+ *
+ * <p>Each read holds one of {@code connections} simulated DB connections for
+ * {@code roundTripMicros}; a set-based read costs the same single round trip as a per-calculator
+ * one. The per-calculator path issues two reads per calculator (aggregates and breach rollup,
+ * overlapped), the batch path two in total. Row transfer and HTTP overhead are not modelled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalyticsBatchBenchmark {
+
+    private static final int DAYS = 30;
+
+    @Param({"300"})
+    public int calculators;
+
+    @Param({"4"})
+    public int connections;
+
+    @Param({"500"})
+    public long roundTripMicros;
+
+    private AnalyticsService service;
+    private ExecutorService taskExecutor;
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        SimulatedDb db = new SimulatedDb(connections, TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+
+        names = new ArrayList<>(calculators);
+        Map<String, List<DailyAggregate>> aggregatesByName = new HashMap<>();
+        Map<String, BreachRollup> rollupsByName = new HashMap<>();
+        for (int i = 0; i < calculators; i++) {
+            String name = "calc-" + i;
+            names.add(name);
+            List<DailyAggregate> aggregates = new ArrayList<>(DAYS);
+            for (int day = DAYS; day > 0; day--) {
+                aggregates.add(new DailyAggregate(name, SyntheticData.REPORTING_DATE.minusDays(day),
+                        4, 4, (day + i) % 7 == 0 ? 1 : 0, 4 * 1_800_000L, 4 * 90, 4 * 120, null));
+            }
+            aggregatesByName.put(name, aggregates);
+            rollupsByName.put(name, new BreachRollup(Map.of("LATE", 4), Map.of("TIME_EXCEEDED", 4),
+                    Map.of(SyntheticData.REPORTING_DATE.minusDays(7 - i % 7), "LATE")));
+        }
+
+        // Application pool size (AsyncConfig)
+        taskExecutor = Executors.newFixedThreadPool(10);
+
+        service = new AnalyticsService(
+                new DailyAggregateRepository(null, null) {
+                    @Override
+                    public List<DailyAggregate> findRecentAggregates(String calculatorName, int days) {
+                        return db.read(aggregatesByName.get(calculatorName));
+                    }
+
+                    @Override
+                    public Map<String, List<DailyAggregate>> findRecentAggregatesByNames(
+                            Collection<String> calculatorNames, int days) {
+                        return db.read(aggregatesByName);
+                    }
+                },
+                new SlaBreachEventRepository(null, null) {
+                    @Override
+                    public BreachRollup summarizeBreaches(String calculatorId, int days) {
+                        return db.read(rollupsByName.get(calculatorId));
+                    }
+
+                    @Override
+                    public Map<String, BreachRollup> summarizeBreaches(Collection<String> calculatorIds, int days) {
+                        return db.read(rollupsByName);
+                    }
+                },
+                null,
+                new ColdAnalyticsCache(),
+                null,
+                new SlaProperties(),
+                new CalculatorNameResolver(new CalculatorProperties()),
+                new ObjectMapper(),
+                new AnalyticsProperties(),
+                taskExecutor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        taskExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<TrendAnalyticsResponse> perCalculator() {
+        List<TrendAnalyticsResponse> trends = new ArrayList<>(names.size());
+        for (String name : names) {
+            trends.add(service.getTrends(name, DAYS));
+        }
+        return trends;
+    }
+
+    @Benchmark
+    public Map<String, TrendAnalyticsResponse> batch() {
+        return service.getTrendsBatch(names, DAYS);
+    }
+}
@@ -0,0 +1,138 @@
+package com.company.observability.service;
+
+import com.company.observability.benchmark.SyntheticData;
+import com.company.observability.config.AggregationProperties;
+import com.company.observability.config.AnalyticsProperties;
+import com.company.observability.config.CalculatorProperties;
+import com.company.observability.config.SlaProperties;
+import com.company.observability.domain.CalculatorProfile;
+import com.company.observability.domain.DailyAggregate;
+import com.company.observability.domain.RunWithSlaStatus;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.dto.response.CalculatorCardResponse;
+import com.company.observability.repository.CalculatorRunRepository;
+import com.company.observability.repository.DailyAggregateRepository;
+import com.company.observability.repository.SlaBreachEventRepository;
+import com.company.observability.repository.SlaBreachEventRepository.BreachRollup;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The performance-card page on a cold analytics cache, loaded the old way and the new way:
+ * {@code fourCalls} issues {@code /runtime}, {@code /sla-summary}, {@code /trends} and
+ * {@code /executions} in parallel, as the page did, and {@code card} makes one
+ * {@link AnalyticsService#getCalculatorCard} call.
+ *
+ * <p>Four page loads run at once against a shared pool of {@code connections} simulated DB
+ * connections. Each read holds a connection for {@code roundTripMicros} and then returns synthetic
+ * rows. The four calls make six reads per page: {@code /sla-summary} and {@code /trends} each
+ * rebuild the SLA core data. The card makes three. The score is page loads per second, so it shows
+ * what the saved reads are worth while the pool is the bottleneck. HTTP overhead is not modelled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AnalyticsCardBenchmark {
+
+    private static final String NAME = SyntheticData.calculatorName("capital");
+    private static final int DAYS = 30;
+
+    @Param({"4"})
+    public int connections;
+
+    @Param({"500"})
+    public long roundTripMicros;
+
+    private AnalyticsService service;
+    private ExecutorService taskExecutor;
+    private ExecutorService pageExecutor;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42);
+        SimulatedDb db = new SimulatedDb(connections, TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+
+        List<RunWithSlaStatus> runs = data.runHistory("capital", DAYS, 4, 0.3, 4);
+        List<DailyAggregate> aggregates = new ArrayList<>(DAYS);
+        for (int day = DAYS; day > 0; day--) {
+            aggregates.add(new DailyAggregate(NAME, SyntheticData.REPORTING_DATE.minusDays(day),
+                    4, 4, day % 7 == 0 ? 1 : 0, 4 * 1_800_000L, 4 * 90, 4 * 120, null));
+        }
+        BreachRollup rollup = new BreachRollup(Map.of("LATE", 4), Map.of("TIME_EXCEEDED", 4),
+                Map.of(SyntheticData.REPORTING_DATE.minusDays(7), "LATE"));
+        CalculatorProfile profile = data.profile(NAME, null, null);
+
+        // Application pool sizes (AsyncConfig); the page side models the browser's parallel requests
+        taskExecutor = Executors.newFixedThreadPool(10);
+        pageExecutor = Executors.newCachedThreadPool();
+
+        service = new AnalyticsService(
+                new DailyAggregateRepository(null, null) {
+                    @Override
+                    public List<DailyAggregate> findRecentAggregates(String calculatorName, int days) {
+                        return db.read(aggregates);
+                    }
+                },
+                new SlaBreachEventRepository(null, null) {
+                    @Override
+                    public BreachRollup summarizeBreaches(String calculatorId, int days) {
+                        return db.read(rollup);
+                    }
+                },
+                new CalculatorRunRepository(null, null, null, null) {
+                    @Override
+                    public List<RunWithSlaStatus> findRunsByName(String calculatorName, Frequency frequency,
+                                                                 int days, String runNumber, LocalDate asOfDate) {
+                        return db.read(runs);
+                    }
+                },
+                new ColdAnalyticsCache(),
+                new CalculatorProfileService(null, new ObjectMapper(), null, new SlaProperties(),
+                        new AggregationProperties(), new SimpleMeterRegistry()) {
+                    @Override
+                    public CalculatorProfile getProfile(String calculatorName, Frequency frequency) {
+                        return profile;
+                    }
+                },
+                new SlaProperties(),
+                new CalculatorNameResolver(new CalculatorProperties()),
+                new ObjectMapper(),
+                new AnalyticsProperties(),
+                taskExecutor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        taskExecutor.shutdownNow();
+        pageExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<Object> fourCalls() throws Exception {
+        Future<?> runtime = pageExecutor.submit(() -> service.getRuntimeAnalytics(NAME, DAYS, Frequency.DAILY));
+        Future<?> summary = pageExecutor.submit(() -> service.getSlaSummary(NAME, DAYS));
+        Future<?> trends = pageExecutor.submit(() -> service.getTrends(NAME, DAYS));
+        Future<?> executions = pageExecutor.submit(() -> service.getRunExecutionsByName(
+                NAME, DAYS, Frequency.DAILY, null, SyntheticData.REPORTING_DATE));
+        return List.of(runtime.get(), summary.get(), trends.get(), executions.get());
+    }
+
+    @Benchmark
+    public CalculatorCardResponse card() {
+        return service.getCalculatorCard(NAME, DAYS, Frequency.DAILY, null, SyntheticData.REPORTING_DATE);
+    }
+}
@@ -0,0 +1,155 @@
+package com.company.observability.service;
+
+import com.company.observability.config.AnalyticsProperties;
+import com.company.observability.config.SlaProperties;
+import com.company.observability.domain.RunWithSlaStatus;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.domain.enums.SlaBand;
+import com.company.observability.dto.response.RunPerformanceData;
+import com.company.observability.repository.CalculatorRunRepository;
+import com.company.observability.service.projection.ResponseTarget;
+import com.company.observability.util.WireFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Per-request cost of the long-window run-performance document (~20k rows, every other run
+ * split in two), materialised vs streamed. Rows are generated inside each invocation in both
+ * modes, so row creation costs the same and {@code rows} isolates it; with {@code -prof gc},
+ * {@code gc.alloc.rate.norm} minus the {@code rows} figure is what each path allocates on top:
+ * the list, the grouped list, the {@link RunPerformanceData} and Jackson's tree when
+ * materialised. The analytics cache is cold and the gzip copy is disabled in both modes.
+ *
+ * <p>Run on its own with {@code java -jar target/benchmarks.jar AnalyticsStreamingBenchmark -prof gc}
+ * (see {@code benchmarks/run.sh}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AnalyticsStreamingBenchmark {
+
+    private static final String NAME = "calc-1";
+    private static final int DAYS = 365;
+    private static final int LOGICAL_RUNS = 14_000;
+    private static final LocalDate START_DATE = LocalDate.of(2026, 1, 1);
+    private static final Instant T0 = Instant.parse("2026-01-01T04:00:00Z");
+
+    /** Discards bytes and survives close() — ObjectMapper.writeValue closes its target. */
+    private static final OutputStream SINK = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private AnalyticsService service;
+
+    @Setup
+    public void setUp() {
+        AnalyticsProperties properties = new AnalyticsProperties();
+        properties.setStreamingCacheMaxBytes(0);
+
+        service = new AnalyticsService(
+                null,
+                null,
+                new CalculatorRunRepository(null, null, null, null) {
+                    @Override
+                    public List<RunWithSlaStatus> findRunsWithSlaStatus(String calculatorId, Frequency frequency,
+                                                                        int days) {
+                        List<RunWithSlaStatus> rows = new ArrayList<>();
+                        generateRows(rows::add);
+                        return rows;
+                    }
+
+                    @Override
+                    public RunWithSlaStatus streamRunsWithSlaStatus(String calculatorId, Frequency frequency,
+                                                                    int days, Consumer<RunWithSlaStatus> rowConsumer) {
+                        return generateRows(rowConsumer);
+                    }
+                },
+                new ColdAnalyticsCache(),
+                null,
+                new SlaProperties(),
+                null,
+                objectMapper,
+                properties,
+                Runnable::run);
+    }
+
+    @Benchmark
+    public RunWithSlaStatus rows(Blackhole bh) {
+        return generateRows(bh::consume);
+    }
+
+    @Benchmark
+    public void materialised() throws IOException {
+        RunPerformanceData data = service.getRunPerformanceData(NAME, DAYS, Frequency.DAILY);
+        objectMapper.writeValue(SINK, data);
+    }
+
+    @Benchmark
+    public void streamed() throws IOException {
+        service.streamRunPerformanceData(NAME, DAYS, Frequency.DAILY, new SinkTarget());
+    }
+
+    private static final class SinkTarget implements ResponseTarget {
+        @Override
+        public WireFormat format() {
+            return WireFormat.JSON;
+        }
+
+        @Override
+        public boolean acceptsGzip() {
+            return false;
+        }
+
+        @Override
+        public OutputStream open(boolean gzipEncoded) {
+            return SINK;
+        }
+    }
+
+    /** Emits rows in streaming-query order (splits contiguous) and returns the latest one. */
+    private static RunWithSlaStatus generateRows(Consumer<RunWithSlaStatus> sink) {
+        RunWithSlaStatus last = null;
+        for (int i = 0; i < LOGICAL_RUNS; i++) {
+            LocalDate date = START_DATE.plusDays(i / 40);
+            Instant start = T0.plusSeconds(i * 60L);
+            boolean split = i % 2 == 0;
+            String correlationId = split ? "corr-" + i : null;
+            SlaBand band = i % 7 == 0 ? SlaBand.LATE : null;
+            last = new RunWithSlaStatus("run-" + i + "-a", NAME, "Calculator One", date,
+                    start, start.plusSeconds(600), 600_000L, start.plusSeconds(3600), start,
+                    Frequency.DAILY, RunStatus.SUCCESS, band, band != null ? "late" : null,
+                    correlationId, "1", 500_000L);
+            sink.accept(last);
+            if (split) {
+                last = new RunWithSlaStatus("run-" + i + "-b", NAME, "Calculator One", date,
+                        start.plusSeconds(30), start.plusSeconds(900), 870_000L, start.plusSeconds(3600), start,
+                        Frequency.DAILY, RunStatus.SUCCESS, null, null,
+                        correlationId, "1", 500_000L);
+                sink.accept(last);
+            }
+        }
+        return last;
+    }
+}
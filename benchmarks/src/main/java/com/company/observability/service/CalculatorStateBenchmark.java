@@ -0,0 +1,53 @@
+package com.company.observability.service;
+
+import com.company.observability.benchmark.SyntheticData;
+import com.company.observability.config.SlaProperties;
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-calculator projection behind {@code /batch/runs} cache misses:
+ * {@link CalculatorStateService#buildEntry} over one calculator-day of runs (10 regions, half of
+ * them split, the rest with occasional reruns) and {@link CalculatorStateService#collapseSplitGroup}
+ * on its own. Only the in-memory path is measured — the service has no repository or caches.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalculatorStateBenchmark {
+
+    @Param({"2", "8"})
+    public int splitsPerGroup;
+
+    private CalculatorStateService service;
+    private List<CalculatorRun> calculatorDay;
+    private List<CalculatorRun> splitGroup;
+
+    @Setup
+    public void setUp() {
+        service = new CalculatorStateService(null, new SlaProperties(), null, null, null, null, null);
+        SyntheticData data = new SyntheticData(42);
+        calculatorDay = data.calculatorDay("capital", splitsPerGroup);
+        splitGroup = data.splitGroup("capital", splitsPerGroup);
+    }
+
+    @Benchmark
+    public CalculatorEntry buildEntry() {
+        return service.buildEntry("capitalcalcdev", calculatorDay, SyntheticData.REPORTING_DATE,
+                Frequency.DAILY, "1");
+    }
+
+    @Benchmark
+    public RunEntry collapseSplitGroup() {
+        return service.collapseSplitGroup(splitGroup, "capitalcalcdev");
+    }
+}
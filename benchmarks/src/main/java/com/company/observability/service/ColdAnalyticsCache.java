@@ -0,0 +1,79 @@
+package com.company.observability.service;
+
+import com.company.observability.cache.AnalyticsCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+/** Every analytics lookup misses and writes are dropped — the cold-cache page load. */
+final class ColdAnalyticsCache extends AnalyticsCacheService {
+
+    ColdAnalyticsCache() {
+        super(null, null, new ObjectMapper(), new SimpleMeterRegistry(), null);
+    }
+
+    @Override
+    public <T> T getFromCache(String keyPrefix, String calculatorId, int days, Class<T> responseType) {
+        return null;
+    }
+
+    @Override
+    public <T> T getFromCache(String keyPrefix, String calculatorId, String frequency, int days,
+                              Class<T> responseType) {
+        return null;
+    }
+
+    @Override
+    public <T> T getFromCache(String keyPrefix, String calculatorKey, String frequency, int days,
+                              String runNumber, LocalDate asOfDate, Class<T> responseType) {
+        return null;
+    }
+
+    @Override
+    public <T> Map<String, T> getAllFromCache(String keyPrefix, Collection<String> calculatorKeys, int days,
+                                              Class<T> responseType) {
+        return Map.of();
+    }
+
+    @Override
+    public <T> Map<String, T> getAllFromCache(String keyPrefix, Collection<String> calculatorKeys,
+                                              String frequency, int days, Class<T> responseType) {
+        return Map.of();
+    }
+
+    @Override
+    public void putInCache(String keyPrefix, String calculatorId, int days, Object response) {
+    }
+
+    @Override
+    public void putInCache(String keyPrefix, String calculatorId, String frequency, int days,
+                           Object response) {
+    }
+
+    @Override
+    public void putInCache(String keyPrefix, String calculatorKey, String frequency, int days,
+                           String runNumber, LocalDate asOfDate, Object response) {
+    }
+
+    @Override
+    public <T> void putAllInCache(String keyPrefix, Map<String, T> responses, int days, Class<T> responseType) {
+    }
+
+    @Override
+    public <T> void putAllInCache(String keyPrefix, Map<String, T> responses, String frequency, int days,
+                                  Class<T> responseType) {
+    }
+
+    @Override
+    public byte[] getCompressedFromCache(String keyPrefix, String calculatorId, String frequency, int days) {
+        return null;
+    }
+
+    @Override
+    public void putCompressedInCache(String keyPrefix, String calculatorId, String frequency, int days,
+                                     byte[] gzipJson) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.company.observability.service;
+
+import com.company.observability.benchmark.SyntheticData;
+import com.company.observability.config.AggregationProperties;
+import com.company.observability.config.CalculatorProperties;
+import com.company.observability.config.SlaProperties;
+import com.company.observability.domain.CalculatorProfile;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
+import com.company.observability.service.CalculatorProfileService.ProfileKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExpectedRunsService#padToExpected} over the full {@code /batch/runs} alias set, with
+ * the dimensioned aliases reporting part ({@code coverage}) of their declared regions and run
+ * types. Profiles come from an in-memory map, so the score covers the padding itself, not the
+ * profile cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpectedRunsBenchmark {
+
+    /** Early in the batch, most dimensions still to come, vs everything reported (pass-through reorder). */
+    @Param({"0.3", "1.0"})
+    public double coverage;
+
+    private ExpectedRunsService service;
+    private Map<String, CalculatorEntry> state;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42);
+        CalculatorProperties props = new CalculatorProperties();
+        props.setAliases(SyntheticData.ALIASES);
+        props.setRegions(SyntheticData.REGIONS);
+        props.setRunTypes(SyntheticData.RUN_TYPES);
+
+        Map<String, CalculatorProfile> profiles = new HashMap<>();
+        for (String alias : SyntheticData.ALIASES.keySet()) {
+            for (String dim : SyntheticData.dimensions(alias)) {
+                String name = SyntheticData.calculatorName(alias);
+                profiles.put(name + ":" + dim, data.profile(name, "1", dim));
+            }
+        }
+
+        service = new ExpectedRunsService(props, new InMemoryProfiles(profiles), new SlaProperties());
+        state = data.batchState(coverage);
+    }
+
+    @Benchmark
+    public Map<String, CalculatorEntry> padToExpected() {
+        return service.padToExpected(state, SyntheticData.REPORTING_DATE, Frequency.DAILY, "1");
+    }
+
+    /** Serves dimension-scoped profiles from a map; the Redis/DB tiers are never reached. */
+    private static final class InMemoryProfiles extends CalculatorProfileService {
+
+        private final Map<String, CalculatorProfile> profiles;
+
+        InMemoryProfiles(Map<String, CalculatorProfile> profiles) {
+            super(null, new ObjectMapper(), null, new SlaProperties(), new AggregationProperties(),
+                    new SimpleMeterRegistry());
+            this.profiles = profiles;
+        }
+
+        @Override
+        public CalculatorProfile getProfile(String calculatorName, Frequency frequency,
+                                            String runNumber, String dimensionValue) {
+            CalculatorProfile profile = profiles.get(calculatorName + ":" + dimensionValue);
+            return profile != null ? profile
+                    : new CalculatorProfile(calculatorName, frequency.name(), runNumber, dimensionValue, 0, 0, 0, 0);
+        }
+
+        @Override
+        public Map<ProfileKey, CalculatorProfile> getProfiles(Collection<ProfileKey> keys) {
+            Map<ProfileKey, CalculatorProfile> result = new HashMap<>();
+            for (ProfileKey key : keys) {
+                result.put(key, getProfile(key.calculatorName(), key.frequency(), key.runNumber(), key.dimensionValue()));
+            }
+            return result;
+        }
+    }
+}
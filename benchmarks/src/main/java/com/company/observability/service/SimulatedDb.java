@@ -0,0 +1,25 @@
+package com.company.observability.service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded connection pool whose every read costs one round trip, for benchmarks that measure
+ * how many reads a code path issues rather than what the reads cost to execute.
+ */
+record SimulatedDb(Semaphore pool, long roundTripNanos) {
+
+    SimulatedDb(int connections, long roundTripNanos) {
+        this(new Semaphore(connections, true), roundTripNanos);
+    }
+
+    <T> T read(T rows) {
+        pool.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(roundTripNanos);
+            return rows;
+        } finally {
+            pool.release();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.observability.service;
+
+import com.company.observability.benchmark.SyntheticData;
+import com.company.observability.config.SlaProperties;
+import com.company.observability.domain.CalculatorProfile;
+import com.company.observability.dto.request.StartRunRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SlaBaselineResolver#resolve} on the run-start path, one benchmark per slaTime form so a
+ * regression points at the parser or the deadline arithmetic it came from. Each call resolves
+ * the next of 1024 pre-built requests.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SlaBaselineResolverBenchmark {
+
+    private static final int REQUESTS = 1024;
+
+    @Param({"tplus", "duration", "clock", "blank"})
+    public String form;
+
+    private SlaBaselineResolver resolver;
+    private StartRunRequest[] requests;
+    private CalculatorProfile profile;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        resolver = new SlaBaselineResolver(new SlaProperties(), new SimpleMeterRegistry());
+        SyntheticData data = new SyntheticData(42);
+        List<StartRunRequest> generated = data.startRequests(REQUESTS, form);
+        requests = generated.toArray(new StartRunRequest[0]);
+        profile = data.profile("capitalcalcdev", "1", null);
+    }
+
+    @Benchmark
+    public SlaBaselineResolver.SlaResolution resolve() {
+        StartRunRequest request = requests[next++ & (REQUESTS - 1)];
+        return resolver.resolve(request, request.getFrequency(), profile);
+    }
+}
@@ -0,0 +1,122 @@
+package com.company.observability.service.live;
+
+import com.company.observability.benchmark.SyntheticData;
+import com.company.observability.cache.CalculatorStateCacheService;
+import com.company.observability.cache.DaySnapshotService;
+import com.company.observability.config.SlaProperties;
+import com.company.observability.config.SnapshotProperties;
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
+import com.company.observability.repository.CalculatorRunRepository;
+import com.company.observability.service.CalculatorStateService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The fleet-wide day board ({@code /batch/runs} for every calculator on a hot date):
+ * {@code coldCache} misses the state cache and reads the runs in one DB round trip of
+ * {@code roundTripMicros}, as after every change; {@code liveStore} answers from a bootstrapped
+ * {@link LiveRunStore}. Both build the same entries. Redis round trips are not modelled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LiveStateBenchmark {
+
+    private static final LocalDate DATE = SyntheticData.REPORTING_DATE;
+
+    @Param({"300"})
+    public int calculators;
+
+    @Param({"500"})
+    public long roundTripMicros;
+
+    private CalculatorStateService coldService;
+    private CalculatorStateService liveService;
+    private List<String> names;
+    private Map<String, Long> versions;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42);
+        names = new ArrayList<>(calculators);
+        versions = new HashMap<>();
+        List<CalculatorRun> runs = new ArrayList<>();
+        for (int i = 0; i < calculators; i++) {
+            String name = "calc-" + i;
+            names.add(name);
+            versions.put(name, 1L);
+            for (CalculatorRun run : data.calculatorDay("capital", 4)) {
+                run.setCalculatorName(name);
+                runs.add(run);
+            }
+        }
+        runs.sort(Comparator.comparing(CalculatorRun::getCalculatorName)
+                .thenComparing(LiveRunStore.DIMENSION_ORDER));
+
+        long roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        CalculatorRunRepository repository = new CalculatorRunRepository(null, null, null, null) {
+            @Override
+            public List<CalculatorRun> findAllRunsByDateAndDimension(LocalDate reportingDate, Frequency frequency,
+                                                                     String runNumber, List<String> calculatorNames) {
+                LockSupport.parkNanos(roundTripNanos);
+                // Fresh rows per read, as the row mapper would produce
+                List<CalculatorRun> rows = new ArrayList<>(runs.size());
+                for (CalculatorRun run : runs) {
+                    rows.add(LiveRunStore.copy(run));
+                }
+                return rows;
+            }
+        };
+        CalculatorStateCacheService coldCache = new CalculatorStateCacheService(
+                null, new ObjectMapper(), new SimpleMeterRegistry()) {
+            @Override
+            public Map<String, CalculatorEntry> getEntries(LocalDate reportingDate, String frequency, String runNumber,
+                                                           List<String> calculatorNames, Map<String, Long> versions) {
+                return new HashMap<>();
+            }
+
+            @Override
+            public void putEntries(LocalDate reportingDate, String frequency, String runNumber,
+                                   Map<String, CalculatorEntry> entries, Map<String, Long> versions) {
+            }
+        };
+
+        LiveRunStore emptyStore = new LiveRunStore(new SimpleMeterRegistry());
+        LiveRunStore store = new LiveRunStore(new SimpleMeterRegistry());
+        store.replace(DATE.minusDays(3), runs, Map.of(new LiveRunStore.DayKey(DATE, Frequency.DAILY), versions));
+        store.markReady();
+
+        SnapshotProperties snapshotProperties = new SnapshotProperties();
+        snapshotProperties.setEnabled(false);
+        DaySnapshotService snapshots = new DaySnapshotService(
+                null, snapshotProperties, null, new ObjectMapper(), new SimpleMeterRegistry());
+
+        coldService = new CalculatorStateService(repository, new SlaProperties(), coldCache, null, null, emptyStore, snapshots);
+        liveService = new CalculatorStateService(repository, new SlaProperties(), coldCache, null, null, store, snapshots);
+    }
+
+    @Benchmark
+    public Map<String, CalculatorEntry> coldCache() {
+        return coldService.getState(DATE, Frequency.DAILY, null, names, versions);
+    }
+
+    @Benchmark
+    public Map<String, CalculatorEntry> liveStore() {
+        return liveService.getState(DATE, Frequency.DAILY, null, names, versions);
+    }
+}
@@ -0,0 +1,42 @@
+package com.company.observability.service.projection;
+
+import com.company.observability.benchmark.SyntheticData;
+import com.company.observability.domain.RunWithSlaStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LogicalRunGrouper#groupWithSla} over a calculator's run history, as the
+ * run-performance and executions endpoints call it (8 logical runs a day). Scores are calls per
+ * second over the whole history.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LogicalRunGrouperBenchmark {
+
+    /** Short (default analytics window) vs long (streamed) history. */
+    @Param({"30", "365"})
+    public int days;
+
+    /** Share of logical runs that ran as 4 parallel splits. */
+    @Param({"0.0", "0.5"})
+    public double splitRate;
+
+    private List<RunWithSlaStatus> rows;
+
+    @Setup
+    public void setUp() {
+        rows = new SyntheticData(42).runHistory("capital", days, 8, splitRate, 4);
+    }
+
+    @Benchmark
+    public List<LogicalRunGrouper.LogicalRun> groupWithSla() {
+        return LogicalRunGrouper.groupWithSla(rows);
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.observability.util;
+
+import com.company.observability.benchmark.SyntheticData;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The business-day arithmetic behind every SLA deadline and not-started projection:
+ * {@link TimeUtils#nextBusinessDay} for the T+N offsets the service sees (1–3, plus a month-long
+ * MONTHLY span) and {@link TimeUtils#businessDaysBetween} as its inverse. Start dates cycle
+ * through a month so weekend handling is exercised from every weekday.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeUtilsBenchmark {
+
+    private static final int DATES = 32;
+
+    @Param({"1", "3", "22"})
+    public int offsetDays;
+
+    private LocalDate[] starts;
+    private LocalDate[] targets;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        starts = new LocalDate[DATES];
+        targets = new LocalDate[DATES];
+        for (int i = 0; i < DATES; i++) {
+            starts[i] = SyntheticData.REPORTING_DATE.minusDays(i);
+            targets[i] = TimeUtils.nextBusinessDay(starts[i], offsetDays);
+        }
+    }
+
+    @Benchmark
+    public LocalDate nextBusinessDay() {
+        return TimeUtils.nextBusinessDay(starts[next++ & (DATES - 1)], offsetDays);
+    }
+
+    @Benchmark
+    public int businessDaysBetween() {
+        int i = next++ & (DATES - 1);
+        return TimeUtils.businessDaysBetween(starts[i], targets[i]);
+    }
+}
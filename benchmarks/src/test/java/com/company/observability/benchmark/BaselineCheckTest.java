@@ -0,0 +1,75 @@
+package com.company.observability.benchmark;
+
+import com.company.observability.benchmark.BaselineCheck.Comparison;
+import com.company.observability.benchmark.BaselineCheck.Score;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaselineCheckTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readResults_keysByClassMethodAndParams() throws Exception {
+        JsonNode jmh = objectMapper.readTree("""
+                [{"benchmark": "com.company.observability.service.projection.LogicalRunGrouperBenchmark.groupWithSla",
+                  "mode": "thrpt", "params": {"days": "30", "splitRate": "0.5"},
+                  "primaryMetric": {"score": 1234.5, "scoreUnit": "ops/s"}},
+                 {"benchmark": "com.company.observability.util.TimeUtilsBenchmark.nextBusinessDay",
+                  "mode": "avgt",
+                  "primaryMetric": {"score": 12.0, "scoreUnit": "ns/op"}}]
+                """);
+
+        assertThat(BaselineCheck.readResults(jmh))
+                .containsEntry("LogicalRunGrouperBenchmark.groupWithSla{days=30,splitRate=0.5}",
+                        new Score(1234.5, "ops/s", "thrpt"))
+                .containsEntry("TimeUtilsBenchmark.nextBusinessDay", new Score(12.0, "ns/op", "avgt"));
+    }
+
+    @Test
+    void compare_flagsOnlyDropsBeyondTolerance() {
+        Map<String, Score> baseline = Map.of(
+                "A.slower", new Score(1000, "ops/s", "thrpt"),
+                "A.noise", new Score(1000, "ops/s", "thrpt"),
+                "A.faster", new Score(1000, "ops/s", "thrpt"),
+                "B.slowerAvgt", new Score(10, "ns/op", "avgt"),
+                "C.notRun", new Score(1, "ops/s", "thrpt"));
+        Map<String, Score> results = Map.of(
+                "A.slower", new Score(700, "ops/s", "thrpt"),
+                "A.noise", new Score(850, "ops/s", "thrpt"),
+                "A.faster", new Score(2000, "ops/s", "thrpt"),
+                "B.slowerAvgt", new Score(13, "ns/op", "avgt"),
+                "D.new", new Score(5, "ops/s", "thrpt"));
+
+        List<Comparison> comparisons = BaselineCheck.compare(baseline, results, 0.20);
+
+        assertThat(comparisons).extracting(Comparison::benchmark)
+                .containsExactly("A.faster", "A.noise", "A.slower", "B.slowerAvgt", "C.notRun", "D.new");
+        assertThat(comparisons).filteredOn(Comparison::regressed).extracting(Comparison::benchmark)
+                .containsExactly("A.slower", "B.slowerAvgt");
+        assertThat(comparisons.get(0).speedup()).isEqualTo(2.0);
+        assertThat(comparisons.get(3).speedup()).isLessThan(1.0);
+    }
+
+    @Test
+    void merge_keepsEntriesNotInThisRunAndTolerance() throws Exception {
+        JsonNode baseline = objectMapper.readTree("""
+                {"tolerance": 0.3, "benchmarks": {
+                  "A.kept": {"score": 10.0, "unit": "ops/s", "mode": "thrpt"},
+                  "A.replaced": {"score": 10.0, "unit": "ops/s", "mode": "thrpt"}}}
+                """);
+
+        JsonNode merged = BaselineCheck.merge(baseline, Map.of("A.replaced", new Score(12.345, "ops/s", "thrpt")));
+
+        assertThat(merged.path("tolerance").asDouble()).isEqualTo(0.3);
+        assertThat(BaselineCheck.readBaseline(merged))
+                .containsEntry("A.kept", new Score(10.0, "ops/s", "thrpt"))
+                .containsEntry("A.replaced", new Score(12.35, "ops/s", "thrpt"));
+    }
+}
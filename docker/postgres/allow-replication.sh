@@ -0,0 +1,4 @@
+#!/bin/sh
+# Lets the local read replica (docker compose --profile replica) stream WAL from this primary.
+# Runs only when the postgres_data volume is first initialised.
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,66 @@
+package com.company.observability.admission;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Applies {@link RequestPriority} to handler methods. Runs after handler mapping, so a shed
+ * request never reaches the controller; the {@code ServiceOverloadedException} goes through
+ * {@code GlobalExceptionHandler} like one thrown by the handler.
+ *
+ * <p>The permit is held until the handler returns. For a stream the handler only opens the
+ * emitter, so an open stream does not count as in flight.
+ */
+@RequiredArgsConstructor
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    private final AdmissionController admissionController;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async and error dispatches belong to a request that was already admitted
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        PriorityClass priorityClass = priority(method);
+        if (priorityClass != null) {
+            request.setAttribute(PERMIT_ATTRIBUTE, admissionController.acquire(priorityClass));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdmissionController.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            admissionController.release(permit);
+        }
+    }
+
+    /** Method annotation first, then the controller class. */
+    static PriorityClass priority(HandlerMethod method) {
+        RequestPriority priority = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), RequestPriority.class);
+        if (priority == null) {
+            priority = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), RequestPriority.class);
+        }
+        return priority != null ? priority.value() : null;
+    }
+}
@@ -0,0 +1,106 @@
+package com.company.observability.admission;
+
+import com.company.observability.config.AdmissionControlProperties;
+import com.company.observability.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Admits or sheds requests against a {@link GradientLimit} on requests in flight.
+ *
+ * <p>Every class counts against the same limit, but each may only fill its share of it:
+ * analytics is shed first, once in flight reaches 60% of the limit, and ingestion last, at the
+ * limit itself. The headroom above the lower shares is what keeps ingestion admitted while
+ * dashboards overload the service.
+ */
+@Component
+@ConditionalOnProperty(
+        value = "observability.admission.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+@Slf4j
+public class AdmissionController {
+
+    private final AdmissionControlProperties properties;
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<PriorityClass, AtomicInteger> inFlightByClass = new EnumMap<>(PriorityClass.class);
+    private final Map<PriorityClass, Counter> shed = new EnumMap<>(PriorityClass.class);
+
+    public AdmissionController(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = new GradientLimit(properties.getInitialLimit(), properties.getMinLimit(),
+                properties.getMaxLimit(), properties.getSmoothing(),
+                TimeUnit.MILLISECONDS.toNanos(properties.getWindowMs()), properties.getMinWindowSamples(),
+                properties.getLongWindowSize(), System.nanoTime());
+
+        Gauge.builder(ADMISSION_LIMIT, limit, GradientLimit::limit)
+                .description("Adaptive limit on requests in flight")
+                .register(meterRegistry);
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            AtomicInteger count = new AtomicInteger();
+            inFlightByClass.put(priorityClass, count);
+            Gauge.builder(ADMISSION_IN_FLIGHT, count, AtomicInteger::get)
+                    .tag("priority", priorityClass.key())
+                    .description("Admitted requests in flight")
+                    .register(meterRegistry);
+            shed.put(priorityClass, Counter.builder(ADMISSION_SHED)
+                    .tag("priority", priorityClass.key())
+                    .description("Requests rejected with 503 by admission control")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Admits one request of {@code priorityClass}; the returned permit must be released when the
+     * request completes.
+     *
+     * @throws ServiceOverloadedException when the class's share of the limit is in flight
+     */
+    public Permit acquire(PriorityClass priorityClass) {
+        AdmissionControlProperties.ClassShare share = properties.share(priorityClass);
+        int ceiling = Math.max(1, (int) (limit.limit() * share.getShare()));
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= ceiling) {
+                shed.get(priorityClass).increment();
+                log.debug("event=admission.shed priority={} in_flight={} ceiling={}",
+                        priorityClass.key(), current, ceiling);
+                throw new ServiceOverloadedException(
+                        "Service overloaded; " + priorityClass.key() + " requests are being shed",
+                        share.getRetryAfterSeconds());
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        inFlightByClass.get(priorityClass).incrementAndGet();
+        return new Permit(priorityClass, System.nanoTime(), current + 1);
+    }
+
+    /** Ends an admitted request and feeds its latency to the limit. */
+    public void release(Permit permit) {
+        long now = System.nanoTime();
+        inFlight.decrementAndGet();
+        inFlightByClass.get(permit.priorityClass()).decrementAndGet();
+        limit.onSample(now - permit.startNanos(), permit.inFlight(), now);
+    }
+
+    int limit() {
+        return limit.limit();
+    }
+
+    /** An admitted request: its class, start time and the requests in flight including it. */
+    public record Permit(PriorityClass priorityClass, long startNanos, int inFlight) {
+    }
+}
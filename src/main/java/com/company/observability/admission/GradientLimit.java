@@ -0,0 +1,94 @@
+package com.company.observability.admission;
+
+/**
+ * Concurrency limit adapted from measured latency, after the gradient algorithm of Netflix's
+ * concurrency-limits.
+ *
+ * <p>Samples are averaged over a window. Each window, the limit moves by the gradient between
+ * the long-term latency (an exponential average over many windows) and the window's latency:
+ * while latency holds, the limit grows by about its square root; when latency rises because
+ * work is queueing, it shrinks in proportion, down to half per window. The limit only grows
+ * while requests actually use at least half of it, so a quiet period cannot inflate it.
+ */
+class GradientLimit {
+
+    /** Long-term latency may exceed the window's by this factor before the limit shrinks. */
+    private static final double TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final double longRttDecay;
+
+    private volatile double limit;
+
+    // Guarded by this
+    private double longRttNanos;
+    private long windowStartNanos;
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing,
+                  long windowNanos, int minWindowSamples, int longWindowSize, long nowNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.windowNanos = windowNanos;
+        this.minWindowSamples = minWindowSamples;
+        this.longRttDecay = 2.0 / (longWindowSize + 1);
+        this.limit = clamp(initialLimit);
+        this.windowStartNanos = nowNanos;
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Records one completed request: its latency and the requests in flight when it started.
+     * Closes the window and updates the limit once the window is long enough.
+     */
+    synchronized void onSample(long rttNanos, int inFlight, long nowNanos) {
+        windowRttSumNanos += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        if (nowNanos - windowStartNanos < windowNanos || windowSamples < minWindowSamples) {
+            return;
+        }
+        double shortRtt = (double) windowRttSumNanos / windowSamples;
+        update(shortRtt, windowMaxInFlight);
+        windowStartNanos = nowNanos;
+        windowRttSumNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+    }
+
+    private void update(double shortRtt, int maxInFlight) {
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) * longRttDecay;
+        }
+        // Load dropped well below what the long-term average learned: let it catch up faster
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        if (next > current && maxInFlight < current / 2) {
+            return;
+        }
+        limit = clamp(next);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.observability.admission;
+
+/**
+ * Request classes for admission control, highest priority first. As in-flight requests approach
+ * the adaptive limit, lower classes are shed before higher ones.
+ */
+public enum PriorityClass {
+
+    /** Airflow {@code start}/{@code complete} calls — losing one loses a run's lifecycle. */
+    INGESTION,
+
+    /** Opening a live run-update stream. */
+    LIVE,
+
+    /** Dashboard status and batch-run polls. */
+    STATUS,
+
+    /** Analytics windows — the most expensive and most deferrable. */
+    ANALYTICS;
+
+    /** Lower-case name used in properties and metric tags. */
+    public String key() {
+        return name().toLowerCase();
+    }
+}
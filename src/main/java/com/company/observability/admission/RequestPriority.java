@@ -0,0 +1,16 @@
+package com.company.observability.admission;
+
+import java.lang.annotation.*;
+
+/**
+ * Puts the annotated controller or handler method under admission control with the given
+ * {@link PriorityClass}. Handlers without it (health, maintenance, actuator) are never shed.
+ * Applied by {@link AdmissionControlInterceptor}.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestPriority {
+
+    PriorityClass value();
+}
@@ -5,11 +5,18 @@ import com.company.observability.event.RunCompletedEvent;
 import com.company.observability.event.RunStartedEvent;
 import com.company.observability.event.SlaBreachedEvent;
 import com.company.observability.service.CalculatorNameResolver;
+import com.company.observability.service.live.RunChange;
+import com.company.observability.service.live.RunChangeProcessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionPhase;
@@ -17,28 +24,101 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.company.observability.util.ObservabilityConstants.*;
 
+/**
+ * Redis cache for analytics responses, keyed by endpoint prefix, calculator and window.
+ *
+ * <p>Values live in the {@code analytics} {@link TieredCache} region — one typed view per
+ * response class, all stored as raw gzipped JSON bytes through the {@link BinaryRedisTemplate}
+ * (generation hashes stay on the string template). The region is Redis-only: entries are
+ * invalidated by run events, and an eviction on one instance could not reach another
+ * instance's heap.
+ *
+ * <p>Invalidation is generation-based. Each calculator key (id, name or UI alias) owns a Redis
+ * hash {@code obs:analytics:gen:{calculatorKey}} with an {@code all} counter plus one counter
+ * per prefix; both are embedded in every cache key ({@code ...:{calculatorKey}:g{all}.{prefix}:...}).
+ * Invalidating is a single {@code HINCRBY} regardless of how many day / frequency / runNumber
+ * variants are cached — the superseded entries are never read again and simply expire. A hash
+ * expires {@link #GENERATION_TTL} after its last bump; a recreated one seeds {@code all} with the
+ * clock, so no token an earlier hash handed out (and a live entry may still carry) comes back.
+ *
+ * <p>Generations are held locally for {@link #LOCAL_GENERATION_TTL} to save the extra read on
+ * hot keys. An instance drops its own copy the moment it bumps a counter; other instances may
+ * serve the previous generation for at most that long.
+ *
+ * <p>Bumps are driven by the run change feed ({@link #process}) when it is enabled, so a failed
+ * bump is retried instead of leaving entries stale until they expire.
+ *
+ * <p>Batch reads and writes ({@link #getAllFromCache}, {@link #putAllInCache}) use the same keys
+ * as the single-key methods, so an entry filled by a fleet-wide batch serves the per-calculator
+ * endpoint and vice versa. Generations are read in one pipeline, values in one {@code MGET}.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class AnalyticsCacheService {
+public class AnalyticsCacheService implements RunChangeProcessor {
 
     private final StringRedisTemplate redisTemplate;
+    private final BinaryRedisTemplate binaryRedisTemplate;
     private final ObjectMapper objectMapper;
     private final MeterRegistry meterRegistry;
     private final CalculatorNameResolver nameResolver;
 
+    private final Map<Class<?>, TieredCache<?>> typedRegions = new ConcurrentHashMap<>();
+    private final TieredCache<byte[]> compressedRegion;
+    /** Calculator key → prefix → token, so a bump drops one calculator's tokens in one step. */
+    private final Map<String, Map<String, LocalGeneration>> localGenerations = new ConcurrentHashMap<>();
+
+    private static final CacheRegion REGION = CacheRegion.redisOnly("analytics");
     private static final String ANALYTICS_PREFIX = "obs:analytics:";
-    private static final String ANALYTICS_INDEX_PREFIX = "obs:analytics:index:";
-    private static final String RUN_PERF_CACHE_PREFIX = ANALYTICS_PREFIX + "run-perf:";
-    static final String RUN_EXECUTIONS_CACHE_PREFIX = ANALYTICS_PREFIX + "executions:";
+    private static final String GENERATION_PREFIX = "obs:analytics:gen:";
+    static final String GENERATION_ALL = "all";
+    static final String RUN_PERF_PREFIX = "run-perf";
+    static final String RUN_EXECUTIONS_PREFIX = "executions";
+    static final String CARD_PREFIX = "card";
     private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
-    private static final Duration INDEX_TTL = Duration.ofHours(1);
+    static final Duration LOCAL_GENERATION_TTL = Duration.ofSeconds(2);
+    /**
+     * Must exceed {@link #DEFAULT_TTL} plus {@link #LOCAL_GENERATION_TTL}: entries filled under
+     * {@code g0.0} before a hash was created are gone by the time it expires and {@code g0.0}
+     * is read again.
+     */
+    static final Duration GENERATION_TTL = Duration.ofMinutes(30);
+
+    private static final RedisScript<Long> BUMP = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('HSET', KEYS[1], 'all', ARGV[3])
+            end
+            local generation = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return generation
+            """, Long.class);
+
+    private record LocalGeneration(String token, long expiresAtNanos) {}
+
+    /** The feed's consumer group drives invalidation; the transaction listeners stand down. */
+    @Value("${observability.change-feed.enabled:true}")
+    private boolean changeFeedEnabled;
+
+    public AnalyticsCacheService(StringRedisTemplate redisTemplate, BinaryRedisTemplate binaryRedisTemplate,
+                                 ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                 CalculatorNameResolver nameResolver) {
+        this.redisTemplate = redisTemplate;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.nameResolver = nameResolver;
+        this.compressedRegion = new TieredCache<>(REGION, BinaryCacheCodec.gzipped(), value -> DEFAULT_TTL,
+                binaryRedisTemplate, meterRegistry);
+    }
 
     // ================================================================
     // Generic cache operations with Redis resilience
@@ -46,102 +126,264 @@ public class AnalyticsCacheService {
 
     public <T> T getFromCache(String keyPrefix, String calculatorId,
                               int days, Class<T> responseType) {
-        String key = buildKey(keyPrefix, calculatorId, days);
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
-                meterRegistry.counter(CACHE_ANALYTICS_HIT, "prefix", keyPrefix).increment();
-                log.debug("event=cache.read outcome=hit key={}", key);
-                return objectMapper.readValue(json, responseType);
-            }
-        } catch (Exception e) {
-            log.warn("event=cache.read outcome=failure key={} error={}", key, e.getMessage());
-        }
-        return null;
+        return read(keyPrefix, calculatorId, ":" + days, responseType);
     }
 
     public <T> T getFromCache(String keyPrefix, String calculatorId,
                               String frequency, int days, Class<T> responseType) {
-        String key = buildKey(keyPrefix, calculatorId, frequency, days);
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
-                meterRegistry.counter(CACHE_ANALYTICS_HIT, "prefix", keyPrefix).increment();
-                log.debug("event=cache.read outcome=hit key={}", key);
-                return objectMapper.readValue(json, responseType);
-            }
-        } catch (Exception e) {
-            log.warn("event=cache.read outcome=failure key={} error={}", key, e.getMessage());
-        }
-        return null;
+        return read(keyPrefix, calculatorId, ":" + frequency + ":" + days, responseType);
     }
 
     public void putInCache(String keyPrefix, String calculatorId,
                            int days, Object response) {
-        String key = buildKey(keyPrefix, calculatorId, days);
-        String indexKey = buildIndexKey(calculatorId);
-        try {
-            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), DEFAULT_TTL);
-            trackKey(indexKey, key);
-            log.debug("event=cache.write outcome=success key={}", key);
-        } catch (Exception e) {
-            log.warn("event=cache.write outcome=failure key={} error={}", key, e.getMessage());
-        }
+        write(keyPrefix, calculatorId, ":" + days, response);
     }
 
     public void putInCache(String keyPrefix, String calculatorId,
                            String frequency, int days, Object response) {
-        String key = buildKey(keyPrefix, calculatorId, frequency, days);
-        String indexKey = buildIndexKey(calculatorId);
-        try {
-            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), DEFAULT_TTL);
-            trackKey(indexKey, key);
-            log.debug("event=cache.write outcome=success key={}", key);
-        } catch (Exception e) {
-            log.warn("event=cache.write outcome=failure key={} error={}", key, e.getMessage());
-        }
+        write(keyPrefix, calculatorId, ":" + frequency + ":" + days, response);
     }
 
     /**
      * runNumber-aware get — for executions cache keyed by calculatorName.
-     * Key: obs:analytics:executions:{name}:{freq}:{days}:{runNumber|all}:{asOfDate}
+     * Key: obs:analytics:executions:{name}:g{gen}:{freq}:{days}:{runNumber|all}:{asOfDate}
      */
     public <T> T getFromCache(String keyPrefix, String calculatorKey,
                               String frequency, int days, String runNumber,
                               LocalDate asOfDate, Class<T> responseType) {
-        String key = buildKeyWithRunNumber(keyPrefix, calculatorKey, frequency, days, runNumber, asOfDate);
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
+        return read(keyPrefix, calculatorKey, runNumberSuffix(frequency, days, runNumber, asOfDate), responseType);
+    }
+
+    /**
+     * runNumber-aware put — for executions cache keyed by calculatorName.
+     */
+    public void putInCache(String keyPrefix, String calculatorKey,
+                           String frequency, int days, String runNumber,
+                           LocalDate asOfDate, Object response) {
+        write(keyPrefix, calculatorKey, runNumberSuffix(frequency, days, runNumber, asOfDate), response);
+    }
+
+    /**
+     * Batch {@link #getFromCache(String, String, int, Class)}: hits keyed by calculator key;
+     * misses and keys whose generation cannot be read are absent.
+     */
+    public <T> Map<String, T> getAllFromCache(String keyPrefix, Collection<String> calculatorKeys,
+                                              int days, Class<T> responseType) {
+        return readAll(keyPrefix, calculatorKeys, ":" + days, region(responseType));
+    }
+
+    public <T> Map<String, T> getAllFromCache(String keyPrefix, Collection<String> calculatorKeys,
+                                              String frequency, int days, Class<T> responseType) {
+        return readAll(keyPrefix, calculatorKeys, ":" + frequency + ":" + days, region(responseType));
+    }
+
+    /** Batch {@link #putInCache(String, String, int, Object)}, written in one pipeline. */
+    public <T> void putAllInCache(String keyPrefix, Map<String, T> responses, int days,
+                                  Class<T> responseType) {
+        writeAll(keyPrefix, responses, ":" + days, region(responseType));
+    }
+
+    public <T> void putAllInCache(String keyPrefix, Map<String, T> responses, String frequency,
+                                  int days, Class<T> responseType) {
+        writeAll(keyPrefix, responses, ":" + frequency + ":" + days, region(responseType));
+    }
+
+    /**
+     * Gzipped-JSON views of the frequency/days and runNumber-aware entries. Every entry is
+     * stored gzipped, and these share keys with the typed views above, so a document written
+     * by one is readable by the other — a hit here can go to the client as stored, with
+     * {@code Content-Encoding: gzip}, without a decode/encode round trip.
+     */
+    public byte[] getCompressedFromCache(String keyPrefix, String calculatorId, String frequency, int days) {
+        return read(keyPrefix, calculatorId, ":" + frequency + ":" + days, compressedRegion);
+    }
+
+    public byte[] getCompressedFromCache(String keyPrefix, String calculatorKey, String frequency, int days,
+                                         String runNumber, LocalDate asOfDate) {
+        return read(keyPrefix, calculatorKey, runNumberSuffix(frequency, days, runNumber, asOfDate), compressedRegion);
+    }
+
+    public void putCompressedInCache(String keyPrefix, String calculatorId, String frequency, int days,
+                                     byte[] gzipJson) {
+        write(keyPrefix, calculatorId, ":" + frequency + ":" + days, gzipJson, compressedRegion);
+    }
+
+    public void putCompressedInCache(String keyPrefix, String calculatorKey, String frequency, int days,
+                                     String runNumber, LocalDate asOfDate, byte[] gzipJson) {
+        write(keyPrefix, calculatorKey, runNumberSuffix(frequency, days, runNumber, asOfDate), gzipJson, compressedRegion);
+    }
+
+    private <T> T read(String keyPrefix, String calculatorKey, String suffix, Class<T> responseType) {
+        return read(keyPrefix, calculatorKey, suffix, region(responseType));
+    }
+
+    private <T> T read(String keyPrefix, String calculatorKey, String suffix, TieredCache<T> region) {
+        String generation = generation(calculatorKey, keyPrefix);
+        if (generation != null) {
+            String key = buildKey(keyPrefix, calculatorKey, generation, suffix);
+            T cached = region.get(key);
+            if (cached != null) {
                 meterRegistry.counter(CACHE_ANALYTICS_HIT, "prefix", keyPrefix).increment();
                 log.debug("event=cache.read outcome=hit key={}", key);
-                return objectMapper.readValue(json, responseType);
+                return cached;
             }
-        } catch (Exception e) {
-            log.warn("event=cache.read outcome=failure key={} error={}", key, e.getMessage());
         }
         meterRegistry.counter(CACHE_ANALYTICS_MISS, "prefix", keyPrefix).increment();
         return null;
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> void write(String keyPrefix, String calculatorKey, String suffix, T response) {
+        write(keyPrefix, calculatorKey, suffix, response, region((Class<T>) response.getClass()));
+    }
+
+    private <T> void write(String keyPrefix, String calculatorKey, String suffix, T response, TieredCache<T> region) {
+        // Without a generation the key cannot be invalidated — skip the write rather than risk staleness.
+        String generation = generation(calculatorKey, keyPrefix);
+        if (generation == null) {
+            return;
+        }
+        region.put(buildKey(keyPrefix, calculatorKey, generation, suffix), response, DEFAULT_TTL);
+    }
+
+    private <T> Map<String, T> readAll(String keyPrefix, Collection<String> calculatorKeys, String suffix,
+                                       TieredCache<T> region) {
+        Map<String, String> generations = generations(calculatorKeys, keyPrefix);
+        Map<String, String> keyByCalculator = new HashMap<>();
+        generations.forEach((calculatorKey, generation) ->
+                keyByCalculator.put(calculatorKey, buildKey(keyPrefix, calculatorKey, generation, suffix)));
+        Map<String, T> values = keyByCalculator.isEmpty() ? Map.of() : region.getAll(keyByCalculator.values());
+
+        Map<String, T> hits = new HashMap<>();
+        keyByCalculator.forEach((calculatorKey, key) -> {
+            T cached = values.get(key);
+            if (cached != null) {
+                hits.put(calculatorKey, cached);
+            }
+        });
+        int misses = calculatorKeys.size() - hits.size();
+        meterRegistry.counter(CACHE_ANALYTICS_HIT, "prefix", keyPrefix).increment(hits.size());
+        meterRegistry.counter(CACHE_ANALYTICS_MISS, "prefix", keyPrefix).increment(misses);
+        log.debug("event=cache.read outcome=batch prefix={} keys={} hits={}",
+                keyPrefix, calculatorKeys.size(), hits.size());
+        return hits;
+    }
+
+    private <T> void writeAll(String keyPrefix, Map<String, T> responses, String suffix, TieredCache<T> region) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        // As in write(): a key without a generation could not be invalidated, so it is not written.
+        Map<String, String> generations = generations(responses.keySet(), keyPrefix);
+        Map<String, T> entries = new HashMap<>();
+        generations.forEach((calculatorKey, generation) -> entries.put(
+                buildKey(keyPrefix, calculatorKey, generation, suffix), responses.get(calculatorKey)));
+        region.putAll(entries, value -> DEFAULT_TTL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TieredCache<T> region(Class<T> responseType) {
+        return (TieredCache<T>) typedRegions.computeIfAbsent(responseType, type -> new TieredCache<>(
+                REGION, BinaryCacheCodec.gzip(CacheCodec.json(objectMapper, type)), value -> DEFAULT_TTL,
+                binaryRedisTemplate, meterRegistry));
+    }
+
+    // ================================================================
+    // Generations
+    // ================================================================
+
+    /**
+     * Current {@code g{all}.{prefix}} token for a calculator key — the same one embedded in
+     * cache keys, exposed for building response validators. {@code null} when Redis is unavailable.
+     */
+    public String currentGeneration(String keyPrefix, String calculatorKey) {
+        return generation(calculatorKey, keyPrefix);
+    }
+
     /**
-     * runNumber-aware put — for executions cache keyed by calculatorName.
+     * Returns the {@code g{all}.{prefix}} token for the calculator key, or {@code null} when
+     * Redis is unavailable (the caller then bypasses the cache).
      */
-    public void putInCache(String keyPrefix, String calculatorKey,
-                           String frequency, int days, String runNumber,
-                           LocalDate asOfDate, Object response) {
-        String key = buildKeyWithRunNumber(keyPrefix, calculatorKey, frequency, days, runNumber, asOfDate);
-        // Track under both calculatorKey (name) index so eviction covers name-keyed entries
-        String indexKey = buildIndexKey(calculatorKey);
+    private String generation(String calculatorKey, String keyPrefix) {
+        long now = System.nanoTime();
+        LocalGeneration local = localGeneration(calculatorKey, keyPrefix);
+        if (local != null && now - local.expiresAtNanos() < 0) {
+            return local.token();
+        }
         try {
-            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), DEFAULT_TTL);
-            trackKey(indexKey, key);
-            log.debug("event=cache.write outcome=success key={}", key);
+            List<Object> counters = redisTemplate.opsForHash()
+                    .multiGet(buildGenerationKey(calculatorKey), List.<Object>of(GENERATION_ALL, keyPrefix));
+            String token = "g" + counter(counters, 0) + "." + counter(counters, 1);
+            holdLocally(calculatorKey, keyPrefix, new LocalGeneration(token, now + LOCAL_GENERATION_TTL.toNanos()));
+            return token;
         } catch (Exception e) {
-            log.warn("event=cache.write outcome=failure key={} error={}", key, e.getMessage());
+            log.warn("event=cache.generation.read outcome=failure calculatorKey={} error={}",
+                    calculatorKey, e.getMessage());
+            return null;
         }
     }
 
+    /**
+     * Batch {@link #generation}: locally held tokens first, then one pipelined {@code HMGET} per
+     * remaining key. Keys are absent when Redis is unavailable.
+     */
+    private Map<String, String> generations(Collection<String> calculatorKeys, String keyPrefix) {
+        Map<String, String> tokens = new HashMap<>();
+        List<String> remote = new ArrayList<>();
+        long now = System.nanoTime();
+        for (String calculatorKey : calculatorKeys) {
+            LocalGeneration local = localGeneration(calculatorKey, keyPrefix);
+            if (local != null && now - local.expiresAtNanos() < 0) {
+                tokens.put(calculatorKey, local.token());
+            } else {
+                remote.add(calculatorKey);
+            }
+        }
+        if (remote.isEmpty()) {
+            return tokens;
+        }
+        try {
+            List<Object> replies = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, HV> Object execute(RedisOperations<K, HV> operations) {
+                    HashOperations<String, Object, Object> hash =
+                            (HashOperations<String, Object, Object>) operations.opsForHash();
+                    for (String calculatorKey : remote) {
+                        hash.multiGet(buildGenerationKey(calculatorKey), List.<Object>of(GENERATION_ALL, keyPrefix));
+                    }
+                    return null;
+                }
+            });
+            long expiresAt = now + LOCAL_GENERATION_TTL.toNanos();
+            for (int i = 0; i < remote.size(); i++) {
+                @SuppressWarnings("unchecked")
+                List<Object> counters = replies != null && i < replies.size() ? (List<Object>) replies.get(i) : null;
+                String token = "g" + counter(counters, 0) + "." + counter(counters, 1);
+                tokens.put(remote.get(i), token);
+                holdLocally(remote.get(i), keyPrefix, new LocalGeneration(token, expiresAt));
+            }
+        } catch (Exception e) {
+            log.warn("event=cache.generation.read outcome=failure operation=batch keys={} error={}",
+                    remote.size(), e.getMessage());
+        }
+        return tokens;
+    }
+
+    private LocalGeneration localGeneration(String calculatorKey, String keyPrefix) {
+        Map<String, LocalGeneration> byPrefix = localGenerations.get(calculatorKey);
+        return byPrefix != null ? byPrefix.get(keyPrefix) : null;
+    }
+
+    private void holdLocally(String calculatorKey, String keyPrefix, LocalGeneration generation) {
+        localGenerations.computeIfAbsent(calculatorKey, k -> new ConcurrentHashMap<>()).put(keyPrefix, generation);
+    }
+
+    private static String counter(List<Object> counters, int index) {
+        Object value = counters != null && index < counters.size() ? counters.get(index) : null;
+        return value != null ? value.toString() : "0";
+    }
+
     // ================================================================
     // Event-driven invalidation
     // ================================================================
@@ -149,86 +391,74 @@ public class AnalyticsCacheService {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async
     public void onRunStarted(RunStartedEvent event) {
-        evictForCalculatorByPrefix(event.getRun(), RUN_PERF_CACHE_PREFIX);
-        evictForCalculatorByPrefix(event.getRun(), RUN_EXECUTIONS_CACHE_PREFIX);
+        if (!changeFeedEnabled) {
+            invalidate(RunChange.STARTED, event.getRun());
+        }
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async
     public void onRunCompleted(RunCompletedEvent event) {
-        evictForCalculator(event.getRun());
+        if (!changeFeedEnabled) {
+            invalidate(RunChange.COMPLETED, event.getRun());
+        }
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async
     public void onSlaBreached(SlaBreachedEvent event) {
-        evictForCalculator(event.getRun());
+        if (!changeFeedEnabled) {
+            invalidate(RunChange.SLA_BREACHED, event.getRun());
+        }
     }
 
-    private void evictForCalculator(CalculatorRun run) {
-        // Evict under both id-index (run-perf, runtime, sla-summary, trends) and
-        // name-index (executions — keyed by calculatorName, not UUID)
-        evictIndex(buildIndexKey(run.getCalculatorId()), run.getCalculatorId());
-        if (run.getCalculatorName() != null && !run.getCalculatorName().equals(run.getCalculatorId())) {
-            evictIndex(buildIndexKey(run.getCalculatorName()), run.getCalculatorName());
-        }
-        // Also evict the alias cache entry when this real calculator belongs to a UI alias
-        nameResolver.findAliasFor(run.getCalculatorName())
-                .ifPresent(alias -> evictIndex(buildIndexKey(alias), alias));
+    /** Change-feed entry point; a failed bump leaves the change pending for redelivery. */
+    @Override
+    public boolean process(RunChange change) {
+        return invalidate(change.type(), change.run());
     }
 
-    private void evictIndex(String indexKey, String calculatorKey) {
-        try {
-            Set<String> indexedKeys = redisTemplate.opsForSet().members(indexKey);
-            if (indexedKeys != null && !indexedKeys.isEmpty()) {
-                List<String> keysToDelete = indexedKeys.stream()
-                        .map(Object::toString)
-                        .collect(Collectors.toList());
-                keysToDelete.add(indexKey);
-                redisTemplate.delete(keysToDelete);
-                meterRegistry.counter(CACHE_ANALYTICS_EVICTION).increment();
-                log.debug("event=cache.evict outcome=success calculatorKey={} keysEvicted={}",
-                        calculatorKey, indexedKeys.size());
-            }
-        } catch (Exception e) {
-            log.warn("event=cache.evict outcome=failure calculatorKey={} error={}",
-                    calculatorKey, e.getMessage());
+    private boolean invalidate(String type, CalculatorRun run) {
+        if (RunChange.STARTED.equals(type)) {
+            // A new run only changes the per-run views; runtime / SLA / trend windows are unaffected.
+            // The performance card embeds the executions view, so it goes with them.
+            return bumpForCalculator(run, RUN_PERF_PREFIX)
+                    & bumpForCalculator(run, RUN_EXECUTIONS_PREFIX)
+                    & bumpForCalculator(run, CARD_PREFIX);
         }
+        return bumpForCalculator(run, GENERATION_ALL);
     }
 
-    private void evictForCalculatorByPrefix(CalculatorRun run, String fullKeyPrefix) {
-        // Evict under both id-index and name-index
-        evictIndexByPrefix(buildIndexKey(run.getCalculatorId()), fullKeyPrefix, run.getCalculatorId());
+    private boolean bumpForCalculator(CalculatorRun run, String field) {
+        // Bump under both the id (run-perf, runtime, sla-summary, trends) and the
+        // name (executions — keyed by calculatorName, not UUID)
+        boolean ok = bump(run.getCalculatorId(), field);
         if (run.getCalculatorName() != null && !run.getCalculatorName().equals(run.getCalculatorId())) {
-            evictIndexByPrefix(buildIndexKey(run.getCalculatorName()), fullKeyPrefix, run.getCalculatorName());
+            ok &= bump(run.getCalculatorName(), field);
         }
-        // Also evict the alias cache entry when this real calculator belongs to a UI alias
-        nameResolver.findAliasFor(run.getCalculatorName())
-                .ifPresent(alias -> evictIndexByPrefix(buildIndexKey(alias), fullKeyPrefix, alias));
+        // Also bump the alias when this real calculator belongs to a UI alias
+        Optional<String> alias = nameResolver.findAliasFor(run.getCalculatorName());
+        if (alias.isPresent()) {
+            ok &= bump(alias.get(), field);
+        }
+        return ok;
     }
 
-    private void evictIndexByPrefix(String indexKey, String fullKeyPrefix, String calculatorKey) {
+    private boolean bump(String calculatorKey, String field) {
+        if (calculatorKey == null) {
+            return true;
+        }
+        localGenerations.remove(calculatorKey);
         try {
-            Set<String> indexedKeys = redisTemplate.opsForSet().members(indexKey);
-            if (indexedKeys == null || indexedKeys.isEmpty()) {
-                return;
-            }
-
-            List<String> keysToDelete = indexedKeys.stream()
-                    .map(Object::toString)
-                    .filter(key -> key.startsWith(fullKeyPrefix))
-                    .collect(Collectors.toList());
-
-            if (!keysToDelete.isEmpty()) {
-                redisTemplate.delete(keysToDelete);
-                redisTemplate.opsForSet().remove(indexKey, keysToDelete.toArray());
-                meterRegistry.counter(CACHE_ANALYTICS_EVICTION).increment();
-                log.debug("event=cache.evict outcome=success calculatorKey={} keysEvicted={} mode=prefix",
-                        calculatorKey, keysToDelete.size());
-            }
+            redisTemplate.execute(BUMP, List.of(buildGenerationKey(calculatorKey)), field,
+                    String.valueOf(GENERATION_TTL.toMillis()), String.valueOf(System.currentTimeMillis()));
+            meterRegistry.counter(CACHE_ANALYTICS_EVICTION).increment();
+            log.debug("event=cache.evict outcome=success calculatorKey={} generation={}", calculatorKey, field);
+            return true;
         } catch (Exception e) {
-            log.warn("event=cache.evict outcome=failure calculatorKey={} mode=prefix error={}",
-                    calculatorKey, e.getMessage());
+            log.warn("event=cache.evict outcome=failure calculatorKey={} generation={} error={}",
+                    calculatorKey, field, e.getMessage());
+            return false;
         }
     }
 
@@ -236,31 +466,16 @@ public class AnalyticsCacheService {
     // Key builders
     // ================================================================
 
-    private String buildKey(String prefix, String calculatorId, int days) {
-        return ANALYTICS_PREFIX + prefix + ":" + calculatorId + ":" + days;
-    }
-
-    private String buildKey(String prefix, String calculatorId,
-                            String frequency, int days) {
-        return ANALYTICS_PREFIX + prefix + ":" + calculatorId
-                + ":" + frequency + ":" + days;
+    private String buildKey(String prefix, String calculatorKey, String generation, String suffix) {
+        return ANALYTICS_PREFIX + prefix + ":" + calculatorKey + ":" + generation + suffix;
     }
 
-    private String buildKeyWithRunNumber(String prefix, String calculatorKey,
-                                         String frequency, int days, String runNumber,
-                                         LocalDate asOfDate) {
+    private String runNumberSuffix(String frequency, int days, String runNumber, LocalDate asOfDate) {
         String rn = (runNumber == null) ? "all" : runNumber;
-        return ANALYTICS_PREFIX + prefix + ":" + calculatorKey
-                + ":" + frequency + ":" + days + ":" + rn + ":" + asOfDate;
+        return ":" + frequency + ":" + days + ":" + rn + ":" + asOfDate;
     }
 
-    private String buildIndexKey(String calculatorId) {
-        return ANALYTICS_INDEX_PREFIX + calculatorId;
+    private String buildGenerationKey(String calculatorKey) {
+        return GENERATION_PREFIX + calculatorKey;
     }
-
-    private void trackKey(String indexKey, String key) {
-        redisTemplate.opsForSet().add(indexKey, key);
-        redisTemplate.expire(indexKey, INDEX_TTL);
-    }
-
 }
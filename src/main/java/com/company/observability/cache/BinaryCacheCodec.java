@@ -0,0 +1,64 @@
+package com.company.observability.cache;
+
+import com.company.observability.util.GzipUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * {@link CacheCodec} counterpart for regions stored through a {@link BinaryRedisTemplate}: values
+ * become raw bytes in the L2 tier instead of strings.
+ */
+public interface BinaryCacheCodec<V> {
+
+    byte[] encode(V value) throws JsonProcessingException;
+
+    V decode(byte[] raw) throws JsonProcessingException;
+
+    /**
+     * Stores values as the gzipped {@code inner} encoding. Decoding also accepts the Base64 form
+     * written by {@link CacheCodec#gzip} and the plain {@code inner} form, so entries written
+     * before the region moved to raw bytes stay readable until they expire.
+     */
+    static <V> BinaryCacheCodec<V> gzip(CacheCodec<V> inner) {
+        BinaryCacheCodec<byte[]> bytes = gzipped();
+        return new BinaryCacheCodec<>() {
+            @Override
+            public byte[] encode(V value) throws JsonProcessingException {
+                return GzipUtils.gzip(inner.encode(value).getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public V decode(byte[] raw) throws JsonProcessingException {
+                return inner.decode(new String(GzipUtils.gunzip(bytes.decode(raw)), StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    /**
+     * Already-gzipped payloads (e.g. a streamed response), stored in the same form as
+     * {@link #gzip} so the two are interchangeable on one key. A legacy Base64 entry is decoded
+     * and a legacy plain one compressed on read.
+     */
+    static BinaryCacheCodec<byte[]> gzipped() {
+        return new BinaryCacheCodec<>() {
+            @Override
+            public byte[] encode(byte[] value) {
+                return value;
+            }
+
+            @Override
+            public byte[] decode(byte[] raw) {
+                if (GzipUtils.isGzip(raw)) {
+                    return raw;
+                }
+                String legacy = new String(raw, StandardCharsets.UTF_8);
+                if (legacy.startsWith(CacheCodec.GZIP_BASE64_MAGIC)) {
+                    return Base64.getDecoder().decode(legacy);
+                }
+                return GzipUtils.gzip(raw);
+            }
+        };
+    }
+}
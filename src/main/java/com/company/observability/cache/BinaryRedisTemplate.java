@@ -0,0 +1,22 @@
+package com.company.observability.cache;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * String keys, raw {@code byte[]} values — the {@link org.springframework.data.redis.core.StringRedisTemplate}
+ * counterpart for payloads that are already binary (gzipped documents), so they are stored as-is
+ * rather than Base64-encoded into a string.
+ */
+public class BinaryRedisTemplate extends RedisTemplate<String, byte[]> {
+
+    public BinaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        setKeySerializer(RedisSerializer.string());
+        setValueSerializer(RedisSerializer.byteArray());
+        setHashKeySerializer(RedisSerializer.string());
+        setHashValueSerializer(RedisSerializer.byteArray());
+        setConnectionFactory(connectionFactory);
+        afterPropertiesSet();
+    }
+}
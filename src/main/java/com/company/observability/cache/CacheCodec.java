@@ -0,0 +1,68 @@
+package com.company.observability.cache;
+
+import com.company.observability.util.GzipUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Converts region values to and from the string form stored in the L2 (Redis) tier.
+ *
+ * <p>The L1 tier holds decoded values, so a codec only runs on an L2 read or write. Regions
+ * stored as raw bytes use a {@link BinaryCacheCodec} instead.
+ */
+public interface CacheCodec<V> {
+
+    /** Base64 of the gzip header (1f 8b 08) — cannot begin a JSON document. */
+    String GZIP_BASE64_MAGIC = "H4sI";
+
+    String encode(V value) throws JsonProcessingException;
+
+    V decode(String raw) throws JsonProcessingException;
+
+    /** Jackson codec for a concrete class — the format every cache in this service already uses. */
+    static <V> CacheCodec<V> json(ObjectMapper objectMapper, Class<V> type) {
+        return json(objectMapper, objectMapper.constructType(type));
+    }
+
+    /** Jackson codec for a parameterised type (e.g. {@code List<CalculatorRun>}). */
+    static <V> CacheCodec<V> json(ObjectMapper objectMapper, JavaType type) {
+        return new CacheCodec<>() {
+            @Override
+            public String encode(V value) throws JsonProcessingException {
+                return objectMapper.writeValueAsString(value);
+            }
+
+            @Override
+            public V decode(String raw) throws JsonProcessingException {
+                return objectMapper.readValue(raw, type);
+            }
+        };
+    }
+
+    /**
+     * Stores values as Base64 of the gzipped {@code inner} encoding. Decoding also accepts the
+     * plain {@code inner} form, so entries written before compression was enabled stay readable
+     * until they expire.
+     */
+    static <V> CacheCodec<V> gzip(CacheCodec<V> inner) {
+        return new CacheCodec<>() {
+            @Override
+            public String encode(V value) throws JsonProcessingException {
+                return Base64.getEncoder().encodeToString(
+                        GzipUtils.gzip(inner.encode(value).getBytes(StandardCharsets.UTF_8)));
+            }
+
+            @Override
+            public V decode(String raw) throws JsonProcessingException {
+                if (!raw.startsWith(GZIP_BASE64_MAGIC)) {
+                    return inner.decode(raw);
+                }
+                return inner.decode(new String(GzipUtils.gunzip(Base64.getDecoder().decode(raw)), StandardCharsets.UTF_8));
+            }
+        };
+    }
+}
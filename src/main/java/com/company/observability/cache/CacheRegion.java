@@ -0,0 +1,31 @@
+package com.company.observability.cache;
+
+import java.time.Duration;
+
+/**
+ * Static shape of a {@link TieredCache} region: its metric name and the optional on-heap tier.
+ *
+ * <p>An L1 TTL of zero disables the on-heap tier — the right choice for regions whose entries
+ * are invalidated by events, since an eviction on one instance cannot reach another instance's
+ * heap. An L1 copy written by {@code put} never outlives its L2 TTL; one filled from an L2 hit
+ * does not know the remaining L2 TTL and may be served for up to {@code l1Ttl} after the Redis
+ * key expires — so {@code l1Ttl} is also the bound on extra staleness the region accepts.
+ *
+ * @param name         region name; used as the {@code region} metric tag
+ * @param l1Ttl        upper bound on how long a value is served from heap ({@link Duration#ZERO} = off)
+ * @param l1MaxEntries bound on the number of on-heap entries
+ */
+public record CacheRegion(String name, Duration l1Ttl, int l1MaxEntries) {
+
+    public static CacheRegion redisOnly(String name) {
+        return new CacheRegion(name, Duration.ZERO, 0);
+    }
+
+    public static CacheRegion withL1(String name, Duration l1Ttl, int l1MaxEntries) {
+        return new CacheRegion(name, l1Ttl, l1MaxEntries);
+    }
+
+    public boolean l1Enabled() {
+        return !l1Ttl.isZero() && !l1Ttl.isNegative() && l1MaxEntries > 0;
+    }
+}
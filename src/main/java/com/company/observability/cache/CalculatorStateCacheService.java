@@ -4,7 +4,6 @@ import com.company.observability.dto.response.CalculatorBatchRunsResponse.Calcul
 import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
@@ -12,6 +11,7 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,7 +20,12 @@ import static com.company.observability.util.ObservabilityConstants.*;
 /**
  * Per-calculator Redis cache for the {@code GET /api/v1/calculators/batch/runs} endpoint.
  *
- * <p>Key: {@code obs:state:{calculatorName}:{reportingDate}:{frequency}:{runNumber|all}}
+ * <p>Key: {@code obs:state:{calculatorName}:{reportingDate}:{frequency}:{runNumber|all}:v{version}}
+ *
+ * <p>{@code version} is the calculator's {@link ChangeVersionService} counter for that date and
+ * frequency, read once per request by the caller. An ingestion event moves readers onto a new key,
+ * so an entry built before the change is never served under the version (and ETag) that
+ * announces it. Without versions (Redis unavailable) the cache is bypassed.
  *
  * <p>TTL is state-aware:
  * <ul>
@@ -31,21 +36,20 @@ import static com.company.observability.util.ObservabilityConstants.*;
  *   <li>all SUCCESS &amp; clean and an old reporting date (&gt;3 days) → 4 h</li>
  * </ul>
  *
- * <p>Invalidation is TTL-only — no event listeners. A SUCCESS snapshot can be <em>partial</em>
- * (e.g. a multi-region calculator where one region finished before the next started, or a
- * re-trigger after SUCCESS). The 4 h bucket is therefore allowlist-only and gated on the reporting
+ * <p>Superseded versions are never evicted — they simply expire. A SUCCESS snapshot can be
+ * <em>partial</em> (e.g. a multi-region calculator where one region finished before the next
+ * started, or a re-trigger after SUCCESS). The 4 h bucket is therefore allowlist-only and gated on the reporting
  * date being old enough that no new runs are plausible; the current cycle stays at 5 min.
  *
- * <p>All Redis ops are best-effort: exceptions are swallowed and the caller falls back to DB.
+ * <p>Storage is a {@link TieredCache} region with a 5 s on-heap tier. All Redis ops are
+ * best-effort: exceptions are swallowed and the caller falls back to DB.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CalculatorStateCacheService {
 
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
     private final MeterRegistry meterRegistry;
+    private final TieredCache<CalculatorEntry> cache;
 
     private static final String KEY_PREFIX = "obs:state:";
 
@@ -54,58 +58,76 @@ public class CalculatorStateCacheService {
     static final Duration TTL_TERMINAL_WITH_FAILURES = Duration.ofMinutes(5);
     static final Duration TTL_TERMINAL_CLEAN         = Duration.ofHours(4);
 
+    /**
+     * Keys are versioned rather than evicted, so a heap copy can never outlive a change; the
+     * 5 s bound only caps memory churn. A short on-heap tier is safe here and absorbs the dashboard's repeated polls of the same date.
+     */
+    static final CacheRegion REGION = CacheRegion.withL1("state", Duration.ofSeconds(5), 10_000);
+
+    public CalculatorStateCacheService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        // Every write passes an explicit, date-aware TTL; the policy is only the conservative default.
+        this.cache = new TieredCache<>(REGION, CacheCodec.json(objectMapper, CalculatorEntry.class),
+                entry -> TTL_NOT_STARTED, redisTemplate, meterRegistry);
+    }
+
     // ── Read ──────────────────────────────────────────────────────────────────
 
     /**
-     * Bulk get for the given calculator names. Returns only cache hits keyed by name;
-     * misses are simply absent from the returned map.
+     * Bulk get for the given calculator names — one {@code MGET} for whatever the on-heap tier
+     * does not hold. Returns only cache hits keyed by name; misses are simply absent from the
+     * returned map.
+     *
+     * @param versions change version per name from {@link ChangeVersionService#getVersions};
+     *                 {@code null} skips the cache and reports every name as a miss
      */
     public Map<String, CalculatorEntry> getEntries(
             LocalDate reportingDate, String frequency, String runNumber,
-            List<String> calculatorNames) {
+            List<String> calculatorNames, Map<String, Long> versions) {
 
-        Map<String, CalculatorEntry> hits = new HashMap<>();
+        if (versions == null) {
+            calculatorNames.forEach(name -> meterRegistry.counter(CACHE_STATE_MISS, "calculator", name).increment());
+            return new HashMap<>();
+        }
+
+        Map<String, String> keyToName = new LinkedHashMap<>();
         for (String name : calculatorNames) {
-            String key = buildKey(name, reportingDate, frequency, runNumber);
-            try {
-                String json = redisTemplate.opsForValue().get(key);
-                if (json != null) {
-                    CalculatorEntry entry = objectMapper.readValue(json, CalculatorEntry.class);
-                    hits.put(name, entry);
-                    meterRegistry.counter(CACHE_STATE_HIT, "calculator", name).increment();
-                    log.debug("event=state.cache.read outcome=hit key={}", key);
-                } else {
-                    meterRegistry.counter(CACHE_STATE_MISS, "calculator", name).increment();
-                    log.debug("event=state.cache.read outcome=miss key={}", key);
-                }
-            } catch (Exception e) {
-                log.warn("event=state.cache.read outcome=failure key={} error={}", key, e.getMessage());
+            keyToName.put(buildKey(name, reportingDate, frequency, runNumber, versions), name);
+        }
+
+        Map<String, CalculatorEntry> cached = cache.getAll(keyToName.keySet());
+        Map<String, CalculatorEntry> hits = new HashMap<>();
+        keyToName.forEach((key, name) -> {
+            CalculatorEntry entry = cached.get(key);
+            if (entry != null) {
+                hits.put(name, entry);
+                meterRegistry.counter(CACHE_STATE_HIT, "calculator", name).increment();
+                log.debug("event=state.cache.read outcome=hit key={}", key);
+            } else {
                 meterRegistry.counter(CACHE_STATE_MISS, "calculator", name).increment();
+                log.debug("event=state.cache.read outcome=miss key={}", key);
             }
-        }
+        });
         return hits;
     }
 
     // ── Write ─────────────────────────────────────────────────────────────────
 
     /**
-     * Stores each entry with its own state-aware TTL.
+     * Stores each entry with its own state-aware TTL under the version it was read at.
+     * A {@code null} versions map skips the write.
      */
     public void putEntries(
             LocalDate reportingDate, String frequency, String runNumber,
-            Map<String, CalculatorEntry> entries) {
-
-        entries.forEach((name, entry) -> {
-            String key = buildKey(name, reportingDate, frequency, runNumber);
-            Duration ttl = determineTtl(entry, reportingDate);
-            try {
-                String json = objectMapper.writeValueAsString(entry);
-                redisTemplate.opsForValue().set(key, json, ttl);
-                log.debug("event=state.cache.write outcome=success key={} ttl={}", key, ttl);
-            } catch (Exception e) {
-                log.warn("event=state.cache.write outcome=failure key={} error={}", key, e.getMessage());
-            }
-        });
+            Map<String, CalculatorEntry> entries, Map<String, Long> versions) {
+
+        if (versions == null) {
+            return;
+        }
+        entries.forEach((name, entry) -> cache.put(
+                buildKey(name, reportingDate, frequency, runNumber, versions), entry,
+                determineTtl(entry, reportingDate)));
     }
 
     // ── TTL selection ─────────────────────────────────────────────────────────
@@ -157,8 +179,9 @@ public class CalculatorStateCacheService {
     // ── Key builder ───────────────────────────────────────────────────────────
 
     private String buildKey(String calculatorName, LocalDate reportingDate,
-                            String frequency, String runNumber) {
+                            String frequency, String runNumber, Map<String, Long> versions) {
         String rn = (runNumber == null) ? "all" : runNumber;
-        return KEY_PREFIX + calculatorName + ":" + reportingDate + ":" + frequency + ":" + rn;
+        long version = versions.getOrDefault(calculatorName, 0L);
+        return KEY_PREFIX + calculatorName + ":" + reportingDate + ":" + frequency + ":" + rn + ":v" + version;
     }
 }
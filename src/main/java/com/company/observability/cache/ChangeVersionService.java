@@ -0,0 +1,154 @@
+package com.company.observability.cache;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.event.RunCompletedEvent;
+import com.company.observability.event.RunStartedEvent;
+import com.company.observability.event.SlaBreachedEvent;
+import com.company.observability.service.live.RunChange;
+import com.company.observability.service.live.RunChangeStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Per-(calculator, reportingDate, frequency) change counters — the validator behind the
+ * {@code /batch/runs} ETag and the version embedded in {@link CalculatorStateCacheService} keys.
+ *
+ * <p>Key: {@code obs:version:{calculatorName}:{reportingDate}:{frequency}} → plain integer,
+ * {@code INCR}ed after every committed start, completion or SLA breach. A missing key reads
+ * as version 0; the bump that creates it seeds it with the epoch millis first. Reading the versions for a whole request is a single {@code MGET}, so a
+ * conditional request can be answered without touching cached entries or the DB.
+ *
+ * <p>Keys expire {@link #VERSION_TTL} after their last bump. Because of the seed, a counter
+ * recreated after that starts above every version the previous one handed out, so an old ETag
+ * or a {@code calculator_day_snapshot} row built at an old version never matches again.
+ *
+ * <p>With the change feed enabled, each bump also appends the change to the
+ * {@link RunChangeStream} in the same script, so the version and the change become visible together.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeVersionService {
+
+    private static final String KEY_PREFIX = "obs:version:";
+    static final Duration VERSION_TTL = Duration.ofDays(35);
+
+    private static final RedisScript<Long> BUMP = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[2])
+            end
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Optional<RunChangeStream> changeStream;
+
+    // ── Read ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Current version per calculator name, in the order given; names never bumped map to 0.
+     *
+     * @return the versions, or {@code null} when Redis is unavailable (callers then skip
+     *         both the ETag and the versioned state cache)
+     */
+    public Map<String, Long> getVersions(LocalDate reportingDate, String frequency,
+                                         Collection<String> calculatorNames) {
+        List<String> keys = new ArrayList<>(calculatorNames.size());
+        for (String name : calculatorNames) {
+            keys.add(buildKey(name, reportingDate, frequency));
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            List<String> raws = keys.isEmpty() ? List.of() : redisTemplate.opsForValue().multiGet(keys);
+            Map<String, Long> versions = new LinkedHashMap<>();
+            int i = 0;
+            for (String name : calculatorNames) {
+                String raw = raws != null && i < raws.size() ? raws.get(i) : null;
+                versions.put(name, raw != null ? Long.parseLong(raw) : 0L);
+                i++;
+            }
+            return versions;
+        } catch (Exception e) {
+            log.warn("event=version.read outcome=failure reportingDate={} frequency={} names={} error={}",
+                    reportingDate, frequency, calculatorNames.size(), e.getMessage());
+            return null;
+        } finally {
+            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
+                    .tag("operation", "read_batch")
+                    .tag("tier", "version")
+                    .register(meterRegistry));
+        }
+    }
+
+    // ── Event-driven bumps ────────────────────────────────────────────────────
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void onRunStarted(RunStartedEvent event) {
+        bump(event.getRun(), RunChange.STARTED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void onRunCompleted(RunCompletedEvent event) {
+        bump(event.getRun(), RunChange.COMPLETED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void onSlaBreached(SlaBreachedEvent event) {
+        bump(event.getRun(), RunChange.SLA_BREACHED);
+    }
+
+    private void bump(CalculatorRun run, String type) {
+        if (run.getCalculatorName() == null || run.getReportingDate() == null) {
+            return;
+        }
+        String key = buildKey(run.getCalculatorName(), run.getReportingDate(), run.getFrequency().name());
+        try {
+            if (changeStream.isPresent()) {
+                changeStream.get().bumpAndAppend(key, VERSION_TTL, run, type);
+            } else {
+                redisTemplate.execute(BUMP, List.of(key),
+                        String.valueOf(VERSION_TTL.toMillis()), String.valueOf(System.currentTimeMillis()));
+            }
+            meterRegistry.counter(CACHE_VERSION_BUMP).increment();
+            log.debug("event=version.bump outcome=success key={}", key);
+        } catch (Exception e) {
+            if (changeStream.isPresent()) {
+                meterRegistry.counter(LIVE_STREAM_APPEND_FAILURE).increment();
+            }
+            log.warn("event=version.bump outcome=failure key={} error={}", key, e.getMessage());
+        }
+    }
+
+    // ── Key builder ───────────────────────────────────────────────────────────
+
+    private String buildKey(String calculatorName, LocalDate reportingDate, String frequency) {
+        return KEY_PREFIX + calculatorName + ":" + reportingDate + ":" + frequency;
+    }
+}
@@ -0,0 +1,241 @@
+package com.company.observability.cache;
+
+import com.company.observability.config.SnapshotProperties;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
+import com.company.observability.repository.DaySnapshotRepository;
+import com.company.observability.repository.DaySnapshotRepository.DaySnapshot;
+import com.company.observability.service.live.RunChange;
+import com.company.observability.service.live.RunChangeProcessor;
+import com.company.observability.util.GzipUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Day snapshots for {@code /batch/runs}: once a reporting date is older than the settle horizon,
+ * each calculator's final {@link CalculatorEntry} is written once — gzipped JSON in
+ * {@code calculator_day_snapshot}, plus a long-TTL Redis copy — and served from there instead of
+ * being rebuilt from {@code calculator_runs}.
+ *
+ * <p>Key: {@code obs:snapshot:{calculatorName}:{reportingDate}:{frequency}:{runNumber|all}:v{version}}
+ *
+ * <p>Like the state cache, snapshots carry the {@link ChangeVersionService} version they were
+ * built at and are only served at that version, so a late run change is never hidden: it moves
+ * readers to a new version, the next read rebuilds and rewrites the row. The change feed also
+ * deletes the calculator's rows for the date ({@link #process}) so superseded snapshots do not
+ * linger. Without versions (Redis unavailable) snapshots are bypassed.
+ *
+ * <p>Only entries whose runs are all terminal are snapshotted; running runs and not-started
+ * projections (which depend on profiles and the clock) stay with the state cache. Table failures
+ * are logged and read as misses.
+ */
+@Service
+@Slf4j
+public class DaySnapshotService implements RunChangeProcessor {
+
+    private final DaySnapshotRepository repository;
+    private final SnapshotProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TieredCache<CalculatorEntry> cache;
+    private final Duration redisTtl;
+
+    private static final String KEY_PREFIX = "obs:snapshot:";
+
+    private static final Set<String> TERMINAL_STATUSES = Arrays.stream(RunStatus.values())
+            .filter(RunStatus::isTerminal)
+            .map(RunStatus::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    /** Versioned keys never go stale; the short on-heap tier absorbs repeated browsing of one day. */
+    static final CacheRegion REGION = CacheRegion.withL1("snapshot", Duration.ofMinutes(1), 10_000);
+
+    public DaySnapshotService(DaySnapshotRepository repository, SnapshotProperties properties,
+                              StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.redisTtl = Duration.ofHours(properties.getRedisTtlHours());
+        this.cache = new TieredCache<>(REGION,
+                CacheCodec.gzip(CacheCodec.json(objectMapper, CalculatorEntry.class)),
+                entry -> redisTtl, redisTemplate, meterRegistry);
+    }
+
+    /** Whether {@code reportingDate} is past the settle horizon (and snapshots are enabled). */
+    public boolean isSettled(LocalDate reportingDate) {
+        return properties.isEnabled()
+                && reportingDate.isBefore(LocalDate.now().minusDays(properties.getSettleDays()));
+    }
+
+    // ── Read ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Snapshots at the requested versions — Redis first ({@code MGET}), then one table read for the
+     * rest; table hits are copied back to Redis. Misses are absent from the returned map.
+     */
+    public Map<String, CalculatorEntry> getEntries(LocalDate reportingDate, String frequency, String runNumber,
+                                                   List<String> calculatorNames, Map<String, Long> versions) {
+        if (versions == null || calculatorNames.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<String, String> keyToName = new LinkedHashMap<>();
+        for (String name : calculatorNames) {
+            keyToName.put(buildKey(name, reportingDate, frequency, runNumber, versions), name);
+        }
+
+        Map<String, CalculatorEntry> hits = new HashMap<>();
+        Map<String, CalculatorEntry> cached = cache.getAll(keyToName.keySet());
+        List<String> remaining = new ArrayList<>();
+        keyToName.forEach((key, name) -> {
+            CalculatorEntry entry = cached.get(key);
+            if (entry != null) {
+                hits.put(name, entry);
+            } else {
+                remaining.add(name);
+            }
+        });
+        meterRegistry.counter(SNAPSHOT_HIT, "tier", "redis").increment(hits.size());
+
+        if (!remaining.isEmpty()) {
+            Map<String, CalculatorEntry> fromTable = readTable(reportingDate, frequency, runNumber, remaining, versions);
+            Map<String, CalculatorEntry> backfill = new HashMap<>();
+            fromTable.forEach((name, entry) ->
+                    backfill.put(buildKey(name, reportingDate, frequency, runNumber, versions), entry));
+            cache.putAll(backfill, entry -> redisTtl);
+            hits.putAll(fromTable);
+            meterRegistry.counter(SNAPSHOT_HIT, "tier", "table").increment(fromTable.size());
+            meterRegistry.counter(SNAPSHOT_MISS).increment(remaining.size() - fromTable.size());
+        }
+        log.debug("event=snapshot.read reportingDate={} frequency={} requested={} hits={}",
+                reportingDate, frequency, calculatorNames.size(), hits.size());
+        return hits;
+    }
+
+    private Map<String, CalculatorEntry> readTable(LocalDate reportingDate, String frequency, String runNumber,
+                                                   List<String> names, Map<String, Long> versions) {
+        Map<String, CalculatorEntry> entries = new HashMap<>();
+        try {
+            repository.findSnapshots(reportingDate, frequency, runNumberKey(runNumber), names)
+                    .forEach((name, snapshot) -> {
+                        if (snapshot.version() != versions.getOrDefault(name, 0L)) {
+                            return;  // superseded by a late change; rebuilt by the caller
+                        }
+                        try {
+                            entries.put(name, objectMapper.readValue(GzipUtils.gunzip(snapshot.entry()),
+                                    CalculatorEntry.class));
+                        } catch (Exception e) {
+                            log.warn("event=snapshot.decode outcome=failure calculator={} reportingDate={} error={}",
+                                    name, reportingDate, e.getMessage());
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("event=snapshot.read outcome=failure reportingDate={} error={}", reportingDate, e.getMessage());
+        }
+        return entries;
+    }
+
+    // ── Write ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Snapshots the run-backed entries among {@code entries} at the versions they were built
+     * under — one batched upsert and one Redis pipeline.
+     *
+     * @return the names that were snapshotted
+     */
+    public Set<String> putEntries(LocalDate reportingDate, String frequency, String runNumber,
+                                  Map<String, CalculatorEntry> entries, Map<String, Long> versions) {
+        if (versions == null) {
+            return Set.of();
+        }
+        List<DaySnapshot> rows = new ArrayList<>();
+        Map<String, CalculatorEntry> toCache = new HashMap<>();
+        Set<String> written = new HashSet<>();
+        entries.forEach((name, entry) -> {
+            if (!isFinal(entry)) {
+                return;
+            }
+            try {
+                rows.add(new DaySnapshot(name, versions.getOrDefault(name, 0L),
+                        GzipUtils.gzip(objectMapper.writeValueAsBytes(entry))));
+                toCache.put(buildKey(name, reportingDate, frequency, runNumber, versions), entry);
+                written.add(name);
+            } catch (Exception e) {
+                log.warn("event=snapshot.write outcome=failure calculator={} error={}", name, e.getMessage());
+            }
+        });
+        if (rows.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            repository.upsertSnapshots(reportingDate, frequency, runNumberKey(runNumber), rows);
+            meterRegistry.counter(SNAPSHOT_WRITE).increment(rows.size());
+        } catch (Exception e) {
+            log.warn("event=snapshot.write outcome=failure reportingDate={} rows={} error={}",
+                    reportingDate, rows.size(), e.getMessage());
+        }
+        cache.putAll(toCache, entry -> redisTtl);
+        return written;
+    }
+
+    /** Run-backed and settled: every run has a terminal status (no RUNNING, no NOT_STARTED projection). */
+    static boolean isFinal(CalculatorEntry entry) {
+        List<RunEntry> runs = entry.runs();
+        if (runs == null || runs.isEmpty()) {
+            return false;
+        }
+        for (RunEntry run : runs) {
+            if (!TERMINAL_STATUSES.contains(run.status())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ── Late changes ──────────────────────────────────────────────────────────
+
+    /** Deletes the calculator's snapshots for a settled date a run just changed on. */
+    @Override
+    public boolean process(RunChange change) {
+        var run = change.run();
+        if (run.getReportingDate() == null || !isSettled(run.getReportingDate())) {
+            return true;
+        }
+        try {
+            int deleted = repository.deleteSnapshots(run.getCalculatorName(), run.getReportingDate(),
+                    run.getFrequency().name());
+            meterRegistry.counter(SNAPSHOT_INVALIDATED).increment(deleted);
+            log.info("event=snapshot.invalidate outcome=success calculator={} reportingDate={} frequency={} rows={}",
+                    run.getCalculatorName(), run.getReportingDate(), run.getFrequency(), deleted);
+            return true;
+        } catch (Exception e) {
+            log.warn("event=snapshot.invalidate outcome=failure calculator={} reportingDate={} error={}",
+                    run.getCalculatorName(), run.getReportingDate(), e.getMessage());
+            return false;
+        }
+    }
+
+    // ── Key builder ───────────────────────────────────────────────────────────
+
+    private static String runNumberKey(String runNumber) {
+        return runNumber == null ? "all" : runNumber;
+    }
+
+    private static String buildKey(String calculatorName, LocalDate reportingDate, String frequency,
+                                   String runNumber, Map<String, Long> versions) {
+        return KEY_PREFIX + calculatorName + ":" + reportingDate + ":" + frequency + ":"
+                + runNumberKey(runNumber) + ":v" + versions.getOrDefault(calculatorName, 0L);
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.observability.cache;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+/** {@link BinaryRedisTemplate} guarded like {@link GuardedStringRedisTemplate}, by the same breaker. */
+public class GuardedBinaryRedisTemplate extends BinaryRedisTemplate {
+
+    private final RedisCircuitBreaker breaker;
+
+    public GuardedBinaryRedisTemplate(RedisConnectionFactory connectionFactory, RedisCircuitBreaker breaker) {
+        super(connectionFactory);
+        this.breaker = breaker;
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        return breaker.guard(() -> super.execute(action, exposeConnection, pipeline));
+    }
+
+    @Override
+    public <T> T execute(SessionCallback<T> session) {
+        return breaker.guard(() -> super.execute(session));
+    }
+
+    @Override
+    public List<Object> executePipelined(SessionCallback<?> session, RedisSerializer<?> resultSerializer) {
+        return breaker.guard(() -> super.executePipelined(session, resultSerializer));
+    }
+
+    @Override
+    public List<Object> executePipelined(RedisCallback<?> action, RedisSerializer<?> resultSerializer) {
+        return breaker.guard(() -> super.executePipelined(action, resultSerializer));
+    }
+}
@@ -0,0 +1,45 @@
+package com.company.observability.cache;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+/**
+ * {@link StringRedisTemplate} whose calls pass through the {@link RedisCircuitBreaker}. Every
+ * operation, script and pipeline of the template ends in one of the overridden {@code execute}
+ * methods. Only the outermost one on a thread is guarded, so a pipeline counts as one call.
+ * Pub/sub listener containers use the connection factory directly and are not guarded.
+ */
+public class GuardedStringRedisTemplate extends StringRedisTemplate {
+
+    private final RedisCircuitBreaker breaker;
+
+    public GuardedStringRedisTemplate(RedisConnectionFactory connectionFactory, RedisCircuitBreaker breaker) {
+        super(connectionFactory);
+        this.breaker = breaker;
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        return breaker.guard(() -> super.execute(action, exposeConnection, pipeline));
+    }
+
+    @Override
+    public <T> T execute(SessionCallback<T> session) {
+        return breaker.guard(() -> super.execute(session));
+    }
+
+    @Override
+    public List<Object> executePipelined(SessionCallback<?> session, RedisSerializer<?> resultSerializer) {
+        return breaker.guard(() -> super.executePipelined(session, resultSerializer));
+    }
+
+    @Override
+    public List<Object> executePipelined(RedisCallback<?> action, RedisSerializer<?> resultSerializer) {
+        return breaker.guard(() -> super.executePipelined(action, resultSerializer));
+    }
+}
@@ -7,8 +7,8 @@ import com.company.observability.dto.response.CalculatorStatusResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializer;
@@ -21,16 +21,28 @@ import java.util.*;
 import static com.company.observability.util.ObservabilityConstants.*;
 
 /**
- * Redis cache with proper enum support
+ * Redis cache with proper enum support.
+ *
+ * <p>Recent runs live in a sorted set and status responses in a per-calculator hash (one field
+ * per history limit) — structures that do not fit a key/value {@link TieredCache} region. They
+ * share its codec and {@code obs.cache.redis.duration} timer conventions instead.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RedisCalculatorCache {
 
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
     private final MeterRegistry meterRegistry;
+    private final CacheCodec<CalculatorRun> runCodec;
+    private final CacheCodec<CalculatorStatusResponse> statusCodec;
+
+    public RedisCalculatorCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.runCodec = CacheCodec.json(objectMapper, CalculatorRun.class);
+        this.statusCodec = CacheCodec.json(objectMapper, CalculatorStatusResponse.class);
+    }
 
     // Cache key prefixes
     private static final String RECENT_RUNS_ZSET = "obs:runs:zset:";
@@ -38,6 +50,15 @@ public class RedisCalculatorCache {
     private static final String RUNNING_SET = "obs:running";
     private static final String ACTIVE_BLOOM = "obs:active:bloom";
 
+    static final Duration STATUS_TTL_RUNNING = Duration.ofSeconds(30);
+    static final Duration STATUS_TTL_SETTLED = Duration.ofSeconds(60);
+    static final Duration FEED_STATUS_TTL_RUNNING = Duration.ofSeconds(60);
+    static final Duration FEED_STATUS_TTL_SETTLED = Duration.ofMinutes(2);
+
+    /** Status evictions are driven by the change feed (see {@link #statusTtl}). */
+    @Value("#{${observability.change-feed.enabled:true} and ${observability.cache.warm-on-completion:true}}")
+    private boolean feedInvalidated;
+
     // ================================================================
     // Cache key builders with enum support
     // ================================================================
@@ -61,7 +82,7 @@ public class RedisCalculatorCache {
             String key = buildRecentRunsKey(run.getCalculatorId(), frequency);
 
             // Add to sorted set with timestamp as score
-            redisTemplate.opsForZSet().add(key, objectMapper.writeValueAsString(run), run.getCreatedAt().toEpochMilli());
+            redisTemplate.opsForZSet().add(key, runCodec.encode(run), run.getCreatedAt().toEpochMilli());
 
             // Keep only last 100 runs per calculator per frequency
             redisTemplate.opsForZSet().removeRange(key, 0, -101);
@@ -83,18 +104,12 @@ public class RedisCalculatorCache {
             // Add to bloom filter
             addToBloomFilter(run.getCalculatorId());
 
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "write")
-                    .tag("tier", "zset")
-                    .register(meterRegistry));
+            sample.stop(timer("write", "zset"));
 
             log.debug("event=cache.write outcome=success runId={} ttl={}", run.getRunId(), ttl);
 
         } catch (Exception e) {
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "write")
-                    .tag("tier", "zset")
-                    .register(meterRegistry));
+            sample.stop(timer("write", "zset"));
             log.warn("event=cache.write outcome=failure runId={} error={}", run.getRunId(), e.getMessage());
         }
     }
@@ -108,10 +123,10 @@ public class RedisCalculatorCache {
             String key = buildRecentRunsKey(run.getCalculatorId(), frequency);
 
             // Remove old version by value (safer than score-based removal)
-            redisTemplate.opsForZSet().remove(key, objectMapper.writeValueAsString(run));
+            redisTemplate.opsForZSet().remove(key, runCodec.encode(run));
 
             // Add updated version
-            redisTemplate.opsForZSet().add(key, objectMapper.writeValueAsString(run), run.getCreatedAt().toEpochMilli());
+            redisTemplate.opsForZSet().add(key, runCodec.encode(run), run.getCreatedAt().toEpochMilli());
 
             log.debug("event=cache.write outcome=success action=update runId={}", run.getRunId());
 
@@ -120,6 +135,23 @@ public class RedisCalculatorCache {
         }
     }
 
+    /**
+     * Status responses only change when a run event evicts them. Without the change feed an
+     * eviction is fire-and-forget, so the TTL is what bounds a lost one. With it, evictions are
+     * retried until acknowledged, but a reader racing the eviction can still re-cache the old
+     * response, and a change dropped after max-deliveries is never evicted — so the TTL stays a
+     * short backstop, only doubled.
+     */
+    Duration statusTtl(CalculatorStatusResponse response) {
+        RunStatus currentStatus = response.current() != null
+                ? RunStatus.fromString(response.current().status())
+                : RunStatus.SUCCESS;
+        if (currentStatus == RunStatus.RUNNING) {
+            return feedInvalidated ? FEED_STATUS_TTL_RUNNING : STATUS_TTL_RUNNING;
+        }
+        return feedInvalidated ? FEED_STATUS_TTL_SETTLED : STATUS_TTL_SETTLED;
+    }
+
     private Duration calculateSmartTTL(CalculatorRun run, Frequency frequency) {
         RunStatus status = run.getStatus();
 
@@ -155,32 +187,23 @@ public class RedisCalculatorCache {
             Set<String> runs = redisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
 
             if (runs == null || runs.isEmpty()) {
-                sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                        .tag("operation", "read")
-                        .tag("tier", "zset")
-                        .register(meterRegistry));
+                sample.stop(timer("read", "zset"));
                 return Optional.empty();
             }
 
             List<CalculatorRun> result = new ArrayList<>();
             for (String json : runs) {
-                result.add(objectMapper.readValue(json, CalculatorRun.class));
+                result.add(runCodec.decode(json));
             }
 
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "read")
-                    .tag("tier", "zset")
-                    .register(meterRegistry));
+            sample.stop(timer("read", "zset"));
 
             log.debug("event=cache.read outcome=hit calculatorId={} frequency={} count={}",
                     calculatorId, frequency, result.size());
             return Optional.of(result);
 
         } catch (Exception e) {
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "read")
-                    .tag("tier", "zset")
-                    .register(meterRegistry));
+            sample.stop(timer("read", "zset"));
             log.warn("event=cache.read outcome=failure calculatorId={} error={}", calculatorId, e.getMessage());
             return Optional.empty();
         }
@@ -195,30 +218,18 @@ public class RedisCalculatorCache {
         Timer.Sample sample = Timer.start(meterRegistry);
 
         try {
-            RunStatus currentStatus = response.current() != null
-                    ? RunStatus.fromString(response.current().status())
-                    : RunStatus.SUCCESS;
-
-            Duration ttl = currentStatus == RunStatus.RUNNING
-                    ? Duration.ofSeconds(30)
-                    : Duration.ofSeconds(60);
+            Duration ttl = statusTtl(response);
 
-            redisTemplate.opsForHash().put(hashKey, field, objectMapper.writeValueAsString(response));
+            redisTemplate.opsForHash().put(hashKey, field, statusCodec.encode(response));
             redisTemplate.expire(hashKey, ttl);
 
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "write")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("write", "hash"));
 
             log.debug("event=cache.write outcome=success calculatorId={} frequency={} historyLimit={} ttl={}",
                     calculatorId, frequency, historyLimit, ttl);
 
         } catch (Exception e) {
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "write")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("write", "hash"));
             log.warn("event=cache.write outcome=failure calculatorId={} error={}", calculatorId, e.getMessage());
         }
     }
@@ -234,51 +245,41 @@ public class RedisCalculatorCache {
             String json = (String) redisTemplate.opsForHash().get(hashKey, field);
 
             if (json != null) {
-                CalculatorStatusResponse cached = objectMapper.readValue(json, CalculatorStatusResponse.class);
-                sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                        .tag("operation", "read")
-                        .tag("tier", "hash")
-                        .register(meterRegistry));
+                CalculatorStatusResponse cached = statusCodec.decode(json);
+                sample.stop(timer("read", "hash"));
                 log.debug("event=cache.read outcome=hit calculatorId={} frequency={} historyLimit={}",
                         calculatorId, frequency, historyLimit);
                 return Optional.of(cached);
             }
 
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "read")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("read", "hash"));
             return Optional.empty();
 
         } catch (Exception e) {
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "read")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("read", "hash"));
             log.warn("event=cache.read outcome=failure calculatorId={} error={}", calculatorId, e.getMessage());
             return Optional.empty();
         }
     }
 
-    public void evictStatusResponse(String calculatorId, Frequency frequency) {
+    /**
+     * @return {@code false} when the delete failed and the cached responses may still be served
+     */
+    public boolean evictStatusResponse(String calculatorId, Frequency frequency) {
         Timer.Sample sample = Timer.start(meterRegistry);
         try {
             // Evict all history limits for this calculator+frequency (hash delete)
             String hashKey = buildStatusHashKey(calculatorId, frequency);
             redisTemplate.delete(hashKey);
 
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "evict")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("evict", "hash"));
 
             log.debug("event=cache.evict outcome=success calculatorId={} frequency={}", calculatorId, frequency);
+            return true;
         } catch (Exception e) {
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "evict")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("evict", "hash"));
             log.warn("event=cache.evict outcome=failure calculatorId={} error={}", calculatorId, e.getMessage());
+            return false;
         }
     }
 
@@ -293,15 +294,17 @@ public class RedisCalculatorCache {
         }
     }
 
-    public void evictRecentRuns(String calculatorId, Frequency frequency) {
+    public boolean evictRecentRuns(String calculatorId, Frequency frequency) {
         try {
             String key = buildRecentRunsKey(calculatorId, frequency);
             redisTemplate.delete(key);
             log.debug("event=cache.evict outcome=success calculatorId={} frequency={} tier=zset",
                     calculatorId, frequency);
+            return true;
         } catch (Exception e) {
             log.warn("event=cache.evict outcome=failure calculatorId={} frequency={} tier=zset error={}",
                     calculatorId, frequency, e.getMessage());
+            return false;
         }
     }
 
@@ -342,24 +345,18 @@ public class RedisCalculatorCache {
                     Object cached = pipelined.get(i);
                     if (cached instanceof String json) {
                         results.put(calculatorIds.get(i),
-                                objectMapper.readValue(json, CalculatorStatusResponse.class));
+                                statusCodec.decode(json));
                     }
                 }
             }
 
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "read_batch")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("read_batch", "hash"));
 
             log.debug("event=cache.read outcome=success operation=batch hit={} total={} frequency={} historyLimit={}",
                     results.size(), calculatorIds.size(), frequency, historyLimit);
 
         } catch (Exception e) {
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "read_batch")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("read_batch", "hash"));
             log.warn("event=cache.read outcome=failure operation=batch error={}", e.getMessage());
         }
 
@@ -387,17 +384,11 @@ public class RedisCalculatorCache {
                     String hashKey = buildStatusHashKey(calcId, frequency);
                     String field = String.valueOf(historyLimit);
 
-                    RunStatus currentStatus = response.current() != null
-                            ? RunStatus.fromString(response.current().status())
-                            : RunStatus.SUCCESS;
-
-                    Duration ttl = currentStatus == RunStatus.RUNNING
-                            ? Duration.ofSeconds(30)
-                            : Duration.ofSeconds(60);
+                    Duration ttl = statusTtl(response);
 
                     String responseJson;
                     try {
-                        responseJson = objectMapper.writeValueAsString(response);
+                        responseJson = statusCodec.encode(response);
                     } catch (Exception e) {
                         log.warn("event=cache.write outcome=failure operation=batch calcId={} error={}",
                                 calcId, e.getMessage());
@@ -417,18 +408,12 @@ public class RedisCalculatorCache {
                 return null;
             });
 
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "write_batch")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("write_batch", "hash"));
 
             log.debug("event=cache.write outcome=success operation=batch count={}", responses.size());
 
         } catch (Exception e) {
-            sample.stop(Timer.builder(CACHE_REDIS_DURATION)
-                    .tag("operation", "write_batch")
-                    .tag("tier", "hash")
-                    .register(meterRegistry));
+            sample.stop(timer("write_batch", "hash"));
             log.warn("event=cache.write outcome=failure operation=batch error={}", e.getMessage());
         }
     }
@@ -483,4 +468,10 @@ public class RedisCalculatorCache {
         }
     }
 
+    private Timer timer(String operation, String tier) {
+        return Timer.builder(CACHE_REDIS_DURATION)
+                .tag("operation", operation)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
 }
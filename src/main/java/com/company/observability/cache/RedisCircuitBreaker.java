@@ -0,0 +1,262 @@
+package com.company.observability.cache;
+
+import com.company.observability.config.RedisResilienceProperties;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Circuit breaker shared by every Redis call of this replica (see {@link GuardedStringRedisTemplate}
+ * and {@link GuardedBinaryRedisTemplate}).
+ *
+ * <ul>
+ *   <li>CLOSED — calls go through; the outcomes of the last {@code window-size} calls are kept.
+ *       Once the window holds {@code minimum-calls}, a failure rate or slow-call rate at its
+ *       threshold opens the breaker.</li>
+ *   <li>OPEN — calls are rejected with {@link RedisCircuitOpenException} without touching Redis,
+ *       so callers fall back to the database at once. After {@code open-ms} it turns half-open.</li>
+ *   <li>HALF_OPEN — {@code half-open-probes} calls are let through; once all succeed in budget
+ *       the breaker closes, and the first failure or slow call reopens it.</li>
+ * </ul>
+ *
+ * <p>Only connection failures and timeouts count as failures. An error reply (a wrong type,
+ * {@code BUSYGROUP}) means Redis answered, and counts as a success.
+ */
+@Component
+@ConditionalOnProperty(
+        value = "observability.redis.breaker.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN;
+
+        String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    private enum Outcome { SUCCESS, SLOW, FAILURE }
+
+    private static final ThreadLocal<Boolean> GUARDED = new ThreadLocal<>();
+
+    private final RedisResilienceProperties.Breaker properties;
+    private final LongSupplier clock;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private volatile State state = State.CLOSED;
+
+    // Guarded by this
+    private final Outcome[] window;
+    private int windowNext;
+    private int windowCalls;
+    private int windowFailures;
+    private int windowSlowCalls;
+    private long openedAtNanos;
+    private int probesIssued;
+    private int probesSucceeded;
+
+    private final Map<Outcome, Counter> calls = new EnumMap<>(Outcome.class);
+    private final Counter rejected;
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+
+    @Autowired
+    public RedisCircuitBreaker(RedisResilienceProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RedisCircuitBreaker(RedisResilienceProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.properties = properties.getBreaker();
+        this.clock = clock;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(this.properties.getSlowCallMs());
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(this.properties.getOpenMs());
+        this.window = new Outcome[this.properties.getWindowSize()];
+
+        for (Outcome outcome : Outcome.values()) {
+            calls.put(outcome, meterRegistry.counter(CACHE_BREAKER_CALLS, "outcome", outcome.name().toLowerCase()));
+        }
+        rejected = meterRegistry.counter(CACHE_BREAKER_CALLS, "outcome", "rejected");
+        for (State candidate : State.values()) {
+            Gauge.builder(CACHE_BREAKER_STATE, this, b -> b.state == candidate ? 1 : 0)
+                    .tag("state", candidate.key())
+                    .description("1 for the Redis circuit breaker's current state")
+                    .register(meterRegistry);
+            transitions.put(candidate, meterRegistry.counter(CACHE_BREAKER_TRANSITIONS, "to", candidate.key()));
+        }
+    }
+
+    public State state() {
+        return state;
+    }
+
+    /**
+     * Admits one call.
+     *
+     * @throws RedisCircuitOpenException while open, or half-open with every probe already issued
+     */
+    public void acquire() {
+        if (state == State.CLOSED) {
+            return;
+        }
+        synchronized (this) {
+            if (state == State.OPEN && clock.getAsLong() - openedAtNanos >= openNanos) {
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN && probesIssued < properties.getHalfOpenProbes()) {
+                probesIssued++;
+                return;
+            }
+            if (state == State.CLOSED) {
+                return;
+            }
+        }
+        rejected.increment();
+        throw new RedisCircuitOpenException();
+    }
+
+    /** Records an admitted call that returned normally after {@code elapsedNanos}. */
+    public void onSuccess(long elapsedNanos) {
+        record(elapsedNanos >= slowCallNanos ? Outcome.SLOW : Outcome.SUCCESS);
+    }
+
+    /** Records an admitted call that threw {@code error} after {@code elapsedNanos}. */
+    public void onError(long elapsedNanos, Throwable error) {
+        if (isUnavailable(error)) {
+            record(Outcome.FAILURE);
+        } else {
+            onSuccess(elapsedNanos);
+        }
+    }
+
+    /**
+     * Runs one template call through the breaker. Only the outermost call on a thread is guarded,
+     * across every guarded template, so a pipeline or a nested call counts once.
+     */
+    public <T> T guard(Supplier<T> call) {
+        if (GUARDED.get() != null) {
+            return call.get();
+        }
+        acquire();
+        GUARDED.set(Boolean.TRUE);
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            onError(System.nanoTime() - start, e);
+            throw e;
+        } finally {
+            GUARDED.remove();
+        }
+    }
+
+    private synchronized void record(Outcome outcome) {
+        calls.get(outcome).increment();
+        switch (state) {
+            case CLOSED -> {
+                add(outcome);
+                if (windowCalls >= properties.getMinimumCalls()
+                        && (failureRate() >= properties.getFailureRateThreshold()
+                        || slowCallRate() >= properties.getSlowCallRateThreshold())) {
+                    log.warn("event=redis.breaker outcome=opened calls={} failure_rate={} slow_call_rate={}",
+                            windowCalls, failureRate(), slowCallRate());
+                    open();
+                }
+            }
+            case HALF_OPEN -> {
+                if (outcome != Outcome.SUCCESS) {
+                    log.warn("event=redis.breaker outcome=reopened probe={}", outcome.name().toLowerCase());
+                    open();
+                } else if (++probesSucceeded >= properties.getHalfOpenProbes()) {
+                    log.info("event=redis.breaker outcome=closed probes={}", probesSucceeded);
+                    transition(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // Started before the breaker opened; says nothing about the probes to come
+            }
+        }
+    }
+
+    private void add(Outcome outcome) {
+        Outcome evicted = window[windowNext];
+        if (evicted != null) {
+            count(evicted, -1);
+        } else {
+            windowCalls++;
+        }
+        window[windowNext] = outcome;
+        count(outcome, 1);
+        windowNext = (windowNext + 1) % window.length;
+    }
+
+    private void count(Outcome outcome, int delta) {
+        if (outcome == Outcome.FAILURE) {
+            windowFailures += delta;
+        } else if (outcome == Outcome.SLOW) {
+            windowSlowCalls += delta;
+        }
+    }
+
+    private double failureRate() {
+        return (double) windowFailures / windowCalls;
+    }
+
+    private double slowCallRate() {
+        return (double) windowSlowCalls / windowCalls;
+    }
+
+    private void open() {
+        openedAtNanos = clock.getAsLong();
+        transition(State.OPEN);
+    }
+
+    private void transition(State to) {
+        state = to;
+        transitions.get(to).increment();
+        probesIssued = 0;
+        probesSucceeded = 0;
+        if (to == State.CLOSED) {
+            Arrays.fill(window, null);
+            windowNext = 0;
+            windowCalls = 0;
+            windowFailures = 0;
+            windowSlowCalls = 0;
+        } else if (to == State.HALF_OPEN) {
+            log.info("event=redis.breaker outcome=half_open");
+        }
+    }
+
+    /** Connection failures and timeouts anywhere in the cause chain. */
+    static boolean isUnavailable(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof DataAccessResourceFailureException || t instanceof QueryTimeoutException
+                    || t instanceof RedisCommandTimeoutException || t instanceof RedisConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
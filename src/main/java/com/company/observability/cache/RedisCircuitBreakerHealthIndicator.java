@@ -0,0 +1,35 @@
+package com.company.observability.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code redisCircuitBreaker} health component: UP while closed, {@code DEGRADED} while open or
+ * half-open. Degraded is not down: reads are served from the database, so the replica keeps
+ * taking traffic.
+ */
+@Component("redisCircuitBreakerHealthIndicator")
+@ConditionalOnProperty(
+        value = "observability.redis.breaker.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+@RequiredArgsConstructor
+public class RedisCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Redis bypassed; reads served from the database");
+
+    private final RedisCircuitBreaker breaker;
+
+    @Override
+    public Health health() {
+        RedisCircuitBreaker.State state = breaker.state();
+        return Health.status(state == RedisCircuitBreaker.State.CLOSED ? Status.UP : DEGRADED)
+                .withDetail("state", state.name())
+                .build();
+    }
+}
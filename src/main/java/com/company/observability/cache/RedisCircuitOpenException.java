@@ -0,0 +1,20 @@
+package com.company.observability.cache;
+
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+/**
+ * Thrown instead of calling Redis while the {@link RedisCircuitBreaker} is open. A connection
+ * failure, so every cache caller already handles it as a miss; it carries no stack trace because
+ * it is thrown on every Redis call of every request while Redis is unavailable.
+ */
+public class RedisCircuitOpenException extends RedisConnectionFailureException {
+
+    public RedisCircuitOpenException() {
+        super("Redis circuit breaker is open");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
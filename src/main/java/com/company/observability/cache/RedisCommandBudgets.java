@@ -0,0 +1,48 @@
+package com.company.observability.cache;
+
+import com.company.observability.config.RedisResilienceProperties;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.ReadOnlyCommands;
+import io.lettuce.core.protocol.RedisCommand;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-command timeouts for Lettuce. Read-only commands get the read budget and the data-writing
+ * commands this service issues get the write budget. Everything else keeps the command timeout.
+ * A blocking read ({@code XREAD BLOCK}) would need its own budget; none is issued.
+ */
+public class RedisCommandBudgets extends TimeoutOptions.TimeoutSource {
+
+    private static final Set<String> WRITES = Set.of(
+            "SET", "SETEX", "PSETEX", "MSET", "SETBIT", "INCR", "INCRBY",
+            "DEL", "UNLINK", "EXPIRE", "PEXPIRE",
+            "HSET", "HMSET", "HDEL", "HINCRBY",
+            "ZADD", "ZREM", "ZREMRANGEBYSCORE", "ZREMRANGEBYRANK", "SADD", "SREM",
+            "XADD", "XACK", "XCLAIM", "XTRIM", "XREADGROUP",
+            "EVAL", "EVALSHA", "PUBLISH");
+
+    private final long readBudgetMs;
+    private final long writeBudgetMs;
+    private final long commandTimeoutMs;
+
+    public RedisCommandBudgets(RedisResilienceProperties properties) {
+        this.readBudgetMs = properties.getReadBudgetMs();
+        this.writeBudgetMs = properties.getWriteBudgetMs();
+        this.commandTimeoutMs = properties.getCommandTimeoutMs();
+    }
+
+    @Override
+    public long getTimeout(RedisCommand<?, ?, ?> command) {
+        if (ReadOnlyCommands.isReadOnlyCommand(command.getType())) {
+            return readBudgetMs;
+        }
+        return WRITES.contains(command.getType().toString()) ? writeBudgetMs : commandTimeoutMs;
+    }
+
+    @Override
+    public TimeUnit getTimeUnit() {
+        return TimeUnit.MILLISECONDS;
+    }
+}
@@ -0,0 +1,446 @@
+package com.company.observability.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * One named cache region: an optional on-heap L1 tier in front of a Redis L2 tier.
+ *
+ * <p>Every cache service in this module follows the same contract, which this class owns:
+ * <ul>
+ *   <li>values are serialised by a {@link CacheCodec} and stored as plain Redis strings, or by a
+ *       {@link BinaryCacheCodec} and stored as raw bytes through a {@link BinaryRedisTemplate}</li>
+ *   <li>TTL is chosen per write — either explicitly or through the region's TTL policy;
+ *       a policy returning {@code null} means "do not cache"</li>
+ *   <li>all Redis failures are logged and swallowed — reads degrade to a miss, writes are dropped</li>
+ *   <li>while the {@link RedisCircuitBreaker} is open, Redis is bypassed without a log line per
+ *       call; reads count as {@code result=bypass}</li>
+ *   <li>concurrent {@link #load} calls for the same key share a single loader invocation
+ *       (per-instance stampede protection)</li>
+ *   <li>hits/misses are counted per region and tier on {@code obs.cache.region.requests};
+ *       Redis round-trips are timed on {@code obs.cache.redis.duration} with {@code tier=<region>}</li>
+ * </ul>
+ *
+ * <p>Instances are created by the owning service, not registered as beans — the service knows
+ * its key layout and TTL rules; the region only knows how to store and fetch.
+ */
+@Slf4j
+public final class TieredCache<V> {
+
+    private final CacheRegion region;
+    private final RawCodec<V> codec;
+    private final Function<V, Duration> ttlPolicy;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, L1Entry<V>> l1;
+    private final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private record L1Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * Either codec seen through the value type of its template — {@code String} for a
+     * {@link CacheCodec}, {@code byte[]} for a {@link BinaryCacheCodec}.
+     */
+    private interface RawCodec<V> {
+        Object encode(V value) throws JsonProcessingException;
+
+        V decode(Object raw) throws JsonProcessingException;
+    }
+
+    public TieredCache(CacheRegion region, CacheCodec<V> codec, Function<V, Duration> ttlPolicy,
+                       StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this(region, ttlPolicy, untyped(redisTemplate), new RawCodec<>() {
+            @Override
+            public Object encode(V value) throws JsonProcessingException {
+                return codec.encode(value);
+            }
+
+            @Override
+            public V decode(Object raw) throws JsonProcessingException {
+                return codec.decode((String) raw);
+            }
+        }, meterRegistry);
+    }
+
+    public TieredCache(CacheRegion region, BinaryCacheCodec<V> codec, Function<V, Duration> ttlPolicy,
+                       BinaryRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this(region, ttlPolicy, untyped(redisTemplate), new RawCodec<>() {
+            @Override
+            public Object encode(V value) throws JsonProcessingException {
+                return codec.encode(value);
+            }
+
+            @Override
+            public V decode(Object raw) throws JsonProcessingException {
+                return codec.decode((byte[]) raw);
+            }
+        }, meterRegistry);
+    }
+
+    private TieredCache(CacheRegion region, Function<V, Duration> ttlPolicy,
+                        RedisTemplate<String, Object> redisTemplate, RawCodec<V> codec,
+                        MeterRegistry meterRegistry) {
+        this.region = region;
+        this.codec = codec;
+        this.ttlPolicy = ttlPolicy;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.l1 = new ConcurrentHashMap<>();
+
+        if (region.l1Enabled()) {
+            Gauge.builder(CACHE_REGION_L1_SIZE, l1, Map::size)
+                    .tag("region", region.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public String name() {
+        return region.name();
+    }
+
+    /** The codec pairs each template with its own value type, so values never cross templates. */
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, Object> untyped(RedisTemplate<String, ?> redisTemplate) {
+        return (RedisTemplate<String, Object>) redisTemplate;
+    }
+
+    // ── Read ──────────────────────────────────────────────────────────────────
+
+    /** L1 → L2 lookup. Returns {@code null} on miss or on any Redis/codec failure. */
+    public V get(String key) {
+        V local = l1Get(key);
+        if (local != null) {
+            return local;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object raw = redisTemplate.opsForValue().get(key);
+            if (raw == null) {
+                record("l2", "miss");
+                return null;
+            }
+            V value = codec.decode(raw);
+            record("l2", "hit");
+            l1Put(key, value, region.l1Ttl());
+            return value;
+        } catch (RedisCircuitOpenException e) {
+            record("l2", "bypass");
+            return null;
+        } catch (Exception e) {
+            record("l2", "error");
+            log.warn("event=cache.read outcome=failure region={} key={} error={}",
+                    region.name(), key, e.getMessage());
+            return null;
+        } finally {
+            sample.stop(timer("read"));
+        }
+    }
+
+    /**
+     * Bulk lookup: L1 first, then a single {@code MGET} for the remainder.
+     * Returns only the hits; misses and undecodable values are absent from the map.
+     */
+    public Map<String, V> getAll(Collection<String> keys) {
+        Map<String, V> hits = new HashMap<>();
+        List<String> remote = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            V local = l1Get(key);
+            if (local != null) {
+                hits.put(key, local);
+            } else {
+                remote.add(key);
+            }
+        }
+        if (remote.isEmpty()) {
+            return hits;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            List<Object> raws = redisTemplate.opsForValue().multiGet(remote);
+            for (int i = 0; i < remote.size(); i++) {
+                Object raw = raws != null && i < raws.size() ? raws.get(i) : null;
+                if (raw == null) {
+                    record("l2", "miss");
+                    continue;
+                }
+                try {
+                    V value = codec.decode(raw);
+                    hits.put(remote.get(i), value);
+                    record("l2", "hit");
+                    l1Put(remote.get(i), value, region.l1Ttl());
+                } catch (Exception e) {
+                    record("l2", "error");
+                    log.warn("event=cache.read outcome=failure region={} key={} error={}",
+                            region.name(), remote.get(i), e.getMessage());
+                }
+            }
+        } catch (RedisCircuitOpenException e) {
+            remote.forEach(k -> record("l2", "bypass"));
+        } catch (Exception e) {
+            remote.forEach(k -> record("l2", "error"));
+            log.warn("event=cache.read outcome=failure region={} operation=batch keys={} error={}",
+                    region.name(), remote.size(), e.getMessage());
+        } finally {
+            sample.stop(timer("read_batch"));
+        }
+        return hits;
+    }
+
+    /**
+     * Cache-aside read: {@link #get} and, on a miss, {@link #load}.
+     *
+     * @param ttlPolicy TTL for the loaded value, or {@code null} from the policy to skip caching
+     */
+    public V getOrLoad(String key, Supplier<V> loader, Function<V, Duration> ttlPolicy) {
+        V cached = get(key);
+        return cached != null ? cached : load(key, loader, ttlPolicy);
+    }
+
+    /**
+     * Runs {@code loader} and writes its result through both tiers, with per-instance
+     * single-flight: only one caller per key runs the loader; concurrent callers for the same
+     * key wait for and share its result (or its exception). Callers that need their own hit/miss
+     * accounting use {@link #get} followed by this method.
+     *
+     * @param ttlPolicy TTL for the loaded value, or {@code null} from the policy to skip caching
+     */
+    public V load(String key, Supplier<V> loader, Function<V, Duration> ttlPolicy) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            meterRegistry.counter(CACHE_REGION_LOAD, "region", region.name(), "outcome", "coalesced").increment();
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            V loaded = loader.get();
+            meterRegistry.counter(CACHE_REGION_LOAD, "region", region.name(), "outcome", "loaded").increment();
+            if (loaded != null) {
+                Duration ttl = ttlPolicy.apply(loaded);
+                if (ttl != null) {
+                    put(key, loaded, ttl);
+                }
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (Throwable e) {
+            // Errors too: waiters joined on this future would otherwise hang forever
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** {@link #getOrLoad(String, Supplier, Function)} using the region's TTL policy. */
+    public V getOrLoad(String key, Supplier<V> loader) {
+        return getOrLoad(key, loader, ttlPolicy);
+    }
+
+    // ── Write ─────────────────────────────────────────────────────────────────
+
+    /** Writes through both tiers with the region's TTL policy. */
+    public boolean put(String key, V value) {
+        Duration ttl = ttlPolicy.apply(value);
+        return ttl != null && put(key, value, ttl);
+    }
+
+    /**
+     * Writes through both tiers. The L1 copy expires at {@code min(ttl, l1Ttl)}.
+     *
+     * @return {@code true} if the Redis write succeeded
+     */
+    public boolean put(String key, V value, Duration ttl) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            redisTemplate.opsForValue().set(key, codec.encode(value), ttl);
+            l1Put(key, value, ttl);
+            log.debug("event=cache.write outcome=success region={} key={} ttl={}", region.name(), key, ttl);
+            return true;
+        } catch (RedisCircuitOpenException e) {
+            l1.remove(key);
+            return false;
+        } catch (Exception e) {
+            // Do not keep an L1 copy the other instances cannot see
+            l1.remove(key);
+            log.warn("event=cache.write outcome=failure region={} key={} error={}",
+                    region.name(), key, e.getMessage());
+            return false;
+        } finally {
+            sample.stop(timer("write"));
+        }
+    }
+
+    /**
+     * Bulk {@link #put(String, Object, Duration)}: every entry is written in one pipelined round
+     * trip. Entries whose {@code ttlPolicy} returns {@code null} are skipped. Best-effort — on a
+     * Redis failure no heap copies are kept for the batch.
+     */
+    public void putAll(Map<String, V> values, Function<V, Duration> ttlPolicy) {
+        Map<String, Object> encoded = new LinkedHashMap<>();
+        Map<String, Duration> ttls = new HashMap<>();
+        for (Map.Entry<String, V> entry : values.entrySet()) {
+            Duration ttl = ttlPolicy.apply(entry.getValue());
+            if (ttl == null) {
+                continue;
+            }
+            try {
+                encoded.put(entry.getKey(), codec.encode(entry.getValue()));
+                ttls.put(entry.getKey(), ttl);
+            } catch (Exception e) {
+                log.warn("event=cache.write outcome=failure region={} key={} error={}",
+                        region.name(), entry.getKey(), e.getMessage());
+            }
+        }
+        if (encoded.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, HV> Object execute(RedisOperations<K, HV> operations) {
+                    ValueOperations<String, Object> ops = (ValueOperations<String, Object>) operations.opsForValue();
+                    encoded.forEach((key, raw) -> ops.set(key, raw, ttls.get(key)));
+                    return null;
+                }
+            });
+            encoded.keySet().forEach(key -> l1Put(key, values.get(key), ttls.get(key)));
+            log.debug("event=cache.write outcome=success region={} operation=batch keys={}",
+                    region.name(), encoded.size());
+        } catch (RedisCircuitOpenException e) {
+            encoded.keySet().forEach(l1::remove);
+        } catch (Exception e) {
+            encoded.keySet().forEach(l1::remove);
+            log.warn("event=cache.write outcome=failure region={} operation=batch keys={} error={}",
+                    region.name(), encoded.size(), e.getMessage());
+        } finally {
+            sample.stop(timer("write_batch"));
+        }
+    }
+
+    // ── Evict ─────────────────────────────────────────────────────────────────
+
+    /** Deletes keys from both tiers. Best-effort on L2. */
+    public void evict(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        keys.forEach(l1::remove);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            redisTemplate.delete(keys);
+        } catch (RedisCircuitOpenException e) {
+            log.debug("event=cache.evict outcome=bypassed region={} keys={}", region.name(), keys.size());
+        } catch (Exception e) {
+            log.warn("event=cache.evict outcome=failure region={} keys={} error={}",
+                    region.name(), keys.size(), e.getMessage());
+        } finally {
+            sample.stop(timer("evict"));
+        }
+    }
+
+    /** Drops every on-heap entry; L2 is untouched. */
+    public void clearLocal() {
+        l1.clear();
+    }
+
+    // ── L1 tier ───────────────────────────────────────────────────────────────
+
+    private V l1Get(String key) {
+        if (!region.l1Enabled()) {
+            return null;
+        }
+        L1Entry<V> entry = l1.get(key);
+        if (entry == null) {
+            record("l1", "miss");
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            l1.remove(key, entry);
+            record("l1", "miss");
+            return null;
+        }
+        record("l1", "hit");
+        return entry.value();
+    }
+
+    private void l1Put(String key, V value, Duration ttl) {
+        if (!region.l1Enabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (l1.size() >= region.l1MaxEntries() && !l1.containsKey(key)) {
+            makeRoom(now);
+        }
+        Duration localTtl = ttl.compareTo(region.l1Ttl()) < 0 ? ttl : region.l1Ttl();
+        l1.put(key, new L1Entry<>(value, now + localTtl.toNanos()));
+    }
+
+    /** Drops expired entries; if the tier is still full, drops arbitrary entries until it is not. */
+    private void makeRoom(long now) {
+        l1.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        Iterator<String> it = l1.keySet().iterator();
+        while (l1.size() >= region.l1MaxEntries() && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    // ── Metrics ───────────────────────────────────────────────────────────────
+
+    private void record(String tier, String result) {
+        meterRegistry.counter(CACHE_REGION_REQUESTS,
+                "region", region.name(), "tier", tier, "result", result).increment();
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder(CACHE_REDIS_DURATION)
+                .tag("operation", operation)
+                .tag("tier", region.name())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.observability.config;
+
+import com.company.observability.admission.AdmissionControlInterceptor;
+import com.company.observability.admission.AdmissionController;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers admission control on the MVC handlers when {@link AdmissionController} is enabled.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<AdmissionController> admissionController;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        admissionController.ifAvailable(controller ->
+                registry.addInterceptor(new AdmissionControlInterceptor(controller)));
+    }
+}
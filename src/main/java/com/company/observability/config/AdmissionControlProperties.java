@@ -0,0 +1,68 @@
+package com.company.observability.config;
+
+import com.company.observability.admission.PriorityClass;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for admission control: an adaptive concurrency limit on the controllers, and a
+ * share of that limit per {@link PriorityClass} beyond which the class is shed with 503.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.admission")
+@Getter
+@Setter
+public class AdmissionControlProperties {
+
+    private boolean enabled = true;
+
+    // Adaptive limit on requests in flight across all classes
+    private int initialLimit = 40;
+    private int minLimit = 8;
+    private int maxLimit = 200;
+
+    /** Weight of each window's new limit; lower reacts more slowly to latency swings. */
+    private double smoothing = 0.2;
+
+    /** Latency is averaged over windows of at least this length and {@code min-window-samples}. */
+    private long windowMs = 1_000;
+    private int minWindowSamples = 10;
+
+    /** Windows averaged into the long-term latency the window latency is compared against. */
+    private int longWindowSize = 100;
+
+    private ClassShare ingestion = new ClassShare(1.0, 1);
+    private ClassShare live = new ClassShare(0.9, 5);
+    private ClassShare status = new ClassShare(0.8, 2);
+    private ClassShare analytics = new ClassShare(0.6, 10);
+
+    public ClassShare share(PriorityClass priorityClass) {
+        return switch (priorityClass) {
+            case INGESTION -> ingestion;
+            case LIVE -> live;
+            case STATUS -> status;
+            case ANALYTICS -> analytics;
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class ClassShare {
+
+        /** Fraction of the limit the class may fill; it is shed once this many are in flight. */
+        private double share;
+
+        /** {@code Retry-After} sent with the class's 503s. */
+        private long retryAfterSeconds;
+
+        public ClassShare() {
+        }
+
+        ClassShare(double share, long retryAfterSeconds) {
+            this.share = share;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+}
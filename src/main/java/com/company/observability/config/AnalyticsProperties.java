@@ -0,0 +1,39 @@
+package com.company.observability.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for the analytics read endpoints.
+ *
+ * <p>Long windows of {@code /executions} and {@code /run-performance} are streamed: rows go
+ * from a JDBC cursor straight into the JSON response instead of being collected into a
+ * {@code RunPerformanceData} first. Shorter windows keep the materialised path.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.analytics")
+@Getter
+@Setter
+public class AnalyticsProperties {
+
+    /** Lookback windows of at least this many days are streamed. Above 365 disables streaming. */
+    private int streamingMinDays = 90;
+
+    /**
+     * Largest streamed document, gzipped, copied into the analytics cache. Bigger responses are
+     * still served, just not cached (Redis values this size would cost more than the query).
+     */
+    private int streamingCacheMaxBytes = 1024 * 1024;
+
+    /**
+     * Threads of the {@code queryExecutor} running the independent DB reads of one analytics
+     * request side by side. Each holds a {@code query} bulkhead connection, so keep it below that
+     * pool's size.
+     */
+    private int queryThreads = 6;
+
+    /** Reads waiting for a query thread; beyond this the request thread runs them itself. */
+    private int queryQueueCapacity = 24;
+}
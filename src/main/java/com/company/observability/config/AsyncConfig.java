@@ -12,7 +12,9 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
 
 @Configuration
-@EnableAsync
+// Class proxies: services with @Async listeners also implement interfaces (RunChangeProcessor)
+// and are injected by class
+@EnableAsync(proxyTargetClass = true)
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
@@ -29,6 +31,23 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * Request-path DB fan-out (analytics). Kept apart from {@link #taskExecutor()}, which runs the
+     * after-commit listeners — dashboard load filling that queue would drop version bumps and
+     * change-feed appends. Saturation is rejected, and the caller then runs the read inline.
+     */
+    @Bean(name = "queryExecutor")
+    public Executor queryExecutor(AnalyticsProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getQueryThreads());
+        executor.setMaxPoolSize(properties.getQueryThreads());
+        executor.setQueueCapacity(properties.getQueryQueueCapacity());
+        executor.setThreadNamePrefix("query-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (ex, method, params) ->
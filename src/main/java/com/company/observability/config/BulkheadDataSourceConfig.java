@@ -0,0 +1,159 @@
+package com.company.observability.config;
+
+import com.company.observability.datasource.Bulkhead;
+import com.company.observability.datasource.BulkheadRoutingDataSource;
+import com.company.observability.datasource.ReadReplica;
+import com.company.observability.datasource.ReadReplicaRoutingDataSource;
+import com.company.observability.datasource.ReadReplicas;
+import com.company.observability.datasource.ReadWriteSplittingDataSource;
+import com.company.observability.datasource.RecentWrites;
+import com.company.observability.datasource.WorkloadAnnotationPostProcessor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Bulkheaded connection pools: one Hikari pool per {@link Bulkhead} behind a routing
+ * {@code DataSource}, so a long recompute or a burst of year-long analytics queries cannot take
+ * the connections ingestion needs. Each pool has its own size, connection timeout and
+ * {@code statement_timeout}; callers pick a pool with
+ * {@link com.company.observability.datasource.Workload @Workload}.
+ *
+ * <p>Connections are taken lazily ({@link ReadWriteSplittingDataSource}). With read replicas
+ * configured, read-only transactions are split off to a {@link ReadReplicaRoutingDataSource};
+ * replica pools are sized like the {@code query} bulkhead.
+ *
+ * <p>Pool metrics come from Hikari ({@code hikaricp.connections.*{pool=obs-<bulkhead>}}), plus
+ * {@code obs.db.pool.saturation} and {@code obs.db.pool.pending} per bulkhead for alerting.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(
+        value = "observability.bulkheads.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    static WorkloadAnnotationPostProcessor workloadAnnotationPostProcessor() {
+        return new WorkloadAnnotationPostProcessor();
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "observability.read-replicas.enabled", havingValue = "true")
+    public ReadReplicas readReplicas(DataSourceProperties dataSourceProperties, BulkheadProperties bulkheadProperties,
+                                     ReadReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        List<ReadReplica> replicas = new ArrayList<>();
+        for (ReadReplicaProperties.Endpoint endpoint : replicaProperties.getEndpoints()) {
+            HikariDataSource pool = replicaPool(endpoint, dataSourceProperties, bulkheadProperties);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReadReplica(endpoint.getName(), pool));
+        }
+        return new ReadReplicas(replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, BulkheadProperties properties,
+                                 ReadReplicaProperties replicaProperties, ObjectProvider<ReadReplicas> readReplicas,
+                                 RecentWrites recentWrites, MeterRegistry meterRegistry) {
+        Map<Bulkhead, DataSource> pools = new EnumMap<>(Bulkhead.class);
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            HikariDataSource pool = pool(bulkhead, dataSourceProperties, properties);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            registerGauges(bulkhead, pool, meterRegistry);
+            pools.put(bulkhead, pool);
+        }
+        BulkheadRoutingDataSource primary = new BulkheadRoutingDataSource(pools);
+
+        ReadReplicas replicas = readReplicas.getIfAvailable();
+        DataSource readOnly = replicas == null || replicas.replicas().isEmpty() ? null
+                : new ReadReplicaRoutingDataSource(replicas.replicas(), primary, recentWrites,
+                        Duration.ofMillis(replicaProperties.getMaxStalenessMs()), meterRegistry);
+        return new ReadWriteSplittingDataSource(primary, readOnly);
+    }
+
+    static HikariDataSource pool(Bulkhead bulkhead, DataSourceProperties dataSourceProperties,
+                                 BulkheadProperties properties) {
+        BulkheadProperties.Pool config = properties.pool(bulkhead);
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        configure(pool, "obs-" + bulkhead.key(), config, properties);
+        log.info("event=datasource.bulkhead outcome=configured bulkhead={} maxPoolSize={} connectionTimeoutMs={} statementTimeoutMs={}",
+                bulkhead.key(), config.getMaximumPoolSize(), config.getConnectionTimeoutMs(),
+                config.getStatementTimeoutMs());
+        return pool;
+    }
+
+    static HikariDataSource replicaPool(ReadReplicaProperties.Endpoint endpoint,
+                                        DataSourceProperties dataSourceProperties, BulkheadProperties properties) {
+        HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(endpoint.getUrl())
+                .username(endpoint.getUsername() != null
+                        ? endpoint.getUsername() : dataSourceProperties.determineUsername())
+                .password(endpoint.getPassword() != null
+                        ? endpoint.getPassword() : dataSourceProperties.determinePassword())
+                .build();
+        configure(pool, "obs-replica-" + endpoint.getName(), properties.getQuery(), properties);
+        pool.setReadOnly(true);
+        log.info("event=datasource.read_replica outcome=configured replica={} url={}",
+                endpoint.getName(), endpoint.getUrl());
+        return pool;
+    }
+
+    private static void configure(HikariDataSource pool, String poolName, BulkheadProperties.Pool config,
+                                  BulkheadProperties properties) {
+        pool.setPoolName(poolName);
+        pool.setMaximumPoolSize(config.getMaximumPoolSize());
+        pool.setMinimumIdle(config.getMinimumIdle());
+        pool.setConnectionTimeout(config.getConnectionTimeoutMs());
+        pool.setConnectionInitSql("SET statement_timeout = " + config.getStatementTimeoutMs());
+        pool.setIdleTimeout(properties.getIdleTimeoutMs());
+        pool.setMaxLifetime(properties.getMaxLifetimeMs());
+        pool.setLeakDetectionThreshold(properties.getLeakDetectionThresholdMs());
+    }
+
+    private static void registerGauges(Bulkhead bulkhead, HikariDataSource pool, MeterRegistry meterRegistry) {
+        Gauge.builder(DB_POOL_SATURATION, pool, poolStat(p -> (double) p.getActiveConnections()
+                        / pool.getMaximumPoolSize()))
+                .tag("bulkhead", bulkhead.key())
+                .description("Active / maximum connections of the bulkhead pool")
+                .register(meterRegistry);
+        Gauge.builder(DB_POOL_PENDING, pool, poolStat(HikariPoolMXBean::getThreadsAwaitingConnection))
+                .tag("bulkhead", bulkhead.key())
+                .description("Threads waiting for a connection from the bulkhead pool")
+                .register(meterRegistry);
+    }
+
+    /** Zero until the pool has started (on first connection). */
+    private static ToDoubleFunction<HikariDataSource> poolStat(ToDoubleFunction<HikariPoolMXBean> stat) {
+        return pool -> {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            return mxBean != null ? stat.applyAsDouble(mxBean) : 0;
+        };
+    }
+}
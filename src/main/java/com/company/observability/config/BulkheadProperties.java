@@ -0,0 +1,62 @@
+package com.company.observability.config;
+
+import com.company.observability.datasource.Bulkhead;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for the bulkheaded connection pools — one Hikari pool per {@link Bulkhead},
+ * all to the {@code spring.datasource} database. Defaults split the former single pool of 20.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.bulkheads")
+@Getter
+@Setter
+public class BulkheadProperties {
+
+    /** When off, Spring Boot's single {@code spring.datasource.hikari} pool serves everything. */
+    private boolean enabled = true;
+
+    private Pool ingestion = new Pool(6, 2, 2_000, 10_000);
+    private Pool query = new Pool(10, 2, 5_000, 60_000);
+    /** Nightly recompute and other jobs: few connections, long statements. */
+    private Pool background = new Pool(4, 1, 30_000, 1_800_000);
+
+    // Shared by all pools
+    private long idleTimeoutMs = 600_000;
+    private long maxLifetimeMs = 1_800_000;
+    private long leakDetectionThresholdMs = 60_000;
+
+    public Pool pool(Bulkhead bulkhead) {
+        return switch (bulkhead) {
+            case INGESTION -> ingestion;
+            case QUERY -> query;
+            case BACKGROUND -> background;
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maximumPoolSize;
+        private int minimumIdle;
+
+        /** How long a caller waits for a connection before failing — fail fast rather than queue. */
+        private long connectionTimeoutMs;
+
+        /** PostgreSQL {@code statement_timeout} set on every connection of the pool. */
+        private long statementTimeoutMs;
+
+        public Pool() {
+        }
+
+        Pool(int maximumPoolSize, int minimumIdle, long connectionTimeoutMs, long statementTimeoutMs) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.minimumIdle = minimumIdle;
+            this.connectionTimeoutMs = connectionTimeoutMs;
+            this.statementTimeoutMs = statementTimeoutMs;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.company.observability.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for the run change feed — the
+ * {@value com.company.observability.service.live.RunChangeStream#STREAM_KEY} Redis Stream every
+ * committed run change is appended to.
+ *
+ * <p>Replicas share one consumer group that applies the Redis cache invalidations exactly once
+ * per change, acknowledging only after they succeed; the live run store reads the same stream
+ * independently on every replica.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.change-feed")
+@Getter
+@Setter
+public class ChangeFeedProperties {
+
+    private boolean enabled = true;
+
+    /** Approximate length the stream is trimmed to ({@code XADD MAXLEN ~}). */
+    private long streamMaxLen = 100_000;
+
+    /** Consumer group shared by all replicas for cache invalidation. */
+    private String consumerGroup = "obs-cache";
+
+    /** Delay between group reads; bounds how long a committed change waits for invalidation. */
+    private long pollIntervalMs = 500;
+
+    /** Entries read per {@code XREADGROUP} / claimed per {@code XCLAIM}. */
+    private int pollBatchSize = 200;
+
+    /**
+     * An entry delivered but not acknowledged for this long — its consumer failed or died — is
+     * claimed and processed again by whichever replica polls next.
+     */
+    private long claimIdleMs = 30_000;
+
+    /** Deliveries after which an entry that keeps failing is acknowledged and dropped. */
+    private int maxDeliveries = 10;
+}
@@ -0,0 +1,39 @@
+package com.company.observability.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for scheduled-job coordination across replicas — leases in {@code job_lease}
+ * that make each scheduled job run on one replica, and split nightly profile warming into shards
+ * claimed by whichever replicas are live.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.jobs")
+@Getter
+@Setter
+public class JobCoordinationProperties {
+
+    /** When off, every replica runs every job, as before leases existed. */
+    private boolean enabled = true;
+
+    /**
+     * Lease length for once-per-day jobs (aggregation, partition monitoring). Must exceed the
+     * job's run time: a replica that outlives its lease is fenced out of its writes.
+     */
+    private long batchLeaseTtlSeconds = 3600;
+
+    /**
+     * Leases of fixed-delay jobs (live SLA detection, early warning) last this many intervals. The
+     * holder renews on every tick; another replica takes over once it misses them all.
+     */
+    private int leaderLeaseIntervals = 4;
+
+    /** How long replicas that did not win the nightly recompute wait for it before warming. */
+    private long shardWaitSeconds = 900;
+
+    /** How often waiting replicas re-check whether the recompute has completed. */
+    private long shardPollMs = 5000;
+}
@@ -0,0 +1,38 @@
+package com.company.observability.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for the replica-local live run store that answers {@code /batch/runs} for the
+ * hot reporting dates from memory.
+ *
+ * <p>The store is bootstrapped from {@code calculator_runs} and then follows the
+ * {@value com.company.observability.service.live.RunChangeStream#STREAM_KEY} Redis Stream, so it
+ * needs the change feed ({@link ChangeFeedProperties}) enabled as well.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.live-state")
+@Getter
+@Setter
+public class LiveStateProperties {
+
+    private boolean enabled = true;
+
+    /** Reporting dates from {@code today - hotDays} onwards are held in memory. */
+    private int hotDays = 3;
+
+    /** Delay between stream polls; bounds how far a replica trails another replica's writes. */
+    private long pollIntervalMs = 500;
+
+    /** Entries read per {@code XREAD}; a poll keeps reading until it sees a short batch. */
+    private int pollBatchSize = 500;
+
+    /**
+     * Interval between full reloads from the DB. Rolls the hot window forward and heals changes
+     * lost while Redis was unavailable.
+     */
+    private long rebootstrapIntervalMs = 10 * 60 * 1000L;
+}
@@ -0,0 +1,46 @@
+package com.company.observability.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for Postgres read replicas. Read-only transactions of the {@code query} bulkhead
+ * go to a replica that is fresh enough, everything else to the primary. Needs the bulkheads
+ * ({@link BulkheadProperties}) enabled.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.read-replicas")
+@Getter
+@Setter
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    /**
+     * A replica serves reads only while it has replayed everything committed up to this long ago.
+     * Also how long writes are remembered for read-your-writes.
+     */
+    private long maxStalenessMs = 30_000;
+
+    /** Delay between replica lag samples. */
+    private long lagPollMs = 1_000;
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        /** Tags the replica's pool and metrics. */
+        private String name;
+        private String url;
+        /** Defaults to {@code spring.datasource.username}. */
+        private String username;
+        /** Defaults to {@code spring.datasource.password}. */
+        private String password;
+    }
+}
@@ -1,7 +1,11 @@
 package com.company.observability.config;
 
+import com.company.observability.cache.BinaryRedisTemplate;
+import com.company.observability.cache.RedisCommandBudgets;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.*;
 import org.springframework.data.redis.connection.*;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
@@ -13,10 +17,11 @@ import java.time.Duration;
 public class RedisCacheConfig {
 
     /**
-     * Optimized Lettuce connection factory with connection pooling
+     * Optimized Lettuce connection factory with connection pooling. Commands time out on the
+     * per-command budgets of {@link RedisCommandBudgets} rather than one fixed timeout.
      */
     @Bean
-    public LettuceConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory(RedisResilienceProperties resilienceProperties) {
         // Socket options for better performance
         SocketOptions socketOptions = SocketOptions.builder()
                 .connectTimeout(Duration.ofSeconds(5))
@@ -27,12 +32,16 @@ public class RedisCacheConfig {
         ClientOptions clientOptions = ClientOptions.builder()
                 .socketOptions(socketOptions)
                 .autoReconnect(true)
+                .timeoutOptions(TimeoutOptions.builder()
+                        .timeoutCommands()
+                        .timeoutSource(new RedisCommandBudgets(resilienceProperties))
+                        .build())
                 .build();
 
         // Lettuce client configuration
         LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
                 .clientOptions(clientOptions)
-                .commandTimeout(Duration.ofSeconds(2))
+                .commandTimeout(Duration.ofMillis(resilienceProperties.getCommandTimeoutMs()))
                 .build();
 
         // Redis standalone configuration
@@ -47,4 +56,11 @@ public class RedisCacheConfig {
 
         return new LettuceConnectionFactory(serverConfig, clientConfig);
     }
-}
\ No newline at end of file
+
+    /** Unguarded byte-array template, for when the breaker ({@link RedisResilienceConfig}) is disabled. */
+    @Bean
+    @ConditionalOnProperty(value = "observability.redis.breaker.enabled", havingValue = "false")
+    public BinaryRedisTemplate binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new BinaryRedisTemplate(connectionFactory);
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.observability.config;
+
+import com.company.observability.cache.BinaryRedisTemplate;
+import com.company.observability.cache.GuardedBinaryRedisTemplate;
+import com.company.observability.cache.GuardedStringRedisTemplate;
+import com.company.observability.cache.RedisCircuitBreaker;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Replaces the auto-configured {@link StringRedisTemplate} with one guarded by the
+ * {@link RedisCircuitBreaker}, and guards the {@link BinaryRedisTemplate} the same way, so every
+ * cache, stream and version call shares one breaker.
+ */
+@Configuration
+@ConditionalOnProperty(
+        value = "observability.redis.breaker.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RedisResilienceConfig {
+
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                   RedisCircuitBreaker breaker) {
+        return new GuardedStringRedisTemplate(connectionFactory, breaker);
+    }
+
+    @Bean
+    public BinaryRedisTemplate binaryRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                   RedisCircuitBreaker breaker) {
+        return new GuardedBinaryRedisTemplate(connectionFactory, breaker);
+    }
+}
@@ -0,0 +1,54 @@
+package com.company.observability.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for the Redis resilience layer: per-command latency budgets and the circuit
+ * breaker in front of every {@code StringRedisTemplate} call.
+ *
+ * <p>Every caller already treats a Redis failure as a miss and reads the database; the budgets and
+ * the breaker decide how quickly that happens when Redis is degraded rather than down.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.redis")
+@Getter
+@Setter
+public class RedisResilienceProperties {
+
+    // Latency budgets: Lettuce fails a command that has no reply within its budget
+    private long readBudgetMs = 150;
+    private long writeBudgetMs = 300;
+    /** Commands that are neither — connection setup, health checks, consumer-group admin. */
+    private long commandTimeoutMs = 2_000;
+
+    private Breaker breaker = new Breaker();
+
+    @Getter
+    @Setter
+    public static class Breaker {
+
+        /** When off, the plain auto-configured {@code StringRedisTemplate} is used. */
+        private boolean enabled = true;
+
+        /** Outcomes of this many most recent calls decide whether the breaker opens. */
+        private int windowSize = 100;
+        /** Calls in the window before any rate is acted on. */
+        private int minimumCalls = 20;
+
+        /** Share of connection failures and timeouts in the window that opens the breaker. */
+        private double failureRateThreshold = 0.5;
+
+        /** A call slower than this counts as slow. */
+        private long slowCallMs = 100;
+        /** Share of slow calls in the window that opens the breaker. */
+        private double slowCallRateThreshold = 0.8;
+
+        /** How long calls are rejected before probes are let through. */
+        private long openMs = 10_000;
+        /** Probe calls let through when half-open; all must succeed to close. */
+        private int halfOpenProbes = 5;
+    }
+}
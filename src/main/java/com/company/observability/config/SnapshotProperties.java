@@ -0,0 +1,26 @@
+package com.company.observability.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for the {@code /batch/runs} day snapshots — the final entry per calculator for
+ * reporting dates old enough that no new runs are expected, kept in
+ * {@code calculator_day_snapshot} and a long-TTL Redis tier.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.snapshots")
+@Getter
+@Setter
+public class SnapshotProperties {
+
+    private boolean enabled = true;
+
+    /** Reporting dates before {@code today - settleDays} are served from snapshots. */
+    private int settleDays = 7;
+
+    /** TTL of the Redis copy; entries are versioned, so this only bounds memory. */
+    private long redisTtlHours = 7 * 24L;
+}
@@ -0,0 +1,50 @@
+package com.company.observability.config;
+
+import com.company.observability.service.streaming.RunUpdatePublisher;
+import com.company.observability.service.streaming.RunUpdateSubscriber;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Subscribes this replica to the run-update channel so updates published by any replica
+ * reach the SSE connections held here.
+ */
+@Configuration
+@ConditionalOnProperty(
+        value = "observability.streaming.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class StreamingConfig {
+
+    @Bean
+    public RedisMessageListenerContainer runUpdateListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    RunUpdateSubscriber subscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(RunUpdatePublisher.CHANNEL));
+        return container;
+    }
+
+    /**
+     * Writes SSE frames and recomputes the pushed entries, off the Redis listener thread. Work is
+     * bounded by the per-subscription outboxes, so the pool queue itself is unbounded.
+     */
+    @Bean(name = "streamExecutor")
+    public Executor streamExecutor(StreamingProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getSendThreads());
+        executor.setMaxPoolSize(properties.getSendThreads());
+        executor.setThreadNamePrefix("stream-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.observability.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for the run-update stream ({@code GET /api/v1/calculators/batch/runs/stream}).
+ *
+ * <p>Run events are fanned out across replicas over Redis pub/sub; every replica keeps a short
+ * replay buffer so a reconnecting client can resume from its {@code Last-Event-ID}.
+ */
+@Component
+@ConfigurationProperties(prefix = "observability.streaming")
+@Getter
+@Setter
+public class StreamingProperties {
+
+    private boolean enabled = true;
+
+    /** Interval between SSE comment heartbeats; keeps proxies from closing idle connections. */
+    private long heartbeatIntervalMs = 15_000;
+
+    /** Server-side lifetime of one SSE connection; clients reconnect with {@code Last-Event-ID}. */
+    private long emitterTimeoutMs = 30 * 60 * 1000L;
+
+    /** Updates retained per replica for resume. Older resume tokens get a {@code resync} event. */
+    private int replayBufferSize = 1000;
+
+    /** Open SSE connections allowed per replica before new subscriptions are rejected with 503. */
+    private int maxSubscriptions = 2000;
+
+    /** Threads writing SSE frames; each subscription is drained by at most one of them at a time. */
+    private int sendThreads = 4;
+
+    /** Frames queued per subscription before a client that cannot keep up is disconnected. */
+    private int sendQueueCapacity = 256;
+}
@@ -0,0 +1,24 @@
+package com.company.observability.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+/**
+ * {@code application/cbor} responses for internal consumers, negotiated from {@code Accept}.
+ *
+ * <p>Spring MVC would register a CBOR converter on its own, but with a default-configured
+ * mapper; this one copies the application {@link ObjectMapper} so both formats carry the same
+ * document (ISO-8601 instants, same modules). Replaces the default in place, so JSON stays
+ * the representation for {@code *}{@code /*}.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+    }
+}
@@ -1,36 +1,62 @@
 package com.company.observability.controller;
 
+import com.company.observability.admission.PriorityClass;
+import com.company.observability.admission.RequestPriority;
+import com.company.observability.datasource.Bulkhead;
+import com.company.observability.datasource.Workload;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.dto.response.*;
 import com.company.observability.service.AnalyticsService;
+import com.company.observability.service.projection.ResponseTarget;
+import com.company.observability.util.ETagUtils;
+import com.company.observability.util.GzipUtils;
 import com.company.observability.util.ObservabilityConstants;
+import com.company.observability.util.WireFormat;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import org.springframework.format.annotation.DateTimeFormat;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.company.observability.service.AnalyticsService.*;
 
 @RestController
 @RequestMapping("/api/v1/analytics")
+@Workload(Bulkhead.QUERY)
+@RequestPriority(PriorityClass.ANALYTICS)
 @Tag(name = "Analytics", description = "Calculator analytics, trends, and SLA reporting")
 @RequiredArgsConstructor
 @Validated
 @Slf4j
 public class AnalyticsController {
 
+    /** Covers a full fleet overview (~300 calculators) in one request. */
+    private static final int MAX_BATCH_KEYS = 500;
+
     private final AnalyticsService analyticsService;
     private final MeterRegistry meterRegistry;
 
@@ -43,6 +69,7 @@ public class AnalyticsController {
     public ResponseEntity<RuntimeAnalyticsResponse> getRuntimeAnalytics(
             @PathVariable String calculatorId,
             @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @Parameter(description = "Lookback period in days (1-365)")
             @RequestParam @Min(1) @Max(365) int days,
             @Parameter(description = "Frequency: DAILY or MONTHLY")
@@ -52,12 +79,9 @@ public class AnalyticsController {
 
         Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            RuntimeAnalyticsResponse response = analyticsService
-                    .getRuntimeAnalytics(calculatorId, days, freq);
-
-            return ResponseEntity.ok()
-                    .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate())
-                    .body(response);
+            return conditional(ifNoneMatch, "/runtime", CACHE_RUNTIME, calculatorId,
+                    List.of(days, freq), CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate(),
+                    () -> analyticsService.getRuntimeAnalytics(calculatorId, days, freq));
         } finally {
             sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
                     "endpoint", "/runtime"));
@@ -72,17 +96,15 @@ public class AnalyticsController {
     public ResponseEntity<SlaSummaryResponse> getSlaSummary(
             @PathVariable String calculatorId,
             @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @Parameter(description = "Lookback period in days (1-365)")
             @RequestParam @Min(1) @Max(365) int days) {
 
         Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            SlaSummaryResponse response = analyticsService
-                    .getSlaSummary(calculatorId, days);
-
-            return ResponseEntity.ok()
-                    .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate())
-                    .body(response);
+            return conditional(ifNoneMatch, "/sla-summary", CACHE_SLA_SUMMARY, calculatorId,
+                    List.of(days), CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate(),
+                    () -> analyticsService.getSlaSummary(calculatorId, days));
         } finally {
             sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
                     "endpoint", "/sla-summary"));
@@ -98,23 +120,89 @@ public class AnalyticsController {
     public ResponseEntity<TrendAnalyticsResponse> getTrends(
             @PathVariable String calculatorId,
             @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @Parameter(description = "Lookback period in days (1-365)")
             @RequestParam @Min(1) @Max(365) int days) {
 
         Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            TrendAnalyticsResponse response = analyticsService
-                    .getTrends(calculatorId, days);
-
-            return ResponseEntity.ok()
-                    .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate())
-                    .body(response);
+            return conditional(ifNoneMatch, "/trends", CACHE_TRENDS, calculatorId,
+                    List.of(days), CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate(),
+                    () -> analyticsService.getTrends(calculatorId, days));
         } finally {
             sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
                     "endpoint", "/trends"));
         }
     }
 
+    @PostMapping("/batch/runtime")
+    @Operation(
+            summary = "Runtime analytics for many calculators",
+            description = "Returns /runtime for every calculator key in the request body, keyed in request " +
+                    "order. Cached entries are read in one batch and the rest are computed with one " +
+                    "set-based query; each entry is the document /runtime returns for that key."
+    )
+    public ResponseEntity<Map<String, RuntimeAnalyticsResponse>> getRuntimeAnalyticsBatch(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_KEYS) List<String> calculatorIds,
+            @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @Parameter(description = "Lookback period in days (1-365)")
+            @RequestParam @Min(1) @Max(365) int days,
+            @Parameter(description = "Frequency: DAILY or MONTHLY")
+            @RequestParam(defaultValue = "DAILY") String frequency) {
+
+        Frequency freq = Frequency.fromStrict(frequency);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return batch(() -> analyticsService.getRuntimeAnalyticsBatch(calculatorIds, days, freq));
+        } finally {
+            sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
+                    "endpoint", "/batch/runtime"));
+        }
+    }
+
+    @PostMapping("/batch/sla-summary")
+    @Operation(
+            summary = "SLA breach summary for many calculators",
+            description = "Returns /sla-summary for every calculator key in the request body, keyed in " +
+                    "request order. Misses share one aggregate query and one breach rollup query."
+    )
+    public ResponseEntity<Map<String, SlaSummaryResponse>> getSlaSummaryBatch(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_KEYS) List<String> calculatorIds,
+            @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @Parameter(description = "Lookback period in days (1-365)")
+            @RequestParam @Min(1) @Max(365) int days) {
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return batch(() -> analyticsService.getSlaSummaryBatch(calculatorIds, days));
+        } finally {
+            sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
+                    "endpoint", "/batch/sla-summary"));
+        }
+    }
+
+    @PostMapping("/batch/trends")
+    @Operation(
+            summary = "Trend analysis for many calculators",
+            description = "Returns /trends for every calculator key in the request body, keyed in " +
+                    "request order. Misses share one aggregate query and one breach rollup query."
+    )
+    public ResponseEntity<Map<String, TrendAnalyticsResponse>> getTrendsBatch(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_KEYS) List<String> calculatorIds,
+            @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @Parameter(description = "Lookback period in days (1-365)")
+            @RequestParam @Min(1) @Max(365) int days) {
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return batch(() -> analyticsService.getTrendsBatch(calculatorIds, days));
+        } finally {
+            sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
+                    "endpoint", "/batch/trends"));
+        }
+    }
+
     @GetMapping("/calculators/{calculatorId}/sla-breaches")
     @Operation(
             summary = "SLA breach details (paginated)",
@@ -125,6 +213,7 @@ public class AnalyticsController {
     public ResponseEntity<PagedResponse<SlaBreachDetailResponse>> getSlaBreachDetails(
             @PathVariable String calculatorId,
             @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @Parameter(description = "Lookback period in days (1-365)")
             @RequestParam @Min(1) @Max(365) int days,
             @Parameter(description = "Filter by severity: LOW, MEDIUM, HIGH, CRITICAL")
@@ -136,12 +225,9 @@ public class AnalyticsController {
 
         Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            PagedResponse<SlaBreachDetailResponse> response = analyticsService
-                    .getSlaBreachDetails(calculatorId, days, severity, page, size, cursor);
-
-            return ResponseEntity.ok()
-                    .cacheControl(CacheControl.noCache())
-                    .body(response);
+            return conditional(ifNoneMatch, "/sla-breaches", CACHE_SLA_BREACHES, calculatorId,
+                    Arrays.asList(days, severity, page, size, cursor), CacheControl.noCache(),
+                    () -> analyticsService.getSlaBreachDetails(calculatorId, days, severity, page, size, cursor));
         } finally {
             sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
                     "endpoint", "/sla-breaches"));
@@ -161,6 +247,7 @@ public class AnalyticsController {
     public ResponseEntity<RunPerformanceData> getRunExecutions(
             @PathVariable("name") String calculatorName,
             @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @Parameter(description = "Lookback period in days (1-365)")
             @RequestParam(defaultValue = "30") @Min(1) @Max(365) int days,
             @Parameter(description = "Frequency: DAILY or MONTHLY")
@@ -169,7 +256,10 @@ public class AnalyticsController {
             @RequestParam(value = "run_number", required = false) String runNumber,
             @Parameter(description = "Anchor date for the lookback window (ISO-8601: yyyy-MM-dd). Defaults to today.")
             @RequestParam(value = "data_as_of_date", required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataAsOfDate) {
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataAsOfDate,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
 
         Frequency freq = Frequency.fromStrict(frequency);
         LocalDate effectiveAsOfDate = (dataAsOfDate != null) ? dataAsOfDate : LocalDate.now();
@@ -179,18 +269,62 @@ public class AnalyticsController {
 
         Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            RunPerformanceData response = analyticsService
-                    .getRunExecutionsByName(calculatorName, days, freq, runNumber, effectiveAsOfDate);
-
-            return ResponseEntity.ok()
-                    .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate())
-                    .body(response);
+            if (analyticsService.isStreamingWindow(days)) {
+                return streamed(ifNoneMatch, "/executions", CACHE_EXECUTIONS, calculatorName,
+                        Arrays.asList(days, freq, runNumber, effectiveAsOfDate),
+                        CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate(), accept, acceptEncoding, response,
+                        target -> analyticsService.streamRunExecutionsByName(
+                                calculatorName, days, freq, runNumber, effectiveAsOfDate, target));
+            }
+            return conditional(ifNoneMatch, "/executions", CACHE_EXECUTIONS, calculatorName,
+                    Arrays.asList(days, freq, runNumber, effectiveAsOfDate),
+                    CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate(),
+                    () -> analyticsService.getRunExecutionsByName(
+                            calculatorName, days, freq, runNumber, effectiveAsOfDate));
         } finally {
             sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
                     "endpoint", "/executions"));
         }
     }
 
+    @GetMapping("/calculators/{name}/card")
+    @Operation(
+            summary = "Performance card (composite)",
+            description = "Returns the /runtime, /sla-summary, /trends and /executions documents for one " +
+                    "calculator in a single payload, built from one set of concurrent reads and cached as " +
+                    "one entry. Each part is identical to what its own endpoint returns for the same " +
+                    "calculator key and parameters."
+    )
+    public ResponseEntity<CalculatorCardResponse> getCalculatorCard(
+            @PathVariable("name") String calculatorName,
+            @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(description = "Lookback period in days (1-365)")
+            @RequestParam(defaultValue = "30") @Min(1) @Max(365) int days,
+            @Parameter(description = "Frequency: DAILY or MONTHLY")
+            @RequestParam(defaultValue = "DAILY") String frequency,
+            @Parameter(description = "Run number bucket for the executions part: 1 or 2. Omit to return all buckets.")
+            @RequestParam(value = "run_number", required = false) String runNumber,
+            @Parameter(description = "Anchor date for the executions window (ISO-8601: yyyy-MM-dd). Defaults to today.")
+            @RequestParam(value = "data_as_of_date", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataAsOfDate) {
+
+        Frequency freq = Frequency.fromStrict(frequency);
+        LocalDate effectiveAsOfDate = (dataAsOfDate != null) ? dataAsOfDate : LocalDate.now();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return conditional(ifNoneMatch, "/card", CACHE_CARD, calculatorName,
+                    Arrays.asList(days, freq, runNumber, effectiveAsOfDate),
+                    CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate(),
+                    () -> analyticsService.getCalculatorCard(
+                            calculatorName, days, freq, runNumber, effectiveAsOfDate));
+        } finally {
+            sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
+                    "endpoint", "/card"));
+        }
+    }
+
     @GetMapping("/calculators/{calculatorId}/run-performance")
     @Operation(
             summary = "Run-level performance data",
@@ -200,25 +334,123 @@ public class AnalyticsController {
     public ResponseEntity<RunPerformanceData> getRunPerformanceData(
             @PathVariable String calculatorId,
             @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @Parameter(description = "Lookback period in days (1-365)")
             @RequestParam(defaultValue = "30") @Min(1) @Max(365) int days,
             @Parameter(description = "Frequency: DAILY or MONTHLY")
-            @RequestParam(defaultValue = "DAILY") String frequency) {
+            @RequestParam(defaultValue = "DAILY") String frequency,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
 
         Frequency freq = Frequency.fromStrict(frequency);
 
         Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            RunPerformanceData response = analyticsService
-                    .getRunPerformanceData(calculatorId, days, freq);
-
-            return ResponseEntity.ok()
-                    .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate())
-                    .body(response);
+            if (analyticsService.isStreamingWindow(days)) {
+                return streamed(ifNoneMatch, "/run-performance", CACHE_RUN_PERF, calculatorId,
+                        List.of(days, freq), CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate(),
+                        accept, acceptEncoding, response,
+                        target -> analyticsService.streamRunPerformanceData(calculatorId, days, freq, target));
+            }
+            return conditional(ifNoneMatch, "/run-performance", CACHE_RUN_PERF, calculatorId,
+                    List.of(days, freq), CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate(),
+                    () -> analyticsService.getRunPerformanceData(calculatorId, days, freq));
         } finally {
             sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
                     "endpoint", "/run-performance"));
         }
     }
 
+    @FunctionalInterface
+    private interface StreamedBody {
+        void writeTo(ResponseTarget target) throws IOException;
+    }
+
+    /**
+     * Streaming counterpart of {@link #conditional}: same validator and 304 handling, but a
+     * fresh body is written straight to the servlet output stream in the negotiated format
+     * (JSON or CBOR). The service may send a cached payload already gzipped; otherwise the
+     * container compresses. Returns {@code null} once the response has been written.
+     */
+    private <T> ResponseEntity<T> streamed(String ifNoneMatch, String endpoint, String view,
+                                           String calculatorKey, List<Object> requestParts,
+                                           CacheControl cacheControl, String accept, String acceptEncoding,
+                                           HttpServletResponse response, StreamedBody body) throws IOException {
+        String etag = ETagUtils.versionETag(analyticsService.getChangeVersion(view, calculatorKey),
+                endpoint, calculatorKey, requestParts);
+        if (ETagUtils.isNotModified(ifNoneMatch, etag, meterRegistry, endpoint)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        WireFormat format = WireFormat.negotiate(accept);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(format.mediaType().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        boolean acceptsGzip = GzipUtils.acceptsGzip(acceptEncoding);
+        body.writeTo(new ResponseTarget() {
+            @Override
+            public WireFormat format() {
+                return format;
+            }
+
+            @Override
+            public boolean acceptsGzip() {
+                return acceptsGzip;
+            }
+
+            @Override
+            public OutputStream open(boolean gzipEncoded) throws IOException {
+                if (gzipEncoded) {
+                    // Already compressed — Tomcat leaves responses with a Content-Encoding alone
+                    response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                }
+                return response.getOutputStream();
+            }
+        });
+        response.flushBuffer();
+        return null;
+    }
+
+    /**
+     * Batch responses span many generations, so they carry no validator; the per-key entries
+     * behind them are what is cached.
+     */
+    private <T> ResponseEntity<T> batch(Supplier<T> body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body.get());
+    }
+
+    /**
+     * Answers {@code If-None-Match} from the view's change version alone; the body is only
+     * built when the client's copy is stale or absent.
+     */
+    private <T> ResponseEntity<T> conditional(String ifNoneMatch, String endpoint, String view,
+                                              String calculatorKey, List<Object> requestParts,
+                                              CacheControl cacheControl, Supplier<T> body) {
+        String etag = ETagUtils.versionETag(analyticsService.getChangeVersion(view, calculatorKey),
+                endpoint, calculatorKey, requestParts);
+        if (ETagUtils.isNotModified(ifNoneMatch, etag, meterRegistry, endpoint)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT);
+        if (etag != null) {
+            ok.eTag(etag);
+        }
+        return ok.body(body.get());
+    }
 }
@@ -1,5 +1,7 @@
 package com.company.observability.controller;
 
+import com.company.observability.datasource.Bulkhead;
+import com.company.observability.datasource.Workload;
 import com.company.observability.dto.response.PartitionOperationResponse;
 import com.company.observability.scheduled.DailyAggregationJob;
 import com.company.observability.service.PartitionMaintenanceService;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/v1/admin/maintenance")
+@Workload(Bulkhead.BACKGROUND)
 @RequiredArgsConstructor
 @Tag(name = "Maintenance", description = "Ops endpoints for partition lifecycle management and job triggers. Requires ADMIN role.")
 public class MaintenanceController {
@@ -24,7 +27,7 @@ public class MaintenanceController {
     @PostMapping("/jobs/daily-aggregation")
     @Operation(summary = "Trigger daily aggregation", description = "Manually runs the nightly DailyAggregationJob: recomputes calculator_sli_daily and warms the profile cache. Idempotent.")
     public ResponseEntity<String> triggerDailyAggregation() {
-        dailyAggregationJob.runDailyAggregation();
+        dailyAggregationJob.runDailyAggregationNow();
         return ResponseEntity.ok("daily aggregation triggered");
     }
 
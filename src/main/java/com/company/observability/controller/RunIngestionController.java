@@ -1,5 +1,9 @@
 package com.company.observability.controller;
 
+import com.company.observability.admission.PriorityClass;
+import com.company.observability.admission.RequestPriority;
+import com.company.observability.datasource.Bulkhead;
+import com.company.observability.datasource.Workload;
 import com.company.observability.domain.CalculatorRun;
 import com.company.observability.dto.request.CompleteRunRequest;
 import com.company.observability.dto.request.StartRunRequest;
@@ -28,6 +32,8 @@ import java.security.Principal;
  */
 @RestController
 @RequestMapping("/api/v1/runs")
+@Workload(Bulkhead.INGESTION)
+@RequestPriority(PriorityClass.INGESTION)
 @Tag(name = "Run Ingestion", description = "APIs for Airflow to ingest calculator run data")
 @RequiredArgsConstructor
 public class RunIngestionController {
@@ -1,12 +1,17 @@
 package com.company.observability.controller;
 
+import com.company.observability.admission.PriorityClass;
+import com.company.observability.admission.RequestPriority;
+import com.company.observability.datasource.Bulkhead;
+import com.company.observability.datasource.Workload;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse;
 import com.company.observability.dto.response.CalculatorStatusResponse;
-import com.company.observability.service.ExpectedRunsService;
+import com.company.observability.service.BatchRunsService;
 import com.company.observability.service.CalculatorNameResolver;
 import com.company.observability.service.CalculatorStateService;
 import com.company.observability.service.RunQueryService;
+import com.company.observability.util.ETagUtils;
 import com.company.observability.util.ObservabilityConstants;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -18,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -26,13 +33,14 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 /**
  * Query controller with enum support
  */
 @RestController
 @RequestMapping("/api/v1/calculators")
+@Workload(Bulkhead.QUERY)
+@RequestPriority(PriorityClass.STATUS)
 @Tag(name = "Calculator Status", description = "Query calculator runtime status and history")
 @RequiredArgsConstructor
 @Validated
@@ -42,7 +50,7 @@ public class RunQueryController {
     private final RunQueryService queryService;
     private final CalculatorStateService calculatorStateService;
     private final CalculatorNameResolver nameResolver;
-    private final ExpectedRunsService expectedRunsService;
+    private final BatchRunsService batchRunsService;
     private final MeterRegistry meterRegistry;
 
     @GetMapping("/{calculatorId}/status")
@@ -78,6 +86,7 @@ public class RunQueryController {
 
             return ResponseEntity.ok()
                     .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT)
                     .body(response);
         } finally {
             sample.stop(meterRegistry.timer(ObservabilityConstants.API_QUERY_DURATION,
@@ -122,6 +131,7 @@ public class RunQueryController {
 
             return ResponseEntity.ok()
                     .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT)
                     .body(response);
         } finally {
             sample.stop(meterRegistry.timer(ObservabilityConstants.API_QUERY_DURATION,
@@ -137,10 +147,13 @@ public class RunQueryController {
                     "The `keys` query param is a pipe-separated list of calculator_name values (readable, " +
                     "unique-per-tenant); upstream UUIDs are not accepted on this endpoint. " +
                     "Regional calculators return one RunEntry per region; typed calculators return one per runType. " +
-                    "Empty runs list = no run found. isRerun=true = a re-trigger was fired for that dimension."
+                    "Empty runs list = no run found. isRerun=true = a re-trigger was fired for that dimension. " +
+                    "Responses carry a weak ETag derived from per-calculator change versions; " +
+                    "send it back in If-None-Match to get 304 Not Modified while nothing has changed."
     )
     public ResponseEntity<CalculatorBatchRunsResponse> getBatchRuns(
             @RequestHeader(value = "X-Tenant-Id", required = false) String tenantId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @RequestParam("reporting_date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate reportingDate,
             @RequestParam(defaultValue = "DAILY") String frequency,
             @RequestParam(value = "run_number", required = false) String runNumber,
@@ -172,62 +185,36 @@ public class RunQueryController {
         log.info("event=batch_runs.request outcome=accepted reportingDate={} frequency={} aliasCount={} realNameCount={} runNumber={}",
                 reportingDate, freq, aliases.size(), allRealNames.size(), runNumber);
 
+        CacheControl cacheControl = CacheControl.maxAge(30, TimeUnit.SECONDS).cachePrivate();
+
         Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            Map<String, CalculatorBatchRunsResponse.CalculatorEntry> byRealName =
-                    calculatorStateService.getState(reportingDate, freq, runNumber, allRealNames);
+            // One MGET of change versions answers If-None-Match before any entry or DB read
+            CalculatorStateService.StateVersions versions =
+                    calculatorStateService.getVersions(reportingDate, freq, allRealNames);
+            String etag = ETagUtils.versionETag(versions != null ? versions.token() : null,
+                    reportingDate, freq, runNumber, aliasToRealNames);
+            if (ETagUtils.isNotModified(ifNoneMatch, etag, meterRegistry, "/calculators/batch/runs")) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .build();
+            }
 
-            // Re-group by alias: merge entries from all real names under each alias key
             Map<String, CalculatorBatchRunsResponse.CalculatorEntry> calculators =
-                    aliasToRealNames.entrySet().stream().collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            e -> mergeEntries(e.getKey(), e.getValue(), byRealName),
-                            (a, b) -> a,
-                            LinkedHashMap::new
-                    ));
-
-            // Pad each configured alias to its full declared set of expected runs
-            calculators = expectedRunsService.padToExpected(calculators, reportingDate, freq, runNumber);
-
-            return ResponseEntity.ok()
-                    .cacheControl(CacheControl.maxAge(30, TimeUnit.SECONDS).cachePrivate())
-                    .body(new CalculatorBatchRunsResponse(
+                    batchRunsService.getEntries(aliasToRealNames, reportingDate, freq, runNumber,
+                            versions != null ? versions.byName() : null);
+
+            ResponseEntity.BodyBuilder ok = ResponseEntity.ok().cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT);
+            if (etag != null) {
+                ok.eTag(etag);
+            }
+            return ok.body(new CalculatorBatchRunsResponse(
                             reportingDate, freq.name(), runNumber, Instant.now(), calculators));
         } finally {
             sample.stop(meterRegistry.timer(ObservabilityConstants.API_ANALYTICS_DURATION,
                     "endpoint", "/calculators/batch/runs"));
         }
     }
-
-    private CalculatorBatchRunsResponse.CalculatorEntry mergeEntries(
-            String alias,
-            List<String> realNames,
-            Map<String, CalculatorBatchRunsResponse.CalculatorEntry> byRealName) {
-
-        List<CalculatorBatchRunsResponse.CalculatorEntry> parts = realNames.stream()
-                .map(byRealName::get)
-                .filter(Objects::nonNull)
-                .toList();
-
-        if (parts.isEmpty()) {
-            return new CalculatorBatchRunsResponse.CalculatorEntry(alias, null, List.of());
-        }
-        if (parts.size() == 1) {
-            CalculatorBatchRunsResponse.CalculatorEntry single = parts.get(0);
-            return new CalculatorBatchRunsResponse.CalculatorEntry(alias, single.calculatorId(), single.runs());
-        }
-
-        // Multi: merge runs; calculatorId only when all real calculators agree (unusual)
-        Set<String> ids = parts.stream()
-                .map(CalculatorBatchRunsResponse.CalculatorEntry::calculatorId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        String mergedId = ids.size() == 1 ? ids.iterator().next() : null;
-
-        List<CalculatorBatchRunsResponse.RunEntry> allRuns = parts.stream()
-                .flatMap(e -> e.runs().stream())
-                .toList();
-
-        return new CalculatorBatchRunsResponse.CalculatorEntry(alias, mergedId, allRuns);
-    }
 }
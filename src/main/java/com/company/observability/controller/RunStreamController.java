@@ -0,0 +1,84 @@
+package com.company.observability.controller;
+
+import com.company.observability.admission.PriorityClass;
+import com.company.observability.admission.RequestPriority;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.service.streaming.RunUpdateBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Server-Sent Events counterpart of {@code GET /batch/runs}: pushes run deltas instead of
+ * being polled.
+ */
+@RestController
+@RequestMapping("/api/v1/calculators")
+@RequestPriority(PriorityClass.LIVE)
+@Tag(name = "Calculator Status", description = "Query calculator runtime status and history")
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+@ConditionalOnProperty(
+        value = "observability.streaming.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RunStreamController {
+
+    private final RunUpdateBroadcaster broadcaster;
+
+    @GetMapping(value = "/batch/runs/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream run updates for a set of calculators and a reporting date",
+            description = "Same parameters as /batch/runs. Emits `ready` (current sequence) on connect, then one " +
+                    "`run` event per started/completed/breached run, with the sequence as the SSE id. " +
+                    "Reconnect with the Last-Event-ID header to resume; a `resync` event means the gap " +
+                    "could not be replayed and /batch/runs must be reloaded."
+    )
+    public SseEmitter streamBatchRuns(
+            @RequestParam("reporting_date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate reportingDate,
+            @RequestParam(defaultValue = "DAILY") String frequency,
+            @RequestParam(value = "run_number", required = false) String runNumber,
+            @Parameter(description = "Pipe-separated calculator_name values, e.g. capitalcalc|portfoliocalc")
+            @RequestParam @NotBlank String keys,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        List<String> aliases = Arrays.stream(keys.split("\\|"))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+        if (aliases.isEmpty()) {
+            throw new IllegalArgumentException("keys must contain at least one non-blank calculator name");
+        }
+
+        Frequency freq = Frequency.fromStrict(frequency);
+        runNumber = (runNumber == null || runNumber.isBlank()) ? null : runNumber;
+
+        return broadcaster.subscribe(aliases, reportingDate, freq, runNumber, parseResumeToken(lastEventId));
+    }
+
+    private static Long parseResumeToken(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Last-Event-ID must be a numeric sequence");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.observability.datasource;
+
+/**
+ * Workload classes, each with its own connection pool, so one class cannot exhaust the
+ * connections another depends on.
+ */
+public enum Bulkhead {
+
+    /** Airflow {@code start}/{@code complete} calls — small, latency-critical writes. */
+    INGESTION,
+
+    /** Dashboard and API reads, including long analytics windows. */
+    QUERY,
+
+    /**
+     * Scheduled jobs, async listeners, the change-feed consumer, migrations — anything not entered
+     * through an annotated endpoint.
+     */
+    BACKGROUND;
+
+    /** Lower-case name used in pool names, properties and metric tags. */
+    public String key() {
+        return name().toLowerCase();
+    }
+}
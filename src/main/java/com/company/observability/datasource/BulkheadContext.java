@@ -0,0 +1,55 @@
+package com.company.observability.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@link Bulkhead} the current thread's database work is routed to.
+ * Set by {@link WorkloadAnnotationPostProcessor}; read by {@link BulkheadRoutingDataSource}.
+ */
+public final class BulkheadContext {
+
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {}
+
+    /** The bulkhead set on this thread, or {@code null} outside any annotated call. */
+    public static Bulkhead current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets {@code bulkhead} unless one is already set. Returns the prior value to pass to
+     * {@link #restore}.
+     */
+    public static Bulkhead enter(Bulkhead bulkhead) {
+        Bulkhead previous = CURRENT.get();
+        if (previous == null) {
+            CURRENT.set(bulkhead);
+        }
+        return previous;
+    }
+
+    public static void restore(Bulkhead previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /** {@code task} bound to this thread's bulkhead, to run on another thread. */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Bulkhead bulkhead = current();
+        if (bulkhead == null) {
+            return task;
+        }
+        return () -> {
+            Bulkhead previous = enter(bulkhead);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+}
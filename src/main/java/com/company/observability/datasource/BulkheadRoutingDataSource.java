@@ -0,0 +1,40 @@
+package com.company.observability.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the thread's {@link Bulkhead}
+ * ({@link Bulkhead#BACKGROUND} when none is set). The pool is chosen when a connection is
+ * taken — at transaction start, or per statement outside a transaction. Closing it closes the
+ * pools.
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public BulkheadRoutingDataSource(Map<Bulkhead, DataSource> pools) {
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(Bulkhead.BACKGROUND));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Bulkhead bulkhead = BulkheadContext.current();
+        return bulkhead != null ? bulkhead : Bulkhead.BACKGROUND;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource pool : getResolvedDataSources().values()) {
+            if (pool instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
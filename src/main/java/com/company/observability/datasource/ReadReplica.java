@@ -0,0 +1,44 @@
+package com.company.observability.datasource;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+
+/**
+ * One Postgres read replica: its connection pool and how far it has replayed the primary, as
+ * last sampled by {@link ReadReplicaLagMonitor}.
+ */
+public class ReadReplica {
+
+    private final String name;
+    private final DataSource pool;
+
+    /** Every commit up to this instant is visible on the replica; {@code null} while unknown or down. */
+    private volatile Instant caughtUpTo;
+
+    public ReadReplica(String name, DataSource pool) {
+        this.name = name;
+        this.pool = pool;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource pool() {
+        return pool;
+    }
+
+    public Instant caughtUpTo() {
+        return caughtUpTo;
+    }
+
+    void caughtUpTo(Instant caughtUpTo) {
+        this.caughtUpTo = caughtUpTo;
+    }
+
+    /** Whether the replica has replayed every commit up to {@code instant}. */
+    boolean covers(Instant instant) {
+        Instant current = caughtUpTo;
+        return current != null && !current.isBefore(instant);
+    }
+}
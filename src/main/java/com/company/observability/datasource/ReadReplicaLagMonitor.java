@@ -0,0 +1,76 @@
+package com.company.observability.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Samples how far each read replica trails the primary. A replica that has replayed all WAL it
+ * received is current; otherwise it trails by the age of its last replayed transaction. The
+ * replica is then known to hold every commit up to the sample's start minus that lag. A failed
+ * sample takes the replica out of rotation until the next good one.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "observability.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaLagMonitor {
+
+    static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+            END
+            """;
+
+    private final ReadReplicas replicas;
+
+    public ReadReplicaLagMonitor(ReadReplicas replicas, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        for (ReadReplica replica : replicas.replicas()) {
+            Gauge.builder(DB_REPLICA_LAG, replica, ReadReplicaLagMonitor::lagSeconds)
+                    .tag("replica", replica.name())
+                    .description("Seconds since the last commit the read replica is known to have replayed")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${observability.read-replicas.lag-poll-ms:1000}")
+    public void sample() {
+        for (ReadReplica replica : replicas.replicas()) {
+            sample(replica);
+        }
+    }
+
+    void sample(ReadReplica replica) {
+        Instant sampledAt = Instant.now();
+        try {
+            Double lagMs = new JdbcTemplate(replica.pool()).queryForObject(LAG_SQL, Double.class);
+            if (lagMs == null) {
+                throw new IllegalStateException("replica has not replayed any transaction");
+            }
+            replica.caughtUpTo(sampledAt.minusMillis(Math.round(lagMs)));
+        } catch (Exception e) {
+            if (replica.caughtUpTo() != null) {
+                log.warn("event=read_replica.lag outcome=failure replica={} error={}", replica.name(), e.getMessage());
+            }
+            replica.caughtUpTo(null);
+        }
+    }
+
+    /** NaN while the replica is down or not yet sampled. */
+    private static double lagSeconds(ReadReplica replica) {
+        Instant caughtUpTo = replica.caughtUpTo();
+        return caughtUpTo != null
+                ? Duration.between(caughtUpTo, Instant.now()).toMillis() / 1000.0
+                : Double.NaN;
+    }
+}
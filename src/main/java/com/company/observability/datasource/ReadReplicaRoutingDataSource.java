@@ -0,0 +1,88 @@
+package com.company.observability.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Target of read-only connections: a read replica when the read may be served from one, the
+ * primary otherwise. A replica is used only for the {@link Bulkhead#QUERY} bulkhead — jobs and
+ * ingestion keep reading what they just wrote — and only while it has replayed every commit up to
+ * {@code maxStaleness} ago and, under {@link ReadYourWrites}, the latest write to the calculators
+ * in scope. Reads scoped {@linkplain ReadYourWrites#enterPrimary() primary-only} skip the replicas.
+ * Eligible replicas take turns.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<ReadReplica> replicas;
+    private final RecentWrites recentWrites;
+    private final Duration maxStaleness;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(List<ReadReplica> replicas, DataSource primary,
+                                        RecentWrites recentWrites, Duration maxStaleness,
+                                        MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.recentWrites = recentWrites;
+        this.maxStaleness = maxStaleness;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (ReadReplica replica : replicas) {
+            targets.put(replica.name(), replica.pool());
+        }
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (BulkheadContext.current() != Bulkhead.QUERY) {
+            return route(PRIMARY, "workload");
+        }
+        if (ReadYourWrites.primaryOnly()) {
+            return route(PRIMARY, "versioned");
+        }
+        Instant staleLimit = Instant.now().minus(maxStaleness);
+        Collection<String> calculators = ReadYourWrites.current();
+        Instant written = calculators != null ? recentWrites.latest(calculators) : null;
+
+        List<ReadReplica> eligible = new ArrayList<>(replicas.size());
+        boolean fresh = false;
+        for (ReadReplica replica : replicas) {
+            if (replica.covers(staleLimit)) {
+                fresh = true;
+                if (written == null || replica.covers(written)) {
+                    eligible.add(replica);
+                }
+            }
+        }
+        if (eligible.isEmpty()) {
+            return route(PRIMARY, fresh ? "read_your_writes" : "lagging");
+        }
+        ReadReplica replica = eligible.get(Math.floorMod(next.getAndIncrement(), eligible.size()));
+        return route(replica.name(), "replica");
+    }
+
+    private String route(String target, String reason) {
+        meterRegistry.counter(DB_READ_ROUTE, "target", target, "reason", reason).increment();
+        return target;
+    }
+}
@@ -0,0 +1,22 @@
+package com.company.observability.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/** The configured read replicas. Closing it closes their pools. */
+public record ReadReplicas(List<ReadReplica> replicas) implements Closeable {
+
+    public ReadReplicas {
+        replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (ReadReplica replica : replicas) {
+            if (replica.pool() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.company.observability.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+
+/**
+ * Hands out lazy connections: the pooled connection is taken at the first statement, so a
+ * transaction answered entirely from cache takes none. With a {@code readOnly} target, read-only
+ * transactions ({@code @Transactional(readOnly = true)}) take it from there instead of
+ * {@code primary} — the flag is known by the time the connection is taken. Closing it closes the
+ * primary pools.
+ */
+public class ReadWriteSplittingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    /** @param readOnly target of read-only transactions, or {@code null} to send them to {@code primary} */
+    public ReadWriteSplittingDataSource(DataSource primary, DataSource readOnly) {
+        super(primary);
+        if (readOnly != null) {
+            setReadOnlyDataSource(readOnly);
+        }
+        // Postgres defaults; set here so startup does not need a connection to find them out
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.company.observability.datasource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+/**
+ * The calculators (ids or names) whose own recent writes the current thread's reads must see.
+ * A replica that has not yet replayed the latest of those writes is skipped for the primary.
+ * Read by {@link ReadReplicaRoutingDataSource}.
+ *
+ * <p>{@link #enterPrimary()} is for reads cached under change versions: a version read from Redis
+ * can already count another instance's write that this instance has not heard of yet, so no
+ * replica can be shown to reflect it.
+ */
+public final class ReadYourWrites {
+
+    /** Compared by identity. */
+    private static final Collection<String> PRIMARY = Collections.unmodifiableList(new ArrayList<>());
+
+    private static final ThreadLocal<Collection<String>> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    /** The calculators in scope on this thread, or {@code null} for plain bounded-staleness reads. */
+    public static Collection<String> current() {
+        return CURRENT.get();
+    }
+
+    /** Whether this thread's reads must see every committed write, i.e. go to the primary. */
+    public static boolean primaryOnly() {
+        return CURRENT.get() == PRIMARY;
+    }
+
+    /** Puts {@code calculators} in scope. Returns the prior value to pass to {@link #restore}. */
+    public static Collection<String> enter(Collection<String> calculators) {
+        Collection<String> previous = CURRENT.get();
+        CURRENT.set(calculators);
+        return previous;
+    }
+
+    /** Sends this thread's reads to the primary. Returns the prior value to pass to {@link #restore}. */
+    public static Collection<String> enterPrimary() {
+        return enter(PRIMARY);
+    }
+
+    /** {@code task} bound to this thread's scope, to run on another thread. */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Collection<String> scope = current();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            Collection<String> previous = enter(scope);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public static void restore(Collection<String> previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.company.observability.datasource;
+
+import com.company.observability.config.ReadReplicaProperties;
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.event.RunCompletedEvent;
+import com.company.observability.event.RunStartedEvent;
+import com.company.observability.event.SlaBreachedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * When each calculator (by id and by name) was last written, for read-your-writes on replicas.
+ * This replica's own writes are recorded on commit, before the ingestion response is sent;
+ * other replicas' writes arrive through the change feed ({@code LiveRunStoreLoader}).
+ *
+ * <p>Writes older than {@code max-staleness-ms} are forgotten: a replica that lags further than
+ * that serves no reads at all.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentWrites {
+
+    private final ReadReplicaProperties properties;
+
+    private final Map<String, Instant> lastWrite = new ConcurrentHashMap<>();
+
+    public void record(CalculatorRun run, Instant committedAt) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        record(run.getCalculatorId(), committedAt);
+        record(run.getCalculatorName(), committedAt);
+    }
+
+    private void record(String calculator, Instant committedAt) {
+        if (calculator != null) {
+            lastWrite.merge(calculator, committedAt, (a, b) -> a.isAfter(b) ? a : b);
+        }
+    }
+
+    /** Latest write to any of {@code calculators} still remembered, or {@code null}. */
+    public Instant latest(Collection<String> calculators) {
+        Instant latest = null;
+        for (String calculator : calculators) {
+            Instant written = lastWrite.get(calculator);
+            if (written != null && (latest == null || written.isAfter(latest))) {
+                latest = written;
+            }
+        }
+        return latest;
+    }
+
+    @Scheduled(fixedDelayString = "${observability.read-replicas.max-staleness-ms:30000}")
+    public void prune() {
+        Instant cutoff = Instant.now().minusMillis(properties.getMaxStalenessMs());
+        lastWrite.values().removeIf(written -> written.isBefore(cutoff));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRunStarted(RunStartedEvent event) {
+        record(event.getRun(), Instant.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRunCompleted(RunCompletedEvent event) {
+        record(event.getRun(), Instant.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSlaBreached(SlaBreachedEvent event) {
+        record(event.getRun(), Instant.now());
+    }
+}
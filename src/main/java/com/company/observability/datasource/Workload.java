@@ -0,0 +1,19 @@
+package com.company.observability.datasource;
+
+import java.lang.annotation.*;
+
+/**
+ * Routes the database work of the annotated class or method to a {@link Bulkhead} pool.
+ *
+ * <p>The outermost annotated call on a thread decides: an ingestion endpoint keeps the ingestion
+ * pool for everything it calls. Work not entered through an annotated call uses
+ * {@link Bulkhead#BACKGROUND}. Applied by {@link WorkloadAnnotationPostProcessor} ahead of
+ * {@code @Transactional}, so a transaction takes its connection from the right pool.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+
+    Bulkhead value();
+}
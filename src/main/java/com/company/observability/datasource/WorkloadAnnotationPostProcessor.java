@@ -0,0 +1,52 @@
+package com.company.observability.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Applies {@link Workload}: proxies annotated beans so each call runs with its bulkhead set in
+ * {@link BulkheadContext}. Like {@code @Async} and {@code @Validated}, this is a plain Spring AOP
+ * advisor (no AspectJ). It is placed in front of any existing advisors, so the bulkhead is set
+ * before {@code @Transactional} takes a connection.
+ */
+public class WorkloadAnnotationPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public WorkloadAnnotationPostProcessor() {
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Workload.class, true))
+                .union(new AnnotationMatchingPointcut(null, Workload.class, true));
+        this.advisor = new DefaultPointcutAdvisor(pointcut, interceptor());
+    }
+
+    private static MethodInterceptor interceptor() {
+        return invocation -> {
+            Class<?> targetClass = invocation.getThis() != null
+                    ? AopUtils.getTargetClass(invocation.getThis())
+                    : invocation.getMethod().getDeclaringClass();
+            Bulkhead previous = BulkheadContext.enter(bulkhead(invocation.getMethod(), targetClass));
+            try {
+                return invocation.proceed();
+            } finally {
+                BulkheadContext.restore(previous);
+            }
+        };
+    }
+
+    /** Method annotation first, then the class. */
+    static Bulkhead bulkhead(Method method, Class<?> targetClass) {
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getMostSpecificMethod(method, targetClass), Workload.class);
+        if (workload == null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(targetClass, Workload.class);
+        }
+        return workload != null ? workload.value() : Bulkhead.BACKGROUND;
+    }
+}
@@ -0,0 +1,16 @@
+package com.company.observability.dto.response;
+
+/**
+ * Performance-card payload: the {@code /runtime}, {@code /sla-summary}, {@code /trends} and
+ * {@code /executions} documents for one calculator and window, each exactly as its own endpoint
+ * would return it.
+ */
+public record CalculatorCardResponse(
+        String calculatorName,
+        int periodDays,
+        String frequency,
+        RuntimeAnalyticsResponse runtime,
+        SlaSummaryResponse slaSummary,
+        TrendAnalyticsResponse trends,
+        RunPerformanceData executions
+) {}
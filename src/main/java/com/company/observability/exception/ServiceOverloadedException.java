@@ -0,0 +1,17 @@
+package com.company.observability.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a request is rejected to protect the service; mapped to 503 with {@code Retry-After}.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -4,7 +4,6 @@ import com.company.observability.cache.RedisCalculatorCache;
 import com.company.observability.domain.CalculatorRun;
 import com.company.observability.domain.RunWithSlaStatus;
 import com.company.observability.domain.enums.Frequency;
-import com.company.observability.domain.enums.RunStatus;
 import com.company.observability.domain.enums.SlaBand;
 import com.company.observability.util.JsonbConverter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -17,13 +16,14 @@ import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.*;
 import java.time.*;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static com.company.observability.util.ObservabilityConstants.*;
-import static com.company.observability.util.TimeUtils.fromTimestamp;
 import static com.company.observability.util.TimeUtils.toTimestamp;
 
 /**
@@ -43,6 +43,9 @@ public class CalculatorRunRepository {
     private final JsonbConverter jsonbConverter;
     private final MeterRegistry meterRegistry;
 
+    /** Cursor template for the streaming queries; see {@link CursorJdbc}. */
+    private volatile NamedParameterJdbcTemplate streamingJdbcTemplate;
+
     private static final String SELECT_BASE = """
         SELECT run_id, calculator_id, calculator_name, tenant_id, frequency, reporting_date,
                start_time, end_time, duration_ms,
@@ -71,6 +74,7 @@ public class CalculatorRunRepository {
      * DAILY: reporting_date in last 2-3 days
      * MONTHLY: reporting_date = end of month
      */
+    @Transactional(readOnly = true)
     public List<CalculatorRun> findRecentRuns(
             String calculatorId, Frequency frequency, int limit) {
 
@@ -107,7 +111,7 @@ public class CalculatorRunRepository {
                 .addValue("limit", limit);
 
         Timer.Sample sample = Timer.start(meterRegistry);
-        List<CalculatorRun> runs = jdbcTemplate.query(sql, params, new CalculatorRunRowMapper(false));
+        List<CalculatorRun> runs = jdbcTemplate.query(sql, params, calculatorRunMapper(false));
         sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "find_recent").register(meterRegistry));
 
         // Populate Redis cache
@@ -186,6 +190,7 @@ public class CalculatorRunRepository {
      * Batch query from database only (skips Redis read checks).
      * Used by RunQueryService after response-cache misses are already known.
      */
+    @Transactional(readOnly = true)
     public Map<String, List<CalculatorRun>> findBatchRecentRunsDbOnly(
             List<String> calculatorIds, Frequency frequency, int limit) {
 
@@ -237,7 +242,7 @@ public class CalculatorRunRepository {
                 .addValue("limit", limit);
 
         Timer.Sample sample = Timer.start(meterRegistry);
-        List<CalculatorRun> allRuns = jdbcTemplate.query(sql, params, new CalculatorRunRowMapper(false));
+        List<CalculatorRun> allRuns = jdbcTemplate.query(sql, params, calculatorRunMapper(false));
         sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "find_batch").register(meterRegistry));
 
         // Group by calculator ID
@@ -342,7 +347,7 @@ public class CalculatorRunRepository {
 
         try {
             Timer.Sample sample = Timer.start(meterRegistry);
-            List<CalculatorRun> results = jdbcTemplate.query(sql, params, new CalculatorRunRowMapper(true));
+            List<CalculatorRun> results = jdbcTemplate.query(sql, params, calculatorRunMapper(true));
             sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "upsert").register(meterRegistry));
 
             CalculatorRun savedRun = DataAccessUtils.singleResult(results);
@@ -379,7 +384,7 @@ public class CalculatorRunRepository {
                 .addValue("reportingDate", reportingDate);
 
         Timer.Sample sample = Timer.start(meterRegistry);
-        List<CalculatorRun> results = jdbcTemplate.query(sql, params, new CalculatorRunRowMapper(false));
+        List<CalculatorRun> results = jdbcTemplate.query(sql, params, calculatorRunMapper(false));
         sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "find_by_id").register(meterRegistry));
 
         return Optional.ofNullable(DataAccessUtils.singleResult(results));
@@ -393,7 +398,7 @@ public class CalculatorRunRepository {
         MapSqlParameterSource params = new MapSqlParameterSource().addValue("runId", runId);
 
         Timer.Sample sample = Timer.start(meterRegistry);
-        List<CalculatorRun> results = jdbcTemplate.query(sql, params, new CalculatorRunRowMapper(true));
+        List<CalculatorRun> results = jdbcTemplate.query(sql, params, calculatorRunMapper(true));
         sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "find_by_id").register(meterRegistry));
 
         return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
@@ -450,6 +455,7 @@ public class CalculatorRunRepository {
     /**
      * Find runs with SLA severity for performance card (LEFT JOIN with sla_breach_events)
      */
+    @Transactional(readOnly = true)
     public List<RunWithSlaStatus> findRunsWithSlaStatus(
             String calculatorId, Frequency frequency, int days) {
         return findRunsWithSlaStatus(calculatorId, frequency, days, null);
@@ -458,6 +464,7 @@ public class CalculatorRunRepository {
     /**
      * @param runNumber e.g. "1" or "2" — pass null to skip the filter (single-bucket tenants)
      */
+    @Transactional(readOnly = true)
     public List<RunWithSlaStatus> findRunsWithSlaStatus(
             String calculatorId, Frequency frequency, int days, String runNumber) {
 
@@ -502,6 +509,7 @@ public class CalculatorRunRepository {
      *                  When set, rows with a NULL run_number (un-numbered / single-bucket runs)
      *                  are included alongside the requested bucket.
      */
+    @Transactional(readOnly = true)
     public List<RunWithSlaStatus> findRunsByName(
             String calculatorName, Frequency frequency, int days, String runNumber,
             LocalDate asOfDate) {
@@ -543,6 +551,120 @@ public class CalculatorRunRepository {
         return results;
     }
 
+    /**
+     * Streaming variant of {@link #findRunsWithSlaStatus(String, Frequency, int)} for long windows:
+     * rows are handed to {@code rowConsumer} as they are fetched instead of being collected.
+     *
+     * <p>Rows are ordered so that all splits sharing a correlation_id are contiguous, with groups
+     * in order of their first split — the input {@code LogicalRunGrouper.contiguous} expects.
+     * Within that order the latest raw row (by reporting_date, created_at) is not necessarily
+     * the last one delivered, so it is tracked here and returned.
+     *
+     * @return the latest raw row, or {@code null} when the window is empty
+     */
+    @Transactional(readOnly = true)
+    public RunWithSlaStatus streamRunsWithSlaStatus(
+            String calculatorId, Frequency frequency, int days, Consumer<RunWithSlaStatus> rowConsumer) {
+
+        String sql = """
+            SELECT * FROM (
+                SELECT cr.run_id, cr.calculator_id, cr.calculator_name, cr.reporting_date,
+                       cr.start_time, cr.end_time, cr.duration_ms,
+                       cr.sla_time, cr.estimated_start_time, cr.frequency, cr.status,
+                       cr.sla_band, cr.sla_breach_reason, cr.correlation_id,
+                       cr.run_number, cr.expected_duration_ms,
+                       ROW_NUMBER() OVER (ORDER BY cr.reporting_date ASC, cr.created_at ASC) AS pos
+                FROM calculator_runs cr
+                WHERE cr.calculator_id = :calculatorId AND cr.frequency = :frequency
+                AND cr.reporting_date >= CURRENT_DATE - CAST(:days AS INTEGER) * INTERVAL '1 day'
+                AND cr.reporting_date <= CURRENT_DATE
+            ) r
+            ORDER BY MIN(r.pos) OVER (PARTITION BY COALESCE(r.correlation_id, r.run_id)), r.pos
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("calculatorId", calculatorId)
+                .addValue("frequency", frequency.name())
+                .addValue("days", days);
+
+        RowMapper<RunWithSlaStatus> mapper = runWithSlaStatusMapper();
+        RunWithSlaStatus[] latest = new RunWithSlaStatus[1];
+        long[] latestPos = {-1};
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        streamingJdbcTemplate().query(sql, params, rs -> {
+            RunWithSlaStatus run = mapper.mapRow(rs, 0);
+            long pos = rs.getLong("pos");
+            if (pos > latestPos[0]) {
+                latestPos[0] = pos;
+                latest[0] = run;
+            }
+            rowConsumer.accept(run);
+        });
+        sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "stream_runs_with_sla").register(meterRegistry));
+
+        return latest[0];
+    }
+
+    /**
+     * Streaming, multi-name variant of {@link #findRunsByName} for long windows. Rows for all
+     * {@code calculatorNames} arrive in one pass ordered by (reporting_date, start_time NULLS FIRST),
+     * the order {@code AnalyticsService} sorts the per-name lists into on the materialised path.
+     *
+     * @return the last row delivered, or {@code null} when the window is empty
+     */
+    @Transactional(readOnly = true)
+    public RunWithSlaStatus streamRunsByNames(
+            List<String> calculatorNames, Frequency frequency, int days, String runNumber,
+            LocalDate asOfDate, Consumer<RunWithSlaStatus> rowConsumer) {
+
+        StringBuilder sql = new StringBuilder("""
+            SELECT cr.run_id, cr.calculator_id, cr.calculator_name, cr.reporting_date,
+                   cr.start_time, cr.end_time, cr.duration_ms,
+                   cr.sla_time, cr.estimated_start_time, cr.frequency, cr.status,
+                   cr.sla_band, cr.sla_breach_reason, cr.correlation_id,
+                   cr.run_number, cr.expected_duration_ms
+            FROM calculator_runs cr
+            WHERE cr.calculator_name IN (:calculatorNames) AND cr.frequency = :frequency
+            AND cr.reporting_date >= :asOfDate - CAST(:days AS INTEGER) * INTERVAL '1 day'
+            AND cr.reporting_date <= :asOfDate
+            """);
+        if (runNumber != null) {
+            sql.append("AND (cr.run_number = :runNumber OR cr.run_number IS NULL)\n");
+        }
+        sql.append("ORDER BY cr.reporting_date ASC, cr.start_time ASC NULLS FIRST, cr.created_at ASC");
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("calculatorNames", calculatorNames)
+                .addValue("frequency", frequency.name())
+                .addValue("days", days)
+                .addValue("asOfDate", asOfDate);
+        if (runNumber != null) {
+            params.addValue("runNumber", runNumber);
+        }
+
+        RowMapper<RunWithSlaStatus> mapper = runWithSlaStatusMapper();
+        RunWithSlaStatus[] last = new RunWithSlaStatus[1];
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        streamingJdbcTemplate().query(sql.toString(), params, rs -> {
+            last[0] = mapper.mapRow(rs, 0);
+            rowConsumer.accept(last[0]);
+        });
+        sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "stream_runs_by_names").register(meterRegistry));
+
+        return last[0];
+    }
+
+    private NamedParameterJdbcTemplate streamingJdbcTemplate() {
+        NamedParameterJdbcTemplate template = streamingJdbcTemplate;
+        if (template == null) {
+            template = CursorJdbc.template(jdbcTemplate);
+            streamingJdbcTemplate = template;
+        }
+        return template;
+    }
+
     /**
      * Returns ALL rows for the given date/frequency/calculatorNames — no SQL deduplication.
      * Filters by calculator_name (human-readable, unique per tenant), not the upstream UUID
@@ -552,6 +674,7 @@ public class CalculatorRunRepository {
      *                  When set, rows with a NULL run_number (un-numbered / single-bucket runs)
      *                  are included alongside the requested bucket.
      */
+    @Transactional(readOnly = true)
     public List<CalculatorRun> findAllRunsByDateAndDimension(
             LocalDate reportingDate,
             Frequency frequency,
@@ -592,7 +715,7 @@ public class CalculatorRunRepository {
                 reportingDate, frequency, calculatorNames.size(), runNumber);
 
         Timer.Sample sample = Timer.start(meterRegistry);
-        List<CalculatorRun> results = jdbcTemplate.query(sql.toString(), params, new CalculatorRunRowMapper(false));
+        List<CalculatorRun> results = jdbcTemplate.query(sql.toString(), params, calculatorRunMapper(false));
         sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "find_all_runs_by_date_dimension").register(meterRegistry));
 
         log.debug("event=db.query outcome=complete query=find_all_runs_by_date_dimension reportingDate={} frequency={} rows={}",
@@ -601,121 +724,103 @@ public class CalculatorRunRepository {
     }
 
     /**
-     * Get partition statistics for monitoring
+     * Every run with {@code reporting_date >= fromDate}, without the JSONB maps, ordered per
+     * calculator like {@link #findAllRunsByDateAndDimension}. Bootstraps the live run store.
      */
-    public List<Map<String, Object>> getPartitionStatistics() {
-        return jdbcTemplate.queryForList("SELECT * FROM get_partition_statistics()", EmptySqlParameterSource.INSTANCE);
+    public List<CalculatorRun> findRunsFromDate(LocalDate fromDate) {
+        String sql = """
+                SELECT run_id, calculator_id, calculator_name, tenant_id, frequency, reporting_date,
+                       start_time, end_time, duration_ms,
+                       status, sla_time, expected_duration_ms,
+                       estimated_start_time, estimated_end_time,
+                       sla_band, sla_breached, sla_breach_reason,
+                       run_number, run_type, region, correlation_id,
+                       created_at, updated_at
+                FROM calculator_runs
+                WHERE reporting_date >= :fromDate
+                ORDER BY reporting_date, frequency, calculator_name,
+                         COALESCE(correlation_id, ''),
+                         COALESCE(region, ''),
+                         COALESCE(run_type, ''),
+                         created_at ASC
+                """;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<CalculatorRun> results = jdbcTemplate.query(sql,
+                new MapSqlParameterSource("fromDate", fromDate), calculatorRunMapper(false));
+        sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "find_runs_from_date").register(meterRegistry));
+
+        log.debug("event=db.query outcome=complete query=find_runs_from_date fromDate={} rows={}",
+                fromDate, results.size());
+        return results;
     }
 
     /**
-     * Returns the most recent run with a non-null {@code expected_duration_ms} for the given
-     * calculator name and frequency, across any reporting_date. Used as a fallback estimator
-     * when {@code CalculatorProfile} has insufficient samples (new/infrequent calculators).
-     *
-     * <p>Uses index: {@code calculator_runs_latest_estimate_by_name_idx}.
+     * Get partition statistics for monitoring
      */
-    public Optional<CalculatorRun> findLatestRunEstimatesByName(String calculatorName, Frequency frequency) {
-        return findLatestRunEstimatesByName(calculatorName, frequency, null);
+    public List<Map<String, Object>> getPartitionStatistics() {
+        return jdbcTemplate.queryForList("SELECT * FROM get_partition_statistics()", EmptySqlParameterSource.INSTANCE);
     }
 
     /**
-     * Run_number-scoped overload. When {@code runNumber} is non-blank, restricts to that run number
-     * so a RUN1 projection does not pick up RUN2's frozen deadline (RUN2 is typically the newest row).
-     * A blank/null {@code runNumber} preserves the unscoped "latest across run numbers" behaviour.
+     * The most recent run with a non-null {@code expected_duration_ms} per calculator name and
+     * frequency, across any reporting_date, for every name in one round trip. Used as a fallback
+     * estimator when {@code CalculatorProfile} has insufficient samples (new/infrequent calculators).
+     * Names with no estimate-bearing run are absent from the result.
+     *
+     * <p>A non-blank {@code runNumber} restricts to that run number, so a RUN1 projection does not
+     * pick up RUN2's frozen deadline (RUN2 is typically the newest row); a blank/null one keeps the
+     * unscoped "latest across run numbers" behaviour.
+     *
+     * <p>A lateral {@code LIMIT 1} per name keeps the single-name plan — an ordered probe of
+     * {@code calculator_runs_latest_estimate_by_name_idx} that stops at the newest partition holding
+     * a row. {@code DISTINCT ON (calculator_name)} would read and sort every historical row of
+     * every name before keeping one.
      */
-    public Optional<CalculatorRun> findLatestRunEstimatesByName(String calculatorName, Frequency frequency, String runNumber) {
+    @Transactional(readOnly = true)
+    public Map<String, CalculatorRun> findLatestRunEstimatesByNames(Collection<String> calculatorNames,
+                                                                    Frequency frequency, String runNumber) {
+        if (calculatorNames.isEmpty()) {
+            return Map.of();
+        }
         boolean scoped = runNumber != null && !runNumber.isBlank();
-        String sql = SELECT_BASE + """
-            WHERE calculator_name = :calculatorName
-              AND frequency = :frequency
-              AND expected_duration_ms IS NOT NULL
+        String sql = """
+            SELECT latest.*
+            FROM unnest(CAST(:calculatorNames AS text[])) AS requested(name)
+            CROSS JOIN LATERAL (
+            """ + SELECT_BASE + """
+                WHERE calculator_name = requested.name
+                  AND frequency = :frequency
+                  AND expected_duration_ms IS NOT NULL
             """
-            + (scoped ? "  AND run_number = :runNumber\n" : "")
+            + (scoped ? "      AND run_number = :runNumber\n" : "")
             + """
-            ORDER BY reporting_date DESC, created_at DESC
-            LIMIT 1
+                ORDER BY reporting_date DESC, created_at DESC
+                LIMIT 1
+            ) latest
             """;
 
         MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("calculatorName", calculatorName)
+                .addValue("calculatorNames", calculatorNames.toArray(String[]::new))
                 .addValue("frequency", frequency.name());
         if (scoped) {
             params.addValue("runNumber", runNumber.trim());
         }
 
-        List<CalculatorRun> results = jdbcTemplate.query(sql, params, new CalculatorRunRowMapper(false));
-        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+        Map<String, CalculatorRun> latestByName = new HashMap<>();
+        for (CalculatorRun run : jdbcTemplate.query(sql, params, calculatorRunMapper(false))) {
+            latestByName.put(run.getCalculatorName(), run);
+        }
+        log.debug("event=db.query outcome=complete query=find_latest_run_estimates_by_names names={} found={}",
+                calculatorNames.size(), latestByName.size());
+        return latestByName;
     }
 
     private RowMapper<RunWithSlaStatus> runWithSlaStatusMapper() {
-        return (rs, rowNum) -> {
-            String bandStr = rs.getString("sla_band");
-            SlaBand slaBand = bandStr != null ? SlaBand.valueOf(bandStr) : null;
-            return new RunWithSlaStatus(
-                    rs.getString("run_id"),
-                    rs.getString("calculator_id"),
-                    rs.getString("calculator_name"),
-                    rs.getObject("reporting_date", LocalDate.class),
-                    fromTimestamp(rs.getTimestamp("start_time")),
-                    fromTimestamp(rs.getTimestamp("end_time")),
-                    rs.getObject("duration_ms", Long.class),
-                    fromTimestamp(rs.getTimestamp("sla_time")),
-                    fromTimestamp(rs.getTimestamp("estimated_start_time")),
-                    Frequency.from(rs.getString("frequency")),
-                    RunStatus.fromString(rs.getString("status")),
-                    slaBand,
-                    rs.getString("sla_breach_reason"),
-                    rs.getString("correlation_id"),
-                    rs.getString("run_number"),
-                    rs.getObject("expected_duration_ms", Long.class)
-            );
-        };
+        return new RunWithSlaStatusRowMapper();
     }
 
-    private class CalculatorRunRowMapper implements RowMapper<CalculatorRun> {
-        private final boolean includeJsonb;
-
-        CalculatorRunRowMapper(boolean includeJsonb) {
-            this.includeJsonb = includeJsonb;
-        }
-
-        @Override
-        public CalculatorRun mapRow(ResultSet rs, int rowNum) {
-            try {
-                var builder = CalculatorRun.builder()
-                        .runId(rs.getString("run_id"))
-                        .calculatorId(rs.getString("calculator_id"))
-                        .calculatorName(rs.getString("calculator_name"))
-                        .tenantId(rs.getString("tenant_id"))
-                        .frequency(Frequency.from(rs.getString("frequency")))
-                        .reportingDate(rs.getObject("reporting_date", LocalDate.class))
-                        .startTime(fromTimestamp(rs.getTimestamp("start_time")))
-                        .endTime(fromTimestamp(rs.getTimestamp("end_time")))
-                        .durationMs(rs.getObject("duration_ms", Long.class))
-                        .status(RunStatus.fromString(rs.getString("status")))
-                        .slaTime(fromTimestamp(rs.getTimestamp("sla_time")))
-                        .expectedDurationMs(rs.getObject("expected_duration_ms", Long.class))
-                        .estimatedStartTime(fromTimestamp(rs.getTimestamp("estimated_start_time")))
-                        .estimatedEndTime(fromTimestamp(rs.getTimestamp("estimated_end_time")))
-                        .slaBand(rs.getString("sla_band") != null ? SlaBand.valueOf(rs.getString("sla_band")) : null)
-                        .slaBreached(rs.getBoolean("sla_breached"))
-                        .slaBreachReason(rs.getString("sla_breach_reason"))
-                        .runNumber(rs.getString("run_number"))
-                        .runType(rs.getString("run_type"))
-                        .region(rs.getString("region"))
-                        .correlationId(rs.getString("correlation_id"))
-                        .createdAt(fromTimestamp(rs.getTimestamp("created_at")))
-                        .updatedAt(fromTimestamp(rs.getTimestamp("updated_at")));
-
-                if (includeJsonb) {
-                    builder.runParameters(jsonbConverter.fromJsonb(rs.getObject("run_parameters")))
-                           .additionalAttributes(jsonbConverter.fromJsonb(rs.getObject("additional_attributes")));
-                }
-
-                return builder.build();
-            } catch (SQLException e) {
-                throw new RuntimeException("Failed to map calculator run", e);
-            }
-        }
+    private CalculatorRunRowMapper calculatorRunMapper(boolean includeJsonb) {
+        return new CalculatorRunRowMapper(jsonbConverter, includeJsonb);
     }
 }
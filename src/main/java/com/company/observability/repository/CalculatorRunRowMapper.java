@@ -0,0 +1,119 @@
+package com.company.observability.repository;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.util.JsonbConverter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static com.company.observability.util.TimeUtils.fromTimestamp;
+
+/**
+ * Maps {@code calculator_runs} rows by column index. Ordinals are resolved once per result
+ * set, enums go through {@link EnumColumns}, and the JSONB maps are decoded lazily on first
+ * access ({@link JsonbConverter#lazyFromJsonb}). One instance per query: it is not thread-safe.
+ *
+ * <p>Public so the row-mapping benchmark can drive it directly.
+ */
+public final class CalculatorRunRowMapper implements RowMapper<CalculatorRun> {
+
+    private final JsonbConverter jsonbConverter;
+    private final boolean includeJsonb;
+
+    private ResultSet resolvedFor;
+    private int runId, calculatorId, calculatorName, tenantId, frequency, reportingDate;
+    private int startTime, endTime, durationMs, status, slaTime, expectedDurationMs;
+    private int estimatedStartTime, estimatedEndTime, slaBand, slaBreached, slaBreachReason;
+    private int runNumber, runType, region, correlationId, createdAt, updatedAt;
+    private int runParameters, additionalAttributes;
+
+    /**
+     * @param includeJsonb whether the query selects {@code run_parameters} and
+     *                     {@code additional_attributes}
+     */
+    public CalculatorRunRowMapper(JsonbConverter jsonbConverter, boolean includeJsonb) {
+        this.jsonbConverter = jsonbConverter;
+        this.includeJsonb = includeJsonb;
+    }
+
+    @Override
+    public CalculatorRun mapRow(ResultSet rs, int rowNum) {
+        try {
+            if (rs != resolvedFor) {
+                resolveColumns(rs);
+            }
+            var builder = CalculatorRun.builder()
+                    .runId(rs.getString(runId))
+                    .calculatorId(rs.getString(calculatorId))
+                    .calculatorName(rs.getString(calculatorName))
+                    .tenantId(rs.getString(tenantId))
+                    .frequency(EnumColumns.frequency(rs.getString(frequency)))
+                    .reportingDate(rs.getObject(reportingDate, LocalDate.class))
+                    .startTime(fromTimestamp(rs.getTimestamp(startTime)))
+                    .endTime(fromTimestamp(rs.getTimestamp(endTime)))
+                    .durationMs(nullableLong(rs, durationMs))
+                    .status(EnumColumns.runStatus(rs.getString(status)))
+                    .slaTime(fromTimestamp(rs.getTimestamp(slaTime)))
+                    .expectedDurationMs(nullableLong(rs, expectedDurationMs))
+                    .estimatedStartTime(fromTimestamp(rs.getTimestamp(estimatedStartTime)))
+                    .estimatedEndTime(fromTimestamp(rs.getTimestamp(estimatedEndTime)))
+                    .slaBand(EnumColumns.slaBand(rs.getString(slaBand)))
+                    .slaBreached(rs.getBoolean(slaBreached))
+                    .slaBreachReason(rs.getString(slaBreachReason))
+                    .runNumber(rs.getString(runNumber))
+                    .runType(rs.getString(runType))
+                    .region(rs.getString(region))
+                    .correlationId(rs.getString(correlationId))
+                    .createdAt(fromTimestamp(rs.getTimestamp(createdAt)))
+                    .updatedAt(fromTimestamp(rs.getTimestamp(updatedAt)));
+
+            if (includeJsonb) {
+                builder.runParameters(jsonbConverter.lazyFromJsonb(rs.getObject(runParameters)))
+                       .additionalAttributes(jsonbConverter.lazyFromJsonb(rs.getObject(additionalAttributes)));
+            }
+
+            return builder.build();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to map calculator run", e);
+        }
+    }
+
+    private void resolveColumns(ResultSet rs) throws SQLException {
+        runId = rs.findColumn("run_id");
+        calculatorId = rs.findColumn("calculator_id");
+        calculatorName = rs.findColumn("calculator_name");
+        tenantId = rs.findColumn("tenant_id");
+        frequency = rs.findColumn("frequency");
+        reportingDate = rs.findColumn("reporting_date");
+        startTime = rs.findColumn("start_time");
+        endTime = rs.findColumn("end_time");
+        durationMs = rs.findColumn("duration_ms");
+        status = rs.findColumn("status");
+        slaTime = rs.findColumn("sla_time");
+        expectedDurationMs = rs.findColumn("expected_duration_ms");
+        estimatedStartTime = rs.findColumn("estimated_start_time");
+        estimatedEndTime = rs.findColumn("estimated_end_time");
+        slaBand = rs.findColumn("sla_band");
+        slaBreached = rs.findColumn("sla_breached");
+        slaBreachReason = rs.findColumn("sla_breach_reason");
+        runNumber = rs.findColumn("run_number");
+        runType = rs.findColumn("run_type");
+        region = rs.findColumn("region");
+        correlationId = rs.findColumn("correlation_id");
+        createdAt = rs.findColumn("created_at");
+        updatedAt = rs.findColumn("updated_at");
+        if (includeJsonb) {
+            runParameters = rs.findColumn("run_parameters");
+            additionalAttributes = rs.findColumn("additional_attributes");
+        }
+        resolvedFor = rs;
+    }
+
+    /** Primitive {@code getLong} + {@code wasNull}, skipping the driver's {@code getObject} type dispatch. */
+    static Long nullableLong(ResultSet rs, int column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.observability.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Server-side cursor reads for wide scans. The PostgreSQL driver only uses a cursor when a
+ * fetch size is set and autocommit is off, so callers query through {@link #template} inside a
+ * read-only transaction and hand each row on from a {@code RowCallbackHandler} — at most
+ * {@link #FETCH_SIZE} rows are buffered, whatever the result size.
+ */
+final class CursorJdbc {
+
+    /** Rows per round trip. */
+    static final int FETCH_SIZE = 500;
+
+    private CursorJdbc() {}
+
+    /** Same DataSource (and therefore the same transaction-bound connection), with a fetch size. */
+    static NamedParameterJdbcTemplate template(NamedParameterJdbcTemplate base) {
+        JdbcTemplate jdbc = new JdbcTemplate(base.getJdbcTemplate().getDataSource());
+        jdbc.setFetchSize(FETCH_SIZE);
+        return new NamedParameterJdbcTemplate(jdbc);
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static com.company.observability.util.ObservabilityConstants.*;
 import static com.company.observability.util.TimeUtils.fromTimestamp;
@@ -30,6 +31,9 @@ public class DailyAggregateRepository {
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final MeterRegistry meterRegistry;
 
+    /** Cursor template for the nightly profile scans; see {@link CursorJdbc}. */
+    private volatile NamedParameterJdbcTemplate cursorJdbcTemplate;
+
     /**
      * Recompute the aggregate for a trailing reporting-date range from the source of truth
      * ({@code calculator_runs}), grouped by (calculator_name, frequency, reporting_date).
@@ -128,6 +132,7 @@ public class DailyAggregateRepository {
      * are not frequency-scoped (trends, sla-summary, runtime) see one row per reporting
      * date — preserving behavior from before the frequency dimension was added.
      */
+    @Transactional(readOnly = true)
     public List<DailyAggregate> findRecentAggregates(String calculatorName, int days) {
 
         String sql = """
@@ -161,6 +166,52 @@ public class DailyAggregateRepository {
         }
     }
 
+    /**
+     * Set-based {@link #findRecentAggregates(String, int)}: one statement for every name, with the
+     * names bound as a single array so the plan and statement text do not vary with the count.
+     * Each list is ordered newest first; names with no rows in the window are absent.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<DailyAggregate>> findRecentAggregatesByNames(Collection<String> calculatorNames,
+                                                                         int days) {
+        if (calculatorNames.isEmpty()) {
+            return Map.of();
+        }
+
+        String sql = """
+            SELECT calculator_name, reporting_date,
+                   SUM(total_runs)        AS total_runs,
+                   SUM(success_runs)      AS success_runs,
+                   SUM(sla_breaches)      AS sla_breaches,
+                   SUM(sum_duration_ms)   AS sum_duration_ms,
+                   SUM(sum_start_min_utc) AS sum_start_min_utc,
+                   SUM(sum_end_min_utc)   AS sum_end_min_utc,
+                   MAX(computed_at)       AS computed_at
+            FROM calculator_sli_daily
+            WHERE calculator_name = ANY(CAST(:calculatorNames AS text[]))
+            AND reporting_date >= CURRENT_DATE - CAST(:days AS INTEGER) * INTERVAL '1 day'
+            GROUP BY calculator_name, reporting_date
+            ORDER BY calculator_name, reporting_date DESC
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("calculatorNames", calculatorNames.toArray(String[]::new))
+                .addValue("days", days);
+
+        try {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Map<String, List<DailyAggregate>> byName = new HashMap<>();
+            for (DailyAggregate aggregate : jdbcTemplate.query(sql, params, new DailyAggregateRowMapper())) {
+                byName.computeIfAbsent(aggregate.calculatorName(), name -> new ArrayList<>()).add(aggregate);
+            }
+            sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "find_recent_agg_batch").register(meterRegistry));
+            return byName;
+        } catch (Exception e) {
+            log.error("event=daily_aggregate.find_recent_batch outcome=failure names={}", calculatorNames.size(), e);
+            throw new RuntimeException("Failed to fetch daily aggregates", e);
+        }
+    }
+
     /**
      * Get aggregates for specific reporting dates (for MONTHLY calculators).
      * NPJT expands :reportingDates list into the IN clause automatically.
@@ -238,9 +289,13 @@ public class DailyAggregateRepository {
     /**
      * Compute profiles for all active calculators of one frequency over a trailing-day window
      * in a single query. Collapses across run_number — used by the nightly job to warm
-     * the blended (non-run_number-scoped) profile cache keys.
+     * the blended (non-run_number-scoped) profile cache keys. Rows are read through a cursor
+     * and handed to {@code sink} one at a time.
+     *
+     * @return the number of profiles delivered
      */
-    public List<CalculatorProfile> findAllProfiles(String frequency, int days) {
+    @Transactional(readOnly = true)
+    public int streamAllProfiles(String frequency, int days, Consumer<CalculatorProfile> sink) {
         String sql = """
             SELECT calculator_name,
                    SUM(sum_duration_ms)   AS sum_duration_ms,
@@ -253,26 +308,19 @@ public class DailyAggregateRepository {
             GROUP BY calculator_name
             """;
 
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("frequency", frequency)
-                .addValue("days", days);
-
-        try {
-            return jdbcTemplate.query(sql, params, (rs, rowNum) -> CalculatorProfile.fromSums(
-                    rs.getString("calculator_name"), frequency, null, null,
-                    rs.getLong("sum_duration_ms"), rs.getLong("sum_start_min_utc"),
-                    rs.getLong("sum_end_min_utc"), rs.getInt("total_runs")));
-        } catch (Exception e) {
-            log.error("event=daily_aggregate.find_all_profiles outcome=failure frequency={}", frequency, e);
-            return Collections.emptyList();
-        }
+        return streamProfiles("stream_all_profiles", sql, frequency, days, sink, rs -> CalculatorProfile.fromSums(
+                rs.getString("calculator_name"), frequency, null, null,
+                rs.getLong("sum_duration_ms"), rs.getLong("sum_start_min_utc"),
+                rs.getLong("sum_end_min_utc"), rs.getInt("total_runs")));
     }
 
     /**
-     * Per-run_number profiles for all active calculators. Used by the nightly job to warm
-     * run_number-scoped cache keys ({@code obs:profile:{name}:{freq}:{runNumber}}).
+     * Per-run_number profiles for all active calculators, streamed like {@link #streamAllProfiles}.
+     * Used by the nightly job to warm run_number-scoped cache keys
+     * ({@code obs:profile:{name}:{freq}:{runNumber}}).
      */
-    public List<CalculatorProfile> findAllProfilesByRunNumber(String frequency, int days) {
+    @Transactional(readOnly = true)
+    public int streamAllProfilesByRunNumber(String frequency, int days, Consumer<CalculatorProfile> sink) {
         String sql = """
             SELECT calculator_name, run_number,
                    SUM(sum_duration_ms)   AS sum_duration_ms,
@@ -285,19 +333,11 @@ public class DailyAggregateRepository {
             GROUP BY calculator_name, run_number
             """;
 
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("frequency", frequency)
-                .addValue("days", days);
-
-        try {
-            return jdbcTemplate.query(sql, params, (rs, rowNum) -> CalculatorProfile.fromSums(
-                    rs.getString("calculator_name"), frequency, rs.getString("run_number"), null,
-                    rs.getLong("sum_duration_ms"), rs.getLong("sum_start_min_utc"),
-                    rs.getLong("sum_end_min_utc"), rs.getInt("total_runs")));
-        } catch (Exception e) {
-            log.error("event=daily_aggregate.find_all_profiles_by_run_number outcome=failure frequency={}", frequency, e);
-            return Collections.emptyList();
-        }
+        return streamProfiles("stream_all_profiles_by_run_number", sql, frequency, days, sink,
+                rs -> CalculatorProfile.fromSums(
+                        rs.getString("calculator_name"), frequency, rs.getString("run_number"), null,
+                        rs.getLong("sum_duration_ms"), rs.getLong("sum_start_min_utc"),
+                        rs.getLong("sum_end_min_utc"), rs.getInt("total_runs")));
     }
 
     /**
@@ -377,11 +417,101 @@ public class DailyAggregateRepository {
     }
 
     /**
-     * Per-run_number + per-dimension profiles for all active calculators. Used by the nightly
-     * job to warm the third-tier cache keys ({@code obs:profile:{name}:{freq}:{runNumber|*}:{dim}}).
+     * One scope for {@link #findProfiles}. A {@code null} {@code runNumber} or
+     * {@code dimensionValue} widens the scope exactly as in the single-scope finders:
+     * both null is {@link #findProfile}, a run number alone is {@link #findProfileByRunNumber},
+     * and a dimension value is {@link #findProfileByRunNumberAndDimension}.
+     */
+    public record ProfileScope(String calculatorName, String frequency, int days,
+                               String runNumber, String dimensionValue) {}
+
+    /**
+     * Profiles for many scopes, of any mix of levels, in one statement. The scopes are passed as
+     * parallel arrays and unnested into a driving relation, so each one is still an index probe on
+     * {@code calculator_sli_daily_profile_idx}. Cache-miss source for
+     * {@code CalculatorProfileService#getProfiles}.
+     *
+     * @return one profile per scope, in request order; zero-sample profiles for scopes with no
+     *         history, or for every scope if the query fails
+     */
+    public List<CalculatorProfile> findProfiles(List<ProfileScope> scopes) {
+        if (scopes.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = """
+            SELECT scope.idx,
+                   COALESCE(SUM(d.sum_duration_ms), 0)   AS sum_duration_ms,
+                   COALESCE(SUM(d.sum_start_min_utc), 0) AS sum_start_min_utc,
+                   COALESCE(SUM(d.sum_end_min_utc), 0)   AS sum_end_min_utc,
+                   COALESCE(SUM(d.total_runs), 0)        AS total_runs
+            FROM unnest(CAST(:calculatorNames AS text[]), CAST(:frequencies AS text[]),
+                        CAST(:days AS integer[]), CAST(:runNumbers AS text[]),
+                        CAST(:dimensionValues AS text[]))
+                 WITH ORDINALITY AS scope(calculator_name, frequency, days, run_number, dimension_value, idx)
+            LEFT JOIN calculator_sli_daily d
+                   ON d.calculator_name = scope.calculator_name
+                  AND d.frequency = scope.frequency
+                  AND (scope.run_number IS NULL OR d.run_number = scope.run_number)
+                  AND (scope.dimension_value IS NULL OR d.dimension_value = scope.dimension_value)
+                  AND d.reporting_date >= CURRENT_DATE - scope.days * INTERVAL '1 day'
+            GROUP BY scope.idx
+            """;
+
+        int n = scopes.size();
+        String[] names = new String[n];
+        String[] frequencies = new String[n];
+        Integer[] days = new Integer[n];
+        String[] runNumbers = new String[n];
+        String[] dimensionValues = new String[n];
+        for (int i = 0; i < n; i++) {
+            ProfileScope scope = scopes.get(i);
+            names[i] = scope.calculatorName();
+            frequencies[i] = scope.frequency();
+            days[i] = scope.days();
+            runNumbers[i] = scope.runNumber();
+            dimensionValues[i] = scope.dimensionValue();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("calculatorNames", names)
+                .addValue("frequencies", frequencies)
+                .addValue("days", days)
+                .addValue("runNumbers", runNumbers)
+                .addValue("dimensionValues", dimensionValues);
+
+        CalculatorProfile[] profiles = new CalculatorProfile[n];
+        try {
+            jdbcTemplate.query(sql, params, rs -> {
+                int i = rs.getInt("idx") - 1;
+                ProfileScope scope = scopes.get(i);
+                profiles[i] = CalculatorProfile.fromSums(scope.calculatorName(), scope.frequency(),
+                        scope.runNumber(), scope.dimensionValue(),
+                        rs.getLong("sum_duration_ms"), rs.getLong("sum_start_min_utc"),
+                        rs.getLong("sum_end_min_utc"), rs.getInt("total_runs"));
+            });
+            log.debug("event=db.query outcome=complete query=find_profiles scopes={}", n);
+        } catch (Exception e) {
+            log.error("event=daily_aggregate.find_profiles outcome=failure scopes={}", n, e);
+        }
+
+        List<CalculatorProfile> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ProfileScope scope = scopes.get(i);
+            result.add(profiles[i] != null ? profiles[i] : CalculatorProfile.fromSums(scope.calculatorName(),
+                    scope.frequency(), scope.runNumber(), scope.dimensionValue(), 0, 0, 0, 0));
+        }
+        return result;
+    }
+
+    /**
+     * Per-run_number + per-dimension profiles for all active calculators, streamed like
+     * {@link #streamAllProfiles}. Used by the nightly job to warm the third-tier cache keys
+     * ({@code obs:profile:{name}:{freq}:{runNumber|*}:{dim}}).
      * Excludes 'ALL' rows — those are already covered by blended and scoped keys.
      */
-    public List<CalculatorProfile> findAllProfilesByRunNumberAndDimension(String frequency, int days) {
+    @Transactional(readOnly = true)
+    public int streamAllProfilesByRunNumberAndDimension(String frequency, int days,
+                                                        Consumer<CalculatorProfile> sink) {
         String sql = """
             SELECT calculator_name, run_number, dimension_value,
                    SUM(sum_duration_ms)   AS sum_duration_ms,
@@ -395,20 +525,46 @@ public class DailyAggregateRepository {
             GROUP BY calculator_name, run_number, dimension_value
             """;
 
+        return streamProfiles("stream_all_profiles_by_dim", sql, frequency, days, sink,
+                rs -> CalculatorProfile.fromSums(
+                        rs.getString("calculator_name"), frequency, rs.getString("run_number"),
+                        rs.getString("dimension_value"),
+                        rs.getLong("sum_duration_ms"), rs.getLong("sum_start_min_utc"),
+                        rs.getLong("sum_end_min_utc"), rs.getInt("total_runs")));
+    }
+
+    @FunctionalInterface
+    private interface ProfileRow {
+        CalculatorProfile map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Runs a profile scan through the cursor template, mapping and handing on one row at a
+     * time. Failures propagate — the caller decides whether the other scans still run.
+     */
+    private int streamProfiles(String query, String sql, String frequency, int days,
+                               Consumer<CalculatorProfile> sink, ProfileRow row) {
         MapSqlParameterSource params = new MapSqlParameterSource()
                 .addValue("frequency", frequency)
                 .addValue("days", days);
 
-        try {
-            return jdbcTemplate.query(sql, params, (rs, rowNum) -> CalculatorProfile.fromSums(
-                    rs.getString("calculator_name"), frequency, rs.getString("run_number"),
-                    rs.getString("dimension_value"),
-                    rs.getLong("sum_duration_ms"), rs.getLong("sum_start_min_utc"),
-                    rs.getLong("sum_end_min_utc"), rs.getInt("total_runs")));
-        } catch (Exception e) {
-            log.error("event=daily_aggregate.find_all_profiles_by_dim outcome=failure frequency={}", frequency, e);
-            return Collections.emptyList();
+        int[] count = {0};
+        Timer.Sample sample = Timer.start(meterRegistry);
+        cursorJdbcTemplate().query(sql, params, rs -> {
+            sink.accept(row.map(rs));
+            count[0]++;
+        });
+        sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", query).register(meterRegistry));
+        return count[0];
+    }
+
+    private NamedParameterJdbcTemplate cursorJdbcTemplate() {
+        NamedParameterJdbcTemplate template = cursorJdbcTemplate;
+        if (template == null) {
+            template = CursorJdbc.template(jdbcTemplate);
+            cursorJdbcTemplate = template;
         }
+        return template;
     }
 
     private static class DailyAggregateRowMapper implements RowMapper<DailyAggregate> {
@@ -0,0 +1,115 @@
+package com.company.observability.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * {@code calculator_day_snapshot}: the final {@code /batch/runs} entry per calculator for settled
+ * reporting dates, as gzipped JSON tagged with the change version it was built at.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class DaySnapshotRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /** One stored entry: the change version it was built at and its gzipped JSON. */
+    public record DaySnapshot(String calculatorName, long version, byte[] entry) {}
+
+    /**
+     * Snapshots of the given calculators for one date, frequency and run-number key, in one
+     * primary-key range read. Names without a row are absent from the result.
+     */
+    public Map<String, DaySnapshot> findSnapshots(LocalDate reportingDate, String frequency,
+                                                  String runNumberKey, Collection<String> calculatorNames) {
+        if (calculatorNames.isEmpty()) {
+            return Map.of();
+        }
+        String sql = """
+                SELECT calculator_name, version, entry
+                FROM calculator_day_snapshot
+                WHERE reporting_date = :reportingDate
+                  AND frequency = :frequency
+                  AND run_number_key = :runNumberKey
+                  AND calculator_name IN (:names)
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("reportingDate", reportingDate)
+                .addValue("frequency", frequency)
+                .addValue("runNumberKey", runNumberKey)
+                .addValue("names", calculatorNames);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<String, DaySnapshot> snapshots = new HashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            String name = rs.getString("calculator_name");
+            snapshots.put(name, new DaySnapshot(name, rs.getLong("version"), rs.getBytes("entry")));
+        });
+        sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "find_day_snapshots").register(meterRegistry));
+
+        log.debug("event=db.query outcome=complete query=find_day_snapshots reportingDate={} requested={} rows={}",
+                reportingDate, calculatorNames.size(), snapshots.size());
+        return snapshots;
+    }
+
+    /** Writes the snapshots in one batch, replacing any row built at an older version. */
+    public void upsertSnapshots(LocalDate reportingDate, String frequency, String runNumberKey,
+                                List<DaySnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO calculator_day_snapshot
+                    (calculator_name, reporting_date, frequency, run_number_key, version, entry, created_at)
+                VALUES (:name, :reportingDate, :frequency, :runNumberKey, :version, :entry, NOW())
+                ON CONFLICT (reporting_date, frequency, run_number_key, calculator_name) DO UPDATE
+                SET version = EXCLUDED.version, entry = EXCLUDED.entry, created_at = NOW()
+                WHERE calculator_day_snapshot.version <> EXCLUDED.version
+                """;
+        SqlParameterSource[] batch = new SqlParameterSource[snapshots.size()];
+        for (int i = 0; i < snapshots.size(); i++) {
+            DaySnapshot snapshot = snapshots.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("name", snapshot.calculatorName())
+                    .addValue("reportingDate", reportingDate)
+                    .addValue("frequency", frequency)
+                    .addValue("runNumberKey", runNumberKey)
+                    .addValue("version", snapshot.version())
+                    .addValue("entry", snapshot.entry());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        jdbcTemplate.batchUpdate(sql, batch);
+        sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "upsert_day_snapshots").register(meterRegistry));
+
+        log.debug("event=db.query outcome=complete query=upsert_day_snapshots reportingDate={} rows={}",
+                reportingDate, snapshots.size());
+    }
+
+    /** Drops every run-number variant of one calculator's snapshot for a date. */
+    public int deleteSnapshots(String calculatorName, LocalDate reportingDate, String frequency) {
+        String sql = """
+                DELETE FROM calculator_day_snapshot
+                WHERE calculator_name = :name
+                  AND reporting_date = :reportingDate
+                  AND frequency = :frequency
+                """;
+        return jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("name", calculatorName)
+                .addValue("reportingDate", reportingDate)
+                .addValue("frequency", frequency));
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.observability.repository;
+
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.domain.enums.SlaBand;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enum columns decoded through lookup tables keyed by the stored spelling: one hash lookup,
+ * no case folding or exception on the common path. Anything else falls back to the lenient
+ * parser the mappers used before, so unusual values decode exactly as they always have.
+ */
+final class EnumColumns {
+
+    private static final Map<String, Frequency> FREQUENCIES = byName(Frequency.values());
+    private static final Map<String, RunStatus> STATUSES = byName(RunStatus.values());
+    private static final Map<String, SlaBand> SLA_BANDS = byName(SlaBand.values());
+
+    private EnumColumns() {}
+
+    static Frequency frequency(String value) {
+        Frequency frequency = FREQUENCIES.get(value);
+        return frequency != null ? frequency : Frequency.from(value);
+    }
+
+    static RunStatus runStatus(String value) {
+        RunStatus status = STATUSES.get(value);
+        return status != null ? status : RunStatus.fromString(value);
+    }
+
+    static SlaBand slaBand(String value) {
+        if (value == null) {
+            return null;
+        }
+        SlaBand band = SLA_BANDS.get(value);
+        return band != null ? band : SlaBand.valueOf(value);
+    }
+
+    private static <E extends Enum<E>> Map<String, E> byName(E[] constants) {
+        Map<String, E> map = new HashMap<>(constants.length * 2);
+        for (E constant : constants) {
+            map.put(constant.name(), constant);
+        }
+        return map;
+    }
+}
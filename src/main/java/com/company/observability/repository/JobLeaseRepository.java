@@ -0,0 +1,110 @@
+package com.company.observability.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * {@code job_lease}: one row per scheduled job (or job shard) holding the current owner, its
+ * fencing token and the lease expiry.
+ *
+ * <p>Acquire, release and complete run in their own transaction so a lease is visible to other
+ * replicas at once, even when the job itself runs inside a transaction. {@link #fence} joins the
+ * caller's transaction instead: it row-locks the lease until that transaction ends.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLeaseRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Grants the lease when it is free (expired or released) or already held by {@code owner},
+     * and {@code runKey} has not been completed. The token is kept when the owner renews a live
+     * lease and incremented whenever the lease changes hands.
+     *
+     * @return the fencing token, or empty when another replica holds the lease or the run is done
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public OptionalLong acquire(String name, String owner, Duration ttl, String runKey) {
+        String sql = """
+                INSERT INTO job_lease (name, owner, token, expires_at, completed_key, updated_at)
+                VALUES (:name, :owner, 1, NOW() + CAST(:ttlMs AS BIGINT) * INTERVAL '1 millisecond', NULL, NOW())
+                ON CONFLICT (name) DO UPDATE
+                SET owner = EXCLUDED.owner,
+                    token = CASE WHEN job_lease.owner = EXCLUDED.owner AND job_lease.expires_at > NOW()
+                                 THEN job_lease.token ELSE job_lease.token + 1 END,
+                    expires_at = EXCLUDED.expires_at,
+                    updated_at = NOW()
+                WHERE (job_lease.expires_at <= NOW() OR job_lease.owner = EXCLUDED.owner)
+                  AND (CAST(:runKey AS VARCHAR) IS NULL OR job_lease.completed_key IS DISTINCT FROM :runKey)
+                RETURNING token
+                """;
+        List<Long> tokens = jdbcTemplate.queryForList(sql, new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("owner", owner)
+                .addValue("ttlMs", ttl.toMillis())
+                .addValue("runKey", runKey), Long.class);
+        return tokens.isEmpty() ? OptionalLong.empty() : OptionalLong.of(tokens.get(0));
+    }
+
+    /** Frees the lease if {@code token} still holds it. */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(String name, long token) {
+        String sql = """
+                UPDATE job_lease SET expires_at = NOW(), updated_at = NOW()
+                WHERE name = :name AND token = :token
+                """;
+        return jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("token", token)) > 0;
+    }
+
+    /** Records {@code runKey} as done and frees the lease, if {@code token} still holds it. */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean complete(String name, long token, String runKey) {
+        String sql = """
+                UPDATE job_lease SET completed_key = :runKey, expires_at = NOW(), updated_at = NOW()
+                WHERE name = :name AND token = :token
+                """;
+        return jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("token", token)
+                .addValue("runKey", runKey)) > 0;
+    }
+
+    public boolean isCompleted(String name, String runKey) {
+        String sql = "SELECT COUNT(*) FROM job_lease WHERE name = :name AND completed_key = :runKey";
+        Integer count = jdbcTemplate.queryForObject(sql, new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("runKey", runKey), Integer.class);
+        return count != null && count > 0;
+    }
+
+    /** Whether a replica currently holds the lease, i.e. it has not expired, been released or completed. */
+    public boolean isHeld(String name) {
+        String sql = "SELECT COUNT(*) FROM job_lease WHERE name = :name AND expires_at > NOW()";
+        Integer count = jdbcTemplate.queryForObject(sql, new MapSqlParameterSource()
+                .addValue("name", name), Integer.class);
+        return count != null && count > 0;
+    }
+
+    /**
+     * Fencing check inside the caller's transaction: succeeds only while {@code token} is the
+     * current token, and locks the lease row so it cannot change hands until that transaction
+     * commits or rolls back.
+     */
+    public boolean fence(String name, long token) {
+        String sql = "UPDATE job_lease SET updated_at = NOW() WHERE name = :name AND token = :token";
+        return jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("token", token)) > 0;
+    }
+}
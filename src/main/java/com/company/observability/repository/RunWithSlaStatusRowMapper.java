@@ -0,0 +1,70 @@
+package com.company.observability.repository;
+
+import com.company.observability.domain.RunWithSlaStatus;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static com.company.observability.repository.CalculatorRunRowMapper.nullableLong;
+import static com.company.observability.util.TimeUtils.fromTimestamp;
+
+/**
+ * Index-based mapper for the run-history projections ({@code findRunsWithSlaStatus},
+ * {@code findRunsByName} and their streaming forms). Ordinals are resolved once per result
+ * set, so the streaming queries' extra {@code pos} column is simply ignored. One instance
+ * per query: it is not thread-safe.
+ */
+public final class RunWithSlaStatusRowMapper implements RowMapper<RunWithSlaStatus> {
+
+    private ResultSet resolvedFor;
+    private int runId, calculatorId, calculatorName, reportingDate, startTime, endTime, durationMs;
+    private int slaTime, estimatedStartTime, frequency, status, slaBand, slaBreachReason;
+    private int correlationId, runNumber, expectedDurationMs;
+
+    @Override
+    public RunWithSlaStatus mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (rs != resolvedFor) {
+            resolveColumns(rs);
+        }
+        return new RunWithSlaStatus(
+                rs.getString(runId),
+                rs.getString(calculatorId),
+                rs.getString(calculatorName),
+                rs.getObject(reportingDate, LocalDate.class),
+                fromTimestamp(rs.getTimestamp(startTime)),
+                fromTimestamp(rs.getTimestamp(endTime)),
+                nullableLong(rs, durationMs),
+                fromTimestamp(rs.getTimestamp(slaTime)),
+                fromTimestamp(rs.getTimestamp(estimatedStartTime)),
+                EnumColumns.frequency(rs.getString(frequency)),
+                EnumColumns.runStatus(rs.getString(status)),
+                EnumColumns.slaBand(rs.getString(slaBand)),
+                rs.getString(slaBreachReason),
+                rs.getString(correlationId),
+                rs.getString(runNumber),
+                nullableLong(rs, expectedDurationMs)
+        );
+    }
+
+    private void resolveColumns(ResultSet rs) throws SQLException {
+        runId = rs.findColumn("run_id");
+        calculatorId = rs.findColumn("calculator_id");
+        calculatorName = rs.findColumn("calculator_name");
+        reportingDate = rs.findColumn("reporting_date");
+        startTime = rs.findColumn("start_time");
+        endTime = rs.findColumn("end_time");
+        durationMs = rs.findColumn("duration_ms");
+        slaTime = rs.findColumn("sla_time");
+        estimatedStartTime = rs.findColumn("estimated_start_time");
+        frequency = rs.findColumn("frequency");
+        status = rs.findColumn("status");
+        slaBand = rs.findColumn("sla_band");
+        slaBreachReason = rs.findColumn("sla_breach_reason");
+        correlationId = rs.findColumn("correlation_id");
+        runNumber = rs.findColumn("run_number");
+        expectedDurationMs = rs.findColumn("expected_duration_ms");
+        resolvedFor = rs;
+    }
+}
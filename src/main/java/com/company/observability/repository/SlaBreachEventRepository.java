@@ -14,6 +14,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.*;
 import java.time.Instant;
@@ -136,104 +137,115 @@ public class SlaBreachEventRepository {
     }
 
     /**
-     * Aggregated breach counts by sla_band (from calculator_runs) for analytics summary/trends.
-     * Bands: ON_TIME, LATE, VERY_LATE, plus FAILED for runs with terminal failure status.
+     * Breach counts for the analytics summary/trends over one {@code sla_breach_events} window.
+     *
+     * @param byBand         counts by sla_band of the breaching run (ON_TIME, LATE, VERY_LATE),
+     *                       or FAILED for runs with a terminal failure status
+     * @param byType         counts by breach_type (UNKNOWN when unset)
+     * @param worstBandByDay worst health per CET day: FAILED > VERY_LATE > LATE > ON_TIME
      */
-    public Map<String, Integer> countByBand(String calculatorId, int days) {
-        String sql = """
-            SELECT
-                CASE
-                    WHEN cr.status IN ('FAILED','TIMEOUT') THEN 'FAILED'
-                    WHEN cr.sla_band IS NOT NULL THEN cr.sla_band
-                    ELSE 'ON_TIME'
-                END AS band,
-                COUNT(*) AS cnt
-            FROM sla_breach_events sbe
-            JOIN calculator_runs cr ON cr.run_id = sbe.run_id
-            WHERE sbe.calculator_id = :calculatorId
-            AND sbe.created_at >= NOW() - CAST(:days AS INTEGER) * INTERVAL '1 day'
-            GROUP BY 1""";
-
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("calculatorId", calculatorId)
-                .addValue("days", days);
-
-        Map<String, Integer> result = new HashMap<>();
-        Timer.Sample sample = Timer.start(meterRegistry);
-        jdbcTemplate.query(sql, params, (RowMapper<Void>) (rs, rowNum) -> {
-            result.put(rs.getString("band"), ((Number) rs.getObject("cnt")).intValue());
-            return null;
-        });
-        sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", "count_by_band").register(meterRegistry));
-        return result;
-    }
+    public record BreachRollup(Map<String, Integer> byBand,
+                               Map<String, Integer> byType,
+                               Map<LocalDate, String> worstBandByDay) {}
 
     /**
-     * Aggregated breach counts by breach_type for analytics summary.
+     * By-band, by-type and worst-band-per-day rollups in one pass over the window, using
+     * {@code GROUPING SETS}. Breaches whose run is no longer in {@code calculator_runs} count
+     * toward {@code byType} only, as they would under an inner join for the run-derived sets.
      */
-    public Map<String, Integer> countByType(String calculatorId, int days) {
-        String sql = """
-            SELECT COALESCE(breach_type, 'UNKNOWN') AS breach_type, COUNT(*) AS cnt
-            FROM sla_breach_events
-            """ + BASE_WHERE + """
-
-            GROUP BY COALESCE(breach_type, 'UNKNOWN')""";
-
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("calculatorId", calculatorId)
-                .addValue("days", days);
-
-        Map<String, Integer> result = new HashMap<>();
-        jdbcTemplate.query(sql, params, (RowMapper<Void>) (rs, rowNum) -> {
-            result.put(rs.getString("breach_type"), ((Number) rs.getObject("cnt")).intValue());
-            return null;
-        });
-        return result;
+    @Transactional(readOnly = true)
+    public BreachRollup summarizeBreaches(String calculatorId, int days) {
+        return summarize(List.of(calculatorId), days, "summarize_breaches")
+                .getOrDefault(calculatorId, emptyRollup());
     }
 
     /**
-     * Worst health rank per CET day.
-     * Rank: failure (4) > VERY_LATE (3) > LATE (2) > ON_TIME (1).
-     * Returns the band/status name for the worst-ranked day.
+     * {@link #summarizeBreaches(String, int)} for every id in one statement: the grouping sets
+     * are keyed by {@code calculator_id} as well, and the ids are bound as a single array. Every
+     * requested id is present in the result, with empty maps when it had no breaches.
      */
-    public Map<LocalDate, String> findWorstDayHealthByDay(String calculatorId, int days) {
+    @Transactional(readOnly = true)
+    public Map<String, BreachRollup> summarizeBreaches(Collection<String> calculatorIds, int days) {
+        if (calculatorIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, BreachRollup> rollups = summarize(calculatorIds, days, "summarize_breaches_batch");
+        for (String calculatorId : calculatorIds) {
+            rollups.computeIfAbsent(calculatorId, id -> emptyRollup());
+        }
+        return rollups;
+    }
+
+    private Map<String, BreachRollup> summarize(Collection<String> calculatorIds, int days, String query) {
         String sql = """
-            SELECT (sbe.created_at AT TIME ZONE 'Europe/Amsterdam')::DATE AS day_cet,
-                   MAX(
-                       GREATEST(
-                           CASE WHEN cr.status IN ('FAILED','TIMEOUT') THEN 4 ELSE 0 END,
-                           CASE cr.sla_band
-                               WHEN 'VERY_LATE' THEN 3
-                               WHEN 'LATE'      THEN 2
-                               WHEN 'ON_TIME'   THEN 1
-                               ELSE 1
-                           END
-                       )
-                   ) AS worst_rank
-            FROM sla_breach_events sbe
-            JOIN calculator_runs cr ON cr.run_id = sbe.run_id
-            WHERE sbe.calculator_id = :calculatorId
-            AND sbe.created_at >= NOW() - CAST(:days AS INTEGER) * INTERVAL '1 day'
-            GROUP BY (sbe.created_at AT TIME ZONE 'Europe/Amsterdam')::DATE""";
+            WITH breaches AS (
+                SELECT sbe.calculator_id,
+                       COALESCE(sbe.breach_type, 'UNKNOWN') AS breach_type,
+                       (sbe.created_at AT TIME ZONE 'Europe/Amsterdam')::DATE AS day_cet,
+                       CASE
+                           WHEN cr.run_id IS NULL THEN NULL
+                           WHEN cr.status IN ('FAILED','TIMEOUT') THEN 'FAILED'
+                           WHEN cr.sla_band IS NOT NULL THEN cr.sla_band
+                           ELSE 'ON_TIME'
+                       END AS band,
+                       CASE
+                           WHEN cr.run_id IS NULL THEN NULL
+                           ELSE GREATEST(
+                               CASE WHEN cr.status IN ('FAILED','TIMEOUT') THEN 4 ELSE 0 END,
+                               CASE cr.sla_band
+                                   WHEN 'VERY_LATE' THEN 3
+                                   WHEN 'LATE'      THEN 2
+                                   ELSE 1
+                               END)
+                       END AS health_rank
+                FROM sla_breach_events sbe
+                LEFT JOIN calculator_runs cr ON cr.run_id = sbe.run_id
+                WHERE sbe.calculator_id = ANY(CAST(:calculatorIds AS text[]))
+                AND sbe.created_at >= NOW() - CAST(:days AS INTEGER) * INTERVAL '1 day'
+            )
+            SELECT calculator_id, GROUPING(band) AS g_band, GROUPING(breach_type) AS g_type,
+                   band, breach_type, day_cet,
+                   COUNT(*) AS cnt, MAX(health_rank) AS worst_rank
+            FROM breaches
+            GROUP BY GROUPING SETS ((calculator_id, band), (calculator_id, breach_type),
+                                   (calculator_id, day_cet))""";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("calculatorId", calculatorId)
+                .addValue("calculatorIds", calculatorIds.toArray(String[]::new))
                 .addValue("days", days);
 
-        Map<LocalDate, String> result = new HashMap<>();
-        jdbcTemplate.query(sql, params, (RowMapper<Void>) (rs, rowNum) -> {
-            LocalDate day = rs.getObject("day_cet", LocalDate.class);
-            int rank = ((Number) rs.getObject("worst_rank")).intValue();
-            result.put(day, bandFromRank(rank));
-            return null;
+        Map<String, BreachRollup> rollups = new HashMap<>();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        jdbcTemplate.query(sql, params, rs -> {
+            BreachRollup rollup = rollups.computeIfAbsent(rs.getString("calculator_id"), id -> emptyRollup());
+            int count = rs.getInt("cnt");
+            if (rs.getInt("g_band") == 0) {
+                String band = rs.getString("band");
+                if (band != null) {
+                    rollup.byBand().put(band, count);
+                }
+            } else if (rs.getInt("g_type") == 0) {
+                rollup.byType().put(rs.getString("breach_type"), count);
+            } else {
+                int worstRank = rs.getInt("worst_rank");
+                if (!rs.wasNull()) {
+                    rollup.worstBandByDay().put(rs.getObject("day_cet", LocalDate.class), bandFromRank(worstRank));
+                }
+            }
         });
-        return result;
+        sample.stop(Timer.builder(DB_QUERY_DURATION).tag("query", query).register(meterRegistry));
+        return rollups;
+    }
+
+    private static BreachRollup emptyRollup() {
+        return new BreachRollup(new HashMap<>(), new HashMap<>(), new HashMap<>());
     }
 
     /**
      * Find breaches with offset pagination and optional band filter.
      * band parameter maps to cr.sla_band (ON_TIME/LATE/VERY_LATE) or 'FAILED' for terminal failures.
      */
+    @Transactional(readOnly = true)
     public List<SlaBreachEvent> findByCalculatorIdPaginated(
             String calculatorId, int days,
             String band, int offset, int limit) {
@@ -272,6 +284,7 @@ public class SlaBreachEventRepository {
     /**
      * Keyset pagination for SLA breach history (stable on created_at, breach_id).
      */
+    @Transactional(readOnly = true)
     public List<SlaBreachEvent> findByCalculatorIdKeyset(
             String calculatorId, int days, String band,
             Instant cursorCreatedAt, Long cursorBreachId, int limit) {
@@ -316,6 +329,7 @@ public class SlaBreachEventRepository {
     /**
      * Count breaches with optional band filter.
      */
+    @Transactional(readOnly = true)
     public long countByCalculatorIdAndPeriod(String calculatorId, int days, String band) {
         boolean hasBand = band != null && !band.isBlank();
 
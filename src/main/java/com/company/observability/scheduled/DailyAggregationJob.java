@@ -1,11 +1,14 @@
 package com.company.observability.scheduled;
 
 import com.company.observability.config.AggregationProperties;
+import com.company.observability.config.JobCoordinationProperties;
 import com.company.observability.config.SlaProperties;
 import com.company.observability.domain.CalculatorProfile;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.repository.DailyAggregateRepository;
 import com.company.observability.service.CalculatorProfileService;
+import com.company.observability.service.coordination.JobLeaseService;
+import com.company.observability.service.coordination.JobLeaseService.Completion;
 import com.company.observability.util.MdcContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -16,11 +19,16 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Nightly end-of-day aggregation. Replaces the former per-completion aggregate write:
@@ -30,6 +38,13 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>Warm the {@link CalculatorProfileService} cache for all active calculators so run-start
  *       baselines and estimated start/end are served from Redis without a DB query.</li>
  * </ol>
+ *
+ * <p>Across replicas the recompute runs once per day, on whichever replica wins the
+ * {@value #RECOMPUTE_JOB} lease, and its write is fenced by the lease token. Warming is split into
+ * one shard per frequency and tier; every replica claims shards once the recompute has completed,
+ * so the shards are spread over the live replicas. A replica that lost the recompute does not
+ * hold a scheduler thread while it runs elsewhere: {@link #warmWhenRecomputed()} re-checks on a
+ * short tick and warms once it has completed, or retries the recompute if its holder failed.
  */
 @Component
 @Slf4j
@@ -45,10 +60,21 @@ public class DailyAggregationJob {
     private final CalculatorProfileService calculatorProfileService;
     private final AggregationProperties aggregationProperties;
     private final SlaProperties slaProperties;
+    private final JobLeaseService jobLeases;
+    private final JobCoordinationProperties jobProperties;
     private final MeterRegistry meterRegistry;
 
+    static final String RECOMPUTE_JOB = "daily-aggregation";
+    static final String WARM_JOB = "profile-warm";
+
+    private static final String[] WARM_TIERS = {"blended", "run_number", "dimension"};
+
+    /** A run whose warming waits for another replica's recompute, and when the wait began. */
+    private record PendingWarm(String runKey, Instant since) {}
+
     private final AtomicLong lastRecomputedRows = new AtomicLong(0L);
     private final AtomicLong lastProfilesWarmed = new AtomicLong(0L);
+    private final AtomicReference<PendingWarm> pendingWarm = new AtomicReference<>();
 
     @PostConstruct
     void registerGauges() {
@@ -58,20 +84,76 @@ public class DailyAggregationJob {
 
     @Scheduled(cron = "${observability.aggregation.daily.cron:0 30 0 * * *}")
     public void runDailyAggregation() {
+        run(LocalDate.now(ZoneOffset.UTC).toString());
+    }
+
+    /**
+     * Manual re-run (maintenance endpoint): a run key of its own, so it is not skipped as already
+     * completed for the day. Still fenced against a concurrent recompute; this replica warms every shard.
+     */
+    public void runDailyAggregationNow() {
+        run(LocalDate.now(ZoneOffset.UTC) + "#manual-" + System.currentTimeMillis());
+    }
+
+    /**
+     * Warms the pending run once another replica's recompute has completed, or gives it up after
+     * {@code shard-wait-seconds}. If the recompute's lease is free without the run having completed
+     * (its holder failed and released it, or died), this replica tries the recompute itself. At most
+     * two lease-table reads per tick, and only while a run is pending.
+     */
+    @Scheduled(fixedDelayString = "${observability.jobs.shard-poll-ms:5000}")
+    public void warmWhenRecomputed() {
+        PendingWarm pending = pendingWarm.get();
+        if (pending == null) {
+            return;
+        }
+        Completion completion = jobLeases.checkCompletion(RECOMPUTE_JOB, pending.runKey(), pending.since());
+        if (completion == Completion.PENDING || !pendingWarm.compareAndSet(pending, null)) {
+            return;
+        }
+        if (completion == Completion.RELEASED) {
+            log.info("event=aggregation.daily outcome=retry reason=recompute_released runKey={}", pending.runKey());
+            run(pending.runKey(), true, pending.since());
+        } else if (completion == Completion.COMPLETED) {
+            run(pending.runKey(), false, null);
+        } else {
+            log.warn("event=aggregation.daily outcome=skipped reason=recompute_not_completed runKey={}", pending.runKey());
+            meterRegistry.counter("obs.aggregation.execution", "result", "skipped").increment();
+        }
+    }
+
+    private void run(String runKey) {
+        run(runKey, true, null);
+    }
+
+    /**
+     * @param recompute    whether to try for the recompute lease first; {@code false} once another
+     *                     replica has completed the recompute
+     * @param waitingSince when this replica began waiting for the recompute, kept across retries so
+     *                     the {@code shard-wait-seconds} limit still applies; {@code null} on the first try
+     */
+    private void run(String runKey, boolean recompute, Instant waitingSince) {
         Map<String, String> snapshot = MdcContextUtil.setJobContext("daily-aggregation");
         Timer.Sample sample = Timer.start(meterRegistry);
         try {
             LocalDate today = LocalDate.now(ZoneOffset.UTC);
             LocalDate from = today.minusDays(aggregationProperties.getRecomputeWindowDays());
+            Duration ttl = Duration.ofSeconds(jobProperties.getBatchLeaseTtlSeconds());
 
-            int rows = dailyAggregateRepository.recomputeForDateRange(from, today);
-            lastRecomputedRows.set(rows);
+            boolean recomputed = recompute && jobLeases.runOnce(RECOMPUTE_JOB, runKey, ttl, lease -> lastRecomputedRows.set(
+                    jobLeases.fenced(lease, () -> dailyAggregateRepository.recomputeForDateRange(from, today))));
+            if (recompute && !recomputed) {
+                // Running or done on another replica; the next warmWhenRecomputed tick picks it up
+                pendingWarm.set(new PendingWarm(runKey, waitingSince != null ? waitingSince : Instant.now()));
+                log.info("event=aggregation.daily outcome=pending reason=recompute_elsewhere runKey={}", runKey);
+                return;
+            }
 
-            long warmed = warmProfiles();
+            long warmed = jobLeases.runShards(WARM_JOB, runKey, warmShards(), ttl, this::warmShard);
             lastProfilesWarmed.set(warmed);
 
-            log.info("event=aggregation.daily outcome=success from={} to={} rowsRecomputed={} profilesWarmed={}",
-                    from, today, rows, warmed);
+            log.info("event=aggregation.daily outcome=success from={} to={} recomputedHere={} rowsRecomputed={} profilesWarmed={}",
+                    from, today, recomputed, recomputed ? lastRecomputedRows.get() : 0, warmed);
             meterRegistry.counter("obs.aggregation.execution", "result", "success").increment();
         } catch (Exception e) {
             log.error("event=aggregation.daily outcome=failure", e);
@@ -82,35 +164,56 @@ public class DailyAggregationJob {
         }
     }
 
-    private long warmProfiles() {
-        long count = 0;
+    /** One warming shard per frequency and tier: {@code DAILY.blended}, {@code DAILY.run_number}, … */
+    private static List<String> warmShards() {
+        List<String> shards = new ArrayList<>();
         for (Frequency frequency : Frequency.values()) {
-            int lookback = slaProperties.lookbackDays(frequency);
-
-            // Warm blended (cross-run_number) profiles — backward-compat key obs:profile:{name}:{freq}
-            List<CalculatorProfile> blended = dailyAggregateRepository.findAllProfiles(
-                    frequency.name(), lookback);
-            for (CalculatorProfile profile : blended) {
-                calculatorProfileService.warm(profile);
-                count++;
+            for (String tier : WARM_TIERS) {
+                shards.add(frequency.name() + "." + tier);
             }
+        }
+        return shards;
+    }
 
-            // Warm run_number-scoped profiles — key obs:profile:{name}:{freq}:{runNumber}
-            List<CalculatorProfile> scoped = dailyAggregateRepository.findAllProfilesByRunNumber(
-                    frequency.name(), lookback);
-            for (CalculatorProfile profile : scoped) {
-                calculatorProfileService.warm(profile);
-                count++;
-            }
+    /**
+     * Warms one profile tier straight from a cursor over {@code calculator_sli_daily}: each
+     * row is written to the cache as it is read, so heap use does not grow with the number of
+     * calculators. A failed scan fails the shard, so {@link JobLeaseService#runShards} releases it
+     * for another replica instead of marking it complete; the remaining shards still run.
+     */
+    private long warmShard(String shard) {
+        Frequency frequency = Frequency.valueOf(shard.substring(0, shard.indexOf('.')));
+        String tier = shard.substring(shard.indexOf('.') + 1);
+        int lookback = slaProperties.lookbackDays(frequency);
+        return switch (tier) {
+            // Blended (cross-run_number) profiles — backward-compat key obs:profile:{name}:{freq}
+            case "blended" -> warmTier(tier, frequency, lookback, dailyAggregateRepository::streamAllProfiles);
+            // run_number-scoped profiles — key obs:profile:{name}:{freq}:{runNumber}
+            case "run_number" -> warmTier(tier, frequency, lookback,
+                    dailyAggregateRepository::streamAllProfilesByRunNumber);
+            // Dimension-scoped profiles — key obs:profile:{name}:{freq}:{runNumber|*}:{dim}
+            default -> warmTier(tier, frequency, lookback,
+                    dailyAggregateRepository::streamAllProfilesByRunNumberAndDimension);
+        };
+    }
+
+    @FunctionalInterface
+    private interface ProfileScan {
+        int stream(String frequency, int days, Consumer<CalculatorProfile> sink);
+    }
 
-            // Warm dimension-scoped profiles — key obs:profile:{name}:{freq}:{runNumber|*}:{dim}
-            List<CalculatorProfile> dimScoped = dailyAggregateRepository.findAllProfilesByRunNumberAndDimension(
-                    frequency.name(), lookback);
-            for (CalculatorProfile profile : dimScoped) {
+    private int warmTier(String tier, Frequency frequency, int lookback, ProfileScan scan) {
+        int[] warmed = {0};
+        try {
+            scan.stream(frequency.name(), lookback, profile -> {
                 calculatorProfileService.warm(profile);
-                count++;
-            }
+                warmed[0]++;
+            });
+        } catch (RuntimeException e) {
+            log.warn("event=aggregation.warm outcome=failure tier={} frequency={} profilesWarmed={} error={}",
+                    tier, frequency, warmed[0], e.getMessage());
+            throw e;
         }
-        return count;
+        return warmed[0];
     }
 }
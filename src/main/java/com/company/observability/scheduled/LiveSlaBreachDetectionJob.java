@@ -1,6 +1,7 @@
 package com.company.observability.scheduled;
 
 import com.company.observability.cache.SlaMonitoringCache;
+import com.company.observability.config.JobCoordinationProperties;
 import com.company.observability.config.SlaProperties;
 import com.company.observability.domain.CalculatorRun;
 import com.company.observability.domain.enums.RunStatus;
@@ -9,6 +10,7 @@ import com.company.observability.event.SlaBreachedEvent;
 import com.company.observability.logging.LifecycleEvent;
 import com.company.observability.logging.LifecycleLogger;
 import com.company.observability.repository.CalculatorRunRepository;
+import com.company.observability.service.coordination.JobLeaseService;
 import com.company.observability.util.MdcContextUtil;
 import com.company.observability.domain.SlaEvaluationResult;
 
@@ -38,6 +40,7 @@ import static com.company.observability.util.ObservabilityConstants.*;
  * LIVE SLA BREACH DETECTION (every 15 seconds)
  * Checks Redis sorted set for runs past SLA deadline
  * Much faster than database polling, near real-time detection
+ * Runs on one replica at a time: the holder of the job lease (see {@link JobLeaseService#lead})
  */
 @Component
 @Slf4j
@@ -55,13 +58,21 @@ public class LiveSlaBreachDetectionJob {
     private final MeterRegistry meterRegistry;
     private final LifecycleLogger lifecycleLogger;
     private final SlaProperties slaProperties;
+    private final JobLeaseService jobLeases;
+    private final JobCoordinationProperties jobProperties;
     private final AtomicInteger approachingRunsGauge = new AtomicInteger(0);
     private final AtomicInteger lastBreachesGauge = new AtomicInteger(0);
     private final AtomicLong activeRunsGauge = new AtomicLong(0L);
 
+    static final String DETECTION_JOB = "sla-live-detection";
+    static final String EARLY_WARNING_JOB = "sla-early-warning";
+
     @Value("${observability.sla.live-detection.interval-ms:15000}")
     private long detectionIntervalMs;
 
+    @Value("${observability.sla.early-warning.interval-ms:60000}")
+    private long earlyWarningIntervalMs;
+
     @PostConstruct
     void registerGauges() {
         meterRegistry.gauge(SLA_APPROACHING_COUNT, approachingRunsGauge);
@@ -79,6 +90,9 @@ public class LiveSlaBreachDetectionJob {
     )
     @Transactional
     public void detectLiveSlaBreaches() {
+        if (!jobLeases.lead(DETECTION_JOB, leaderTtl(detectionIntervalMs))) {
+            return;
+        }
         Map<String, String> snapshot = MdcContextUtil.setJobContext("live-sla-detection");
         Timer.Sample sample = Timer.start(meterRegistry);
 
@@ -184,6 +198,9 @@ public class LiveSlaBreachDetectionJob {
             initialDelayString = "30000"
     )
     public void detectApproachingSla() {
+        if (!jobLeases.lead(EARLY_WARNING_JOB, leaderTtl(earlyWarningIntervalMs))) {
+            return;
+        }
         Map<String, String> snapshot = MdcContextUtil.setJobContext("sla-early-warning");
 
         try {
@@ -209,6 +226,10 @@ public class LiveSlaBreachDetectionJob {
         }
     }
 
+    private Duration leaderTtl(long intervalMs) {
+        return Duration.ofMillis(intervalMs * jobProperties.getLeaderLeaseIntervals());
+    }
+
     private String buildBreachReason(CalculatorRun run) {
         long delayMinutes = Duration.between(run.getSlaTime(), Instant.now()).toMinutes();
         return String.format(
@@ -1,5 +1,7 @@
 package com.company.observability.scheduled;
 
+import com.company.observability.config.JobCoordinationProperties;
+import com.company.observability.service.coordination.JobLeaseService;
 import com.company.observability.util.MdcContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,9 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
@@ -28,8 +33,12 @@ import static com.company.observability.util.ObservabilityConstants.*;
 public class PartitionManagementJob {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JobLeaseService jobLeases;
+    private final JobCoordinationProperties jobProperties;
     private final MeterRegistry meterRegistry;
 
+    static final String MONITOR_JOB = "partition-monitor";
+
     private final AtomicLong totalRowsGauge = new AtomicLong(0L);
     private final AtomicLong dailyRowsGauge = new AtomicLong(0L);
     private final AtomicLong monthlyRowsGauge = new AtomicLong(0L);
@@ -48,43 +57,51 @@ public class PartitionManagementJob {
         Map<String, String> snapshot = MdcContextUtil.setJobContext("partition-monitor");
 
         try {
-            log.info("event=partition.monitor outcome=success phase=initiated");
+            // One replica per day; the gauges below are only refreshed on that replica
+            boolean ran = jobLeases.runOnce(MONITOR_JOB, LocalDate.now(ZoneOffset.UTC).toString(),
+                    Duration.ofSeconds(jobProperties.getBatchLeaseTtlSeconds()), lease -> collectStatistics());
+            if (!ran) {
+                log.debug("event=partition.monitor outcome=skipped reason=lease_held");
+            }
+        } catch (Exception e) {
+            log.error("event=partition.monitor outcome=failure", e);
+            meterRegistry.counter(PARTITION_MONITOR_FAILURE).increment();
+        } finally {
+            MdcContextUtil.restoreContext(snapshot);
+        }
+    }
 
-            List<Map<String, Object>> stats = jdbcTemplate.queryForList(
-                    "SELECT * FROM get_partition_statistics() ORDER BY partition_date DESC LIMIT 30",
-                    EmptySqlParameterSource.INSTANCE
-            );
+    private void collectStatistics() {
+        log.info("event=partition.monitor outcome=success phase=initiated");
 
-            long totalRows = 0;
-            long dailyRows = 0;
-            long monthlyRows = 0;
+        List<Map<String, Object>> stats = jdbcTemplate.queryForList(
+                "SELECT * FROM get_partition_statistics() ORDER BY partition_date DESC LIMIT 30",
+                EmptySqlParameterSource.INSTANCE
+        );
 
-            for (Map<String, Object> stat : stats) {
-                Long rowCount = ((Number) stat.get("row_count")).longValue();
-                Long daily = ((Number) stat.get("daily_runs")).longValue();
-                Long monthly = ((Number) stat.get("monthly_runs")).longValue();
+        long totalRows = 0;
+        long dailyRows = 0;
+        long monthlyRows = 0;
 
-                totalRows += rowCount;
-                dailyRows += daily;
-                monthlyRows += monthly;
+        for (Map<String, Object> stat : stats) {
+            Long rowCount = ((Number) stat.get("row_count")).longValue();
+            Long daily = ((Number) stat.get("daily_runs")).longValue();
+            Long monthly = ((Number) stat.get("monthly_runs")).longValue();
 
-                log.debug("event=partition.monitor.detail partition={} rows={} daily={} monthly={} size={}",
-                        stat.get("partition_name"), rowCount, daily, monthly, stat.get("total_size"));
-            }
+            totalRows += rowCount;
+            dailyRows += daily;
+            monthlyRows += monthly;
 
-            totalRowsGauge.set(totalRows);
-            dailyRowsGauge.set(dailyRows);
-            monthlyRowsGauge.set(monthlyRows);
-            partitionCountGauge.set(stats.size());
+            log.debug("event=partition.monitor.detail partition={} rows={} daily={} monthly={} size={}",
+                    stat.get("partition_name"), rowCount, daily, monthly, stat.get("total_size"));
+        }
 
-            log.info("event=partition.monitor outcome=success partitions={} totalRows={} dailyRows={} monthlyRows={}",
-                    stats.size(), totalRows, dailyRows, monthlyRows);
+        totalRowsGauge.set(totalRows);
+        dailyRowsGauge.set(dailyRows);
+        monthlyRowsGauge.set(monthlyRows);
+        partitionCountGauge.set(stats.size());
 
-        } catch (Exception e) {
-            log.error("event=partition.monitor outcome=failure", e);
-            meterRegistry.counter(PARTITION_MONITOR_FAILURE).increment();
-        } finally {
-            MdcContextUtil.restoreContext(snapshot);
-        }
+        log.info("event=partition.monitor outcome=success partitions={} totalRows={} dailyRows={} monthlyRows={}",
+                stats.size(), totalRows, dailyRows, monthlyRows);
     }
 }
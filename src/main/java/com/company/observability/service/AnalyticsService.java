@@ -1,7 +1,10 @@
 package com.company.observability.service;
 
 import com.company.observability.cache.AnalyticsCacheService;
+import com.company.observability.config.AnalyticsProperties;
 import com.company.observability.config.SlaProperties;
+import com.company.observability.datasource.BulkheadContext;
+import com.company.observability.datasource.ReadYourWrites;
 import com.company.observability.domain.CalculatorProfile;
 import com.company.observability.domain.DailyAggregate;
 import com.company.observability.domain.RunWithSlaStatus;
@@ -12,25 +15,46 @@ import com.company.observability.domain.enums.SlaBand;
 import com.company.observability.dto.enums.SlaStatus;
 import com.company.observability.dto.response.*;
 import com.company.observability.service.projection.LogicalRunGrouper;
+import com.company.observability.service.projection.RunPerformanceJsonWriter;
+import com.company.observability.service.projection.RunPerformanceTotals;
 import com.company.observability.repository.CalculatorRunRepository;
 import com.company.observability.repository.DailyAggregateRepository;
 import com.company.observability.repository.SlaBreachEventRepository;
+import com.company.observability.repository.SlaBreachEventRepository.BreachRollup;
+import com.company.observability.service.projection.ResponseTarget;
+import com.company.observability.util.GzipTeeOutputStream;
+import com.company.observability.util.GzipUtils;
+import com.company.observability.util.WireFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AnalyticsService {
 
@@ -41,13 +65,65 @@ public class AnalyticsService {
     private final CalculatorProfileService calculatorProfileService;
     private final SlaProperties slaProperties;
     private final CalculatorNameResolver nameResolver;
+    private final ObjectMapper objectMapper;
+    private final AnalyticsProperties analyticsProperties;
+    private final Executor queryExecutor;
+
+    private volatile ObjectMapper cborMapper;
+
+    public AnalyticsService(DailyAggregateRepository dailyAggregateRepository,
+                            SlaBreachEventRepository slaBreachEventRepository,
+                            CalculatorRunRepository calculatorRunRepository,
+                            AnalyticsCacheService cacheService,
+                            CalculatorProfileService calculatorProfileService,
+                            SlaProperties slaProperties,
+                            CalculatorNameResolver nameResolver,
+                            ObjectMapper objectMapper,
+                            AnalyticsProperties analyticsProperties,
+                            @Qualifier("queryExecutor") Executor queryExecutor) {
+        this.dailyAggregateRepository = dailyAggregateRepository;
+        this.slaBreachEventRepository = slaBreachEventRepository;
+        this.calculatorRunRepository = calculatorRunRepository;
+        this.cacheService = cacheService;
+        this.calculatorProfileService = calculatorProfileService;
+        this.slaProperties = slaProperties;
+        this.nameResolver = nameResolver;
+        this.objectMapper = objectMapper;
+        this.analyticsProperties = analyticsProperties;
+        this.queryExecutor = queryExecutor;
+    }
 
-    private static final String CACHE_RUNTIME = "runtime";
+    public static final String CACHE_RUNTIME = "runtime";
     private static final String CACHE_SLA_CORE = "sla-core";
-    private static final String CACHE_SLA_SUMMARY = "sla-summary";
-    private static final String CACHE_TRENDS = "trends";
-    private static final String CACHE_RUN_PERF = "run-perf";
-    private static final String CACHE_EXECUTIONS = "executions";
+    public static final String CACHE_SLA_SUMMARY = "sla-summary";
+    public static final String CACHE_TRENDS = "trends";
+    public static final String CACHE_RUN_PERF = "run-perf";
+    public static final String CACHE_EXECUTIONS = "executions";
+    public static final String CACHE_CARD = "card";
+    /** Not cached — only a version scope; breach details change on every {@code all} bump. */
+    public static final String CACHE_SLA_BREACHES = "sla-breaches";
+
+    /**
+     * Analytics windows are relative to today and partly fed by the aggregation job, neither of
+     * which bumps a generation, so version tokens also roll over on the analytics cache TTL.
+     */
+    static final Duration VERSION_WINDOW = Duration.ofMinutes(5);
+
+    // ================================================================
+    // Change versions (ETags)
+    // ================================================================
+
+    /**
+     * Version token for one analytics view of a calculator (id, name or alias), or {@code null}
+     * when it cannot be read. Changes whenever a cached response of that view would be superseded.
+     */
+    public String getChangeVersion(String view, String calculatorKey) {
+        String generation = cacheService.currentGeneration(view, calculatorKey);
+        if (generation == null) {
+            return null;
+        }
+        return generation + ";w" + Instant.now().getEpochSecond() / VERSION_WINDOW.getSeconds();
+    }
 
     // ================================================================
     // Runtime Analytics
@@ -61,8 +137,7 @@ public class AnalyticsService {
                 RuntimeAnalyticsResponse.class);
         if (cached != null) return cached;
 
-        List<DailyAggregate> aggregates = dailyAggregateRepository
-                .findRecentAggregates(calculatorId, days);
+        List<DailyAggregate> aggregates = fromPrimary(() -> recentAggregates(calculatorId, days));
 
         RuntimeAnalyticsResponse response = buildRuntimeResponse(
                 calculatorId, days, frequency, aggregates);
@@ -200,6 +275,266 @@ public class AnalyticsService {
         return new TrendAnalyticsResponse(calculatorId, days, trends);
     }
 
+    // ================================================================
+    // Performance card (composite)
+    // ================================================================
+
+    /**
+     * The {@code /runtime}, {@code /sla-summary}, {@code /trends} and {@code /executions}
+     * documents for one calculator key in a single payload. On a miss the three underlying
+     * reads — daily aggregates, the breach rollup and the window's runs — are issued once and
+     * concurrently, and all four documents are built from them: the summary and trends share one
+     * {@link SlaCoreData}. The whole card is cached as one entry.
+     */
+    public CalculatorCardResponse getCalculatorCard(
+            String calculatorName, int days, Frequency frequency, String runNumber,
+            LocalDate asOfDate) {
+
+        String rn = (runNumber == null || runNumber.isBlank()) ? null : runNumber;
+
+        CalculatorCardResponse cached = cacheService.getFromCache(
+                CACHE_CARD, calculatorName, frequency.name(), days, rn,
+                asOfDate, CalculatorCardResponse.class);
+        if (cached != null) return cached;
+
+        CalculatorCardResponse response;
+        var prevWrites = ReadYourWrites.enterPrimary();
+        try {
+            CompletableFuture<BreachRollup> rollupFuture = supplyConcurrently(
+                    () -> breachRollup(calculatorName, days));
+            CompletableFuture<RunPerformanceData> executionsFuture = supplyConcurrently(
+                    () -> loadRunExecutionsByName(calculatorName, days, frequency, rn, asOfDate));
+            List<DailyAggregate> aggregates = recentAggregates(calculatorName, days);
+            SlaCoreData coreData = buildSlaCoreData(aggregates, join(rollupFuture));
+
+            response = new CalculatorCardResponse(
+                    calculatorName, days, frequency.name(),
+                    buildRuntimeResponse(calculatorName, days, frequency, aggregates),
+                    buildSlaSummaryResponse(calculatorName, days, coreData),
+                    buildTrendResponse(calculatorName, days, coreData),
+                    join(executionsFuture));
+        } finally {
+            ReadYourWrites.restore(prevWrites);
+        }
+
+        cacheService.putInCache(CACHE_CARD, calculatorName, frequency.name(), days, rn, asOfDate, response);
+        return response;
+    }
+
+    // ================================================================
+    // Batch (fleet overview)
+    // ================================================================
+
+    /**
+     * {@link #getRuntimeAnalytics} for many calculator keys. Cached documents come back in one
+     * {@code MGET}; the misses share one set-based aggregate query and are written back to the
+     * same per-calculator entries the single-key endpoint reads. Keyed in request order; an alias
+     * key covers all of its real calculators, as it does on the single-key endpoint.
+     */
+    public Map<String, RuntimeAnalyticsResponse> getRuntimeAnalyticsBatch(
+            Collection<String> calculatorIds, int days, Frequency frequency) {
+
+        Set<String> keys = new LinkedHashSet<>(calculatorIds);
+        Map<String, RuntimeAnalyticsResponse> cached = cacheService.getAllFromCache(
+                CACHE_RUNTIME, keys, frequency.name(), days, RuntimeAnalyticsResponse.class);
+        List<String> misses = missing(keys, cached);
+
+        Map<String, RuntimeAnalyticsResponse> built = new HashMap<>();
+        if (!misses.isEmpty()) {
+            Map<String, List<DailyAggregate>> aggregatesByKey =
+                    fromPrimary(() -> recentAggregates(nameResolver.resolveAll(misses), days));
+            for (String calculatorId : misses) {
+                built.put(calculatorId, buildRuntimeResponse(calculatorId, days, frequency,
+                        aggregatesByKey.get(calculatorId)));
+            }
+            cacheService.putAllInCache(CACHE_RUNTIME, built, frequency.name(), days,
+                    RuntimeAnalyticsResponse.class);
+        }
+        return inRequestOrder(keys, cached, built);
+    }
+
+    /** {@link #getSlaSummary} for many calculator keys; see {@link #getRuntimeAnalyticsBatch}. */
+    public Map<String, SlaSummaryResponse> getSlaSummaryBatch(Collection<String> calculatorIds, int days) {
+        Set<String> keys = new LinkedHashSet<>(calculatorIds);
+        Map<String, SlaSummaryResponse> cached = cacheService.getAllFromCache(
+                CACHE_SLA_SUMMARY, keys, days, SlaSummaryResponse.class);
+        List<String> misses = missing(keys, cached);
+
+        Map<String, SlaSummaryResponse> built = new HashMap<>();
+        if (!misses.isEmpty()) {
+            getSlaCoreDataBatch(misses, days).forEach((calculatorId, coreData) ->
+                    built.put(calculatorId, buildSlaSummaryResponse(calculatorId, days, coreData)));
+            cacheService.putAllInCache(CACHE_SLA_SUMMARY, built, days, SlaSummaryResponse.class);
+        }
+        return inRequestOrder(keys, cached, built);
+    }
+
+    /** {@link #getTrends} for many calculator keys; see {@link #getRuntimeAnalyticsBatch}. */
+    public Map<String, TrendAnalyticsResponse> getTrendsBatch(Collection<String> calculatorIds, int days) {
+        Set<String> keys = new LinkedHashSet<>(calculatorIds);
+        Map<String, TrendAnalyticsResponse> cached = cacheService.getAllFromCache(
+                CACHE_TRENDS, keys, days, TrendAnalyticsResponse.class);
+        List<String> misses = missing(keys, cached);
+
+        Map<String, TrendAnalyticsResponse> built = new HashMap<>();
+        if (!misses.isEmpty()) {
+            getSlaCoreDataBatch(misses, days).forEach((calculatorId, coreData) ->
+                    built.put(calculatorId, buildTrendResponse(calculatorId, days, coreData)));
+            cacheService.putAllInCache(CACHE_TRENDS, built, days, TrendAnalyticsResponse.class);
+        }
+        return inRequestOrder(keys, cached, built);
+    }
+
+    /**
+     * {@link #getSlaCoreData} for many keys: cached core data in one {@code MGET}, then one
+     * breach-rollup query and one aggregate query for the rest, overlapped as in the single path.
+     */
+    private Map<String, SlaCoreData> getSlaCoreDataBatch(List<String> calculatorIds, int days) {
+        Map<String, SlaCoreData> coreData = new HashMap<>(cacheService.getAllFromCache(
+                CACHE_SLA_CORE, calculatorIds, days, SlaCoreData.class));
+        List<String> misses = missing(calculatorIds, coreData);
+        if (misses.isEmpty()) {
+            return coreData;
+        }
+
+        Map<String, List<String>> realNamesByKey = nameResolver.resolveAll(misses);
+        Map<String, List<DailyAggregate>> aggregatesByKey;
+        Map<String, BreachRollup> rollups;
+        var prevWrites = ReadYourWrites.enterPrimary();
+        try {
+            CompletableFuture<Map<String, BreachRollup>> rollupsFuture = supplyConcurrently(
+                    () -> breachRollups(realNamesByKey, days));
+            aggregatesByKey = recentAggregates(realNamesByKey, days);
+            rollups = join(rollupsFuture);
+        } finally {
+            ReadYourWrites.restore(prevWrites);
+        }
+
+        Map<String, SlaCoreData> built = new HashMap<>();
+        for (String calculatorId : misses) {
+            built.put(calculatorId, buildSlaCoreData(aggregatesByKey.get(calculatorId), rollups.get(calculatorId)));
+        }
+        cacheService.putAllInCache(CACHE_SLA_CORE, built, days, SlaCoreData.class);
+        coreData.putAll(built);
+        return coreData;
+    }
+
+    // ================================================================
+    // Alias expansion
+    // ================================================================
+
+    /**
+     * Daily aggregates of one calculator key. An alias reads all of its real calculators and
+     * sums them per reporting date; the aggregates carry sums, so the merged averages are exact.
+     */
+    private List<DailyAggregate> recentAggregates(String calculatorKey, int days) {
+        List<String> realNames = nameResolver.resolve(calculatorKey);
+        if (realNames.size() == 1) {
+            return dailyAggregateRepository.findRecentAggregates(realNames.get(0), days);
+        }
+        return mergeAggregates(calculatorKey, realNames,
+                dailyAggregateRepository.findRecentAggregatesByNames(realNames, days));
+    }
+
+    /** {@link #recentAggregates(String, int)} for many keys in one set-based query; every key is present. */
+    private Map<String, List<DailyAggregate>> recentAggregates(Map<String, List<String>> realNamesByKey, int days) {
+        Map<String, List<DailyAggregate>> byName =
+                dailyAggregateRepository.findRecentAggregatesByNames(distinctRealNames(realNamesByKey), days);
+        Map<String, List<DailyAggregate>> byKey = new HashMap<>();
+        realNamesByKey.forEach((key, realNames) -> byKey.put(key, mergeAggregates(key, realNames, byName)));
+        return byKey;
+    }
+
+    /** Breach rollup of one calculator key; an alias merges the rollups of its real calculators. */
+    private BreachRollup breachRollup(String calculatorKey, int days) {
+        List<String> realNames = nameResolver.resolve(calculatorKey);
+        if (realNames.size() == 1) {
+            return slaBreachEventRepository.summarizeBreaches(realNames.get(0), days);
+        }
+        return mergeRollups(realNames, slaBreachEventRepository.summarizeBreaches(realNames, days));
+    }
+
+    /** {@link #breachRollup(String, int)} for many keys in one set-based query; every key is present. */
+    private Map<String, BreachRollup> breachRollups(Map<String, List<String>> realNamesByKey, int days) {
+        Map<String, BreachRollup> byName =
+                slaBreachEventRepository.summarizeBreaches(distinctRealNames(realNamesByKey), days);
+        Map<String, BreachRollup> byKey = new HashMap<>();
+        realNamesByKey.forEach((key, realNames) -> byKey.put(key, mergeRollups(realNames, byName)));
+        return byKey;
+    }
+
+    private static List<String> distinctRealNames(Map<String, List<String>> realNamesByKey) {
+        return realNamesByKey.values().stream()
+                .flatMap(Collection::stream)
+                .distinct()
+                .toList();
+    }
+
+    private static List<DailyAggregate> mergeAggregates(String calculatorKey, List<String> realNames,
+                                                        Map<String, List<DailyAggregate>> byName) {
+        if (realNames.size() == 1) {
+            return byName.getOrDefault(realNames.get(0), List.of());
+        }
+        Map<LocalDate, DailyAggregate> byDate = new TreeMap<>(Comparator.reverseOrder());
+        for (String realName : realNames) {
+            for (DailyAggregate agg : byName.getOrDefault(realName, List.of())) {
+                byDate.merge(agg.reportingDate(), agg, (a, b) -> new DailyAggregate(
+                        calculatorKey, a.reportingDate(),
+                        a.totalRuns() + b.totalRuns(),
+                        a.successRuns() + b.successRuns(),
+                        a.slaBreaches() + b.slaBreaches(),
+                        a.sumDurationMs() + b.sumDurationMs(),
+                        a.sumStartMinUtc() + b.sumStartMinUtc(),
+                        a.sumEndMinUtc() + b.sumEndMinUtc(),
+                        latest(a.computedAt(), b.computedAt())));
+            }
+        }
+        return new ArrayList<>(byDate.values());
+    }
+
+    private static BreachRollup mergeRollups(List<String> realNames, Map<String, BreachRollup> byName) {
+        if (realNames.size() == 1) {
+            return byName.get(realNames.get(0));
+        }
+        BreachRollup merged = new BreachRollup(new HashMap<>(), new HashMap<>(), new HashMap<>());
+        for (String realName : realNames) {
+            BreachRollup rollup = byName.get(realName);
+            rollup.byBand().forEach((band, count) -> merged.byBand().merge(band, count, Integer::sum));
+            rollup.byType().forEach((type, count) -> merged.byType().merge(type, count, Integer::sum));
+            rollup.worstBandByDay().forEach((day, band) -> merged.worstBandByDay().merge(day, band,
+                    (a, b) -> BAND_SEVERITY.indexOf(a) >= BAND_SEVERITY.indexOf(b) ? a : b));
+        }
+        return merged;
+    }
+
+    /** Worst-band order of {@link BreachRollup#worstBandByDay()}, mildest first. */
+    private static final List<String> BAND_SEVERITY = List.of("ON_TIME", "LATE", "VERY_LATE", "FAILED");
+
+    private static Instant latest(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static List<String> missing(Collection<String> keys, Map<String, ?> hits) {
+        List<String> misses = new ArrayList<>(keys.size() - hits.size());
+        for (String key : keys) {
+            if (!hits.containsKey(key)) {
+                misses.add(key);
+            }
+        }
+        return misses;
+    }
+
+    private static <T> Map<String, T> inRequestOrder(Set<String> keys, Map<String, T> cached, Map<String, T> built) {
+        Map<String, T> ordered = new LinkedHashMap<>();
+        for (String key : keys) {
+            T value = cached.get(key);
+            ordered.put(key, value != null ? value : built.get(key));
+        }
+        return ordered;
+    }
+
     // ================================================================
     // SLA Breach Details (paginated, no caching)
     // ================================================================
@@ -267,8 +602,8 @@ public class AnalyticsService {
                 RunPerformanceData.class);
         if (cached != null) return cached;
 
-        List<RunWithSlaStatus> runs = calculatorRunRepository
-                .findRunsWithSlaStatus(calculatorId, frequency, days);
+        List<RunWithSlaStatus> runs = fromPrimary(() -> calculatorRunRepository
+                .findRunsWithSlaStatus(calculatorId, frequency, days));
 
         RunPerformanceData response = buildRunPerformanceData(
                 calculatorId, days, frequency, runs);
@@ -294,68 +629,47 @@ public class AnalyticsService {
 
         RunWithSlaStatus latestRaw = runs.get(runs.size() - 1);
 
-        long totalDuration = 0;
-        int completedCount = 0;
-        int terminalRuns = 0;
-        int runningRuns = 0;
-        int slaMetCount = 0, lateCount = 0, veryLateCount = 0;
-
-        List<RunPerformanceData.RunDataPoint> dataPoints = new ArrayList<>();
-
+        RunPerformanceTotals totals = new RunPerformanceTotals();
+        List<RunPerformanceData.RunDataPoint> dataPoints = new ArrayList<>(logicalRuns.size());
         for (LogicalRunGrouper.LogicalRun lr : logicalRuns) {
-            boolean isRunning = RunStatus.RUNNING.name().equals(lr.status());
-
-            if (isRunning) {
-                runningRuns++;
-            } else {
-                terminalRuns++;
-            }
-
-            if (!isRunning && lr.wallClockDurationMs() != null && lr.wallClockDurationMs() > 0) {
-                totalDuration += lr.wallClockDurationMs();
-                completedCount++;
-            }
-
-            if (!isRunning) {
-                if ("ON_TIME".equals(lr.slaStatus())) slaMetCount++;
-                else if ("LATE".equals(lr.slaStatus())) lateCount++;
-                else if ("VERY_LATE".equals(lr.slaStatus())) veryLateCount++;
-            }
-
-            dataPoints.add(new RunPerformanceData.RunDataPoint(
-                    lr.runId(),
-                    lr.reportingDate(),
-                    lr.startTime(),
-                    lr.endTime(),
-                    lr.wallClockDurationMs(),
-                    lr.status(),
-                    lr.slaStatus(),   // slaBand — ON_TIME / LATE / VERY_LATE from LogicalRun
-                    lr.slaStatus(),
-                    lr.subRunIds(),
-                    lr.estimatedStartTime(),
-                    lr.slaTime(),
-                    lr.runNumber(),
-                    lr.expectedDurationMs()));
+            RunPerformanceData.RunDataPoint dp = toPerformanceDataPoint(lr);
+            totals.add(dp);
+            dataPoints.add(dp);
         }
 
-        long meanDuration = completedCount > 0 ? totalDuration / completedCount : 0;
-
         return new RunPerformanceData(
                 calculatorId,
                 latestRaw.calculatorName(),
                 frequency.name(),
                 days,
-                meanDuration,
-                terminalRuns,
-                runningRuns,
-                slaMetCount,
-                lateCount,
-                veryLateCount,
+                totals.meanDurationMs(),
+                totals.terminalRuns(),
+                totals.runningRuns(),
+                totals.slaMetCount(),
+                totals.lateCount(),
+                totals.veryLateCount(),
                 dataPoints,
                 latestRaw.estimatedStartTime(),
                 latestRaw.slaTime());
     }
 
+    private RunPerformanceData.RunDataPoint toPerformanceDataPoint(LogicalRunGrouper.LogicalRun lr) {
+        return new RunPerformanceData.RunDataPoint(
+                lr.runId(),
+                lr.reportingDate(),
+                lr.startTime(),
+                lr.endTime(),
+                lr.wallClockDurationMs(),
+                lr.status(),
+                lr.slaStatus(),   // slaBand — ON_TIME / LATE / VERY_LATE from LogicalRun
+                lr.slaStatus(),
+                lr.subRunIds(),
+                lr.estimatedStartTime(),
+                lr.slaTime(),
+                lr.runNumber(),
+                lr.expectedDurationMs());
+    }
+
     // ================================================================
     // Run Executions (raw, no grouping)
     // ================================================================
@@ -396,21 +710,27 @@ public class AnalyticsService {
             return cached;
         }
 
+        RunPerformanceData response = loadRunExecutionsByName(calculatorName, days, frequency, rn, asOfDate);
+        cacheService.putInCache(CACHE_EXECUTIONS, calculatorName, frequency.name(), days, rn, asOfDate, response);
+        return response;
+    }
+
+    private RunPerformanceData loadRunExecutionsByName(
+            String calculatorName, int days, Frequency frequency, String rn, LocalDate asOfDate) {
+
         // Expand alias to real DB calculator_name values; unknown names pass through unchanged
         List<String> realNames = nameResolver.resolve(calculatorName);
 
         log.debug("event=executions.db_fetch outcome=start calculatorName={} realNames={} frequency={} days={} runNumber={} asOfDate={}",
                 calculatorName, realNames, frequency, days, rn, asOfDate);
 
-        List<RunWithSlaStatus> rawRuns = realNames.stream()
+        List<RunWithSlaStatus> rawRuns = fromPrimary(() -> realNames.stream()
                 .flatMap(name -> calculatorRunRepository.findRunsByName(name, frequency, days, rn, asOfDate).stream())
                 .sorted(Comparator.comparing(RunWithSlaStatus::reportingDate)
                         .thenComparing(RunWithSlaStatus::startTime, Comparator.nullsFirst(Comparator.naturalOrder())))
-                .toList();
+                .toList());
 
-        RunPerformanceData response = buildExecutionsResponse(calculatorName, rawRuns, days, frequency);
-        cacheService.putInCache(CACHE_EXECUTIONS, calculatorName, frequency.name(), days, rn, asOfDate, response);
-        return response;
+        return buildExecutionsResponse(calculatorName, rawRuns, days, frequency);
     }
 
     private RunPerformanceData buildExecutionsResponse(
@@ -427,30 +747,31 @@ public class AnalyticsService {
         }
 
         List<RunPerformanceData.RunDataPoint> dataPoints = rawRuns.stream()
-                .map(run -> {
-                    String slaStatus = classifySlaStatusForRun(run);
-                    boolean isRunning = run.status() == RunStatus.RUNNING;
-                    return new RunPerformanceData.RunDataPoint(
-                            run.runId(),
-                            run.reportingDate(),
-                            run.startTime(),
-                            isRunning ? null : run.endTime(),
-                            isRunning ? null : run.durationMs(),
-                            run.status().name(),
-                            run.slaBand() != null ? run.slaBand().name() : null,
-                            slaStatus,
-                            null,
-                            run.estimatedStartTime(),
-                            run.slaTime(),
-                            run.runNumber(),
-                            run.expectedDurationMs()
-                    );
-                })
+                .map(this::toExecutionDataPoint)
                 .toList();
 
         return buildRunPerformanceDataEnvelope(calculatorKey, rawRuns, dataPoints, days, frequency);
     }
 
+    private RunPerformanceData.RunDataPoint toExecutionDataPoint(RunWithSlaStatus run) {
+        boolean isRunning = run.status() == RunStatus.RUNNING;
+        return new RunPerformanceData.RunDataPoint(
+                run.runId(),
+                run.reportingDate(),
+                run.startTime(),
+                isRunning ? null : run.endTime(),
+                isRunning ? null : run.durationMs(),
+                run.status().name(),
+                run.slaBand() != null ? run.slaBand().name() : null,
+                classifySlaStatusForRun(run),
+                null,
+                run.estimatedStartTime(),
+                run.slaTime(),
+                run.runNumber(),
+                run.expectedDurationMs()
+        );
+    }
+
     private RunPerformanceData buildRunPerformanceDataEnvelope(
             String calculatorId,
             List<RunWithSlaStatus> rawRuns,
@@ -460,31 +781,8 @@ public class AnalyticsService {
 
         RunWithSlaStatus latestRaw = rawRuns.get(rawRuns.size() - 1);
 
-        long totalDuration = 0;
-        int completedCount = 0;
-        int terminalRuns = 0;
-        int runningRuns = 0;
-        int slaMetCount = 0, lateCount = 0, veryLateCount = 0;
-
-        for (RunPerformanceData.RunDataPoint dp : dataPoints) {
-            boolean isRunning = RunStatus.RUNNING.name().equals(dp.status());
-            if (isRunning) {
-                runningRuns++;
-            } else {
-                terminalRuns++;
-            }
-            if (!isRunning && dp.durationMs() != null && dp.durationMs() > 0) {
-                totalDuration += dp.durationMs();
-                completedCount++;
-            }
-            if (!isRunning) {
-                if ("ON_TIME".equals(dp.slaStatus())) slaMetCount++;
-                else if ("LATE".equals(dp.slaStatus())) lateCount++;
-                else if ("VERY_LATE".equals(dp.slaStatus())) veryLateCount++;
-            }
-        }
-
-        long meanDuration = completedCount > 0 ? totalDuration / completedCount : 0;
+        RunPerformanceTotals totals = new RunPerformanceTotals();
+        dataPoints.forEach(totals::add);
 
         ReferenceLines refLines = resolveReferenceLines(latestRaw, frequency);
 
@@ -493,17 +791,178 @@ public class AnalyticsService {
                 latestRaw.calculatorName(),
                 frequency.name(),
                 days,
-                meanDuration,
-                terminalRuns,
-                runningRuns,
-                slaMetCount,
-                lateCount,
-                veryLateCount,
+                totals.meanDurationMs(),
+                totals.terminalRuns(),
+                totals.runningRuns(),
+                totals.slaMetCount(),
+                totals.lateCount(),
+                totals.veryLateCount(),
                 dataPoints,
                 refLines.estimatedStartTime(),
                 refLines.slaTime());
     }
 
+    // ================================================================
+    // Streamed variants (long windows)
+    // ================================================================
+
+    /** Whether a lookback window is long enough to stream rather than materialise. */
+    public boolean isStreamingWindow(int days) {
+        return days >= analyticsProperties.getStreamingMinDays();
+    }
+
+    /**
+     * Streamed form of {@link #getRunPerformanceData}: the same document, written to the target
+     * as rows arrive from the database. Only the current logical run and the running totals are
+     * held. A cache hit is sent as stored (see {@link #writeCached}); a JSON miss is gzipped
+     * into the analytics cache as it streams, when it fits.
+     */
+    public void streamRunPerformanceData(
+            String calculatorId, int days, Frequency frequency, ResponseTarget target) throws IOException {
+
+        byte[] cached = cacheService.getCompressedFromCache(CACHE_RUN_PERF, calculatorId, frequency.name(), days);
+        if (cached != null) {
+            writeCached(cached, target);
+            return;
+        }
+
+        byte[] gzipJson = streamDocument(target, writer -> {
+            LogicalRunGrouper.ContiguousGrouper grouper =
+                    LogicalRunGrouper.contiguous(lr -> writer.write(toPerformanceDataPoint(lr)));
+            RunWithSlaStatus latestRaw = calculatorRunRepository.streamRunsWithSlaStatus(
+                    calculatorId, frequency, days, grouper);
+            grouper.finish();
+
+            writer.finish(calculatorId,
+                    latestRaw != null ? latestRaw.calculatorName() : null,
+                    frequency.name(), days,
+                    latestRaw != null ? latestRaw.estimatedStartTime() : null,
+                    latestRaw != null ? latestRaw.slaTime() : null);
+
+            log.debug("event=run_perf.stream outcome=complete calculatorId={} frequency={} days={} format={} runs={}",
+                    calculatorId, frequency, days, target.format(),
+                    writer.totals().terminalRuns() + writer.totals().runningRuns());
+        });
+
+        if (gzipJson != null) {
+            cacheService.putCompressedInCache(CACHE_RUN_PERF, calculatorId, frequency.name(), days, gzipJson);
+        }
+    }
+
+    /**
+     * Streamed form of {@link #getRunExecutionsByName}: one query across all names the alias
+     * resolves to, each row written to the target as it arrives. Reference lines depend on the
+     * latest run, which is why the envelope follows the {@code runs} array.
+     */
+    public void streamRunExecutionsByName(
+            String calculatorName, int days, Frequency frequency, String runNumber,
+            LocalDate asOfDate, ResponseTarget target) throws IOException {
+
+        String rn = (runNumber == null || runNumber.isBlank()) ? null : runNumber;
+
+        byte[] cached = cacheService.getCompressedFromCache(
+                CACHE_EXECUTIONS, calculatorName, frequency.name(), days, rn, asOfDate);
+        if (cached != null) {
+            log.debug("event=executions.cache outcome=hit calculatorName={} frequency={} days={} runNumber={} asOfDate={}",
+                    calculatorName, frequency, days, rn, asOfDate);
+            writeCached(cached, target);
+            return;
+        }
+
+        List<String> realNames = nameResolver.resolve(calculatorName);
+
+        byte[] gzipJson = streamDocument(target, writer -> {
+            RunWithSlaStatus latestRaw = calculatorRunRepository.streamRunsByNames(
+                    realNames, frequency, days, rn, asOfDate, run -> writer.write(toExecutionDataPoint(run)));
+
+            ReferenceLines refLines = latestRaw != null
+                    ? resolveReferenceLines(latestRaw, frequency)
+                    : new ReferenceLines(null, null);
+            writer.finish(calculatorName,
+                    latestRaw != null ? latestRaw.calculatorName() : null,
+                    frequency.name(), days,
+                    refLines.estimatedStartTime(), refLines.slaTime());
+
+            log.debug("event=executions.stream outcome=complete calculatorName={} realNames={} frequency={} days={} runNumber={} asOfDate={} format={} runs={}",
+                    calculatorName, realNames, frequency, days, rn, asOfDate, target.format(),
+                    writer.totals().terminalRuns() + writer.totals().runningRuns());
+        });
+
+        if (gzipJson != null) {
+            cacheService.putCompressedInCache(CACHE_EXECUTIONS, calculatorName, frequency.name(), days, rn, asOfDate, gzipJson);
+        }
+    }
+
+    @FunctionalInterface
+    private interface DocumentBody {
+        void write(RunPerformanceJsonWriter writer) throws IOException;
+    }
+
+    /**
+     * Runs {@code body} against a writer in the target's format. JSON output is teed into a
+     * gzip buffer for the cache; CBOR is not cached (the cache holds the JSON form only).
+     *
+     * @return the gzipped document, or {@code null} when not cacheable
+     */
+    private byte[] streamDocument(ResponseTarget target, DocumentBody body) throws IOException {
+        OutputStream out = target.open(false);
+        GzipTeeOutputStream tee = target.format() == WireFormat.JSON
+                ? new GzipTeeOutputStream(out, analyticsProperties.getStreamingCacheMaxBytes())
+                : null;
+        RunPerformanceJsonWriter writer = new RunPerformanceJsonWriter(
+                mapperFor(target.format()), tee != null ? tee : out);
+        // Cached under the current generation, like every other fill (see fromPrimary)
+        var prevWrites = ReadYourWrites.enterPrimary();
+        try {
+            body.write(writer);
+            return tee != null ? tee.finishCopy() : null;
+        } catch (UncheckedIOException e) {
+            // Row callbacks surface write failures (e.g. client gone) unchecked
+            throw e.getCause();
+        } finally {
+            ReadYourWrites.restore(prevWrites);
+            if (tee != null) {
+                tee.close();
+            }
+        }
+    }
+
+    /**
+     * Sends a cached (gzipped JSON) document in the negotiated form: as stored when the client
+     * accepts gzip, decompressed otherwise, or transcoded token by token to CBOR — never by
+     * rebuilding the {@code RunPerformanceData}.
+     */
+    private void writeCached(byte[] gzipJson, ResponseTarget target) throws IOException {
+        if (target.format() == WireFormat.JSON) {
+            if (target.acceptsGzip()) {
+                target.open(true).write(gzipJson);
+            } else {
+                GzipUtils.gunzipTo(gzipJson, target.open(false));
+            }
+            return;
+        }
+        try (InputStream in = GzipUtils.gunzipStream(gzipJson);
+             JsonParser parser = objectMapper.createParser(in);
+             JsonGenerator gen = mapperFor(target.format()).createGenerator(target.open(false))) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            parser.nextToken();
+            gen.copyCurrentStructure(parser);
+        }
+    }
+
+    private ObjectMapper mapperFor(WireFormat format) {
+        if (format == WireFormat.JSON) {
+            return objectMapper;
+        }
+        ObjectMapper mapper = cborMapper;
+        if (mapper == null) {
+            // Same modules and features as the JSON mapper; created once, its serializer cache is reused
+            mapper = objectMapper.copyWith(new CBORFactory());
+            cborMapper = mapper;
+        }
+        return mapper;
+    }
+
     /**
      * Chart reference lines for the executions/performance-card view. Sourced from the cached
      * profile (stable "typical" start + buffered deadline) when it has enough samples; otherwise
@@ -545,7 +1004,7 @@ public class AnalyticsService {
 
     /**
      * Per-day classification for trends/summary (GREEN / AMBER / RED).
-     * worstBand is one of: FAILED, VERY_LATE, LATE, ON_TIME (from findWorstDayHealthByDay).
+     * worstBand is one of: FAILED, VERY_LATE, LATE, ON_TIME (from summarizeBreaches).
      */
     private String classifyDay(DailyAggregate agg, String worstBand) {
         if (worstBand == null || agg.slaBreaches() == 0) {
@@ -562,29 +1021,73 @@ public class AnalyticsService {
             return cached;
         }
 
-        List<DailyAggregate> aggregates = dailyAggregateRepository
-                .findRecentAggregates(calculatorId, days);
-        Map<String, Integer> byBand = slaBreachEventRepository
-                .countByBand(calculatorId, days);
-        Map<String, Integer> byType = slaBreachEventRepository
-                .countByType(calculatorId, days);
-        Map<LocalDate, String> worstBandByDay = slaBreachEventRepository
-                .findWorstDayHealthByDay(calculatorId, days);
+        SlaCoreData coreData;
+        var prevWrites = ReadYourWrites.enterPrimary();
+        try {
+            // The breach rollup and the daily aggregates are independent reads: overlap them
+            CompletableFuture<BreachRollup> rollupFuture = supplyConcurrently(
+                    () -> breachRollup(calculatorId, days));
+            List<DailyAggregate> aggregates = recentAggregates(calculatorId, days);
+            coreData = buildSlaCoreData(aggregates, join(rollupFuture));
+        } finally {
+            ReadYourWrites.restore(prevWrites);
+        }
+
+        cacheService.putInCache(CACHE_SLA_CORE, calculatorId, days, coreData);
+        return coreData;
+    }
 
-        int totalBreaches = byBand.values().stream()
+    private static SlaCoreData buildSlaCoreData(List<DailyAggregate> aggregates, BreachRollup rollup) {
+        int totalBreaches = rollup.byBand().values().stream()
                 .mapToInt(Integer::intValue)
                 .sum();
 
-        SlaCoreData coreData = SlaCoreData.builder()
+        return SlaCoreData.builder()
                 .aggregates(aggregates)
-                .breachesByBand(byBand)
-                .breachesByType(byType)
-                .worstBandByDay(worstBandByDay)
+                .breachesByBand(rollup.byBand())
+                .breachesByType(rollup.byType())
+                .worstBandByDay(rollup.worstBandByDay())
                 .totalBreaches(totalBreaches)
                 .build();
+    }
 
-        cacheService.putInCache(CACHE_SLA_CORE, calculatorId, days, coreData);
-        return coreData;
+    /**
+     * Runs {@code query} on the query executor, in the caller's bulkhead, or inline when the executor
+     * is saturated.
+     */
+    private <T> CompletableFuture<T> supplyConcurrently(Supplier<T> query) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    BulkheadContext.propagate(ReadYourWrites.propagate(query)), queryExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("event=analytics.concurrent_read outcome=rejected fallback=inline");
+            return CompletableFuture.completedFuture(query.get());
+        }
+    }
+
+    /**
+     * Runs a cache-miss load on the primary. The result is cached under the calculator's current
+     * generation, which can already count a write that a lagging replica has not replayed; a
+     * replica's answer would then be served as current until the next write.
+     */
+    private static <T> T fromPrimary(Supplier<T> load) {
+        var prevWrites = ReadYourWrites.enterPrimary();
+        try {
+            return load.get();
+        } finally {
+            ReadYourWrites.restore(prevWrites);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
     }
 
     private String mapBandToTrafficLight(String band) {
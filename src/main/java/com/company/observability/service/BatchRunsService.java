@@ -0,0 +1,83 @@
+package com.company.observability.service;
+
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the per-key {@link CalculatorEntry} map served by {@code /batch/runs}: collapsed run state
+ * of every real calculator, re-grouped under the requested alias and padded to its declared
+ * expected runs. Shared by the endpoint and the run-update stream so a pushed entry is exactly
+ * what a reload would show.
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchRunsService {
+
+    private final CalculatorStateService calculatorStateService;
+    private final ExpectedRunsService expectedRunsService;
+
+    /**
+     * @param aliasToRealNames requested keys → real calculator names, as returned by
+     *                         {@link CalculatorNameResolver#resolveAll}
+     * @param versions         change versions by real name, or {@code null} to read the
+     *                         current state straight from the database
+     */
+    public Map<String, CalculatorEntry> getEntries(Map<String, List<String>> aliasToRealNames,
+                                                   LocalDate reportingDate, Frequency frequency,
+                                                   String runNumber, Map<String, Long> versions) {
+        List<String> allRealNames = aliasToRealNames.values().stream()
+                .flatMap(Collection::stream)
+                .distinct()
+                .toList();
+
+        Map<String, CalculatorEntry> byRealName =
+                calculatorStateService.getState(reportingDate, frequency, runNumber, allRealNames, versions);
+
+        // Re-group by alias: merge entries from all real names under each alias key
+        Map<String, CalculatorEntry> calculators = aliasToRealNames.entrySet().stream().collect(Collectors.toMap(
+                Map.Entry::getKey,
+                e -> mergeEntries(e.getKey(), e.getValue(), byRealName),
+                (a, b) -> a,
+                LinkedHashMap::new
+        ));
+
+        // Pad each configured alias to its full declared set of expected runs
+        return expectedRunsService.padToExpected(calculators, reportingDate, frequency, runNumber);
+    }
+
+    private CalculatorEntry mergeEntries(String alias, List<String> realNames,
+                                         Map<String, CalculatorEntry> byRealName) {
+        List<CalculatorEntry> parts = realNames.stream()
+                .map(byRealName::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (parts.isEmpty()) {
+            return new CalculatorEntry(alias, null, List.of());
+        }
+        if (parts.size() == 1) {
+            CalculatorEntry single = parts.get(0);
+            return new CalculatorEntry(alias, single.calculatorId(), single.runs());
+        }
+
+        // Multi: merge runs; calculatorId only when all real calculators agree (unusual)
+        Set<String> ids = parts.stream()
+                .map(CalculatorEntry::calculatorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        String mergedId = ids.size() == 1 ? ids.iterator().next() : null;
+
+        List<RunEntry> allRuns = parts.stream()
+                .flatMap(e -> e.runs().stream())
+                .toList();
+
+        return new CalculatorEntry(alias, mergedId, allRuns);
+    }
+}
@@ -4,11 +4,14 @@ import com.company.observability.domain.CalculatorRun;
 import com.company.observability.cache.RedisCalculatorCache;
 import com.company.observability.event.*;
 import com.company.observability.repository.CalculatorRunRepository;
+import com.company.observability.service.live.RunChange;
+import com.company.observability.service.live.RunChangeProcessor;
 import com.company.observability.util.MdcContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -22,6 +25,10 @@ import static com.company.observability.util.ObservabilityConstants.*;
 /**
  * GT Enhancement: Automatically warm Redis cache when calculator runs complete
  * This ensures the next UI poll gets immediate cache hit instead of database query
+ *
+ * <p>With the change feed enabled, the feed's consumer group drives this through
+ * {@link #process} — once per change, retried until the evictions succeed — and the transaction
+ * listeners, which only fire on the replica that handled the write, stand down.
  */
 @Service
 @Slf4j
@@ -31,18 +38,24 @@ import static com.company.observability.util.ObservabilityConstants.*;
         havingValue = "true",
         matchIfMissing = true
 )
-public class CacheWarmingService {
+public class CacheWarmingService implements RunChangeProcessor {
 
     private final RedisCalculatorCache redisCache;
     private final CalculatorRunRepository runRepository;
     private final MeterRegistry meterRegistry;
 
+    @Value("${observability.change-feed.enabled:true}")
+    private boolean changeFeedEnabled;
+
     /**
      * When run starts, invalidate cache so status shows RUNNING immediately
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async
     public void onRunStarted(RunStartedEvent event) {
+        if (changeFeedEnabled) {
+            return;
+        }
         CalculatorRun run = event.getRun();
         Map<String, String> snapshot = MdcContextUtil.setCalculatorContext(run.getCalculatorId(), "-");
         try {
@@ -59,6 +72,9 @@ public class CacheWarmingService {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async
     public void onRunCompleted(RunCompletedEvent event) {
+        if (changeFeedEnabled) {
+            return;
+        }
         CalculatorRun run = event.getRun();
         Map<String, String> snapshot = MdcContextUtil.setCalculatorContext(run.getCalculatorId(), "-");
         try {
@@ -75,6 +91,9 @@ public class CacheWarmingService {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async
     public void onSlaBreached(SlaBreachedEvent event) {
+        if (changeFeedEnabled) {
+            return;
+        }
         CalculatorRun run = event.getRun();
         Map<String, String> snapshot = MdcContextUtil.setCalculatorContext(run.getCalculatorId(), "-");
         try {
@@ -85,19 +104,39 @@ public class CacheWarmingService {
         }
     }
 
+    /**
+     * Feed-driven counterpart of the listeners above. A breach evicts rather than patching the
+     * cached run, since the feed carries the run without its JSONB maps.
+     */
+    @Override
+    public boolean process(RunChange change) {
+        CalculatorRun run = change.run();
+        Map<String, String> snapshot = MdcContextUtil.setCalculatorContext(run.getCalculatorId(), "-");
+        try {
+            boolean evicted = evictCacheForRun(run);
+            if (evicted && RunChange.COMPLETED.equals(change.type())) {
+                warmCacheForRun(run);
+            }
+            return evicted;
+        } finally {
+            MdcContextUtil.restoreContext(snapshot);
+        }
+    }
+
     /**
      * Invalidate cache entries for a calculator
      */
-    private void evictCacheForRun(CalculatorRun run) {
+    private boolean evictCacheForRun(CalculatorRun run) {
         String calculatorId = run.getCalculatorId();
         var frequency = run.getFrequency();
 
         log.debug("event=cache.evict outcome=success freq={}", frequency);
 
         // Evict response caches for this calculator+frequency
-        redisCache.evictStatusResponse(calculatorId, frequency);
+        boolean statusEvicted = redisCache.evictStatusResponse(calculatorId, frequency);
         // Evict recent runs ZSET for this frequency
-        redisCache.evictRecentRuns(calculatorId, frequency);
+        boolean runsEvicted = redisCache.evictRecentRuns(calculatorId, frequency);
+        return statusEvicted && runsEvicted;
     }
 
     /**
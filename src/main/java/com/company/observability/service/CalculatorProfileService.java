@@ -1,18 +1,29 @@
 package com.company.observability.service;
 
+import com.company.observability.cache.CacheCodec;
+import com.company.observability.cache.CacheRegion;
+import com.company.observability.cache.TieredCache;
 import com.company.observability.config.AggregationProperties;
 import com.company.observability.config.SlaProperties;
 import com.company.observability.domain.CalculatorProfile;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.repository.DailyAggregateRepository;
+import com.company.observability.repository.DailyAggregateRepository.ProfileScope;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Cache-aside access to slowly-changing {@link CalculatorProfile}s (avg runtime, avg start/end).
@@ -21,38 +32,70 @@ import java.time.Duration;
  * read once from {@code calculator_sli_daily} and cached. This removes the per-run-start DB
  * query that the SLA baseline and estimated start/end previously incurred.
  *
- * <p>Resilient like {@code AnalyticsCacheService}: Redis failures degrade to a DB read and
- * never throw.
+ * <p>Backed by the {@code profile} {@link TieredCache} region (5 min on-heap tier over Redis), so
+ * concurrent misses for one key share a single DB read. Resilient like
+ * {@code AnalyticsCacheService}: Redis failures degrade to a DB read and never throw.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CalculatorProfileService {
 
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
     private final DailyAggregateRepository dailyAggregateRepository;
     private final SlaProperties slaProperties;
     private final AggregationProperties aggregationProperties;
     private final MeterRegistry meterRegistry;
+    private final TieredCache<CalculatorProfile> cache;
 
     private static final String PROFILE_PREFIX = "obs:profile:";
 
+    /** Profiles only change when the nightly job re-warms them — a 5 min heap copy is safe. */
+    static final CacheRegion REGION = CacheRegion.withL1("profile", Duration.ofMinutes(5), 10_000);
+
+    /**
+     * One profile lookup for {@link #getProfiles}. {@code runNumber} and {@code dimensionValue} are
+     * optional scopes, with the same meaning as in {@link #getProfile(String, Frequency, String, String)}.
+     */
+    public record ProfileKey(String calculatorName, Frequency frequency, String runNumber, String dimensionValue) {
+
+        /** Next level of the fallback chain (dimension → run_number → blended); {@code null} after blended. */
+        ProfileKey fallback() {
+            if (dimensionValue != null) {
+                return new ProfileKey(calculatorName, frequency, runNumber, null);
+            }
+            if (runNumber != null) {
+                return new ProfileKey(calculatorName, frequency, null, null);
+            }
+            return null;
+        }
+    }
+
+    public CalculatorProfileService(StringRedisTemplate redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    DailyAggregateRepository dailyAggregateRepository,
+                                    SlaProperties slaProperties,
+                                    AggregationProperties aggregationProperties,
+                                    MeterRegistry meterRegistry) {
+        this.dailyAggregateRepository = dailyAggregateRepository;
+        this.slaProperties = slaProperties;
+        this.aggregationProperties = aggregationProperties;
+        this.meterRegistry = meterRegistry;
+        this.cache = new TieredCache<>(REGION, CacheCodec.json(objectMapper, CalculatorProfile.class),
+                this::ttlFor, redisTemplate, meterRegistry);
+    }
+
     /** Cache-aside read. Never throws; falls back to a DB read (and a zero-sample profile on error). */
     public CalculatorProfile getProfile(String calculatorName, Frequency frequency) {
         String key = key(calculatorName, frequency, null, null);
 
-        CalculatorProfile cached = readFromCache(key);
+        CalculatorProfile cached = cache.get(key);
         if (cached != null) {
             meterRegistry.counter("obs.profile.cache", "result", "hit").increment();
             return cached;
         }
         meterRegistry.counter("obs.profile.cache", "result", "miss").increment();
 
-        CalculatorProfile profile = dailyAggregateRepository.findProfile(
-                calculatorName, frequency.name(), slaProperties.lookbackDays(frequency));
-        writeToCache(key, profile);
-        return profile;
+        return cache.load(key, () -> dailyAggregateRepository.findProfile(
+                calculatorName, frequency.name(), slaProperties.lookbackDays(frequency)), this::ttlFor);
     }
 
     /**
@@ -69,18 +112,18 @@ public class CalculatorProfileService {
         }
         String key = key(calculatorName, frequency, runNumber, null);
 
-        CalculatorProfile cached = readFromCache(key);
+        CalculatorProfile cached = cache.get(key);
         if (cached != null) {
             meterRegistry.counter("obs.profile.cache", "result", "hit", "scoped", "true").increment();
             return cached;
         }
         meterRegistry.counter("obs.profile.cache", "result", "miss", "scoped", "true").increment();
 
-        CalculatorProfile profile = dailyAggregateRepository.findProfileByRunNumber(
-                calculatorName, frequency.name(), slaProperties.lookbackDays(frequency), runNumber);
+        CalculatorProfile profile = cache.load(key, () -> dailyAggregateRepository.findProfileByRunNumber(
+                calculatorName, frequency.name(), slaProperties.lookbackDays(frequency), runNumber),
+                this::scopedTtlFor);
 
         if (profile.hasSufficientSamples(slaProperties.getMinSampleSize())) {
-            writeToCache(key, profile);
             return profile;
         }
         // Fall back to blended profile for brand-new calcs
@@ -101,19 +144,18 @@ public class CalculatorProfileService {
         }
         String key = key(calculatorName, frequency, runNumber, dimensionValue);
 
-        CalculatorProfile cached = readFromCache(key);
+        CalculatorProfile cached = cache.get(key);
         if (cached != null) {
             meterRegistry.counter("obs.profile.cache", "result", "hit", "dim", "true").increment();
             return cached;
         }
         meterRegistry.counter("obs.profile.cache", "result", "miss", "dim", "true").increment();
 
-        CalculatorProfile profile = dailyAggregateRepository.findProfileByRunNumberAndDimension(
+        CalculatorProfile profile = cache.load(key, () -> dailyAggregateRepository.findProfileByRunNumberAndDimension(
                 calculatorName, frequency.name(), slaProperties.lookbackDays(frequency),
-                runNumber, dimensionValue);
+                runNumber, dimensionValue), this::scopedTtlFor);
 
         if (profile.hasSufficientSamples(slaProperties.getMinSampleSize())) {
-            writeToCache(key, profile);
             return profile;
         }
         // Fall back to scoped/blended chain for brand-new calcs or new dimension values
@@ -121,36 +163,127 @@ public class CalculatorProfileService {
     }
 
     /**
-     * Warm a precomputed profile into the cache (called by the nightly job).
-     * Uses {@code profile.runNumber()} and {@code profile.dimensionValue()} to select the key.
+     * Bulk {@link #getProfile(String, Frequency, String, String)}: every key walks the same
+     * dimension → run_number → blended chain, resolved in memory from at most one Redis read
+     * and one DB read however many keys and levels are involved:
+     * <ol>
+     *   <li>one {@code MGET} for every level of every chain (levels shared between keys, such as
+     *       the regions of one calculator falling back to its run_number profile, are read once)</li>
+     *   <li>one {@link DailyAggregateRepository#findProfiles} query for every missed level a chain
+     *       could reach — the loaded sample count decides whether the chain stops there</li>
+     *   <li>one pipelined write-back of the loaded profiles, under the same TTL rules as the
+     *       single-key reads (thin scoped profiles are not cached)</li>
+     * </ol>
+     * Unlike the single-key reads, DB loads here are not coalesced with concurrent callers.
+     *
+     * @return a profile for every requested key. Never throws on Redis failure.
      */
-    public void warm(CalculatorProfile profile) {
-        writeToCache(key(profile.calculatorName(),
-                Frequency.from(profile.frequency()), profile.runNumber(), profile.dimensionValue()), profile);
+    public Map<ProfileKey, CalculatorProfile> getProfiles(Collection<ProfileKey> keys) {
+        Map<ProfileKey, String> cacheKeys = new LinkedHashMap<>();
+        for (ProfileKey key : keys) {
+            for (ProfileKey level = key; level != null; level = level.fallback()) {
+                cacheKeys.computeIfAbsent(level, this::key);
+            }
+        }
+        Map<String, CalculatorProfile> hits = cache.getAll(cacheKeys.values());
+
+        // Chains stop at their first hit; every miss above it may be needed
+        Set<ProfileKey> misses = new LinkedHashSet<>();
+        for (ProfileKey key : keys) {
+            for (ProfileKey level = key; level != null && !hits.containsKey(cacheKeys.get(level));
+                 level = level.fallback()) {
+                misses.add(level);
+            }
+        }
+        Map<ProfileKey, CalculatorProfile> loaded = loadAll(misses, cacheKeys);
+
+        Map<ProfileKey, CalculatorProfile> resolved = new HashMap<>();
+        for (ProfileKey key : keys) {
+            resolved.put(key, resolve(key, cacheKeys, hits, loaded));
+        }
+        return resolved;
+    }
+
+    private Map<ProfileKey, CalculatorProfile> loadAll(Collection<ProfileKey> levels, Map<ProfileKey, String> cacheKeys) {
+        if (levels.isEmpty()) {
+            return Map.of();
+        }
+        List<ProfileScope> scopes = new ArrayList<>(levels.size());
+        for (ProfileKey level : levels) {
+            scopes.add(new ProfileScope(level.calculatorName(), level.frequency().name(),
+                    slaProperties.lookbackDays(level.frequency()), level.runNumber(), level.dimensionValue()));
+        }
+        List<CalculatorProfile> profiles = dailyAggregateRepository.findProfiles(scopes);
+
+        Map<ProfileKey, CalculatorProfile> loaded = new HashMap<>();
+        Map<String, CalculatorProfile> writeBack = new LinkedHashMap<>();
+        int i = 0;
+        for (ProfileKey level : levels) {
+            CalculatorProfile profile = profiles.get(i++);
+            loaded.put(level, profile);
+            writeBack.put(cacheKeys.get(level), profile);
+        }
+        cache.putAll(writeBack, this::levelTtlFor);
+        return loaded;
     }
 
-    private CalculatorProfile readFromCache(String key) {
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
-                return objectMapper.readValue(json, CalculatorProfile.class);
+    private CalculatorProfile resolve(ProfileKey key, Map<ProfileKey, String> cacheKeys,
+                                      Map<String, CalculatorProfile> hits,
+                                      Map<ProfileKey, CalculatorProfile> loaded) {
+        for (ProfileKey level = key; ; level = level.fallback()) {
+            CalculatorProfile cached = hits.get(cacheKeys.get(level));
+            countLookup(level, cached != null);
+            if (cached != null) {
+                return cached;
+            }
+            CalculatorProfile profile = loaded.get(level);
+            if (level.fallback() == null || profile.hasSufficientSamples(slaProperties.getMinSampleSize())) {
+                return profile;
             }
-        } catch (Exception e) {
-            log.warn("event=profile.cache.read outcome=failure key={} error={}", key, e.getMessage());
         }
-        return null;
     }
 
-    private void writeToCache(String key, CalculatorProfile profile) {
+    /** Same counters and tags as the single-key reads. */
+    private void countLookup(ProfileKey level, boolean hit) {
+        String result = hit ? "hit" : "miss";
+        if (level.dimensionValue() != null) {
+            meterRegistry.counter("obs.profile.cache", "result", result, "dim", "true").increment();
+        } else if (level.runNumber() != null) {
+            meterRegistry.counter("obs.profile.cache", "result", result, "scoped", "true").increment();
+        } else {
+            meterRegistry.counter("obs.profile.cache", "result", result).increment();
+        }
+    }
+
+    /**
+     * Warm a precomputed profile into the cache (called by the nightly job).
+     * Uses {@code profile.runNumber()} and {@code profile.dimensionValue()} to select the key.
+     */
+    public void warm(CalculatorProfile profile) {
+        cache.put(key(profile.calculatorName(),
+                Frequency.from(profile.frequency()), profile.runNumber(), profile.dimensionValue()), profile);
+    }
+
+    private Duration ttlFor(CalculatorProfile profile) {
         // Short TTL for "no history yet" so newly-active calculators are picked up sooner.
-        Duration ttl = profile.totalRuns() > 0
+        return profile.totalRuns() > 0
                 ? Duration.ofHours(aggregationProperties.getProfileCacheTtlHours())
                 : Duration.ofMinutes(aggregationProperties.getEmptyProfileCacheTtlMinutes());
-        try {
-            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(profile), ttl);
-        } catch (Exception e) {
-            log.warn("event=profile.cache.write outcome=failure key={} error={}", key, e.getMessage());
-        }
+    }
+
+    /** Scoped profiles below the sample threshold are not cached — the caller falls back instead. */
+    private Duration scopedTtlFor(CalculatorProfile profile) {
+        return profile.hasSufficientSamples(slaProperties.getMinSampleSize()) ? ttlFor(profile) : null;
+    }
+
+    /** {@link #scopedTtlFor} or {@link #ttlFor}, by the scope the profile was loaded for. */
+    private Duration levelTtlFor(CalculatorProfile profile) {
+        return profile.runNumber() != null || profile.dimensionValue() != null
+                ? scopedTtlFor(profile) : ttlFor(profile);
+    }
+
+    private String key(ProfileKey key) {
+        return key(key.calculatorName(), key.frequency(), key.runNumber(), key.dimensionValue());
     }
 
     private String key(String calculatorName, Frequency frequency, String runNumber, String dimensionValue) {
@@ -1,15 +1,21 @@
 package com.company.observability.service;
 
 import com.company.observability.cache.CalculatorStateCacheService;
+import com.company.observability.cache.ChangeVersionService;
+import com.company.observability.cache.DaySnapshotService;
 import com.company.observability.config.SlaProperties;
+import com.company.observability.datasource.ReadYourWrites;
 import com.company.observability.domain.CalculatorProfile;
 import com.company.observability.domain.CalculatorRun;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.domain.enums.RunStatus;
-import com.company.observability.domain.enums.SlaBand;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
 import com.company.observability.repository.CalculatorRunRepository;
+import com.company.observability.service.CalculatorProfileService.ProfileKey;
+import com.company.observability.service.live.LiveRunStore;
+import com.company.observability.service.projection.RunEntryMapper;
+import com.company.observability.service.projection.SplitAggregate;
 import com.company.observability.util.TimeUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +31,6 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -36,54 +41,145 @@ public class CalculatorStateService {
     private final SlaProperties slaProperties;
     private final CalculatorStateCacheService stateCache;
     private final CalculatorProfileService profileService;
+    private final ChangeVersionService changeVersions;
+    private final LiveRunStore liveRuns;
+    private final DaySnapshotService snapshots;
 
-    // Lower index = worse status (worst-wins ordering mirrors LogicalRunGrouper)
-    private static final List<RunStatus> STATUS_PRECEDENCE = List.of(
-            RunStatus.RUNNING, RunStatus.FAILED, RunStatus.TIMEOUT, RunStatus.CANCELLED, RunStatus.SUCCESS);
+    /**
+     * Not-started projections are graded against the clock, so a recent date's representation can
+     * change with no ingestion at all. The version token rolls over on this cadence (the state
+     * cache's not-started TTL) for recent dates, and on the long terminal TTL for settled ones.
+     */
+    static final Duration TOKEN_WINDOW_RECENT = Duration.ofSeconds(60);
+    static final Duration TOKEN_WINDOW_SETTLED = Duration.ofHours(4);
+
+    /**
+     * Change versions for a {@code /batch/runs} request.
+     *
+     * @param byName version per real calculator name; pass to {@link #getState(LocalDate, Frequency, String, List, Map)}
+     * @param token  opaque summary of the versions (plus the clock window) for building an ETag
+     */
+    public record StateVersions(Map<String, Long> byName, String token) {}
 
+    /**
+     * Reads the change versions for the given names with a single Redis round trip.
+     *
+     * @return the versions, or {@code null} when Redis is unavailable
+     */
+    public StateVersions getVersions(LocalDate reportingDate, Frequency frequency,
+                                     List<String> calculatorNames) {
+        Map<String, Long> versions = changeVersions.getVersions(reportingDate, frequency.name(), calculatorNames);
+        if (versions == null) {
+            return null;
+        }
+        Duration window = reportingDate.isBefore(LocalDate.now().minusDays(3))
+                ? TOKEN_WINDOW_SETTLED : TOKEN_WINDOW_RECENT;
+        StringBuilder token = new StringBuilder();
+        versions.forEach((name, version) -> token.append(name).append('=').append(version).append(';'));
+        token.append('w').append(Instant.now().getEpochSecond() / window.getSeconds());
+        return new StateVersions(versions, token.toString());
+    }
+
+    /** {@link #getState(LocalDate, Frequency, String, List, Map)}, reading the change versions itself. */
     public Map<String, CalculatorEntry> getState(
             LocalDate reportingDate,
             Frequency frequency,
             String runNumber,
             List<String> calculatorNames) {
+        return getState(reportingDate, frequency, runNumber, calculatorNames,
+                changeVersions.getVersions(reportingDate, frequency.name(), calculatorNames));
+    }
+
+    /**
+     * Builds one {@link CalculatorEntry} per name — live store first for the hot dates, day
+     * snapshots for the settled ones, then the state cache, DB for the misses.
+     *
+     * @param versions change versions already read for this request ({@code null} bypasses the
+     *                 live store, the snapshots and the cache)
+     */
+    public Map<String, CalculatorEntry> getState(
+            LocalDate reportingDate,
+            Frequency frequency,
+            String runNumber,
+            List<String> calculatorNames,
+            Map<String, Long> versions) {
 
         // Normalize blank → null so empty ?run_number= means "all runs" (not filter on empty string)
         String rn = (runNumber == null || runNumber.isBlank()) ? null : runNumber;
         String freqName = frequency.name();
 
+        // 0. Hot dates — memory answers every name with runs whose slot is at the request's version;
+        //    settled dates — the day snapshots answer every name snapshotted at that version
+        boolean settled = snapshots.isSettled(reportingDate);
+        Map<String, CalculatorEntry> stored = settled
+                ? snapshots.getEntries(reportingDate, freqName, rn, calculatorNames, versions)
+                : liveEntries(reportingDate, frequency, rn, versions);
+        List<String> lookupNames = stored.isEmpty() ? calculatorNames
+                : calculatorNames.stream().filter(name -> !stored.containsKey(name)).toList();
+
         // 1. Cache read — partial hits are fine
-        Map<String, CalculatorEntry> cached = stateCache.getEntries(reportingDate, freqName, rn, calculatorNames);
+        Map<String, CalculatorEntry> cached = stored.isEmpty()
+                ? stateCache.getEntries(reportingDate, freqName, rn, lookupNames, versions)
+                : new HashMap<>(stored);
+        if (!stored.isEmpty() && !lookupNames.isEmpty()) {
+            cached.putAll(stateCache.getEntries(reportingDate, freqName, rn, lookupNames, versions));
+        }
 
         // 2. Determine misses
-        List<String> missNames = calculatorNames.stream()
+        List<String> missNames = lookupNames.stream()
                 .filter(name -> !cached.containsKey(name))
                 .toList();
 
-        log.debug("event=batch_runs.state cacheHits={} cacheMisses={} reportingDate={} frequency={}",
-                cached.size(), missNames.size(), reportingDate, freqName);
+        log.debug("event=batch_runs.state storeHits={} cacheHits={} cacheMisses={} reportingDate={} frequency={}",
+                stored.size(), cached.size() - stored.size(), missNames.size(), reportingDate, freqName);
 
         // 3. DB call only for misses
         if (!missNames.isEmpty()) {
-            log.debug("event=batch_runs.db_fetch outcome=start misses={} reportingDate={} frequency={}",
-                    missNames, reportingDate, freqName);
-
-            Map<String, List<CalculatorRun>> runsByName = runRepository
-                    .findAllRunsByDateAndDimension(reportingDate, frequency, rn, missNames)
-                    .stream()
-                    .collect(Collectors.groupingBy(CalculatorRun::getCalculatorName));
-
-            log.debug("event=batch_runs.db_fetch outcome=complete fetchedCalculators={}", runsByName.size());
-
-            Map<String, CalculatorEntry> freshEntries = missNames.stream().collect(Collectors.toMap(
-                    name -> name,
-                    name -> buildEntry(name, runsByName.getOrDefault(name, List.of()), reportingDate, frequency, rn),
-                    (a, b) -> a,
-                    java.util.LinkedHashMap::new
-            ));
-
-            // 4. Cache fresh entries (including not-started entries so absent names don't re-hit DB)
-            stateCache.putEntries(reportingDate, freqName, rn, freshEntries);
-            cached.putAll(freshEntries);
+            // Fresh entries are cached under the change versions already read, which may count another
+            // instance's write no replica is known to have replayed: only the primary reflects them.
+            // Without versions nothing is cached, and read-your-writes is enough
+            var prevWrites = versions != null ? ReadYourWrites.enterPrimary() : ReadYourWrites.enter(missNames);
+            try {
+                log.debug("event=batch_runs.db_fetch outcome=start misses={} reportingDate={} frequency={}",
+                        missNames, reportingDate, freqName);
+
+                Map<String, List<CalculatorRun>> runsByName = runRepository
+                        .findAllRunsByDateAndDimension(reportingDate, frequency, rn, missNames)
+                        .stream()
+                        .collect(Collectors.groupingBy(CalculatorRun::getCalculatorName));
+
+                log.debug("event=batch_runs.db_fetch outcome=complete fetchedCalculators={}", runsByName.size());
+
+                List<String> notStartedNames = missNames.stream()
+                        .filter(name -> !runsByName.containsKey(name))
+                        .toList();
+                Map<String, CalculatorEntry> notStarted =
+                        buildNotStartedEntries(notStartedNames, reportingDate, frequency, rn);
+
+                Map<String, CalculatorEntry> freshEntries = missNames.stream().collect(Collectors.toMap(
+                        name -> name,
+                        name -> runsByName.containsKey(name)
+                                ? buildEntry(name, runsByName.get(name), reportingDate, frequency, rn)
+                                : notStarted.get(name),
+                        (a, b) -> a,
+                        java.util.LinkedHashMap::new
+                ));
+
+                // 4. Settled dates snapshot their run-backed entries; everything else (including not-started
+                //    entries, so absent names don't re-hit DB) goes to the state cache
+                Map<String, CalculatorEntry> toCache = freshEntries;
+                if (settled) {
+                    Set<String> snapshotted = snapshots.putEntries(reportingDate, freqName, rn, freshEntries, versions);
+                    if (!snapshotted.isEmpty()) {
+                        toCache = new HashMap<>(freshEntries);
+                        toCache.keySet().removeAll(snapshotted);
+                    }
+                }
+                stateCache.putEntries(reportingDate, freqName, rn, toCache, versions);
+                cached.putAll(freshEntries);
+            } finally {
+                ReadYourWrites.restore(prevWrites);
+            }
         }
 
         // Return in the original requested order
@@ -93,39 +189,87 @@ public class CalculatorStateService {
         ));
     }
 
-    private CalculatorEntry buildEntry(String calculatorName, List<CalculatorRun> runs,
-                                       LocalDate reportingDate, Frequency frequency, String runNumber) {
+    /**
+     * Entries built from the live store, for the names it can answer. Not-started names are left
+     * to the cache/DB path, which projects them from profiles.
+     */
+    private Map<String, CalculatorEntry> liveEntries(LocalDate reportingDate, Frequency frequency,
+                                                     String runNumber, Map<String, Long> versions) {
+        if (versions == null || !liveRuns.covers(reportingDate)) {
+            return Map.of();
+        }
+        Map<String, CalculatorEntry> entries = new HashMap<>();
+        liveRuns.findRuns(reportingDate, frequency, runNumber, versions).forEach((name, runs) ->
+                entries.put(name, buildEntry(name, runs, reportingDate, frequency, runNumber)));
+        return entries;
+    }
+
+    /** Pure over {@code runs} unless the list is empty — the not-started path reads the latest run and profile. */
+    CalculatorEntry buildEntry(String calculatorName, List<CalculatorRun> runs,
+                               LocalDate reportingDate, Frequency frequency, String runNumber) {
         if (runs.isEmpty()) {
-            return buildNotStartedEntry(calculatorName, reportingDate, frequency, runNumber);
+            return buildNotStartedEntries(List.of(calculatorName), reportingDate, frequency, runNumber)
+                    .get(calculatorName);
         }
 
-        // Phase 1: collapse parallel splits (shared correlationId) into one RunEntry each
-        Map<String, List<CalculatorRun>> splitGroups = runs.stream()
-                .filter(r -> r.getCorrelationId() != null)
-                .collect(Collectors.groupingBy(CalculatorRun::getCorrelationId));
+        // One pass: parallel splits (shared correlationId) fold into one SplitGroup each; sequential
+        // reruns (null correlationId) into one RerunGroup per (region, runType) — latest wins
+        List<SplitGroup> splitGroups = new ArrayList<>();
+        List<RerunGroup> rerunGroups = new ArrayList<>();
+        for (CalculatorRun run : runs) {
+            if (run.getCorrelationId() != null) {
+                SplitGroup group = findSplitGroup(splitGroups, run.getCorrelationId());
+                if (group == null) {
+                    group = new SplitGroup(run.getCorrelationId());
+                    splitGroups.add(group);
+                }
+                group.add(run);
+            } else {
+                RerunGroup group = findRerunGroup(rerunGroups, run.getRegion(), run.getRunType());
+                if (group == null) {
+                    rerunGroups.add(new RerunGroup(run));
+                } else {
+                    group.add(run);
+                }
+            }
+        }
 
-        List<RunEntry> splitEntries = splitGroups.values().stream()
-                .map(group -> collapseSplitGroup(group, calculatorName))
-                .toList();
+        List<RunEntry> allEntries = new ArrayList<>(splitGroups.size() + rerunGroups.size());
+        for (SplitGroup group : splitGroups) {
+            allEntries.add(toRunEntry(group.collapse(), calculatorName));
+        }
+        for (RerunGroup group : rerunGroups) {
+            group.latest.setRerun(group.attempts > 1);
+            allEntries.add(toRunEntry(group.latest, calculatorName));
+        }
+        return new CalculatorEntry(calculatorName, runs.get(0).getCalculatorId(), allEntries);
+    }
 
-        // Phase 2: deduplicate sequential reruns (null correlationId) by (region, runType) — latest wins
-        List<RunEntry> standaloneEntries = runs.stream()
-                .filter(r -> r.getCorrelationId() == null)
-                .collect(Collectors.groupingBy(r ->
-                        Objects.toString(r.getRegion(), "") + ":" + Objects.toString(r.getRunType(), "")))
-                .values().stream()
-                .map(group -> {
-                    CalculatorRun latest = group.stream()
-                            .max(Comparator.comparing(CalculatorRun::getCreatedAt))
-                            .orElseThrow();
-                    latest.setRerun(group.size() > 1);
-                    return toRunEntry(latest, calculatorName);
-                })
-                .toList();
+    /**
+     * Not-started entries for calculators with no run on the queried date. The latest
+     * estimate-bearing run and the run_number-scoped profile of every name are read in bulk — one
+     * query and one profile lookup for the whole set instead of two round trips per calculator.
+     */
+    private Map<String, CalculatorEntry> buildNotStartedEntries(List<String> names, LocalDate date,
+                                                                Frequency freq, String runNumber) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        // Run_number-scoped: a RUN1 projection must not borrow RUN2's frozen deadline
+        Map<String, CalculatorRun> latestByName = runRepository.findLatestRunEstimatesByNames(names, freq, runNumber);
+        List<ProfileKey> profileKeys = new ArrayList<>(names.size());
+        for (String name : names) {
+            profileKeys.add(new ProfileKey(name, freq, runNumber, null));
+        }
+        Map<ProfileKey, CalculatorProfile> profiles = profileService.getProfiles(profileKeys);
 
-        String calculatorId = runs.stream().findFirst().map(CalculatorRun::getCalculatorId).orElse(null);
-        List<RunEntry> allEntries = Stream.concat(splitEntries.stream(), standaloneEntries.stream()).toList();
-        return new CalculatorEntry(calculatorName, calculatorId, allEntries);
+        Map<String, CalculatorEntry> entries = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            entries.put(name, buildNotStartedEntry(name, date, freq, runNumber,
+                    latestByName.get(name), profiles.get(profileKeys.get(i))));
+        }
+        return entries;
     }
 
     /**
@@ -136,10 +280,8 @@ public class CalculatorStateService {
      * <p>Returns an empty entry only for brand-new calculators with no history at all.
      */
     private CalculatorEntry buildNotStartedEntry(String name, LocalDate date, Frequency freq,
-                                                  String runNumber) {
-        // ── Latest run (run_number-scoped: a RUN1 projection must not borrow RUN2's frozen deadline) ──
-        CalculatorRun latest = runRepository.findLatestRunEstimatesByName(name, freq, runNumber).orElse(null);
-
+                                                  String runNumber, CalculatorRun latest,
+                                                  CalculatorProfile profile) {
         // Runs execute T+n business days after the reporting date. For DAILY, recover the real offset
         // from the latest run's reportingDate→slaTime distance; else fall back to run_number.
         int offsetDays = deriveOffsetDays(latest, freq, runNumber);
@@ -147,13 +289,12 @@ public class CalculatorStateService {
 
         // ── Estimates (display) ──────────────────────────────────────────────
         // 1a. Run_number-scoped profile (Redis-cached 26h — very cheap)
-        CalculatorProfile profile = profileService.getProfile(name, freq, runNumber);
         Instant estStart = null;
         Instant estEnd = null;
         Long expectedMs = null;
         String calculatorId = null;
 
-        if (profile.hasSufficientSamples(slaProperties.getMinSampleSize())) {
+        if (profile != null && profile.hasSufficientSamples(slaProperties.getMinSampleSize())) {
             estStart = TimeUtils.instantFromUtcMinuteOfDay(executionDate, profile.avgStartMinUtc());
             estEnd = estStart.plusMillis(profile.avgDurationMs());
             expectedMs = profile.avgDurationMs();
@@ -261,79 +402,112 @@ public class CalculatorStateService {
         return new CalculatorEntry(name, calculatorId, List.of(synthetic));
     }
 
-    private RunEntry collapseSplitGroup(List<CalculatorRun> splits, String entryName) {
-        CalculatorRun first = splits.stream()
-                .min(Comparator.comparing(CalculatorRun::getCreatedAt))
-                .orElseThrow();
-
-        RunStatus worstStatus = splits.stream()
-                .map(CalculatorRun::getStatus)
-                .min(Comparator.comparingInt(STATUS_PRECEDENCE::indexOf))
-                .orElse(RunStatus.SUCCESS);
-
-        Instant startTime = splits.stream().map(CalculatorRun::getStartTime)
-                .filter(Objects::nonNull).min(Comparator.naturalOrder()).orElse(null);
-        Instant endTime = worstStatus == RunStatus.RUNNING ? null :
-                splits.stream().map(CalculatorRun::getEndTime)
-                        .filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null);
-        Long durationMs = startTime != null && endTime != null
-                ? endTime.toEpochMilli() - startTime.toEpochMilli() : null;
-
-        // Pick worst band across splits (VERY_LATE > LATE > ON_TIME > null)
-        SlaBand worstBand = splits.stream()
-                .map(CalculatorRun::getSlaBand)
-                .filter(Objects::nonNull)
-                .max(Comparator.comparingInt(b -> b == SlaBand.VERY_LATE ? 2 : b == SlaBand.LATE ? 1 : 0))
-                .orElse(null);
-        String breachReason = splits.stream().map(CalculatorRun::getSlaBreachReason)
-                .filter(s -> s != null && !s.isBlank()).collect(Collectors.joining("; "));
-
-        CalculatorRun rep = new CalculatorRun();
-        rep.setRunId(first.getRunId());
-        rep.setCalculatorId(first.getCalculatorId());
-        rep.setCalculatorName(first.getCalculatorName());
-        rep.setRegion(first.getRegion());
-        rep.setRunType(first.getRunType());
-        rep.setRunNumber(first.getRunNumber());
-        rep.setStatus(worstStatus);
-        rep.setStartTime(startTime);
-        rep.setEndTime(endTime);
-        rep.setDurationMs(durationMs);
-        rep.setSlaBand(worstBand);
-        rep.setSlaBreachReason(breachReason.isBlank() ? null : breachReason);
-        rep.setSlaTime(first.getSlaTime());
-        rep.setExpectedDurationMs(first.getExpectedDurationMs());
-        rep.setEstimatedStartTime(first.getEstimatedStartTime());
-        rep.setEstimatedEndTime(first.getEstimatedEndTime());
-        rep.setRerun(false);  // parallel splits are not sequential reruns
-
-        return toRunEntry(rep, entryName);
+    RunEntry collapseSplitGroup(List<CalculatorRun> splits, String entryName) {
+        SplitGroup group = new SplitGroup(splits.get(0).getCorrelationId());
+        for (CalculatorRun split : splits) {
+            group.add(split);
+        }
+        return toRunEntry(group.collapse(), entryName);
+    }
+
+    // Rows arrive grouped (findAllRunsByDateAndDimension orders by correlationId, region, runType),
+    // so the most recent group is checked first. A calculator has a handful of dimensions per date,
+    // which keeps the scan cheaper than hashing a composite key per row.
+
+    private static SplitGroup findSplitGroup(List<SplitGroup> groups, String correlationId) {
+        for (int i = groups.size() - 1; i >= 0; i--) {
+            if (groups.get(i).correlationId.equals(correlationId)) {
+                return groups.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static RerunGroup findRerunGroup(List<RerunGroup> groups, String region, String runType) {
+        for (int i = groups.size() - 1; i >= 0; i--) {
+            RerunGroup group = groups.get(i);
+            if (Objects.equals(group.region, region) && Objects.equals(group.runType, runType)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static boolean createdBefore(CalculatorRun a, CalculatorRun b) {
+        return a.getCreatedAt() != null && (b.getCreatedAt() == null || a.getCreatedAt().isBefore(b.getCreatedAt()));
+    }
+
+    /** Parallel splits of one correlationId, collapsed worst-wins onto the earliest-created split. */
+    private static final class SplitGroup {
+
+        private final String correlationId;
+        private final SplitAggregate aggregate = new SplitAggregate();
+        private CalculatorRun first;
+
+        SplitGroup(String correlationId) {
+            this.correlationId = correlationId;
+        }
+
+        void add(CalculatorRun run) {
+            if (first == null || createdBefore(run, first)) {
+                first = run;
+            }
+            aggregate.add(run.getStatus(), run.getStartTime(), run.getEndTime(),
+                    run.getSlaBand(), run.getSlaBreachReason());
+        }
+
+        CalculatorRun collapse() {
+            RunStatus worstStatus = aggregate.worstStatus();
+            Instant startTime = aggregate.minStart();
+            Instant endTime = worstStatus == RunStatus.RUNNING ? null : aggregate.maxEnd();
+            Long durationMs = startTime != null && endTime != null
+                    ? endTime.toEpochMilli() - startTime.toEpochMilli() : null;
+
+            CalculatorRun rep = new CalculatorRun();
+            rep.setRunId(first.getRunId());
+            rep.setCalculatorId(first.getCalculatorId());
+            rep.setCalculatorName(first.getCalculatorName());
+            rep.setRegion(first.getRegion());
+            rep.setRunType(first.getRunType());
+            rep.setRunNumber(first.getRunNumber());
+            rep.setStatus(worstStatus);
+            rep.setStartTime(startTime);
+            rep.setEndTime(endTime);
+            rep.setDurationMs(durationMs);
+            rep.setSlaBand(aggregate.worstBand());
+            rep.setSlaBreachReason(aggregate.breachReason());
+            rep.setSlaTime(first.getSlaTime());
+            rep.setExpectedDurationMs(first.getExpectedDurationMs());
+            rep.setEstimatedStartTime(first.getEstimatedStartTime());
+            rep.setEstimatedEndTime(first.getEstimatedEndTime());
+            rep.setRerun(false);  // parallel splits are not sequential reruns
+            return rep;
+        }
+    }
+
+    /** Sequential attempts in one (region, runType) dimension; the latest-created one is shown. */
+    private static final class RerunGroup {
+
+        private final String region;
+        private final String runType;
+        private CalculatorRun latest;
+        private int attempts = 1;
+
+        RerunGroup(CalculatorRun run) {
+            this.region = run.getRegion();
+            this.runType = run.getRunType();
+            this.latest = run;
+        }
+
+        void add(CalculatorRun run) {
+            attempts++;
+            if (createdBefore(latest, run)) {
+                latest = run;
+            }
+        }
     }
 
     private RunEntry toRunEntry(CalculatorRun run, String entryName) {
-        // Populate calculatorName on RunEntry only when the run originates from a
-        // differently-named real calculator (multi-alias merge). Null otherwise → omitted in JSON.
-        String runCalcName = run.getCalculatorName() != null
-                && !run.getCalculatorName().equals(entryName)
-                ? run.getCalculatorName() : null;
-
-        return RunEntry.builder()
-                .calculatorName(runCalcName)
-                .runId(run.getRunId())
-                .region(run.getRegion())
-                .runType(run.getRunType())
-                .status(run.getStatus().name())
-                .slaStatus(run.getSlaBand() != null ? run.getSlaBand().name() : "ON_TIME")
-                .slaBreached(run.isSlaBreached() ? Boolean.TRUE : null)
-                .startTime(run.getStartTime())
-                .endTime(run.getEndTime())
-                .estimatedStartTime(run.getEstimatedStartTime())
-                .estimatedEndTime(run.getEstimatedEndTime())
-                .sla(run.getSlaTime())
-                .durationMs(run.getDurationMs())
-                .expectedDurationMs(run.getExpectedDurationMs())
-                .slaBreachReason(run.getSlaBreachReason())
-                .isRerun(run.isRerun())
-                .build();
+        return RunEntryMapper.toRunEntry(run, entryName);
     }
 }
@@ -6,6 +6,7 @@ import com.company.observability.domain.CalculatorProfile;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
+import com.company.observability.service.CalculatorProfileService.ProfileKey;
 import com.company.observability.util.TimeUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -45,7 +46,9 @@ public class ExpectedRunsService {
             return calculators;
         }
 
+        // Plan every alias first so the placeholders' profiles are read in one bulk lookup
         Map<String, CalculatorEntry> result = new LinkedHashMap<>(calculators);
+        List<Padding> paddings = new ArrayList<>();
         for (Map.Entry<String, CalculatorEntry> entry : calculators.entrySet()) {
             String alias = entry.getKey();
             List<String> declaredValues;
@@ -59,30 +62,54 @@ public class ExpectedRunsService {
             } else {
                 continue;
             }
-            result.put(alias, pad(entry.getValue(), alias, declaredValues, isRegion,
-                    reportingDate, frequency, runNumber));
+            Padding padding = plan(entry.getValue(), alias, declaredValues, isRegion, reportingDate, frequency, runNumber);
+            if (padding == null) {
+                result.put(alias, reorder(entry.getValue(), declaredValues, isRegion));
+            } else {
+                paddings.add(padding);
+            }
+        }
+        if (paddings.isEmpty()) {
+            return result;
+        }
+
+        List<ProfileKey> profileKeys = new ArrayList<>();
+        for (Padding padding : paddings) {
+            for (String dimValue : padding.declaredValues()) {
+                if (!padding.byDimension().containsKey(dimValue)) {
+                    profileKeys.add(new ProfileKey(padding.realName(), frequency, runNumber, dimValue));
+                }
+            }
+        }
+        Map<ProfileKey, CalculatorProfile> profiles = profileService.getProfiles(profileKeys);
+
+        for (Padding padding : paddings) {
+            CalculatorEntry existing = padding.existing();
+            List<RunEntry> padded = new ArrayList<>(padding.declaredValues().size());
+            for (String dimValue : padding.declaredValues()) {
+                RunEntry actual = padding.byDimension().get(dimValue);
+                padded.add(actual != null ? actual : placeholder(dimValue, padding,
+                        profiles.get(new ProfileKey(padding.realName(), frequency, runNumber, dimValue))));
+            }
+            result.put(padding.alias(), new CalculatorEntry(existing.calculatorName(), existing.calculatorId(), padded));
         }
         return result;
     }
 
-    private CalculatorEntry pad(CalculatorEntry existing, String alias, List<String> declaredValues,
-                                 boolean isRegion, LocalDate reportingDate, Frequency frequency,
-                                 String runNumber) {
-        // Index real runs by their dimension value; null-dimension runs (upstream synthetic template) excluded.
-        Map<String, RunEntry> byDimension = existing.runs().stream()
-                .filter(r -> dimensionValue(r, isRegion) != null)
-                .collect(Collectors.toMap(
-                        r -> dimensionValue(r, isRegion),
-                        r -> r,
-                        (a, b) -> a
-                ));
-
+    /**
+     * One alias short of its declared dimension set, with everything its placeholders need
+     * except their profiles.
+     */
+    private record Padding(String alias, CalculatorEntry existing, List<String> declaredValues, boolean isRegion,
+                           Map<String, RunEntry> byDimension, RunEntry template, String realName,
+                           LocalDate executionDate, Instant deadline) {}
+
+    /** Returns {@code null} when every declared dimension already has a real run. */
+    private Padding plan(CalculatorEntry existing, String alias, List<String> declaredValues,
+                         boolean isRegion, LocalDate reportingDate, Frequency frequency, String runNumber) {
+        Map<String, RunEntry> byDimension = indexByDimension(existing, isRegion);
         if (byDimension.size() == declaredValues.size()) {
-            List<RunEntry> ordered = declaredValues.stream()
-                    .map(byDimension::get)
-                    .filter(Objects::nonNull)
-                    .toList();
-            return new CalculatorEntry(existing.calculatorName(), existing.calculatorId(), ordered);
+            return null;
         }
 
         // Calculator-level deadline: sibling runs' frozen SLA first (Case B), then template's projected SLA (Case A).
@@ -117,28 +144,40 @@ public class ExpectedRunsService {
         }
         LocalDate executionDate = TimeUtils.nextBusinessDay(reportingDate, offsetDays);
 
-        final Instant deadline = calculatorDeadline;
-        List<RunEntry> padded = new ArrayList<>(declaredValues.size());
-        for (String dimValue : declaredValues) {
-            RunEntry actual = byDimension.get(dimValue);
-            padded.add(actual != null ? actual
-                    : placeholder(dimValue, isRegion, template, realName, frequency, runNumber,
-                                  executionDate, deadline));
-        }
-        return new CalculatorEntry(existing.calculatorName(), existing.calculatorId(), padded);
+        return new Padding(alias, existing, declaredValues, isRegion, byDimension, template, realName,
+                executionDate, calculatorDeadline);
+    }
+
+    /** Every declared dimension is present — only the order changes. */
+    private static CalculatorEntry reorder(CalculatorEntry existing, List<String> declaredValues, boolean isRegion) {
+        Map<String, RunEntry> byDimension = indexByDimension(existing, isRegion);
+        List<RunEntry> ordered = declaredValues.stream()
+                .map(byDimension::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new CalculatorEntry(existing.calculatorName(), existing.calculatorId(), ordered);
+    }
+
+    private static Map<String, RunEntry> indexByDimension(CalculatorEntry existing, boolean isRegion) {
+        // Index real runs by their dimension value; null-dimension runs (upstream synthetic template) excluded.
+        return existing.runs().stream()
+                .filter(r -> dimensionValue(r, isRegion) != null)
+                .collect(Collectors.toMap(
+                        r -> dimensionValue(r, isRegion),
+                        r -> r,
+                        (a, b) -> a
+                ));
     }
 
-    private RunEntry placeholder(String dimValue, boolean isRegion, RunEntry template,
-                                  String realName, Frequency frequency, String runNumber,
-                                  LocalDate executionDate, Instant calculatorDeadline) {
+    private RunEntry placeholder(String dimValue, Padding padding, CalculatorProfile dimProfile) {
         // Estimates: dimension-scoped profile → template estimates → none.
         Instant estStart = null;
         Instant estEnd = null;
         Long expectedMs = null;
 
-        CalculatorProfile dimProfile = profileService.getProfile(realName, frequency, runNumber, dimValue);
-        if (dimProfile.hasSufficientSamples(slaProps.getMinSampleSize())) {
-            estStart = TimeUtils.instantFromUtcMinuteOfDay(executionDate, dimProfile.avgStartMinUtc());
+        RunEntry template = padding.template();
+        if (dimProfile != null && dimProfile.hasSufficientSamples(slaProps.getMinSampleSize())) {
+            estStart = TimeUtils.instantFromUtcMinuteOfDay(padding.executionDate(), dimProfile.avgStartMinUtc());
             estEnd = estStart.plusMillis(dimProfile.avgDurationMs());
             expectedMs = dimProfile.avgDurationMs();
         } else if (template != null) {
@@ -148,9 +187,11 @@ public class ExpectedRunsService {
         }
 
         // Grade against calculator-level deadline; fall back to estEnd only when no deadline is derivable.
+        Instant calculatorDeadline = padding.deadline();
         Instant gradeAgainst = calculatorDeadline != null ? calculatorDeadline : estEnd;
         SlaEval eval = evaluateSlaStatus(gradeAgainst, slaProps.bandGapMs());
 
+        boolean isRegion = padding.isRegion();
         return RunEntry.builder()
                 .status("NOT_STARTED")
                 .slaStatus(eval.slaStatus())
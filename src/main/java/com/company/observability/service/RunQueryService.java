@@ -1,6 +1,7 @@
 package com.company.observability.service;
 
 import com.company.observability.cache.RedisCalculatorCache;
+import com.company.observability.datasource.ReadYourWrites;
 import com.company.observability.domain.CalculatorRun;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.dto.response.*;
@@ -37,9 +38,11 @@ public class RunQueryService {
             int historyLimit, boolean bypassCache) {
 
         var prev = MdcContextUtil.setCalculatorContext(calculatorId, "-");
+        var prevWrites = ReadYourWrites.enter(List.of(calculatorId));
         try {
             return doGetCalculatorStatus(calculatorId, frequency, historyLimit, bypassCache);
         } finally {
+            ReadYourWrites.restore(prevWrites);
             MdcContextUtil.restoreContext(prev);
         }
     }
@@ -116,8 +119,13 @@ public class RunQueryService {
         Map<String, CalculatorStatusResponse> freshResponses = new HashMap<>();
 
         if (!cacheMisses.isEmpty()) {
-            Map<String, List<CalculatorRun>> runsByCalculator =
-                    runRepository.findBatchRecentRunsDbOnly(cacheMisses, frequency, historyLimit + 1);
+            Map<String, List<CalculatorRun>> runsByCalculator;
+            var prevWrites = ReadYourWrites.enter(cacheMisses);
+            try {
+                runsByCalculator = runRepository.findBatchRecentRunsDbOnly(cacheMisses, frequency, historyLimit + 1);
+            } finally {
+                ReadYourWrites.restore(prevWrites);
+            }
 
             for (String calcId : cacheMisses) {
                 List<CalculatorRun> runs = runsByCalculator.get(calcId);
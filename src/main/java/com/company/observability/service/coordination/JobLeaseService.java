@@ -0,0 +1,292 @@
+package com.company.observability.service.coordination;
+
+import com.company.observability.config.JobCoordinationProperties;
+import com.company.observability.repository.JobLeaseRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Runs scheduled jobs on one replica of the fleet, using leases in {@code job_lease}.
+ *
+ * <ul>
+ *   <li>{@link #lead} — fixed-delay jobs: the holder renews its lease on every tick and keeps
+ *       it; another replica takes over once the lease lapses.</li>
+ *   <li>{@link #runOnce} — cron jobs: one replica runs the job per run key (e.g. the date) and
+ *       marks it completed, so replicas firing later skip it.</li>
+ *   <li>{@link #runShards} — work split across replicas: each shard is claimed and run once per
+ *       run key by whichever replica gets to it first.</li>
+ * </ul>
+ *
+ * <p>Every grant carries a fencing token that increases when the lease changes hands. Writes that
+ * must not overlap a newer holder's run inside {@link #fenced}, which rejects a superseded token.
+ *
+ * <p>With {@code observability.jobs.enabled=false} every lease is granted locally, so each replica
+ * runs every job. A failed lease read skips the execution; the next tick or the next day retries.
+ */
+@Service
+@Slf4j
+public class JobLeaseService {
+
+    /** A granted lease: its fencing token and the run key it was granted for ({@code null} for leaders). */
+    public record JobLease(String name, long token, String runKey) {}
+
+    private final JobLeaseRepository repository;
+    private final JobCoordinationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+
+    /** Token this replica holds per job, 0 when it holds none. */
+    private final Map<String, AtomicLong> heldTokens = new ConcurrentHashMap<>();
+
+    @Autowired
+    public JobLeaseService(JobLeaseRepository repository, JobCoordinationProperties properties,
+                           MeterRegistry meterRegistry) {
+        this(repository, properties, meterRegistry, ManagementFactory.getRuntimeMXBean().getName());
+    }
+
+    JobLeaseService(JobLeaseRepository repository, JobCoordinationProperties properties,
+                    MeterRegistry meterRegistry, String owner) {
+        this.repository = repository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.owner = owner;
+    }
+
+    // ── Leaders ───────────────────────────────────────────────────────────────
+
+    /**
+     * Takes or renews the job's lease for {@code ttl}.
+     *
+     * @return whether this replica should run the current tick
+     */
+    public boolean lead(String job, Duration ttl) {
+        return tryAcquire(job, ttl, null).isPresent();
+    }
+
+    // ── Once per run key ──────────────────────────────────────────────────────
+
+    /**
+     * Runs {@code task} if this replica wins the job's lease for {@code runKey}, then marks the
+     * run completed. A failed task releases the lease so another replica may retry, and rethrows.
+     *
+     * @return whether the task ran here
+     */
+    public boolean runOnce(String job, String runKey, Duration ttl, Consumer<JobLease> task) {
+        Optional<JobLease> lease = tryAcquire(job, ttl, runKey);
+        if (lease.isEmpty()) {
+            return false;
+        }
+        try {
+            task.accept(lease.get());
+        } catch (RuntimeException e) {
+            release(lease.get());
+            throw e;
+        }
+        complete(lease.get());
+        return true;
+    }
+
+    /**
+     * Where another replica's run of a job stands, for a replica waiting on it. {@code RELEASED}:
+     * not completed and nobody holds the lease — the holder failed or died, and the waiter may
+     * take the run over with {@link #runOnce}.
+     */
+    public enum Completion { COMPLETED, PENDING, RELEASED, TIMED_OUT }
+
+    /**
+     * Checks once, without blocking, whether another replica has completed {@code job} for
+     * {@code runKey}. Callers re-check on a later tick; past {@code shard-wait-seconds} from
+     * {@code waitingSince} an incomplete run is reported {@link Completion#TIMED_OUT}.
+     */
+    public Completion checkCompletion(String job, String runKey, Instant waitingSince) {
+        if (!properties.isEnabled()) {
+            return Completion.COMPLETED;
+        }
+        boolean held = true;
+        try {
+            if (repository.isCompleted(job, runKey)) {
+                return Completion.COMPLETED;
+            }
+            held = repository.isHeld(job);
+        } catch (Exception e) {
+            log.warn("event=job.lease.await outcome=failure job={} runKey={} error={}", job, runKey, e.getMessage());
+        }
+        if (Instant.now().isBefore(waitingSince.plusSeconds(properties.getShardWaitSeconds()))) {
+            return held ? Completion.PENDING : Completion.RELEASED;
+        }
+        skipped(job, "not_ready");
+        log.warn("event=job.lease.await outcome=timeout job={} runKey={}", job, runKey);
+        return Completion.TIMED_OUT;
+    }
+
+    // ── Work splitting ────────────────────────────────────────────────────────
+
+    /**
+     * Claims and runs the shards of {@code job} not yet claimed or completed for {@code runKey}.
+     * Each replica starts at a different offset, so replicas firing together spread over the
+     * shards instead of contending for the first. A failed shard is released for another replica.
+     *
+     * @return the sum of {@code task} over the shards run here
+     */
+    public long runShards(String job, String runKey, List<String> shards, Duration ttl,
+                          ToLongFunction<String> task) {
+        if (shards.isEmpty()) {
+            return 0;
+        }
+        int start = Math.floorMod(owner.hashCode(), shards.size());
+        long total = 0;
+        int claimed = 0;
+        for (int i = 0; i < shards.size(); i++) {
+            String shard = shards.get((start + i) % shards.size());
+            Optional<JobLease> lease;
+            try {
+                lease = grant(job + "." + shard, ttl, runKey);
+            } catch (Exception e) {
+                skipped(job, "lease_error");
+                log.warn("event=job.lease outcome=failure job={} shard={} error={}", job, shard, e.getMessage());
+                continue;
+            }
+            if (lease.isEmpty()) {
+                continue;
+            }
+            claimed++;
+            try {
+                total += task.applyAsLong(shard);
+            } catch (RuntimeException e) {
+                log.error("event=job.shard outcome=failure job={} shard={}", job, shard, e);
+                release(lease.get());
+                continue;
+            }
+            complete(lease.get());
+        }
+        meterRegistry.counter(JOB_SHARDS_CLAIMED, "job", job).increment(claimed);
+        log.info("event=job.shards outcome=success job={} runKey={} claimed={} total={}",
+                job, runKey, claimed, shards.size());
+        return total;
+    }
+
+    // ── Fencing ───────────────────────────────────────────────────────────────
+
+    /**
+     * Runs {@code write} in one transaction that first checks {@code lease} is still current and
+     * locks it, so the lease cannot pass to another replica until the write commits.
+     *
+     * @throws OptimisticLockingFailureException if the lease has changed hands
+     */
+    @Transactional
+    public <T> T fenced(JobLease lease, Supplier<T> write) {
+        if (properties.isEnabled() && !repository.fence(lease.name(), lease.token())) {
+            meterRegistry.counter(JOB_LEASE_FENCED, "job", lease.name()).increment();
+            log.error("event=job.lease.fenced outcome=rejected job={} token={}", lease.name(), lease.token());
+            throw new OptimisticLockingFailureException(
+                    "Lease " + lease.name() + " token " + lease.token() + " was superseded");
+        }
+        return write.get();
+    }
+
+    // ── Internals ─────────────────────────────────────────────────────────────
+
+    private Optional<JobLease> tryAcquire(String job, Duration ttl, String runKey) {
+        AtomicLong held = held(job);
+        Optional<JobLease> lease;
+        try {
+            lease = grant(job, ttl, runKey);
+        } catch (Exception e) {
+            held.set(0);
+            skipped(job, "lease_error");
+            log.warn("event=job.lease outcome=failure job={} error={}", job, e.getMessage());
+            return Optional.empty();
+        }
+        if (lease.isEmpty()) {
+            held.set(0);
+            skipped(job, "lease_held");
+            log.debug("event=job.lease outcome=skipped job={} runKey={} reason=lease_held", job, runKey);
+            return Optional.empty();
+        }
+        long token = lease.get().token();
+        if (held.getAndSet(token) != token) {
+            meterRegistry.counter(JOB_LEASE_ACQUIRED, "job", job).increment();
+            log.info("event=job.lease outcome=acquired job={} token={} owner={}", job, token, owner);
+        }
+        return lease;
+    }
+
+    private Optional<JobLease> grant(String name, Duration ttl, String runKey) {
+        if (!properties.isEnabled()) {
+            return Optional.of(new JobLease(name, 0, runKey));
+        }
+        OptionalLong token = repository.acquire(name, owner, ttl, runKey);
+        return token.isPresent()
+                ? Optional.of(new JobLease(name, token.getAsLong(), runKey))
+                : Optional.empty();
+    }
+
+    private void skipped(String job, String reason) {
+        meterRegistry.counter(JOB_EXECUTION_SKIPPED, "job", job, "reason", reason).increment();
+    }
+
+    private void complete(JobLease lease) {
+        unheld(lease);
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            if (!repository.complete(lease.name(), lease.token(), lease.runKey())) {
+                log.warn("event=job.lease.complete outcome=rejected job={} token={} reason=superseded",
+                        lease.name(), lease.token());
+            }
+        } catch (Exception e) {
+            log.warn("event=job.lease.complete outcome=failure job={} error={}", lease.name(), e.getMessage());
+        }
+    }
+
+    private void release(JobLease lease) {
+        unheld(lease);
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            repository.release(lease.name(), lease.token());
+        } catch (Exception e) {
+            log.warn("event=job.lease.release outcome=failure job={} error={}", lease.name(), e.getMessage());
+        }
+    }
+
+    private void unheld(JobLease lease) {
+        AtomicLong held = heldTokens.get(lease.name());
+        if (held != null) {
+            held.set(0);
+        }
+    }
+
+    private AtomicLong held(String name) {
+        return heldTokens.computeIfAbsent(name, n -> {
+            AtomicLong token = new AtomicLong();
+            Gauge.builder(JOB_LEASE_HELD, token, t -> t.get() > 0 ? 1 : 0)
+                    .tag("job", n)
+                    .description("1 while this replica holds the job's lease")
+                    .register(meterRegistry);
+            return token;
+        });
+    }
+}
@@ -0,0 +1,281 @@
+package com.company.observability.service.live;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.enums.Frequency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Replica-local materialized view of every run on the hot reporting dates, indexed by
+ * (reportingDate, frequency) → calculator name → runs in dimension order (correlationId, region,
+ * runType, createdAt — the order {@code findAllRunsByDateAndDimension} returns). The run_number
+ * filter is applied on read; a calculator has a handful of runs per date.
+ *
+ * <p>Each calculator's slot carries the change version its runs reflect. A read passes the
+ * versions the request already holds from {@code ChangeVersionService}; a slot behind them is not
+ * served, so a replica that has not yet applied a change falls back to the cache/DB path instead
+ * of answering stale. A slot's version only advances one change at a time: a change that arrives
+ * ahead of its predecessor (this replica's own write, applied before the poller has replayed
+ * another replica's earlier one) updates the runs but leaves the version, and the poller closes
+ * the gap. Slots are immutable and replaced atomically, so reads never lock.
+ *
+ * <p>The loaded window — its days, start date and readiness — is one immutable reference, so a
+ * reader never pairs a new window's unreplayed days with the old one's readiness.
+ *
+ * <p>Filled and kept current by {@link LiveRunStoreLoader}; idle (never ready) when
+ * {@code observability.live-state.enabled} or {@code observability.change-feed.enabled} is off.
+ */
+@Component
+public class LiveRunStore {
+
+    /** Rough per-run cost excluding strings: the object, boxed longs, Instants and the LocalDate. */
+    static final long RUN_BASE_BYTES = 320;
+
+    static final Comparator<CalculatorRun> DIMENSION_ORDER = Comparator
+            .comparing((CalculatorRun run) -> Objects.requireNonNullElse(run.getCorrelationId(), ""))
+            .thenComparing(run -> Objects.requireNonNullElse(run.getRegion(), ""))
+            .thenComparing(run -> Objects.requireNonNullElse(run.getRunType(), ""))
+            .thenComparing(CalculatorRun::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    record DayKey(LocalDate reportingDate, Frequency frequency) {}
+
+    /** One calculator's runs on one day and the change version they reflect. */
+    record NameRuns(long version, List<CalculatorRun> runs) {}
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /** A loaded window; {@code from} is null until the first bootstrap. */
+    private record Window(LocalDate from, Map<DayKey, ConcurrentHashMap<String, NameRuns>> days, boolean ready) {
+
+        boolean covers(LocalDate reportingDate) {
+            return ready && from != null && !reportingDate.isBefore(from);
+        }
+    }
+
+    private volatile Window window = new Window(null, new ConcurrentHashMap<>(), false);
+    private volatile Instant syncedAt;
+
+    public LiveRunStore(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter(LIVE_STORE_HIT);
+        this.misses = meterRegistry.counter(LIVE_STORE_MISS);
+        Gauge.builder(LIVE_STORE_RUNS, this, LiveRunStore::runCount).register(meterRegistry);
+        Gauge.builder(LIVE_STORE_BYTES, this, LiveRunStore::estimatedBytes)
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder(LIVE_STORE_STALENESS, this, LiveRunStore::stalenessSeconds)
+                .baseUnit("seconds").register(meterRegistry);
+    }
+
+    // ── Read ──────────────────────────────────────────────────────────────────
+
+    /** Whether the store is bootstrapped and holds {@code reportingDate}. */
+    public boolean covers(LocalDate reportingDate) {
+        return window.covers(reportingDate);
+    }
+
+    /**
+     * Runs per calculator for the names memory can answer, filtered like
+     * {@code findAllRunsByDateAndDimension} ({@code run_number} match or null). Names without runs
+     * (not-started projections) and names whose slot is behind {@code versions} are left out, as
+     * is everything while the store does not {@linkplain #covers cover} the date.
+     *
+     * @return copies, safe for the caller to mutate
+     */
+    public Map<String, List<CalculatorRun>> findRuns(LocalDate reportingDate, Frequency frequency,
+                                                     String runNumber, Map<String, Long> versions) {
+        Window current = window;
+        Map<String, NameRuns> day = current.covers(reportingDate)
+                ? current.days().get(new DayKey(reportingDate, frequency)) : null;
+        Map<String, List<CalculatorRun>> found = new HashMap<>();
+        if (day != null) {
+            versions.forEach((name, version) -> {
+                NameRuns slot = day.get(name);
+                if (slot == null || slot.version() < version) {
+                    return;
+                }
+                List<CalculatorRun> runs = new ArrayList<>(slot.runs().size());
+                for (CalculatorRun run : slot.runs()) {
+                    if (runNumber == null || run.getRunNumber() == null || runNumber.equals(run.getRunNumber())) {
+                        runs.add(copy(run));
+                    }
+                }
+                if (!runs.isEmpty()) {
+                    found.put(name, runs);
+                }
+            });
+        }
+        hits.increment(found.size());
+        misses.increment(versions.size() - found.size());
+        return found;
+    }
+
+    // ── Write ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Swaps in a freshly loaded window. The store stays unready until {@link #markReady()} — the
+     * loader first replays the changes committed while the DB was being read.
+     *
+     * @param runs     every run from {@code from} onwards, in dimension order per calculator
+     * @param versions change versions read for those runs, per day
+     */
+    void replace(LocalDate from, List<CalculatorRun> runs, Map<DayKey, Map<String, Long>> versions) {
+        Map<DayKey, Map<String, List<CalculatorRun>>> grouped = new HashMap<>();
+        for (CalculatorRun run : runs) {
+            grouped.computeIfAbsent(new DayKey(run.getReportingDate(), run.getFrequency()), k -> new HashMap<>())
+                    .computeIfAbsent(run.getCalculatorName(), k -> new ArrayList<>())
+                    .add(run);
+        }
+        Map<DayKey, ConcurrentHashMap<String, NameRuns>> loaded = new ConcurrentHashMap<>();
+        grouped.forEach((key, byName) -> {
+            Map<String, Long> dayVersions = versions.getOrDefault(key, Map.of());
+            ConcurrentHashMap<String, NameRuns> day = new ConcurrentHashMap<>();
+            byName.forEach((name, nameRuns) ->
+                    day.put(name, new NameRuns(dayVersions.getOrDefault(name, 0L), List.copyOf(nameRuns))));
+            loaded.put(key, day);
+        });
+        window = new Window(from, loaded, false);
+    }
+
+    void markReady() {
+        Window current = window;
+        window = new Window(current.from(), current.days(), true);
+        markSynced();
+    }
+
+    void markSynced() {
+        syncedAt = Instant.now();
+    }
+
+    /**
+     * Upserts the changed run by runId and raises its calculator's version if the change is the
+     * next one. Changes for dates outside the window, or arriving before the first bootstrap, are
+     * ignored.
+     */
+    public void apply(RunChange change) {
+        CalculatorRun run = change.run();
+        Window loaded = window;
+        LocalDate from = loaded.from();
+        if (from == null || run.getRunId() == null || run.getCalculatorName() == null
+                || run.getReportingDate() == null || run.getReportingDate().isBefore(from)) {
+            return;
+        }
+        loaded.days().computeIfAbsent(new DayKey(run.getReportingDate(), run.getFrequency()), k -> new ConcurrentHashMap<>())
+                .compute(run.getCalculatorName(), (name, current) -> merge(current, change));
+    }
+
+    private static NameRuns merge(NameRuns current, RunChange change) {
+        CalculatorRun incoming = change.run();
+        if (current == null) {
+            // No runs at bootstrap: only the change that created the counter has no predecessor
+            return new NameRuns(change.first() ? change.version() : 0, List.of(incoming));
+        }
+        List<CalculatorRun> runs = new ArrayList<>(current.runs().size() + 1);
+        boolean replaced = false;
+        for (CalculatorRun existing : current.runs()) {
+            if (existing.getRunId().equals(incoming.getRunId())) {
+                // Event listeners run concurrently, so a start can land after its completion:
+                // a terminal run is never rolled back to RUNNING
+                boolean rollback = !incoming.getStatus().isTerminal() && existing.getStatus().isTerminal();
+                runs.add(rollback ? existing : incoming);
+                replaced = true;
+            } else {
+                runs.add(existing);
+            }
+        }
+        if (!replaced) {
+            runs.add(incoming);
+            runs.sort(DIMENSION_ORDER);
+        }
+        // Only the next version is claimed: jumping ahead would vouch for a change still in flight
+        // from another replica, which the poller applies in stream order shortly
+        long version = isNext(current, change) ? change.version() : current.version();
+        return new NameRuns(version, List.copyOf(runs));
+    }
+
+    /** The counter is seeded from the clock, so its first version follows 0 rather than being 1. */
+    private static boolean isNext(NameRuns current, RunChange change) {
+        return change.first() ? current.version() == 0 : change.version() == current.version() + 1;
+    }
+
+    // ── Metrics ───────────────────────────────────────────────────────────────
+
+    LocalDate coveredFrom() {
+        return window.from();
+    }
+
+    int runCount() {
+        int count = 0;
+        for (Map<String, NameRuns> day : window.days().values()) {
+            for (NameRuns slot : day.values()) {
+                count += slot.runs().size();
+            }
+        }
+        return count;
+    }
+
+    long estimatedBytes() {
+        long bytes = 0;
+        for (Map<String, NameRuns> day : window.days().values()) {
+            for (Map.Entry<String, NameRuns> entry : day.entrySet()) {
+                bytes += 96 + stringBytes(entry.getKey());
+                for (CalculatorRun run : entry.getValue().runs()) {
+                    bytes += RUN_BASE_BYTES + stringBytes(run.getRunId()) + stringBytes(run.getCalculatorId())
+                            + stringBytes(run.getCalculatorName()) + stringBytes(run.getTenantId())
+                            + stringBytes(run.getSlaBreachReason()) + stringBytes(run.getRunNumber())
+                            + stringBytes(run.getRunType()) + stringBytes(run.getRegion())
+                            + stringBytes(run.getCorrelationId());
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private double stalenessSeconds() {
+        Instant at = syncedAt;
+        return at == null ? Double.NaN : Duration.between(at, Instant.now()).toMillis() / 1000.0;
+    }
+
+    /** Compact (Latin-1) string: header plus backing array. */
+    private static long stringBytes(String s) {
+        return s == null ? 0 : 40 + s.length();
+    }
+
+    /** The run without its JSONB maps or the transient rerun flag. */
+    static CalculatorRun copy(CalculatorRun run) {
+        return CalculatorRun.builder()
+                .runId(run.getRunId())
+                .calculatorId(run.getCalculatorId())
+                .calculatorName(run.getCalculatorName())
+                .tenantId(run.getTenantId())
+                .frequency(run.getFrequency())
+                .reportingDate(run.getReportingDate())
+                .startTime(run.getStartTime())
+                .endTime(run.getEndTime())
+                .durationMs(run.getDurationMs())
+                .status(run.getStatus())
+                .slaTime(run.getSlaTime())
+                .expectedDurationMs(run.getExpectedDurationMs())
+                .estimatedStartTime(run.getEstimatedStartTime())
+                .estimatedEndTime(run.getEstimatedEndTime())
+                .slaBand(run.getSlaBand())
+                .slaBreached(run.isSlaBreached())
+                .slaBreachReason(run.getSlaBreachReason())
+                .runNumber(run.getRunNumber())
+                .runType(run.getRunType())
+                .region(run.getRegion())
+                .correlationId(run.getCorrelationId())
+                .createdAt(run.getCreatedAt())
+                .updatedAt(run.getUpdatedAt())
+                .build();
+    }
+}
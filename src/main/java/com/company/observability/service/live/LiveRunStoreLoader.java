@@ -0,0 +1,128 @@
+package com.company.observability.service.live;
+
+import com.company.observability.cache.ChangeVersionService;
+import com.company.observability.config.LiveStateProperties;
+import com.company.observability.datasource.RecentWrites;
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.repository.CalculatorRunRepository;
+import com.company.observability.service.live.LiveRunStore.DayKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Keeps {@link LiveRunStore} current: bootstraps it from {@code calculator_runs} on the first
+ * tick, then polls the {@link RunChangeStream} from the last id it applied.
+ *
+ * <p>A bootstrap captures the stream tail before reading the DB, reads the change versions after,
+ * and replays the stream from the tail before marking the store ready — every change committed
+ * while the DB was being read is applied, and no version is claimed without its change. The store
+ * is reloaded every {@code rebootstrap-interval-ms} and whenever the hot window rolls to a new day;
+ * a failed poll forces a reload on the next tick, since entries may have been trimmed meanwhile.
+ * Applied changes are also recorded in {@link RecentWrites}, for read-your-writes on read replicas.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnExpression("${observability.live-state.enabled:true} and ${observability.change-feed.enabled:true}")
+public class LiveRunStoreLoader {
+
+    private final LiveRunStore store;
+    private final RunChangeStream changeStream;
+    private final CalculatorRunRepository runRepository;
+    private final ChangeVersionService changeVersions;
+    private final RecentWrites recentWrites;
+    private final LiveStateProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Scheduler thread only
+    private String lastId;
+    private Instant bootstrappedAt;
+
+    @Scheduled(fixedDelayString = "${observability.live-state.poll-interval-ms:500}")
+    public void sync() {
+        try {
+            if (lastId == null || reloadDue()) {
+                bootstrap();
+            } else {
+                drain();
+                store.markSynced();
+            }
+        } catch (Exception e) {
+            lastId = null;
+            log.warn("event=live_state.sync outcome=failure error={}", e.getMessage());
+        }
+    }
+
+    void bootstrap() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            LocalDate from = LocalDate.now().minusDays(properties.getHotDays());
+            String tail = changeStream.tailId();
+            List<CalculatorRun> runs = runRepository.findRunsFromDate(from);
+
+            Map<DayKey, Set<String>> namesByDay = new HashMap<>();
+            for (CalculatorRun run : runs) {
+                namesByDay.computeIfAbsent(new DayKey(run.getReportingDate(), run.getFrequency()),
+                        k -> new LinkedHashSet<>()).add(run.getCalculatorName());
+            }
+            Map<DayKey, Map<String, Long>> versions = new HashMap<>();
+            for (Map.Entry<DayKey, Set<String>> day : namesByDay.entrySet()) {
+                Map<String, Long> dayVersions = changeVersions.getVersions(
+                        day.getKey().reportingDate(), day.getKey().frequency().name(), day.getValue());
+                if (dayVersions == null) {
+                    throw new IllegalStateException("change versions unavailable");
+                }
+                versions.put(day.getKey(), dayVersions);
+            }
+
+            store.replace(from, runs, versions);
+            lastId = tail;
+            drain();
+            store.markReady();
+            bootstrappedAt = Instant.now();
+            outcome = "success";
+            log.info("event=live_state.bootstrap outcome=success from={} days={} runs={} estimatedBytes={}",
+                    from, namesByDay.size(), runs.size(), store.estimatedBytes());
+        } finally {
+            sample.stop(Timer.builder(LIVE_STORE_BOOTSTRAP)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void drain() {
+        Timer lag = meterRegistry.timer(LIVE_STREAM_LAG);
+        int batchSize = properties.getPollBatchSize();
+        List<RunChangeStream.Entry> batch;
+        do {
+            batch = changeStream.read(lastId, batchSize);
+            Instant now = Instant.now();
+            for (RunChangeStream.Entry entry : batch) {
+                if (entry.change() != null) {
+                    store.apply(entry.change());
+                    recentWrites.record(entry.change().run(), entry.change().publishedAt());
+                    lag.record(Duration.between(entry.change().publishedAt(), now));
+                }
+                lastId = entry.id();
+            }
+        } while (batch.size() >= batchSize);
+    }
+
+    private boolean reloadDue() {
+        return !LocalDate.now().minusDays(properties.getHotDays()).equals(store.coveredFrom())
+                || bootstrappedAt.plusMillis(properties.getRebootstrapIntervalMs()).isBefore(Instant.now());
+    }
+}
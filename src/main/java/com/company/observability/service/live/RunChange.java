@@ -0,0 +1,23 @@
+package com.company.observability.service.live;
+
+import com.company.observability.domain.CalculatorRun;
+
+import java.time.Instant;
+
+/**
+ * One committed run change as carried by the change stream: the run as written, the change
+ * version it produced for its (calculator, reportingDate, frequency) and when it was published.
+ *
+ * @param type        {@code STARTED}, {@code COMPLETED} or {@code SLA_BREACHED}
+ * @param version     value of the {@code obs:version:*} counter after this change
+ * @param first       whether this change created the counter, which is seeded from the clock —
+ *                    so the calculator had no earlier change on the day
+ * @param publishedAt when the change was appended; the reader's lag is measured from it
+ * @param run         the run without its JSONB maps
+ */
+public record RunChange(String type, long version, boolean first, Instant publishedAt, CalculatorRun run) {
+
+    public static final String STARTED = "STARTED";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String SLA_BREACHED = "SLA_BREACHED";
+}
@@ -0,0 +1,164 @@
+package com.company.observability.service.live;
+
+import com.company.observability.config.ChangeFeedProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * This replica's member of the change-feed consumer group: reads new entries of the
+ * {@link RunChangeStream}, hands each one to every {@link RunChangeProcessor} and acknowledges it
+ * once all of them succeeded.
+ *
+ * <p>Each change is delivered to one replica of the fleet, whichever polls first. An entry left
+ * unacknowledged — a processor failed, or the replica died before acknowledging — is claimed
+ * after {@code claim-idle-ms} by the next replica to poll, and dropped once it has been delivered
+ * {@code max-deliveries} times. The group is created at the stream tail on first use and recreated
+ * after any failed poll, which also covers the stream having been deleted.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(
+        value = "observability.change-feed.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RunChangeFeedConsumer {
+
+    private final RunChangeStream changeStream;
+    private final List<RunChangeProcessor> processors;
+    private final ChangeFeedProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String consumerName;
+    private final AtomicLong pending = new AtomicLong();
+
+    // Scheduler thread only
+    private boolean groupReady;
+
+    @Autowired
+    public RunChangeFeedConsumer(RunChangeStream changeStream, List<RunChangeProcessor> processors,
+                                 ChangeFeedProperties properties, MeterRegistry meterRegistry) {
+        this(changeStream, processors, properties, meterRegistry, ManagementFactory.getRuntimeMXBean().getName());
+    }
+
+    RunChangeFeedConsumer(RunChangeStream changeStream, List<RunChangeProcessor> processors,
+                          ChangeFeedProperties properties, MeterRegistry meterRegistry, String consumerName) {
+        this.changeStream = changeStream;
+        this.processors = processors;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.consumerName = consumerName;
+        Gauge.builder(CHANGE_FEED_PENDING, pending, AtomicLong::get)
+                .description("Change-feed entries delivered to the group and not yet acknowledged")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${observability.change-feed.poll-interval-ms:500}")
+    public void poll() {
+        String group = properties.getConsumerGroup();
+        try {
+            if (!groupReady) {
+                changeStream.ensureGroup(group);
+                groupReady = true;
+            }
+            reclaim(group);
+            consume(group);
+        } catch (Exception e) {
+            groupReady = false;
+            log.warn("event=change_feed.poll outcome=failure group={} error={}", group, e.getMessage());
+        }
+    }
+
+    private void consume(String group) {
+        int batchSize = properties.getPollBatchSize();
+        List<RunChangeStream.Entry> batch;
+        do {
+            batch = changeStream.readGroup(group, consumerName, batchSize);
+            changeStream.ack(group, process(batch));
+        } while (batch.size() >= batchSize);
+    }
+
+    /** Takes over entries other consumers (or this one) failed to acknowledge in time. */
+    private void reclaim(String group) {
+        long total = changeStream.pendingCount(group);
+        pending.set(total);
+        if (total == 0) {
+            return;
+        }
+        Duration minIdle = Duration.ofMillis(properties.getClaimIdleMs());
+        List<String> claimable = new ArrayList<>();
+        List<String> exhausted = new ArrayList<>();
+        for (RunChangeStream.Pending entry : changeStream.pending(group, properties.getPollBatchSize())) {
+            if (entry.idle().compareTo(minIdle) < 0) {
+                continue;
+            }
+            if (entry.deliveries() >= properties.getMaxDeliveries()) {
+                exhausted.add(entry.id());
+            } else {
+                claimable.add(entry.id());
+            }
+        }
+        if (!exhausted.isEmpty()) {
+            changeStream.ack(group, exhausted);
+            meterRegistry.counter(CHANGE_FEED_PROCESSED, "outcome", "dropped").increment(exhausted.size());
+            log.error("event=change_feed.drop outcome=failure group={} ids={} reason=max_deliveries", group, exhausted);
+        }
+        if (!claimable.isEmpty()) {
+            List<RunChangeStream.Entry> claimed = changeStream.claim(group, consumerName, minIdle, claimable);
+            meterRegistry.counter(CHANGE_FEED_RECLAIMED).increment(claimed.size());
+            changeStream.ack(group, process(claimed));
+        }
+    }
+
+    /** @return ids of the entries that may be acknowledged */
+    private List<String> process(List<RunChangeStream.Entry> entries) {
+        List<String> done = new ArrayList<>(entries.size());
+        Timer lag = meterRegistry.timer(CHANGE_FEED_LAG);
+        for (RunChangeStream.Entry entry : entries) {
+            RunChange change = entry.change();
+            if (change == null) {
+                // Undecodable: no redelivery will fix it
+                done.add(entry.id());
+                meterRegistry.counter(CHANGE_FEED_PROCESSED, "outcome", "dropped").increment();
+                continue;
+            }
+            if (processAll(entry.id(), change)) {
+                done.add(entry.id());
+                lag.record(Duration.between(change.publishedAt(), Instant.now()));
+                meterRegistry.counter(CHANGE_FEED_PROCESSED, "outcome", "acked").increment();
+            } else {
+                meterRegistry.counter(CHANGE_FEED_PROCESSED, "outcome", "retry").increment();
+            }
+        }
+        return done;
+    }
+
+    private boolean processAll(String id, RunChange change) {
+        boolean ok = true;
+        for (RunChangeProcessor processor : processors) {
+            try {
+                ok &= processor.process(change);
+            } catch (Exception e) {
+                ok = false;
+                log.warn("event=change_feed.process outcome=failure id={} processor={} error={}",
+                        id, ClassUtils.getUserClass(processor).getSimpleName(), e.getMessage());
+            }
+        }
+        return ok;
+    }
+}
@@ -0,0 +1,16 @@
+package com.company.observability.service.live;
+
+/**
+ * Work applied once per committed run change across the whole fleet — shared Redis cache
+ * invalidation, typically. Processors are driven by the {@link RunChangeFeedConsumer} group.
+ *
+ * <p>Delivery is at-least-once: a change is redelivered until every processor has succeeded, so
+ * processing must be idempotent.
+ */
+public interface RunChangeProcessor {
+
+    /**
+     * @return {@code false} when the change was not fully applied and must be delivered again
+     */
+    boolean process(RunChange change);
+}
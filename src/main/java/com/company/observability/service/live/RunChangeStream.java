@@ -0,0 +1,221 @@
+package com.company.observability.service.live;
+
+import com.company.observability.config.ChangeFeedProperties;
+import com.company.observability.domain.CalculatorRun;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@value #STREAM_KEY} Redis Stream of committed run changes — the change feed that keeps
+ * every replica's {@link LiveRunStore} current and drives cache invalidation through the
+ * {@link RunChangeFeedConsumer} group.
+ *
+ * <p>Appending is done together with the change-version bump in one script, so a replica that
+ * reads version N for a calculator is guaranteed to find change N in the stream; the store's
+ * version gate relies on that. Entries carry {@code version}, {@code type}, {@code at} (epoch
+ * millis) and {@code run} (JSON, without the JSONB maps). The stream is trimmed to roughly
+ * {@code observability.change-feed.stream-max-len} entries.
+ *
+ * <p>Plain reads ({@link #read}) serve replica-local state; the group methods serve work that
+ * must happen once per change across the fleet.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(
+        value = "observability.change-feed.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RunChangeStream {
+
+    public static final String STREAM_KEY = "obs:runs:changes";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> BUMP_AND_APPEND = new DefaultRedisScript<>("""
+            local first = redis.call('EXISTS', KEYS[1]) == 0
+            if first then
+                redis.call('SET', KEYS[1], ARGV[4])
+            end
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[2], '*',
+                       'version', version, 'first', first and '1' or '0',
+                       'type', ARGV[3], 'at', ARGV[4], 'run', ARGV[5])
+            return {version, first and 1 or 0}
+            """, List.class);
+
+    /** One stream entry: its id (the replay position) and the decoded change. */
+    public record Entry(String id, RunChange change) {}
+
+    /** An entry delivered to the group but not yet acknowledged. */
+    public record Pending(String id, long deliveries, Duration idle) {}
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LiveRunStore store;
+    private final ChangeFeedProperties properties;
+
+    /**
+     * Increments {@code versionKey} and appends the change atomically, then applies it to this
+     * replica's store so a read here sees its own write without waiting for the next poll — unless
+     * another replica's earlier change is still unreplayed, in which case the store keeps the
+     * older version until the poller catches up.
+     *
+     * <p>A missing counter is seeded with the change's epoch millis before the increment, so one
+     * recreated after expiry never hands out a version an earlier one did.
+     *
+     * @return the new version
+     */
+    public long bumpAndAppend(String versionKey, Duration versionTtl, CalculatorRun run, String type)
+            throws JsonProcessingException {
+        CalculatorRun slim = LiveRunStore.copy(run);
+        Instant now = Instant.now();
+        List<?> reply = redisTemplate.execute(BUMP_AND_APPEND, List.of(versionKey, STREAM_KEY),
+                String.valueOf(versionTtl.toMillis()), String.valueOf(properties.getStreamMaxLen()),
+                type, String.valueOf(now.toEpochMilli()), objectMapper.writeValueAsString(slim));
+        long bumped = reply != null ? ((Number) reply.get(0)).longValue() : 0L;
+        boolean first = reply != null && ((Number) reply.get(1)).longValue() == 1;
+        store.apply(new RunChange(type, bumped, first, now, slim));
+        return bumped;
+    }
+
+    /** Id of the newest entry, or {@code 0-0} when the stream is empty — the replay point for a bootstrap. */
+    public String tailId() {
+        List<MapRecord<String, Object, Object>> last = redisTemplate.opsForStream()
+                .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        return last == null || last.isEmpty() ? "0-0" : last.get(0).getId().getValue();
+    }
+
+    /** Up to {@code count} entries after {@code afterId}, oldest first. */
+    public List<Entry> read(String afterId, int count) {
+        return decode(redisTemplate.opsForStream().read(
+                StreamReadOptions.empty().count(count),
+                offset(ReadOffset.from(afterId))));
+    }
+
+    /**
+     * The stream at {@code readOffset}, as the one-element array the varargs {@code read} methods
+     * take. Passing a single generic offset would make the compiler create that array, with an
+     * unchecked warning at every call site; the unchecked creation is confined to here.
+     */
+    @SuppressWarnings("unchecked")
+    private static StreamOffset<String>[] offset(ReadOffset readOffset) {
+        return new StreamOffset[] {StreamOffset.create(STREAM_KEY, readOffset)};
+    }
+
+    // ── Consumer group ────────────────────────────────────────────────────────
+
+    /**
+     * Creates {@code group} at the end of the stream (creating the stream too) unless it already
+     * exists. A new group only sees changes appended after it was created.
+     */
+    public void ensureGroup(String group) {
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.latest(), group);
+            log.info("event=change_feed.group_create outcome=success group={}", group);
+        } catch (Exception e) {
+            if (!isBusyGroup(e)) {
+                throw e;
+            }
+        }
+    }
+
+    /** Up to {@code count} entries never delivered to {@code group}, now owned by {@code consumer}. */
+    public List<Entry> readGroup(String group, String consumer, int count) {
+        return decode(redisTemplate.opsForStream().read(
+                Consumer.from(group, consumer),
+                StreamReadOptions.empty().count(count),
+                offset(ReadOffset.lastConsumed())));
+    }
+
+    /** Total entries delivered to {@code group} and not yet acknowledged. */
+    public long pendingCount(String group) {
+        PendingMessagesSummary summary = redisTemplate.opsForStream().pending(STREAM_KEY, group);
+        return summary != null ? summary.getTotalPendingMessages() : 0L;
+    }
+
+    /** The {@code count} oldest unacknowledged entries of {@code group}, with their delivery counts. */
+    public List<Pending> pending(String group, int count) {
+        PendingMessages messages = redisTemplate.opsForStream()
+                .pending(STREAM_KEY, group, Range.unbounded(), count);
+        if (messages == null || messages.isEmpty()) {
+            return List.of();
+        }
+        List<Pending> pending = new ArrayList<>(messages.size());
+        for (PendingMessage message : messages) {
+            pending.add(new Pending(message.getIdAsString(), message.getTotalDeliveryCount(),
+                    message.getElapsedTimeSinceLastDelivery()));
+        }
+        return pending;
+    }
+
+    /**
+     * Moves the given entries to {@code consumer} if they are still idle for {@code minIdle} —
+     * two replicas racing for the same entry cannot both win it. Entries trimmed from the stream
+     * meanwhile are not returned.
+     */
+    public List<Entry> claim(String group, String consumer, Duration minIdle, List<String> ids) {
+        return decode(redisTemplate.opsForStream().claim(STREAM_KEY, group, consumer,
+                XClaimOptions.minIdle(minIdle).ids(ids)));
+    }
+
+    public void ack(String group, List<String> ids) {
+        if (!ids.isEmpty()) {
+            redisTemplate.opsForStream().acknowledge(STREAM_KEY, group, ids.toArray(String[]::new));
+        }
+    }
+
+    /** An undecodable entry comes back with a {@code null} change so readers still advance past it. */
+    private List<Entry> decode(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        List<Entry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            String id = record.getId().getValue();
+            Map<Object, Object> fields = record.getValue();
+            try {
+                long version = Long.parseLong((String) fields.get("version"));
+                // Entries appended before counters were seeded carry no flag; theirs started at 1
+                Object first = fields.get("first");
+                entries.add(new Entry(id, new RunChange(
+                        (String) fields.get("type"),
+                        version,
+                        first != null ? "1".equals(first) : version == 1,
+                        Instant.ofEpochMilli(Long.parseLong((String) fields.get("at"))),
+                        objectMapper.readValue((String) fields.get("run"), CalculatorRun.class))));
+            } catch (Exception e) {
+                log.warn("event=change_feed.decode outcome=failure id={} error={}", id, e.getMessage());
+                entries.add(new Entry(id, null));
+            }
+        }
+        return entries;
+    }
+
+    private static boolean isBusyGroup(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("BUSYGROUP")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,11 +2,12 @@ package com.company.observability.service.projection;
 
 import com.company.observability.domain.RunWithSlaStatus;
 import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.domain.enums.SlaBand;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Groups physical calculator runs that share a correlationId into one logical run.
@@ -55,90 +56,152 @@ public final class LogicalRunGrouper {
             return Collections.emptyList();
         }
 
-        // Partition into groups keyed by (correlationId) or (runId) for singletons.
+        // Accumulate per group keyed by (correlationId) or (runId) for singletons.
         // LinkedHashMap preserves first-seen order so output ordering is stable.
-        Map<String, List<RunWithSlaStatus>> groups = new LinkedHashMap<>();
+        Map<String, GroupAccumulator> groups = new LinkedHashMap<>();
         for (RunWithSlaStatus run : runs) {
-            String key = run.correlationId() != null ? run.correlationId() : run.runId();
-            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(run);
+            String key = groupKey(run);
+            GroupAccumulator group = groups.get(key);
+            if (group == null) {
+                groups.put(key, new GroupAccumulator(run));
+            } else {
+                group.add(run);
+            }
         }
 
-        return groups.values().stream()
-                .map(LogicalRunGrouper::collapse)
-                .collect(Collectors.toList());
+        List<LogicalRun> result = new ArrayList<>(groups.size());
+        for (GroupAccumulator group : groups.values()) {
+            result.add(group.toLogicalRun());
+        }
+        return result;
+    }
+
+    /**
+     * Incremental variant of {@link #groupWithSla} for input in which every split of a group is
+     * contiguous, with groups in first-seen order — the order produced by
+     * {@code CalculatorRunRepository.streamRunsWithSlaStatus}. Only the current group's running
+     * aggregates are held; each completed group is collapsed and handed to {@code downstream}
+     * immediately, so the output matches {@code groupWithSla} over the same rows.
+     */
+    public static ContiguousGrouper contiguous(Consumer<LogicalRun> downstream) {
+        return new ContiguousGrouper(downstream);
     }
 
-    private static LogicalRun collapse(List<RunWithSlaStatus> splits) {
-        if (splits.size() == 1) {
-            return toSingleton(splits.get(0));
+    public static final class ContiguousGrouper implements Consumer<RunWithSlaStatus> {
+
+        private final Consumer<LogicalRun> downstream;
+        private GroupAccumulator current;
+        private String currentKey;
+
+        private ContiguousGrouper(Consumer<LogicalRun> downstream) {
+            this.downstream = downstream;
         }
 
-        // First split in list is earliest (repository orders ASC by created_at)
-        RunWithSlaStatus first = splits.get(0);
-
-        String representativeRunId = first.runId();
-        LocalDate reportingDate = splits.stream()
-                .map(RunWithSlaStatus::reportingDate)
-                .filter(Objects::nonNull)
-                .min(Comparator.naturalOrder())
-                .orElse(first.reportingDate());
-
-        Instant startTime = splits.stream()
-                .map(RunWithSlaStatus::startTime)
-                .filter(Objects::nonNull)
-                .min(Comparator.naturalOrder())
-                .orElse(first.startTime());
-
-        RunStatus worstStatus = worstStatus(splits);
-
-        // Wall-clock end is null while any split is still running
-        Instant endTime = null;
-        Long wallClockMs = null;
-        if (worstStatus != RunStatus.RUNNING) {
-            endTime = splits.stream()
-                    .map(RunWithSlaStatus::endTime)
-                    .filter(Objects::nonNull)
-                    .max(Comparator.naturalOrder())
-                    .orElse(null);
-            if (endTime != null && startTime != null) {
-                wallClockMs = endTime.toEpochMilli() - startTime.toEpochMilli();
+        @Override
+        public void accept(RunWithSlaStatus run) {
+            String key = groupKey(run);
+            if (key.equals(currentKey)) {
+                current.add(run);
+                return;
             }
+            flush();
+            currentKey = key;
+            current = new GroupAccumulator(run);
+        }
+
+        /** Emits the last open group. Must be called once after the final row. */
+        public void finish() {
+            flush();
+            currentKey = null;
         }
 
-        boolean anyBreached = splits.stream().anyMatch(r -> r.slaBand() != null && r.slaBand().isBreached());
+        private void flush() {
+            if (current != null) {
+                downstream.accept(current.toLogicalRun());
+                current = null;
+            }
+        }
+    }
 
-        String breachReason = splits.stream()
-                .map(RunWithSlaStatus::slaBreachReason)
-                .filter(s -> s != null && !s.isBlank())
-                .collect(Collectors.joining("; "));
-        if (breachReason.isBlank()) breachReason = null;
+    private static String groupKey(RunWithSlaStatus run) {
+        return run.correlationId() != null ? run.correlationId() : run.runId();
+    }
 
-        String slaStatus = worstSlaStatus(splits);
+    /**
+     * Running aggregates of one correlation group, folded into a {@link SplitAggregate} once per
+     * split. The first split (earliest by created_at) is the representative; a group of one
+     * collapses to {@link #toSingleton} without aggregating.
+     */
+    private static final class GroupAccumulator {
 
-        List<String> subRunIds = splits.stream()
-                .map(RunWithSlaStatus::runId)
-                .collect(Collectors.toList());
+        private final RunWithSlaStatus first;
+        private SplitAggregate splits;
+        private LocalDate reportingDate;
+        private List<String> subRunIds;
 
-        return new LogicalRun(
-                representativeRunId,
-                first.calculatorId(),
-                first.calculatorName(),
-                null, // tenantId not in RunWithSlaStatus — not needed for projections
-                first.frequency() != null ? first.frequency().name() : null,
-                reportingDate,
-                startTime,
-                endTime,
-                wallClockMs,
-                worstStatus.name(),
-                anyBreached,
-                breachReason,
-                slaStatus,
-                first.slaTime(),
-                first.estimatedStartTime(),
-                subRunIds,
-                splits.get(0).runNumber(),
-                splits.get(0).expectedDurationMs()
-        );
+        GroupAccumulator(RunWithSlaStatus first) {
+            this.first = first;
+        }
+
+        void add(RunWithSlaStatus run) {
+            if (splits == null) {
+                // Most groups are singletons; aggregates start only once a second split arrives
+                splits = new SplitAggregate();
+                subRunIds = new ArrayList<>();
+                accumulate(first);
+            }
+            accumulate(run);
+        }
+
+        private void accumulate(RunWithSlaStatus run) {
+            splits.add(run.status(), run.startTime(), run.endTime(), run.slaBand(), run.slaBreachReason());
+            subRunIds.add(run.runId());
+            LocalDate date = run.reportingDate();
+            if (date != null && (reportingDate == null || date.isBefore(reportingDate))) {
+                reportingDate = date;
+            }
+        }
+
+        LogicalRun toLogicalRun() {
+            if (splits == null) {
+                return toSingleton(first);
+            }
+
+            RunStatus worstStatus = splits.worstStatus();
+            Instant start = splits.minStart() != null ? splits.minStart() : first.startTime();
+
+            // Wall-clock end is null while any split is still running
+            Instant end = null;
+            Long wallClockMs = null;
+            if (worstStatus != RunStatus.RUNNING) {
+                end = splits.maxEnd();
+                if (end != null && start != null) {
+                    wallClockMs = end.toEpochMilli() - start.toEpochMilli();
+                }
+            }
+            SlaBand settledBand = splits.worstSettledBand();
+
+            return new LogicalRun(
+                    first.runId(),
+                    first.calculatorId(),
+                    first.calculatorName(),
+                    null, // tenantId not in RunWithSlaStatus — not needed for projections
+                    first.frequency() != null ? first.frequency().name() : null,
+                    reportingDate != null ? reportingDate : first.reportingDate(),
+                    start,
+                    end,
+                    wallClockMs,
+                    worstStatus.name(),
+                    splits.anyBreached(),
+                    splits.breachReason(),
+                    settledBand != null ? settledBand.name() : "ON_TIME",
+                    first.slaTime(),
+                    first.estimatedStartTime(),
+                    subRunIds,
+                    first.runNumber(),
+                    first.expectedDurationMs()
+            );
+        }
     }
 
     private static LogicalRun toSingleton(RunWithSlaStatus run) {
@@ -166,31 +229,6 @@ public final class LogicalRunGrouper {
         );
     }
 
-    // ── Precedence helpers ──────────────────────────────────────────────────────
-
-    private static final List<RunStatus> STATUS_PRECEDENCE = List.of(
-            RunStatus.RUNNING, RunStatus.FAILED, RunStatus.TIMEOUT, RunStatus.CANCELLED, RunStatus.SUCCESS
-    );
-
-    private static RunStatus worstStatus(List<RunWithSlaStatus> splits) {
-        return splits.stream()
-                .map(RunWithSlaStatus::status)
-                .min(Comparator.comparingInt(STATUS_PRECEDENCE::indexOf))
-                .orElse(RunStatus.SUCCESS);
-    }
-
-    private static final List<String> SLA_PRECEDENCE = List.of("VERY_LATE", "LATE", "ON_TIME");
-
-    private static String worstSlaStatus(List<RunWithSlaStatus> splits) {
-        return splits.stream()
-                .map(LogicalRunGrouper::classifySlaStatus)
-                .min(Comparator.comparingInt(s -> {
-                    int idx = SLA_PRECEDENCE.indexOf(s);
-                    return idx < 0 ? SLA_PRECEDENCE.size() : idx;
-                }))
-                .orElse("ON_TIME");
-    }
-
     private static String classifySlaStatus(RunWithSlaStatus run) {
         if (run.status() == RunStatus.RUNNING || run.slaBand() == null) return "ON_TIME";
         return run.slaBand().name(); // ON_TIME / LATE / VERY_LATE
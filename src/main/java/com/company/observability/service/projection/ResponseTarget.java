@@ -0,0 +1,26 @@
+package com.company.observability.service.projection;
+
+import com.company.observability.util.WireFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Where a streamed document goes, as negotiated with the client. Lets the service pick the
+ * cheapest way to produce the body — e.g. send a stored gzip payload as is — without
+ * depending on the servlet API.
+ */
+public interface ResponseTarget {
+
+    WireFormat format();
+
+    /** Whether the client accepts {@code Content-Encoding: gzip}. */
+    boolean acceptsGzip();
+
+    /**
+     * Commits the response headers and returns the body stream. Call once.
+     *
+     * @param gzipEncoded the bytes written are already gzipped — sets {@code Content-Encoding: gzip}
+     */
+    OutputStream open(boolean gzipEncoded) throws IOException;
+}
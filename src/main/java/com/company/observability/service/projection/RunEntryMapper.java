@@ -0,0 +1,43 @@
+package com.company.observability.service.projection;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
+
+/**
+ * Maps a (possibly collapsed) {@link CalculatorRun} to the {@link RunEntry} wire shape used by
+ * {@code /batch/runs} and by the run-update stream, so both render a run identically.
+ */
+public final class RunEntryMapper {
+
+    private RunEntryMapper() {}
+
+    /**
+     * @param entryName the name the run is listed under (alias or real name); {@code calculatorName}
+     *                  is populated on the entry only when the run comes from a differently-named
+     *                  real calculator (multi-alias merge) — null otherwise, so it is omitted in JSON.
+     */
+    public static RunEntry toRunEntry(CalculatorRun run, String entryName) {
+        String runCalcName = run.getCalculatorName() != null
+                && !run.getCalculatorName().equals(entryName)
+                ? run.getCalculatorName() : null;
+
+        return RunEntry.builder()
+                .calculatorName(runCalcName)
+                .runId(run.getRunId())
+                .region(run.getRegion())
+                .runType(run.getRunType())
+                .status(run.getStatus().name())
+                .slaStatus(run.getSlaBand() != null ? run.getSlaBand().name() : "ON_TIME")
+                .slaBreached(run.isSlaBreached() ? Boolean.TRUE : null)
+                .startTime(run.getStartTime())
+                .endTime(run.getEndTime())
+                .estimatedStartTime(run.getEstimatedStartTime())
+                .estimatedEndTime(run.getEstimatedEndTime())
+                .sla(run.getSlaTime())
+                .durationMs(run.getDurationMs())
+                .expectedDurationMs(run.getExpectedDurationMs())
+                .slaBreachReason(run.getSlaBreachReason())
+                .isRerun(run.isRerun())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.company.observability.service.projection;
+
+import com.company.observability.dto.response.RunPerformanceData;
+import com.company.observability.dto.response.RunPerformanceData.RunDataPoint;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Writes a {@link RunPerformanceData} document incrementally: each {@link RunDataPoint} goes
+ * straight to the generator as it is produced, and the envelope totals are written after the
+ * {@code runs} array, once they are known. Only the running totals are held in memory.
+ *
+ * <p>The output has the same fields and values as serialising the record with the same
+ * {@link ObjectMapper}; only the field order differs ({@code runs} first), so it deserialises
+ * back into an equal {@code RunPerformanceData} and can share cache entries with the
+ * materialised path.
+ */
+public final class RunPerformanceJsonWriter {
+
+    private final JsonGenerator gen;
+    private final SequenceWriter points;
+    private final RunPerformanceTotals totals = new RunPerformanceTotals();
+
+    public RunPerformanceJsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.gen = objectMapper.createGenerator(out);
+        // The caller owns the stream (servlet output / tee) — finishing must not close it
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("runs");
+        // One serializer provider and resolved serializer for the whole array, not one per point
+        this.points = objectMapper.writerFor(RunDataPoint.class).writeValues(gen);
+    }
+
+    /** Writes one data point; {@link IOException}s surface unchecked so this can sit in a row callback. */
+    public void write(RunDataPoint dataPoint) {
+        totals.add(dataPoint);
+        try {
+            points.write(dataPoint);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public RunPerformanceTotals totals() {
+        return totals;
+    }
+
+    /** Closes the {@code runs} array, writes the envelope and flushes. */
+    public void finish(String calculatorId, String calculatorName, String frequency, int periodDays,
+                       Instant estimatedStartTime, Instant slaTime) throws IOException {
+        gen.writeEndArray();
+        gen.writeStringField("calculatorId", calculatorId);
+        gen.writeStringField("calculatorName", calculatorName);
+        gen.writeStringField("frequency", frequency);
+        gen.writeNumberField("periodDays", periodDays);
+        gen.writeNumberField("meanDurationMs", totals.meanDurationMs());
+        gen.writeNumberField("totalRuns", totals.terminalRuns());
+        gen.writeNumberField("runningRuns", totals.runningRuns());
+        gen.writeNumberField("slaMetCount", totals.slaMetCount());
+        gen.writeNumberField("lateCount", totals.lateCount());
+        gen.writeNumberField("veryLateCount", totals.veryLateCount());
+        gen.writeObjectField("estimatedStartTime", estimatedStartTime);
+        gen.writeObjectField("slaTime", slaTime);
+        gen.writeEndObject();
+        gen.close();
+    }
+}
@@ -0,0 +1,67 @@
+package com.company.observability.service.projection;
+
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.dto.response.RunPerformanceData.RunDataPoint;
+
+/**
+ * Running envelope totals for a {@code RunPerformanceData} — mean duration, terminal/running
+ * counts and SLA buckets — accumulated one data point at a time so the same arithmetic serves
+ * both the materialised and the streamed response.
+ *
+ * <p>RUNNING points count toward {@code runningRuns} only; durations and SLA buckets are
+ * taken from terminal points.
+ */
+public final class RunPerformanceTotals {
+
+    private long totalDuration;
+    private int completedCount;
+    private int terminalRuns;
+    private int runningRuns;
+    private int slaMetCount;
+    private int lateCount;
+    private int veryLateCount;
+
+    public void add(RunDataPoint dp) {
+        boolean isRunning = RunStatus.RUNNING.name().equals(dp.status());
+        if (isRunning) {
+            runningRuns++;
+            return;
+        }
+        terminalRuns++;
+        if (dp.durationMs() != null && dp.durationMs() > 0) {
+            totalDuration += dp.durationMs();
+            completedCount++;
+        }
+        if ("ON_TIME".equals(dp.slaStatus())) slaMetCount++;
+        else if ("LATE".equals(dp.slaStatus())) lateCount++;
+        else if ("VERY_LATE".equals(dp.slaStatus())) veryLateCount++;
+    }
+
+    public long meanDurationMs() {
+        return completedCount > 0 ? totalDuration / completedCount : 0;
+    }
+
+    public int terminalRuns() {
+        return terminalRuns;
+    }
+
+    public int runningRuns() {
+        return runningRuns;
+    }
+
+    public int slaMetCount() {
+        return slaMetCount;
+    }
+
+    public int lateCount() {
+        return lateCount;
+    }
+
+    public int veryLateCount() {
+        return veryLateCount;
+    }
+
+    public boolean isEmpty() {
+        return terminalRuns == 0 && runningRuns == 0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.company.observability.service.projection;
+
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.domain.enums.SlaBand;
+
+import java.time.Instant;
+
+/**
+ * Worst-wins aggregate over the parallel splits of one correlation group, folded one split at a
+ * time. Shared by {@link LogicalRunGrouper} (run-performance projections) and
+ * {@code CalculatorStateService} ({@code /batch/runs}) so both collapse splits by the same rules:
+ * <ul>
+ *   <li>Status precedence: RUNNING > FAILED > TIMEOUT > CANCELLED > SUCCESS
+ *   <li>Start: MIN across splits; end: MAX across splits
+ *   <li>SLA band precedence: VERY_LATE > LATE > ON_TIME (null bands are ungraded and ignored)
+ *   <li>Breach reasons: non-blank reasons joined with {@code "; "} in split order
+ * </ul>
+ *
+ * <p>Precedence is looked up by enum ordinal in rank tables, so no comparator, boxing or list
+ * scan runs per split.
+ */
+public final class SplitAggregate {
+
+    // Worst first; rank = index
+    private static final RunStatus[] STATUS_PRECEDENCE = {
+            RunStatus.RUNNING, RunStatus.FAILED, RunStatus.TIMEOUT, RunStatus.CANCELLED, RunStatus.SUCCESS
+    };
+    private static final SlaBand[] BAND_PRECEDENCE = {SlaBand.VERY_LATE, SlaBand.LATE, SlaBand.ON_TIME};
+
+    private static final int[] STATUS_RANK = new int[RunStatus.values().length];
+    private static final int[] BAND_RANK = new int[SlaBand.values().length];
+
+    static {
+        for (int i = 0; i < STATUS_PRECEDENCE.length; i++) {
+            STATUS_RANK[STATUS_PRECEDENCE[i].ordinal()] = i;
+        }
+        for (int i = 0; i < BAND_PRECEDENCE.length; i++) {
+            BAND_RANK[BAND_PRECEDENCE[i].ordinal()] = i;
+        }
+    }
+
+    private int size;
+    private int worstStatusRank = STATUS_PRECEDENCE.length;
+    private int worstBandRank = BAND_PRECEDENCE.length;
+    private int worstSettledBandRank = BAND_PRECEDENCE.length;
+    private Instant minStart;
+    private Instant maxEnd;
+    private StringBuilder breachReasons;
+
+    public void add(RunStatus status, Instant start, Instant end, SlaBand band, String breachReason) {
+        size++;
+        worstStatusRank = Math.min(worstStatusRank, STATUS_RANK[status.ordinal()]);
+        if (start != null && (minStart == null || start.isBefore(minStart))) {
+            minStart = start;
+        }
+        if (end != null && (maxEnd == null || end.isAfter(maxEnd))) {
+            maxEnd = end;
+        }
+        if (band != null) {
+            int rank = BAND_RANK[band.ordinal()];
+            worstBandRank = Math.min(worstBandRank, rank);
+            if (status != RunStatus.RUNNING) {
+                worstSettledBandRank = Math.min(worstSettledBandRank, rank);
+            }
+        }
+        if (breachReason != null && !breachReason.isBlank()) {
+            if (breachReasons == null) {
+                breachReasons = new StringBuilder(breachReason);
+            } else {
+                breachReasons.append("; ").append(breachReason);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Worst status across splits; SUCCESS when empty. */
+    public RunStatus worstStatus() {
+        return worstStatusRank < STATUS_PRECEDENCE.length ? STATUS_PRECEDENCE[worstStatusRank] : RunStatus.SUCCESS;
+    }
+
+    public Instant minStart() {
+        return minStart;
+    }
+
+    /** Latest end across splits — callers drop it while {@link #worstStatus()} is RUNNING. */
+    public Instant maxEnd() {
+        return maxEnd;
+    }
+
+    /** Worst band across all splits, or {@code null} when none is graded. */
+    public SlaBand worstBand() {
+        return worstBandRank < BAND_PRECEDENCE.length ? BAND_PRECEDENCE[worstBandRank] : null;
+    }
+
+    /** Worst band across splits that have finished; a RUNNING split's live band is not final. */
+    public SlaBand worstSettledBand() {
+        return worstSettledBandRank < BAND_PRECEDENCE.length ? BAND_PRECEDENCE[worstSettledBandRank] : null;
+    }
+
+    public boolean anyBreached() {
+        SlaBand worst = worstBand();
+        return worst != null && worst.isBreached();
+    }
+
+    /** Joined non-blank reasons, or {@code null} when no split has one. */
+    public String breachReason() {
+        return breachReasons != null ? breachReasons.toString() : null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.observability.service.streaming;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One run-state change, as published on the Redis channel and replayed to SSE subscribers.
+ *
+ * <p>{@code sequence} is a cluster-wide, monotonically increasing id ({@code INCR} on a Redis
+ * counter) and doubles as the SSE event id / resume token. {@code 0} marks an update that could
+ * only be delivered locally (Redis unavailable) and therefore cannot be resumed from.
+ *
+ * <p>The update only says which calculator view changed ({@code runId} is the physical run that
+ * triggered it, for tracing). Subscribers are sent the recomputed, collapsed {@code /batch/runs}
+ * entry instead of the raw run, since splits, reruns and expected-run placeholders only exist
+ * in that view.
+ */
+public record RunUpdate(
+        long sequence,
+        String type,
+        String calculatorName,
+        LocalDate reportingDate,
+        String frequency,
+        String runNumber,
+        String correlationId,
+        Instant publishedAt,
+        String runId
+) {
+    public static final String STARTED = "STARTED";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String SLA_BREACHED = "SLA_BREACHED";
+
+    public RunUpdate withSequence(long newSequence) {
+        return new RunUpdate(newSequence, type, calculatorName, reportingDate, frequency,
+                runNumber, correlationId, publishedAt, runId);
+    }
+}
@@ -0,0 +1,373 @@
+package com.company.observability.service.streaming;
+
+import com.company.observability.config.StreamingProperties;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
+import com.company.observability.exception.ServiceOverloadedException;
+import com.company.observability.service.BatchRunsService;
+import com.company.observability.service.CalculatorNameResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Per-replica fan-out of {@link RunUpdate}s to open SSE connections.
+ *
+ * <p>Event protocol on the stream:
+ * <ul>
+ *   <li>{@code ready} — sent once on a fresh subscription; data is the current sequence. The
+ *       client loads {@code /batch/runs} and then applies {@code run} events on top.</li>
+ *   <li>{@code run} — one {@link RunStreamEvent} per subscribed key an update touches, carrying
+ *       that key's recomputed {@code /batch/runs} entry; the SSE id is the update's sequence and
+ *       is the resume token ({@code Last-Event-ID}).</li>
+ *   <li>{@code resync} — the resume token is older than this replica's replay buffer, or the
+ *       entry could not be recomputed; the client must reload {@code /batch/runs}.</li>
+ *   <li>comment heartbeats every {@code heartbeat-interval-ms}.</li>
+ * </ul>
+ *
+ * <p>Delivery is at-least-once: an update arriving while a resumed subscription replays may
+ * be sent twice. Applying a {@code run} event is idempotent (replace the key's entry).
+ *
+ * <p>Frames are written from {@code streamExecutor}, never from the Redis listener thread: each
+ * subscription has a bounded outbox drained by at most one task at a time, so a slow client only
+ * delays itself. A subscription whose outbox overflows is closed; the client resumes from its
+ * {@code Last-Event-ID}.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(
+        value = "observability.streaming.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RunUpdateBroadcaster {
+
+    private final StreamingProperties properties;
+    private final CalculatorNameResolver nameResolver;
+    private final BatchRunsService batchRunsService;
+    private final MeterRegistry meterRegistry;
+    private final Executor streamExecutor;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Deque<RunUpdate> replayBuffer = new ArrayDeque<>();
+    private final AtomicLong latestSequence = new AtomicLong();
+
+    public RunUpdateBroadcaster(StreamingProperties properties,
+                                CalculatorNameResolver nameResolver,
+                                BatchRunsService batchRunsService,
+                                MeterRegistry meterRegistry,
+                                @Qualifier("streamExecutor") Executor streamExecutor) {
+        this.properties = properties;
+        this.nameResolver = nameResolver;
+        this.batchRunsService = batchRunsService;
+        this.meterRegistry = meterRegistry;
+        this.streamExecutor = streamExecutor;
+    }
+
+    /**
+     * Payload of a {@code run} event: the requested key (alias or name) and its entry exactly as
+     * {@code /batch/runs} would now return it for the subscription's {@code runNumber}.
+     */
+    public record RunStreamEvent(
+            String key,
+            long sequence,
+            String type,
+            LocalDate reportingDate,
+            String frequency,
+            String runNumber,
+            CalculatorEntry calculator
+    ) {}
+
+    /** A frame queued for one subscription. */
+    @FunctionalInterface
+    private interface Frame {
+        void writeTo(Subscription subscription) throws IOException;
+    }
+
+    private final class Subscription {
+        final SseEmitter emitter;
+        final Map<String, List<String>> keysByRealName;
+        final Map<String, List<String>> realNamesByKey;
+        final LocalDate reportingDate;
+        final Frequency frequency;
+        final String runNumber;
+        final BlockingQueue<Frame> outbox;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscription(SseEmitter emitter, Map<String, List<String>> realNamesByKey,
+                     LocalDate reportingDate, Frequency frequency, String runNumber) {
+            this.emitter = emitter;
+            this.realNamesByKey = realNamesByKey;
+            this.keysByRealName = new HashMap<>();
+            realNamesByKey.forEach((key, realNames) -> realNames.forEach(real ->
+                    keysByRealName.computeIfAbsent(real, r -> new ArrayList<>()).add(key)));
+            this.reportingDate = reportingDate;
+            this.frequency = frequency;
+            this.runNumber = runNumber;
+            this.outbox = new LinkedBlockingQueue<>(properties.getSendQueueCapacity());
+        }
+
+        boolean matches(RunUpdate update) {
+            return keysByRealName.containsKey(update.calculatorName())
+                    && reportingDate.equals(update.reportingDate())
+                    && frequency.name().equals(update.frequency())
+                    && (runNumber == null || runNumber.equals(update.runNumber()));
+        }
+    }
+
+    /** Entries recomputed for one update, shared by every subscription it reaches. */
+    private final class Fanout {
+        final RunUpdate update;
+        final Map<View, CalculatorEntry> entries = new ConcurrentHashMap<>();
+
+        Fanout(RunUpdate update) {
+            this.update = update;
+        }
+
+        CalculatorEntry entry(Subscription subscription, String key) {
+            List<String> realNames = subscription.realNamesByKey.get(key);
+            return entries.computeIfAbsent(new View(key, realNames, subscription.runNumber), view ->
+                    batchRunsService.getEntries(Map.of(key, realNames), subscription.reportingDate,
+                            subscription.frequency, subscription.runNumber, null).get(key));
+        }
+    }
+
+    private record View(String key, List<String> realNames, String runNumber) {}
+
+    @PostConstruct
+    void registerGauges() {
+        meterRegistry.gaugeCollectionSize(STREAM_SUBSCRIPTIONS_ACTIVE, List.of(), subscriptions);
+    }
+
+    // ── Subscribe ─────────────────────────────────────────────────────────────
+
+    /**
+     * Opens a subscription for the given keys (aliases or calculator names).
+     *
+     * @param lastEventId resume token from the client's {@code Last-Event-ID}, or {@code null}
+     * @throws ServiceOverloadedException when this replica already holds {@code max-subscriptions}
+     */
+    public SseEmitter subscribe(List<String> keys, LocalDate reportingDate, Frequency frequency,
+                                String runNumber, Long lastEventId) {
+        if (subscriptions.size() >= properties.getMaxSubscriptions()) {
+            meterRegistry.counter(STREAM_SUBSCRIPTIONS_REJECTED).increment();
+            throw new ServiceOverloadedException("Too many open run streams", 30);
+        }
+
+        SseEmitter emitter = newEmitter();
+        Subscription subscription = new Subscription(
+                emitter, nameResolver.resolveAll(keys), reportingDate, frequency, runNumber);
+        emitter.onCompletion(() -> close(subscription));
+        emitter.onTimeout(() -> close(subscription));
+        emitter.onError(e -> close(subscription));
+
+        // Queue the greeting first so it is written before any update fanned out after registration
+        if (lastEventId == null) {
+            long sequence = latestSequence.get();
+            subscription.outbox.offer(s -> s.emitter.send(SseEmitter.event().name("ready").data(sequence)));
+        }
+        // Register before replaying so nothing published in between is lost (see at-least-once note)
+        subscriptions.add(subscription);
+        if (lastEventId != null) {
+            replay(subscription, lastEventId);
+        }
+        schedule(subscription);
+
+        log.info("event=stream.subscribe outcome=success keys={} reportingDate={} frequency={} resumeFrom={}",
+                keys.size(), reportingDate, frequency, lastEventId);
+        return emitter;
+    }
+
+    private void replay(Subscription subscription, long lastEventId) {
+        // Entries are recomputed from current state, so only the latest update per calculator matters
+        Map<String, RunUpdate> missed = new LinkedHashMap<>();
+        boolean gap;
+        synchronized (replayBuffer) {
+            // An empty buffer (e.g. this replica just started) cannot prove nothing was missed
+            RunUpdate oldest = replayBuffer.peekFirst();
+            gap = oldest == null || oldest.sequence() > lastEventId + 1;
+            if (!gap) {
+                for (RunUpdate update : replayBuffer) {
+                    if (update.sequence() > lastEventId && subscription.matches(update)) {
+                        missed.remove(update.calculatorName());
+                        missed.put(update.calculatorName(), update);
+                    }
+                }
+            }
+        }
+        if (gap) {
+            resync(subscription);
+            return;
+        }
+        for (RunUpdate update : missed.values()) {
+            enqueue(subscription, runFrame(new Fanout(update)));
+        }
+    }
+
+    // ── Fan-out ───────────────────────────────────────────────────────────────
+
+    /**
+     * Buffers the update for resume (if it carries a sequence) and queues it for matching
+     * subscribers. Returns without touching the database or any socket.
+     */
+    public void onUpdate(RunUpdate update) {
+        if (update.sequence() > 0) {
+            synchronized (replayBuffer) {
+                replayBuffer.addLast(update);
+                while (replayBuffer.size() > properties.getReplayBufferSize()) {
+                    replayBuffer.pollFirst();
+                }
+                latestSequence.accumulateAndGet(update.sequence(), Math::max);
+            }
+        }
+        Fanout fanout = new Fanout(update);
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(update)) {
+                enqueue(subscription, runFrame(fanout));
+            }
+        }
+    }
+
+    private Frame runFrame(Fanout fanout) {
+        RunUpdate update = fanout.update;
+        return subscription -> {
+            for (String key : subscription.keysByRealName.get(update.calculatorName())) {
+                CalculatorEntry entry;
+                try {
+                    entry = fanout.entry(subscription, key);
+                } catch (RuntimeException e) {
+                    // Cannot tell the client what changed; make it reload instead of missing the update
+                    log.warn("event=stream.entry outcome=failure calculator={} error={}",
+                            update.calculatorName(), e.getMessage());
+                    meterRegistry.counter(STREAM_RESYNC).increment();
+                    subscription.emitter.send(SseEmitter.event().name("resync").data(latestSequence.get()));
+                    return;
+                }
+                SseEmitter.SseEventBuilder event = SseEmitter.event()
+                        .name("run")
+                        .data(new RunStreamEvent(key, update.sequence(), update.type(), update.reportingDate(),
+                                update.frequency(), subscription.runNumber, entry));
+                if (update.sequence() > 0) {
+                    event.id(String.valueOf(update.sequence()));
+                }
+                subscription.emitter.send(event);
+                meterRegistry.counter(STREAM_EVENTS_SENT, "type", update.type()).increment();
+            }
+        };
+    }
+
+    private void resync(Subscription subscription) {
+        meterRegistry.counter(STREAM_RESYNC).increment();
+        long sequence = latestSequence.get();
+        enqueue(subscription, s -> s.emitter.send(SseEmitter.event().name("resync").data(sequence)));
+    }
+
+    // ── Delivery ──────────────────────────────────────────────────────────────
+
+    private void enqueue(Subscription subscription, Frame frame) {
+        if (!subscription.outbox.offer(frame)) {
+            drop(subscription, "overflow", new IllegalStateException("Send queue full"));
+            return;
+        }
+        schedule(subscription);
+    }
+
+    /** Starts a drain task unless one is already running for this subscription. */
+    private void schedule(Subscription subscription) {
+        if (subscription.outbox.isEmpty() || !subscription.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            streamExecutor.execute(() -> drain(subscription));
+        } catch (RejectedExecutionException e) {
+            subscription.draining.set(false);
+            drop(subscription, "rejected", e);
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            Frame frame;
+            while ((frame = subscription.outbox.poll()) != null) {
+                if (subscription.closed) {
+                    subscription.outbox.clear();
+                    return;
+                }
+                try {
+                    frame.writeTo(subscription);
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscription, "send_failure", e);
+                    subscription.outbox.clear();
+                    return;
+                }
+            }
+        } finally {
+            subscription.draining.set(false);
+        }
+        // A frame queued between the last poll and releasing the flag needs its own drain
+        schedule(subscription);
+    }
+
+    // ── Heartbeat ─────────────────────────────────────────────────────────────
+
+    @Scheduled(fixedRateString = "${observability.streaming.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            // A subscription with frames still queued is not idle
+            if (subscription.outbox.isEmpty()) {
+                enqueue(subscription, s -> s.emitter.send(SseEmitter.event().comment("heartbeat")));
+            }
+        }
+    }
+
+    private boolean close(Subscription subscription) {
+        subscription.closed = true;
+        return subscriptions.remove(subscription);
+    }
+
+    private void drop(Subscription subscription, String reason, Exception cause) {
+        if (close(subscription)) {
+            meterRegistry.counter(STREAM_SUBSCRIPTIONS_DROPPED, "reason", reason).increment();
+            log.debug("event=stream.drop outcome=success reason={} error={}", reason, cause.getMessage());
+            subscription.emitter.completeWithError(cause);
+        }
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(properties.getEmitterTimeoutMs());
+    }
+
+    int activeSubscriptions() {
+        return subscriptions.size();
+    }
+
+    long latestSequence() {
+        return latestSequence.get();
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.observability.service.streaming;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.event.RunCompletedEvent;
+import com.company.observability.event.RunStartedEvent;
+import com.company.observability.event.SlaBreachedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+
+/**
+ * Turns committed run events into {@link RunUpdate}s and publishes them on the
+ * {@value #CHANNEL} Redis channel, from which every replica's {@link RunUpdateSubscriber}
+ * feeds its local {@link RunUpdateBroadcaster}.
+ *
+ * <p>If Redis is unavailable the update is handed to the local broadcaster directly so at
+ * least this replica's subscribers see it (without a resumable sequence).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(
+        value = "observability.streaming.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RunUpdatePublisher {
+
+    public static final String CHANNEL = "obs:stream:runs";
+    static final String SEQUENCE_KEY = "obs:stream:runs:seq";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RunUpdateBroadcaster broadcaster;
+    private final MeterRegistry meterRegistry;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void onRunStarted(RunStartedEvent event) {
+        publish(event.getRun(), RunUpdate.STARTED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void onRunCompleted(RunCompletedEvent event) {
+        publish(event.getRun(), RunUpdate.COMPLETED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void onSlaBreached(SlaBreachedEvent event) {
+        publish(event.getRun(), RunUpdate.SLA_BREACHED);
+    }
+
+    void publish(CalculatorRun run, String type) {
+        RunUpdate update = new RunUpdate(
+                0L, type, run.getCalculatorName(), run.getReportingDate(),
+                run.getFrequency() != null ? run.getFrequency().name() : null,
+                run.getRunNumber(), run.getCorrelationId(), Instant.now(), run.getRunId());
+        try {
+            Long sequence = redisTemplate.opsForValue().increment(SEQUENCE_KEY);
+            RunUpdate sequenced = update.withSequence(sequence != null ? sequence : 0L);
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(sequenced));
+            meterRegistry.counter(STREAM_UPDATES_PUBLISHED, "type", type, "outcome", "success").increment();
+            log.debug("event=stream.publish outcome=success runId={} type={} sequence={}",
+                    run.getRunId(), type, sequenced.sequence());
+        } catch (Exception e) {
+            meterRegistry.counter(STREAM_UPDATES_PUBLISHED, "type", type, "outcome", "local_only").increment();
+            log.warn("event=stream.publish outcome=failure runId={} type={} error={} fallback=local",
+                    run.getRunId(), type, e.getMessage());
+            broadcaster.onUpdate(update);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.observability.service.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Receives {@link RunUpdate}s from the Redis channel (published by any replica) and hands them
+ * to this replica's {@link RunUpdateBroadcaster}. Registered by {@code StreamingConfig}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(
+        value = "observability.streaming.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RunUpdateSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final RunUpdateBroadcaster broadcaster;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RunUpdate update = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), RunUpdate.class);
+            broadcaster.onUpdate(update);
+        } catch (Exception e) {
+            log.warn("event=stream.receive outcome=failure error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.company.observability.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static com.company.observability.util.ObservabilityConstants.API_CONDITIONAL_REQUESTS;
+
+/**
+ * ETags built from change versions rather than response bodies, so a conditional request can
+ * be answered before the response is built.
+ *
+ * <p>The tags are weak: they identify the content, not its bytes, and the same version is
+ * served as JSON or CBOR, gzipped or not. A strong tag would also stop Tomcat from
+ * compressing the response.
+ */
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    /**
+     * Weak ETag ({@code W/"..."}) over the given parts (request parameters plus a version token).
+     * Returns {@code null} when the version token is {@code null} — no validator is better
+     * than one that cannot change.
+     */
+    public static String versionETag(String versionToken, Object... requestParts) {
+        if (versionToken == null) {
+            return null;
+        }
+        String material = Arrays.stream(requestParts)
+                .map(p -> Objects.toString(p, ""))
+                .collect(Collectors.joining("|")) + "|" + versionToken;
+        return "W/\"" + DigestUtils.md5DigestAsHex(material.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * RFC 9110 {@code If-None-Match} evaluation (weak comparison, {@code *} and lists supported).
+     * Records the outcome on {@code obs.api.conditional.requests}.
+     *
+     * @return {@code true} when the client's copy is current and a 304 should be returned
+     */
+    public static boolean isNotModified(String ifNoneMatch, String etag,
+                                        MeterRegistry meterRegistry, String endpoint) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            meterRegistry.counter(API_CONDITIONAL_REQUESTS, "endpoint", endpoint, "result", "unconditional").increment();
+            return false;
+        }
+        boolean notModified = etag != null && matches(ifNoneMatch, etag);
+        meterRegistry.counter(API_CONDITIONAL_REQUESTS, "endpoint", endpoint,
+                "result", notModified ? "not_modified" : "modified").increment();
+        return notModified;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        String current = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,90 @@
+package com.company.observability.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Passes every byte to a delegate and keeps a gzip-compressed copy, so a streamed response
+ * can be cached in the form it will later be served in. Once the compressed copy exceeds
+ * {@code maxCompressedBytes} it is dropped and writing continues to the delegate only.
+ *
+ * <p>The compressed copy holds a native {@link java.util.zip.Deflater}; it is released by
+ * {@link #finishCopy()}, when the limit is exceeded, or by {@link #close()} when the document is
+ * abandoned. Closing this stream does not close the delegate.
+ */
+public final class GzipTeeOutputStream extends OutputStream {
+
+    private final OutputStream delegate;
+    private final int maxCompressedBytes;
+    private ByteArrayOutputStream compressed = new ByteArrayOutputStream(8192);
+    private GZIPOutputStream gzip;
+
+    public GzipTeeOutputStream(OutputStream delegate, int maxCompressedBytes) throws IOException {
+        this.delegate = delegate;
+        this.maxCompressedBytes = maxCompressedBytes;
+        this.gzip = new GZIPOutputStream(compressed);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        delegate.write(b);
+        if (gzip != null) {
+            gzip.write(b);
+            checkLimit();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        delegate.write(b, off, len);
+        if (gzip != null) {
+            gzip.write(b, off, len);
+            checkLimit();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        delegate.flush();
+    }
+
+    /**
+     * Completes the compressed copy. Call once, after the last write.
+     *
+     * @return the gzip bytes, or {@code null} when the limit was exceeded
+     */
+    public byte[] finishCopy() throws IOException {
+        if (gzip == null) {
+            return null;
+        }
+        gzip.finish();
+        checkLimit();
+        byte[] copy = compressed != null ? compressed.toByteArray() : null;
+        drop();
+        return copy;
+    }
+
+    /** Discards the compressed copy if it was not finished. The delegate stays open. */
+    @Override
+    public void close() throws IOException {
+        drop();
+    }
+
+    private void checkLimit() throws IOException {
+        if (compressed.size() > maxCompressedBytes) {
+            drop();
+        }
+    }
+
+    private void drop() throws IOException {
+        GZIPOutputStream released = gzip;
+        gzip = null;
+        compressed = null;
+        if (released != null) {
+            // Ends the Deflater now instead of leaving its native buffers to the cleaner
+            released.close();
+        }
+    }
+}
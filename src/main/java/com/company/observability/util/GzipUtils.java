@@ -0,0 +1,85 @@
+package com.company.observability.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip helpers for payloads that are stored compressed and, where the client allows it,
+ * sent as stored with {@code Content-Encoding: gzip}.
+ */
+public final class GzipUtils {
+
+    private GzipUtils() {}
+
+    public static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] gunzip(byte[] gzipped) {
+        try (InputStream in = gunzipStream(gzipped)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static InputStream gunzipStream(byte[] gzipped) throws IOException {
+        return new GZIPInputStream(new ByteArrayInputStream(gzipped));
+    }
+
+    /** Decompresses {@code gzipped} into {@code out} without materialising the plain bytes. */
+    public static void gunzipTo(byte[] gzipped, OutputStream out) throws IOException {
+        try (InputStream in = gunzipStream(gzipped)) {
+            in.transferTo(out);
+        }
+    }
+
+    public static boolean isGzip(byte[] data) {
+        return data.length >= 2 && (data[0] & 0xff) == 0x1f && (data[1] & 0xff) == 0x8b;
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header admits gzip: a {@code gzip} (or {@code x-gzip})
+     * or {@code *} coding with a non-zero quality.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.trim().split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip") || coding.equals("x-gzip") || coding.equals("*")) {
+                return quality(params) > 0;
+            }
+        }
+        return false;
+    }
+
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -1,6 +1,7 @@
 package com.company.observability.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.MapType;
 import lombok.RequiredArgsConstructor;
 import org.postgresql.util.PGobject;
 import org.springframework.stereotype.Component;
@@ -25,31 +26,44 @@ public class JsonbConverter {
     }
 
     public Map<String, Object> fromJsonb(Object dbValue) {
-        if (dbValue == null) {
-            return null;
-        }
+        return parse(text(dbValue));
+    }
 
-        String json;
-        if (dbValue instanceof PGobject pg) {
-            json = pg.getValue();
-        } else if (dbValue instanceof String s) {
-            json = s;
-        } else {
-            throw new IllegalArgumentException("Unsupported JSONB source type: " + dbValue.getClass().getName());
-        }
+    /**
+     * Like {@link #fromJsonb} but defers parsing to the first read of the returned map
+     * (see {@link LazyJsonbMap}). {@code null} and blank documents still map to {@code null}.
+     */
+    public Map<String, Object> lazyFromJsonb(Object dbValue) {
+        String json = text(dbValue);
+        return json == null || json.isBlank() ? null : new LazyJsonbMap(json, this);
+    }
 
+    Map<String, Object> parse(String json) {
         if (json == null || json.isBlank()) {
             return null;
         }
 
         try {
-            return objectMapper.readValue(
-                    json,
-                    objectMapper.getTypeFactory()
-                            .constructMapType(Map.class, String.class, Object.class)
-            );
+            return objectMapper.readValue(json, mapType());
         } catch (Exception e) {
             throw new IllegalArgumentException("Failed to deserialize JSONB: " + e.getMessage(), e);
         }
     }
+
+    private static String text(Object dbValue) {
+        if (dbValue == null) {
+            return null;
+        }
+        if (dbValue instanceof PGobject pg) {
+            return pg.getValue();
+        }
+        if (dbValue instanceof String s) {
+            return s;
+        }
+        throw new IllegalArgumentException("Unsupported JSONB source type: " + dbValue.getClass().getName());
+    }
+
+    private MapType mapType() {
+        return objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class);
+    }
 }
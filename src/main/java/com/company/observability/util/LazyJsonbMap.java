@@ -0,0 +1,87 @@
+package com.company.observability.util;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A JSONB object column that is only parsed when it is first read. Rows whose maps are never
+ * touched cost one retained string instead of a parsed map. A malformed document fails on
+ * first access rather than at mapping time.
+ *
+ * <p>Behaves as the decoded map for every {@link Map} operation, including writes.
+ * Serializes (Java and Jackson) as the decoded map.
+ */
+public final class LazyJsonbMap extends AbstractMap<String, Object> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient JsonbConverter converter;
+    private transient String json;
+    private volatile Map<String, Object> decoded;
+
+    LazyJsonbMap(String json, JsonbConverter converter) {
+        this.json = json;
+        this.converter = converter;
+    }
+
+    /** Whether the document has been parsed yet. */
+    public boolean isDecoded() {
+        return decoded != null;
+    }
+
+    private Map<String, Object> decoded() {
+        Map<String, Object> map = decoded;
+        if (map == null) {
+            synchronized (this) {
+                map = decoded;
+                if (map == null) {
+                    Map<String, Object> parsed = converter.parse(json);
+                    map = parsed != null ? parsed : new LinkedHashMap<>();
+                    decoded = map;
+                    json = null;
+                }
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return decoded().entrySet();
+    }
+
+    @Override
+    public int size() {
+        return decoded().size();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return decoded().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return decoded().containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return decoded().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return decoded().remove(key);
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new LinkedHashMap<>(decoded());
+    }
+}
@@ -15,6 +15,18 @@ public final class ObservabilityConstants {
     public static final String API_QUERY_DURATION = "obs.api.query.duration";
     public static final String API_ANALYTICS_DURATION = "obs.api.analytics.duration";
     public static final String API_ERROR = "obs.api.error";
+    /** Tagged {@code endpoint}, {@code result=not_modified|modified|unconditional}; 304 ratio = not_modified / (not_modified + modified). */
+    public static final String API_CONDITIONAL_REQUESTS = "obs.api.conditional.requests";
+
+    // ================================================================
+    // Admission control (adaptive concurrency limit on the controllers)
+    // ================================================================
+    /** Current adaptive limit on requests in flight. */
+    public static final String ADMISSION_LIMIT = "obs.admission.limit";
+    /** Admitted requests in flight, tagged {@code priority}. */
+    public static final String ADMISSION_IN_FLIGHT = "obs.admission.inflight";
+    /** Requests shed with 503, tagged {@code priority}. */
+    public static final String ADMISSION_SHED = "obs.admission.shed";
 
     // ================================================================
     // Ingestion layer (RunIngestionService)
@@ -61,11 +73,87 @@ public final class ObservabilityConstants {
     public static final String CACHE_ANALYTICS_EVICTION = "obs.cache.analytics.eviction";
     public static final String CACHE_STATE_HIT = "obs.cache.state.hit";
     public static final String CACHE_STATE_MISS = "obs.cache.state.miss";
+    /** Settled-date entries served from a day snapshot, tagged {@code tier=redis|table}. */
+    public static final String SNAPSHOT_HIT = "obs.snapshot.hit";
+    public static final String SNAPSHOT_MISS = "obs.snapshot.miss";
+    public static final String SNAPSHOT_WRITE = "obs.snapshot.write";
+    /** Snapshot rows deleted because a run changed on a settled date. */
+    public static final String SNAPSHOT_INVALIDATED = "obs.snapshot.invalidated";
+    public static final String CACHE_REGION_REQUESTS = "obs.cache.region.requests";
+    public static final String CACHE_REGION_LOAD = "obs.cache.region.load";
+    public static final String CACHE_REGION_L1_SIZE = "obs.cache.region.l1.size";
+    public static final String CACHE_VERSION_BUMP = "obs.cache.version.bump";
+    /** 1 for the Redis circuit breaker's current {@code state=closed|open|half_open}, 0 for the others. */
+    public static final String CACHE_BREAKER_STATE = "obs.cache.breaker.state";
+    /** Redis calls seen by the breaker, tagged {@code outcome=success|slow|failure|rejected}. */
+    public static final String CACHE_BREAKER_CALLS = "obs.cache.breaker.calls";
+    /** Breaker state changes, tagged {@code to}. */
+    public static final String CACHE_BREAKER_TRANSITIONS = "obs.cache.breaker.transitions";
+
+    // ================================================================
+    // Streaming layer (run-update SSE)
+    // ================================================================
+    public static final String STREAM_UPDATES_PUBLISHED = "obs.stream.updates.published";
+    public static final String STREAM_EVENTS_SENT = "obs.stream.events.sent";
+    public static final String STREAM_SUBSCRIPTIONS_ACTIVE = "obs.stream.subscriptions.active";
+    public static final String STREAM_SUBSCRIPTIONS_REJECTED = "obs.stream.subscriptions.rejected";
+    public static final String STREAM_RESYNC = "obs.stream.resync";
+    /** Subscriptions closed by the server, tagged {@code reason} (overflow, rejected, send_failure). */
+    public static final String STREAM_SUBSCRIPTIONS_DROPPED = "obs.stream.subscriptions.dropped";
+
+    // ================================================================
+    // Live state layer (in-memory run store for the hot reporting dates)
+    // ================================================================
+    public static final String LIVE_STORE_RUNS = "obs.live.store.runs";
+    /** Estimated heap held by the store's runs; an approximation, not a measured retained size. */
+    public static final String LIVE_STORE_BYTES = "obs.live.store.bytes";
+    /** Seconds since the replica last caught up with the change stream (bootstrap or poll). */
+    public static final String LIVE_STORE_STALENESS = "obs.live.store.staleness";
+    public static final String LIVE_STORE_HIT = "obs.live.store.hit";
+    public static final String LIVE_STORE_MISS = "obs.live.store.miss";
+    public static final String LIVE_STORE_BOOTSTRAP = "obs.live.store.bootstrap";
+    /** Publish-to-apply delay of changes read from the stream on this replica. */
+    public static final String LIVE_STREAM_LAG = "obs.live.stream.lag";
+    public static final String LIVE_STREAM_APPEND_FAILURE = "obs.live.stream.append.failure";
+
+    // ================================================================
+    // Change feed (consumer group applying cache invalidations)
+    // ================================================================
+    /** Entries handled by the group, tagged {@code outcome=acked|retry|dropped}. */
+    public static final String CHANGE_FEED_PROCESSED = "obs.feed.processed";
+    /** Entries claimed from a failed or departed consumer. */
+    public static final String CHANGE_FEED_RECLAIMED = "obs.feed.reclaimed";
+    /** Entries delivered to the group and not yet acknowledged. */
+    public static final String CHANGE_FEED_PENDING = "obs.feed.pending";
+    /** Publish-to-acknowledge delay of changes processed by the group. */
+    public static final String CHANGE_FEED_LAG = "obs.feed.lag";
+
+    // ================================================================
+    // Job coordination (leases in job_lease)
+    // ================================================================
+    /** 1 while this replica holds the job's lease, else 0; tagged {@code job}. */
+    public static final String JOB_LEASE_HELD = "obs.job.lease.held";
+    /** Leases granted to this replica, tagged {@code job}. */
+    public static final String JOB_LEASE_ACQUIRED = "obs.job.lease.acquired";
+    /** Executions this replica skipped, tagged {@code job}, {@code reason=lease_held|lease_error|not_ready}. */
+    public static final String JOB_EXECUTION_SKIPPED = "obs.job.execution.skipped";
+    /** Writes rejected because the lease changed hands, tagged {@code job}. */
+    public static final String JOB_LEASE_FENCED = "obs.job.lease.fenced";
+    /** Work shards claimed and run by this replica, tagged {@code job}. */
+    public static final String JOB_SHARDS_CLAIMED = "obs.job.shards.claimed";
 
     // ================================================================
     // DB layer (repositories)
     // ================================================================
     public static final String DB_QUERY_DURATION = "obs.db.query.duration";
+    /** Active / maximum connections of a bulkhead pool, tagged {@code bulkhead}. */
+    public static final String DB_POOL_SATURATION = "obs.db.pool.saturation";
+    /** Threads waiting for a connection from a bulkhead pool, tagged {@code bulkhead}. */
+    public static final String DB_POOL_PENDING = "obs.db.pool.pending";
+    /** Read-only connections by {@code target} (replica name or primary) and {@code reason}. */
+    public static final String DB_READ_ROUTE = "obs.db.read.route";
+    /** Seconds the read replica trails the primary, tagged {@code replica}. */
+    public static final String DB_REPLICA_LAG = "obs.db.replica.lag";
 
     // ================================================================
     // Partition layer (jobs)
@@ -0,0 +1,54 @@
+package com.company.observability.util;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Response representations offered by the dashboard APIs: JSON for browsers and CBOR
+ * ({@code application/cbor}, RFC 8949) for internal consumers that want a smaller payload
+ * and cheaper parsing. Both carry the same Jackson document.
+ */
+public enum WireFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Picks the representation for an {@code Accept} header. CBOR only when it is named
+     * explicitly and not ranked below JSON; wildcards, a missing header or an unparseable one
+     * get JSON.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        double cbor = 0;
+        double json = 0;
+        for (MediaType type : accepted) {
+            if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                cbor = Math.max(cbor, type.getQualityValue());
+            } else if (type.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, type.getQualityValue());
+            }
+        }
+        return cbor > 0 && cbor >= json ? CBOR : JSON;
+    }
+}
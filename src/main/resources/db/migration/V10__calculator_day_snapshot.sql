@@ -0,0 +1,21 @@
+-- Final /batch/runs entry per calculator for settled reporting dates (older than the snapshot
+-- settle horizon). Written once on the first read after the date settles, then served instead of
+-- rebuilding the entry from calculator_runs.
+-- run_number_key = run_number filter of the request, or 'all'.
+-- version = obs:version:* counter the entry was built at; a row at any other version is stale and
+-- is rewritten on the next read. Late run changes also delete the calculator's rows for the date.
+-- entry = gzipped JSON CalculatorEntry.
+CREATE TABLE IF NOT EXISTS calculator_day_snapshot (
+    calculator_name    VARCHAR(255)   NOT NULL,
+    reporting_date     DATE           NOT NULL,
+    frequency          VARCHAR(10)    NOT NULL,
+    run_number_key     VARCHAR(20)    NOT NULL,
+    version            BIGINT         NOT NULL,
+    entry              BYTEA          NOT NULL,
+    created_at         TIMESTAMPTZ    NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (reporting_date, frequency, run_number_key, calculator_name)
+);
+
+CREATE INDEX IF NOT EXISTS calculator_day_snapshot_name_idx
+    ON calculator_day_snapshot (calculator_name, reporting_date, frequency);
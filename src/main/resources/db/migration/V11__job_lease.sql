@@ -0,0 +1,16 @@
+-- Scheduled-job leases shared by all replicas (JobLeaseService).
+-- One row per job (or per work shard of a job, e.g. 'daily-aggregation.warm.DAILY.blended').
+-- owner         = replica holding the lease (pid@host).
+-- token         = fencing token; incremented every time the lease changes hands, so a writer
+--                 whose lease expired is rejected by JobLeaseService.fenced().
+-- expires_at    = the lease is free once this has passed (or the owner released it).
+-- completed_key = run key (e.g. the reporting date) the job last completed; a lease for a
+--                 completed run key is not granted again, so late replicas skip that run.
+CREATE TABLE IF NOT EXISTS job_lease (
+    name               VARCHAR(200)   PRIMARY KEY,
+    owner              VARCHAR(200)   NOT NULL,
+    token              BIGINT         NOT NULL,
+    expires_at         TIMESTAMPTZ    NOT NULL,
+    completed_key      VARCHAR(50),
+    updated_at         TIMESTAMPTZ    NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,50 @@
+package com.company.observability;
+
+import com.company.observability.cache.BinaryRedisTemplate;
+import com.company.observability.cache.GuardedBinaryRedisTemplate;
+import com.company.observability.cache.GuardedStringRedisTemplate;
+import com.company.observability.cache.RedisCircuitBreakerHealthIndicator;
+import com.company.observability.service.AnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads the full application context without Postgres or Redis: catches bean wiring mistakes
+ * (name clashes, ambiguous constructors) that slice tests never see. Connections are taken
+ * lazily, so nothing here needs a server.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.task.scheduling.enabled=false"
+})
+@ActiveProfiles("test")
+class ObservabilityServiceApplicationContextTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void contextLoads() {
+        assertThat(context.getBean(StringRedisTemplate.class)).isInstanceOf(GuardedStringRedisTemplate.class);
+        assertThat(context.getBean(BinaryRedisTemplate.class)).isInstanceOf(GuardedBinaryRedisTemplate.class);
+        assertThat(context.getBean("redisCircuitBreakerHealthIndicator"))
+                .isInstanceOf(RedisCircuitBreakerHealthIndicator.class);
+    }
+
+    @Test
+    void analyticsFanOutUsesItsOwnExecutor() {
+        Object analytics = AopTestUtils.getUltimateTargetObject(context.getBean(AnalyticsService.class));
+
+        assertThat(ReflectionTestUtils.getField(analytics, "queryExecutor"))
+                .isSameAs(context.getBean("queryExecutor"))
+                .isNotSameAs(context.getBean("taskExecutor"));
+    }
+}
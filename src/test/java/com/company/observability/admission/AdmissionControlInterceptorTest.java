@@ -0,0 +1,88 @@
+package com.company.observability.admission;
+
+import com.company.observability.config.AdmissionControlProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static com.company.observability.util.ObservabilityConstants.ADMISSION_IN_FLIGHT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+            new AdmissionController(new AdmissionControlProperties(), meterRegistry));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @RequestPriority(PriorityClass.STATUS)
+    static class StatusEndpoints {
+        public void status() {
+        }
+
+        @RequestPriority(PriorityClass.INGESTION)
+        public void start() {
+        }
+    }
+
+    static class HealthEndpoint {
+        public void health() {
+        }
+    }
+
+    private static HandlerMethod handler(Object bean, String method) throws NoSuchMethodException {
+        return new HandlerMethod(bean, method);
+    }
+
+    private double inFlight(PriorityClass priorityClass) {
+        return meterRegistry.get(ADMISSION_IN_FLIGHT).tag("priority", priorityClass.key()).gauge().value();
+    }
+
+    @Test
+    void methodAnnotationOverridesTheController() throws Exception {
+        assertThat(AdmissionControlInterceptor.priority(handler(new StatusEndpoints(), "status")))
+                .isEqualTo(PriorityClass.STATUS);
+        assertThat(AdmissionControlInterceptor.priority(handler(new StatusEndpoints(), "start")))
+                .isEqualTo(PriorityClass.INGESTION);
+        assertThat(AdmissionControlInterceptor.priority(handler(new HealthEndpoint(), "health"))).isNull();
+    }
+
+    @Test
+    void permitIsHeldUntilCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        HandlerMethod handler = handler(new StatusEndpoints(), "status");
+
+        interceptor.preHandle(request, response, handler);
+        assertThat(inFlight(PriorityClass.STATUS)).isEqualTo(1);
+
+        interceptor.afterCompletion(request, response, handler, null);
+        assertThat(inFlight(PriorityClass.STATUS)).isZero();
+    }
+
+    @Test
+    void streamReleasesOnceAsyncHandlingStarts() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        HandlerMethod handler = handler(new StatusEndpoints(), "status");
+        interceptor.preHandle(request, response, handler);
+
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        assertThat(inFlight(PriorityClass.STATUS)).isZero();
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+        assertThat(inFlight(PriorityClass.STATUS)).isZero();
+    }
+
+    @Test
+    void unannotatedHandlersAreNotCounted() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        interceptor.preHandle(request, response, handler(new HealthEndpoint(), "health"));
+
+        assertThat(request.getAttribute(AdmissionControlInterceptor.PERMIT_ATTRIBUTE)).isNull();
+    }
+}
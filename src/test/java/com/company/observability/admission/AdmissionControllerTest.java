@@ -0,0 +1,71 @@
+package com.company.observability.admission;
+
+import com.company.observability.config.AdmissionControlProperties;
+import com.company.observability.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControllerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionController controller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.setInitialLimit(10);
+        controller = new AdmissionController(properties, meterRegistry);
+    }
+
+    private List<AdmissionController.Permit> admit(PriorityClass priorityClass, int count) {
+        List<AdmissionController.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(controller.acquire(priorityClass));
+        }
+        return permits;
+    }
+
+    private double inFlight(PriorityClass priorityClass) {
+        return meterRegistry.get(ADMISSION_IN_FLIGHT).tag("priority", priorityClass.key()).gauge().value();
+    }
+
+    @Test
+    void lowerClassesAreShedFirst() {
+        admit(PriorityClass.ANALYTICS, 6);
+
+        assertThatThrownBy(() -> controller.acquire(PriorityClass.ANALYTICS))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(10L);
+        admit(PriorityClass.STATUS, 2);
+        assertThatThrownBy(() -> controller.acquire(PriorityClass.STATUS))
+                .isInstanceOf(ServiceOverloadedException.class);
+        admit(PriorityClass.INGESTION, 2);
+        assertThatThrownBy(() -> controller.acquire(PriorityClass.INGESTION))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(1L);
+
+        assertThat(meterRegistry.get(ADMISSION_SHED).tag("priority", "analytics").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ADMISSION_SHED).tag("priority", "ingestion").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ADMISSION_LIMIT).gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    void releaseFreesTheSlotForTheClass() {
+        List<AdmissionController.Permit> permits = admit(PriorityClass.ANALYTICS, 6);
+        assertThat(inFlight(PriorityClass.ANALYTICS)).isEqualTo(6);
+
+        controller.release(permits.get(0));
+
+        assertThat(inFlight(PriorityClass.ANALYTICS)).isEqualTo(5);
+        assertThat(controller.acquire(PriorityClass.ANALYTICS).inFlight()).isEqualTo(6);
+    }
+}
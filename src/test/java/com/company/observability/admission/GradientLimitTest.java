@@ -0,0 +1,75 @@
+package com.company.observability.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientLimitTest {
+
+    private static final long WINDOW = 1_000_000_000L;
+    private static final long MS = 1_000_000L;
+
+    private long now;
+
+    private GradientLimit limit() {
+        return new GradientLimit(20, 8, 100, 0.5, WINDOW, 1, 10, now);
+    }
+
+    /** Completes one window of {@code samples} requests at {@code rttMs}, each with {@code inFlight}. */
+    private void window(GradientLimit limit, int samples, long rttMs, int inFlight) {
+        for (int i = 0; i < samples - 1; i++) {
+            limit.onSample(rttMs * MS, inFlight, now);
+        }
+        now += WINDOW;
+        limit.onSample(rttMs * MS, inFlight, now);
+    }
+
+    @Test
+    void growsWhileLatencyHoldsAndTheLimitIsUsed() {
+        GradientLimit limit = limit();
+
+        for (int i = 0; i < 5; i++) {
+            window(limit, 10, 50, limit.limit());
+        }
+
+        assertThat(limit.limit()).isGreaterThan(20);
+    }
+
+    @Test
+    void doesNotGrowWhileMostOfTheLimitIsIdle() {
+        GradientLimit limit = limit();
+
+        for (int i = 0; i < 5; i++) {
+            window(limit, 10, 50, 3);
+        }
+
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAndStopsAtTheMinimum() {
+        GradientLimit limit = limit();
+        window(limit, 10, 50, 20);
+        int settled = limit.limit();
+
+        window(limit, 10, 500, 20);
+        assertThat(limit.limit()).isLessThan(settled);
+
+        // Queueing keeps latency climbing for as long as the overload lasts
+        for (long rttMs = 1_000; rttMs < 10_000_000; rttMs *= 2) {
+            window(limit, 10, rttMs, 20);
+        }
+        assertThat(limit.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void waitsForTheWindowToCloseBeforeUpdating() {
+        GradientLimit limit = limit();
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(5_000 * MS, 20, now);
+        }
+
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+}
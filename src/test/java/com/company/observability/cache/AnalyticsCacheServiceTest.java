@@ -11,6 +11,8 @@ import com.company.observability.event.RunStartedEvent;
 import com.company.observability.event.SlaBreachedEvent;
 import com.company.observability.domain.SlaEvaluationResult;
 import com.company.observability.service.CalculatorNameResolver;
+import com.company.observability.service.live.RunChange;
+import com.company.observability.util.GzipUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -20,20 +22,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,10 +49,13 @@ class AnalyticsCacheServiceTest {
     private StringRedisTemplate redisTemplate;
 
     @Mock
-    private SetOperations<String, String> setOperations;
+    private HashOperations<String, Object, Object> hashOperations;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private BinaryRedisTemplate binaryRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
 
     private AnalyticsCacheService service;
     private ObjectMapper objectMapper;
@@ -57,104 +66,152 @@ class AnalyticsCacheServiceTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
-        service = new AnalyticsCacheService(redisTemplate, objectMapper, new SimpleMeterRegistry(),
+        service = new AnalyticsCacheService(redisTemplate, binaryRedisTemplate, objectMapper, new SimpleMeterRegistry(),
                 new CalculatorNameResolver(new CalculatorProperties()));
-        // lenient: used by eviction tests only — getFromCache/putInCache tests don't need opsForSet from setUp
-        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        // Default: no generation has been bumped yet
+        lenient().when(hashOperations.multiGet(anyString(), anyCollection())).thenReturn(Arrays.asList(null, null));
+    }
+
+    // ---------------------------------------------------------------
+    // Generation-based invalidation — one bump script (HINCRBY + PEXPIRE) per calculator key
+    // ---------------------------------------------------------------
+
+    @Test
+    void onRunStarted_bumpsRunPerfExecutionsAndCardGenerations_forBothIdAndName() {
+        // run has calculatorId="calc-1", calculatorName="Calculator" (different → both keys bumped)
+        service.onRunStarted(new RunStartedEvent(run("calc-1", "tenant-a")));
+
+        verifyBumped("obs:analytics:gen:calc-1", "run-perf");
+        verifyBumped("obs:analytics:gen:calc-1", "executions");
+        verifyBumped("obs:analytics:gen:Calculator", "run-perf");
+        verifyBumped("obs:analytics:gen:Calculator", "executions");
+        verifyBumped("obs:analytics:gen:calc-1", "card");
+        verifyBumped("obs:analytics:gen:Calculator", "card");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), eq("all"), any(), any());
+        verify(redisTemplate, never()).delete(anyCollection());
     }
 
     @Test
-    void onRunStarted_evictsRunPerfAndExecutionsKeysByPrefix_forBothIdAndNameIndexes() {
-        // run has calculatorId="calc-1", calculatorName="Calculator" (different → both indexes evicted)
-        CalculatorRun run = run("calc-1", "tenant-a");
-        String idIndex   = "obs:analytics:index:calc-1";
-        String nameIndex = "obs:analytics:index:Calculator";
-        Set<String> idKeys = new LinkedHashSet<>(List.of(
-                "obs:analytics:run-perf:calc-1:DAILY:30",
-                "obs:analytics:runtime:calc-1:DAILY:30"
-        ));
-        Set<String> nameKeys = new LinkedHashSet<>(List.of(
-                "obs:analytics:executions:Calculator:DAILY:30:all"
-        ));
+    void onRunCompleted_bumpsAllGeneration_forBothIdAndName() {
+        service.onRunCompleted(new RunCompletedEvent(run("calc-1", "tenant-a")));
 
-        when(setOperations.members(idIndex)).thenReturn(idKeys);
-        when(setOperations.members(nameIndex)).thenReturn(nameKeys);
+        verifyBumped("obs:analytics:gen:calc-1", "all");
+        verifyBumped("obs:analytics:gen:Calculator", "all");
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
 
-        service.onRunStarted(new RunStartedEvent(run));
+    @Test
+    void onSlaBreached_bumpsAllGeneration_forBothIdAndName() {
+        service.onSlaBreached(new SlaBreachedEvent(run("calc-1", "tenant-a"),
+                new SlaEvaluationResult(com.company.observability.domain.enums.SlaBand.LATE, "b")));
 
-        // run-perf prefix evicted from id-index
-        verify(redisTemplate).delete(List.of("obs:analytics:run-perf:calc-1:DAILY:30"));
-        // executions prefix evicted from name-index
-        verify(redisTemplate).delete(List.of("obs:analytics:executions:Calculator:DAILY:30:all"));
+        verifyBumped("obs:analytics:gen:calc-1", "all");
+        verifyBumped("obs:analytics:gen:Calculator", "all");
     }
 
     @Test
-    void onRunCompleted_evictsAllKeys_fromBothIdIndexAndNameIndex() {
-        CalculatorRun run = run("calc-1", "tenant-a");
-        String idIndex   = "obs:analytics:index:calc-1";
-        String nameIndex = "obs:analytics:index:Calculator";
-        Set<String> idKeys = new LinkedHashSet<>(List.of(
-                "obs:analytics:run-perf:calc-1:DAILY:30",
-                "obs:analytics:runtime:calc-1:DAILY:30"
-        ));
-        Set<String> nameKeys = new LinkedHashSet<>(List.of(
-                "obs:analytics:executions:Calculator:DAILY:30:all"
-        ));
+    void onRunCompleted_calculatorInAlias_alsoBumpsAlias() {
+        CalculatorProperties props = new CalculatorProperties();
+        props.getAliases().put("Alias", List.of("Calculator"));
+        service = new AnalyticsCacheService(redisTemplate, binaryRedisTemplate, objectMapper, new SimpleMeterRegistry(),
+                new CalculatorNameResolver(props));
 
-        when(setOperations.members(idIndex)).thenReturn(idKeys);
-        when(setOperations.members(nameIndex)).thenReturn(nameKeys);
+        service.onRunCompleted(new RunCompletedEvent(run("calc-1", "tenant-a")));
 
-        service.onRunCompleted(new RunCompletedEvent(run));
+        verifyBumped("obs:analytics:gen:Alias", "all");
+    }
+
+    @Test
+    void onRunCompleted_redisFailure_swallowed() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenThrow(new RuntimeException("redis down"));
 
-        // id-index: all keys + the index itself deleted
-        verify(redisTemplate).delete(List.of(
-                "obs:analytics:run-perf:calc-1:DAILY:30",
-                "obs:analytics:runtime:calc-1:DAILY:30",
-                idIndex
-        ));
-        // name-index: all keys + the index itself deleted
-        verify(redisTemplate).delete(List.of(
-                "obs:analytics:executions:Calculator:DAILY:30:all",
-                nameIndex
-        ));
+        // Should not throw — best-effort
+        service.onRunCompleted(new RunCompletedEvent(run("calc-1", "tenant-a")));
     }
 
     @Test
-    void onSlaBreached_evictsAllKeys_fromBothIdIndexAndNameIndex() {
-        CalculatorRun run = run("calc-1", "tenant-a");
-        String idIndex   = "obs:analytics:index:calc-1";
-        String nameIndex = "obs:analytics:index:Calculator";
-        Set<String> idKeys = new LinkedHashSet<>(List.of("obs:analytics:runtime:calc-1:30"));
-        Set<String> nameKeys = new LinkedHashSet<>(List.of("obs:analytics:executions:Calculator:DAILY:30:all"));
+    void process_startedChange_bumpsPerRunGenerations() {
+        assertThat(service.process(new RunChange(RunChange.STARTED, 1L, true, Instant.now(), run("calc-1", "tenant-a"))))
+                .isTrue();
 
-        when(setOperations.members(idIndex)).thenReturn(idKeys);
-        when(setOperations.members(nameIndex)).thenReturn(nameKeys);
+        verifyBumped("obs:analytics:gen:calc-1", "run-perf");
+        verifyBumped("obs:analytics:gen:Calculator", "card");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), eq("all"), any(), any());
+    }
 
-        service.onSlaBreached(new SlaBreachedEvent(run, new SlaEvaluationResult(com.company.observability.domain.enums.SlaBand.LATE, "b")));
+    @Test
+    void process_redisFailure_reportsUnhandled() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenThrow(new RuntimeException("redis down"));
 
-        verify(redisTemplate).delete(List.of("obs:analytics:runtime:calc-1:30", idIndex));
-        verify(redisTemplate).delete(List.of("obs:analytics:executions:Calculator:DAILY:30:all", nameIndex));
+        assertThat(service.process(new RunChange(RunChange.COMPLETED, 1L, true, Instant.now(), run("calc-1", "tenant-a"))))
+                .isFalse();
+    }
+
+    @Test
+    void changeFeedEnabled_listenersStandDown() {
+        ReflectionTestUtils.setField(service, "changeFeedEnabled", true);
+
+        service.onRunCompleted(new RunCompletedEvent(run("calc-1", "tenant-a")));
+
+        verifyNoInteractions(hashOperations);
+    }
+
+    @Test
+    void afterLocalBump_nextReadUsesNewGeneration() throws Exception {
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        service.getFromCache("runtime", "calc-1", 30, SimpleResponse.class);
+        verify(valueOperations).get("obs:analytics:runtime:calc-1:g0.0:30");
+
+        service.onRunCompleted(new RunCompletedEvent(run("calc-1", "tenant-a")));
+        when(hashOperations.multiGet(eq("obs:analytics:gen:calc-1"), anyCollection()))
+                .thenReturn(Arrays.asList("1", null));
+
+        service.getFromCache("runtime", "calc-1", 30, SimpleResponse.class);
+        verify(valueOperations).get("obs:analytics:runtime:calc-1:g1.0:30");
+    }
+
+    @Test
+    void generationReadCachedLocally_secondReadSkipsHashLookup() {
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        service.getFromCache("runtime", "calc-1", 30, SimpleResponse.class);
+        service.getFromCache("runtime", "calc-1", 30, SimpleResponse.class);
+
+        verify(hashOperations, times(1)).multiGet(anyString(), anyCollection());
     }
 
     // ---------------------------------------------------------------
-    // putInCache — write-through to Redis (stores JSON string)
+    // putInCache — write-through to Redis (stores raw gzipped JSON bytes)
     // ---------------------------------------------------------------
 
     @Test
-    void putInCache_storesJsonAndTracksKeyInIndex() throws Exception {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    void putInCache_storesJsonUnderGenerationKey_withoutIndexWrite() throws Exception {
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
 
         SimpleResponse response = new SimpleResponse("payload");
         service.putInCache("runtime", "calc-1", 30, response);
 
-        String expectedKey   = "obs:analytics:runtime:calc-1:30";
-        String expectedIndex = "obs:analytics:index:calc-1";
-        String expectedJson  = objectMapper.writeValueAsString(response);
+        String expectedKey  = "obs:analytics:runtime:calc-1:g0.0:30";
+        String expectedJson = objectMapper.writeValueAsString(response);
 
-        verify(valueOperations).set(expectedKey, expectedJson, Duration.ofMinutes(5));
-        verify(setOperations).add(expectedIndex, expectedKey);
-        verify(redisTemplate).expire(expectedIndex, Duration.ofHours(1));
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        verify(valueOperations).set(eq(expectedKey), stored.capture(), eq(Duration.ofMinutes(5)));
+        assertThat(new String(GzipUtils.gunzip(stored.getValue()), StandardCharsets.UTF_8))
+                .isEqualTo(expectedJson);
+        verify(binaryRedisTemplate, never()).opsForSet();
+        verify(binaryRedisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    void putInCache_generationUnavailable_skipsWrite() {
+        when(hashOperations.multiGet(anyString(), anyCollection())).thenThrow(new RuntimeException("redis down"));
+
+        service.putInCache("runtime", "calc-1", 30, new SimpleResponse("payload"));
+
+        verify(binaryRedisTemplate, never()).opsForValue();
     }
 
     // ---------------------------------------------------------------
@@ -163,9 +220,11 @@ class AnalyticsCacheServiceTest {
 
     @Test
     void getFromCache_cacheHit_deserializesToTypedResponse() throws Exception {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get("obs:analytics:runtime:calc-1:30"))
-                .thenReturn(objectMapper.writeValueAsString(new SimpleResponse("hello")));
+        when(hashOperations.multiGet(eq("obs:analytics:gen:calc-1"), anyCollection()))
+                .thenReturn(Arrays.asList("3", "2"));
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("obs:analytics:runtime:calc-1:g3.2:30"))
+                .thenReturn(GzipUtils.gzip(objectMapper.writeValueAsBytes(new SimpleResponse("hello"))));
 
         SimpleResponse result = service.getFromCache("runtime", "calc-1", 30, SimpleResponse.class);
 
@@ -175,7 +234,7 @@ class AnalyticsCacheServiceTest {
 
     @Test
     void getFromCache_cacheMiss_returnsNull() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get(anyString())).thenReturn(null);
 
         SimpleResponse result = service.getFromCache("runtime", "calc-1", 30, SimpleResponse.class);
@@ -185,14 +244,87 @@ class AnalyticsCacheServiceTest {
 
     @Test
     void getFromCache_malformedJson_swallowedAndReturnsNull() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn("{not valid json");
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn("{not valid json".getBytes(StandardCharsets.UTF_8));
 
         SimpleResponse result = service.getFromCache("runtime", "calc-1", 30, SimpleResponse.class);
 
         assertThat(result).isNull();
     }
 
+    @Test
+    void getFromCache_generationUnavailable_bypassesCache() {
+        when(hashOperations.multiGet(anyString(), anyCollection())).thenThrow(new RuntimeException("redis down"));
+
+        SimpleResponse result = service.getFromCache("runtime", "calc-1", 30, SimpleResponse.class);
+
+        assertThat(result).isNull();
+        verify(binaryRedisTemplate, never()).opsForValue();
+    }
+
+    // ---------------------------------------------------------------
+    // Batch — one generation pipeline, one MGET, same keys as single reads
+    // ---------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllFromCache_pipelinesGenerationsAndReadsValuesInOneMget() throws Exception {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(List.of(Arrays.asList("1", null), Arrays.asList(null, "4")));
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // calc-1's generation is already held locally; calc-2 and calc-3 come from the pipeline
+        service.getFromCache("trends", "calc-1", 30, SimpleResponse.class);
+        when(valueOperations.multiGet(anyList())).thenAnswer(inv -> {
+            List<String> keys = inv.getArgument(0);
+            assertThat(keys).containsExactlyInAnyOrder(
+                    "obs:analytics:trends:calc-1:g0.0:30",
+                    "obs:analytics:trends:calc-2:g1.0:30",
+                    "obs:analytics:trends:calc-3:g0.4:30");
+            return keys.stream()
+                    .map(k -> k.contains("calc-2") ? GzipUtils.gzip("{\"name\":\"two\"}".getBytes(StandardCharsets.UTF_8)) : null)
+                    .toList();
+        });
+
+        Map<String, SimpleResponse> hits = service.getAllFromCache(
+                "trends", List.of("calc-1", "calc-2", "calc-3"), 30, SimpleResponse.class);
+
+        assertThat(hits).containsOnlyKeys("calc-2");
+        assertThat(hits.get("calc-2").name()).isEqualTo("two");
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(hashOperations, times(1)).multiGet(anyString(), anyCollection());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllFromCache_generationsUnavailable_bypassesCache() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenThrow(new RuntimeException("redis down"));
+
+        assertThat(service.getAllFromCache("trends", List.of("calc-1"), 30, SimpleResponse.class)).isEmpty();
+        verify(binaryRedisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void putAllInCache_writesUnderSingleKeyLayout() throws Exception {
+        // Generations held locally, so the only pipeline is the value write
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        service.getFromCache("runtime", "calc-1", "DAILY", 30, SimpleResponse.class);
+        when(binaryRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(inv -> {
+            ((SessionCallback<Object>) inv.getArgument(0)).execute(binaryRedisTemplate);
+            return List.of();
+        });
+
+        service.putAllInCache("runtime", Map.of("calc-1", new SimpleResponse("one")), "DAILY", 30,
+                SimpleResponse.class);
+
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        verify(valueOperations).set(eq("obs:analytics:runtime:calc-1:g0.0:DAILY:30"), stored.capture(),
+                eq(Duration.ofMinutes(5)));
+        assertThat(new String(GzipUtils.gunzip(stored.getValue()), StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(new SimpleResponse("one")));
+    }
+
     // ---------------------------------------------------------------
     // Executions round-trip — the regression this fix addresses.
     // A record with a populated List<record> field must survive put→get.
@@ -200,8 +332,7 @@ class AnalyticsCacheServiceTest {
 
     @Test
     void executionsRoundTrip_recordWithPopulatedRunsList_survivesSerialization() throws Exception {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
 
         RunDataPoint dp = new RunDataPoint(
                 "run-1", LocalDate.of(2026, 5, 1),
@@ -214,10 +345,10 @@ class AnalyticsCacheServiceTest {
                 List.of(dp), Instant.parse("2026-05-01T04:00:00Z"), Instant.parse("2026-05-01T06:00:00Z"));
 
         LocalDate asOfDate = LocalDate.of(2026, 5, 1);
-        String key = "obs:analytics:executions:Calc:DAILY:30:all:" + asOfDate;
+        String key = "obs:analytics:executions:Calc:g0.0:DAILY:30:all:" + asOfDate;
 
         // Capture the JSON the service writes, then feed it back on read — a true round-trip.
-        ArgumentCaptor<String> jsonCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<byte[]> jsonCaptor = ArgumentCaptor.forClass(byte[].class);
         service.putInCache("executions", "Calc", "DAILY", 30, null, asOfDate, response);
         verify(valueOperations).set(eq(key), jsonCaptor.capture(), eq(Duration.ofMinutes(5)));
 
@@ -233,8 +364,54 @@ class AnalyticsCacheServiceTest {
         assertThat(result.totalRuns()).isEqualTo(1);
     }
 
+    @Test
+    void compressedEntries_shareKeysWithTypedEntries() throws Exception {
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        LocalDate asOfDate = LocalDate.of(2026, 5, 1);
+        String key = "obs:analytics:executions:Calc:g0.0:DAILY:120:1:" + asOfDate;
+        byte[] gzip = GzipUtils.gzip(objectMapper.writeValueAsBytes(new RunPerformanceData(
+                "Calc", "Calc", "DAILY", 120, 0L, 0, 0, 0, 0, 0, List.of(), null, null)));
+
+        // Streamed document stored as the gzip bytes it was served with...
+        service.putCompressedInCache("executions", "Calc", "DAILY", 120, "1", asOfDate, gzip);
+        verify(valueOperations).set(key, gzip, Duration.ofMinutes(5));
+
+        // ...and readable both as those bytes and through the typed view
+        when(valueOperations.get(key)).thenReturn(gzip);
+        assertThat(service.getCompressedFromCache("executions", "Calc", "DAILY", 120, "1", asOfDate)).isEqualTo(gzip);
+        assertThat(service.getFromCache("executions", "Calc", "DAILY", 120, "1", asOfDate, RunPerformanceData.class)
+                .periodDays()).isEqualTo(120);
+    }
+
+    @Test
+    void legacyBase64Entries_remainReadable() throws Exception {
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        String key = "obs:analytics:run-perf:calc-1:g0.0:DAILY:30";
+        byte[] gzip = GzipUtils.gzip(objectMapper.writeValueAsBytes(new RunPerformanceData(
+                "calc-1", "Calc", "DAILY", 30, 0L, 0, 0, 0, 0, 0, List.of(), null, null)));
+        when(valueOperations.get(key)).thenReturn(Base64.getEncoder().encode(gzip));
+
+        assertThat(service.getFromCache("run-perf", "calc-1", "DAILY", 30, RunPerformanceData.class).calculatorName())
+                .isEqualTo("Calc");
+        assertThat(service.getCompressedFromCache("run-perf", "calc-1", "DAILY", 30)).isEqualTo(gzip);
+    }
+
+    @Test
+    void legacyPlainJsonEntries_remainReadable() throws Exception {
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        String key = "obs:analytics:run-perf:calc-1:g0.0:DAILY:30";
+        String json = objectMapper.writeValueAsString(new RunPerformanceData(
+                "calc-1", "Calc", "DAILY", 30, 0L, 0, 0, 0, 0, 0, List.of(), null, null));
+        when(valueOperations.get(key)).thenReturn(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(service.getFromCache("run-perf", "calc-1", "DAILY", 30, RunPerformanceData.class).calculatorName())
+                .isEqualTo("Calc");
+        assertThat(GzipUtils.gunzip(service.getCompressedFromCache("run-perf", "calc-1", "DAILY", 30)))
+                .isEqualTo(json.getBytes(StandardCharsets.UTF_8));
+    }
+
     // ---------------------------------------------------------------
-    // Helpers — eviction tests
+    // Helpers
     // ---------------------------------------------------------------
 
     private CalculatorRun run(String calculatorId, String tenantId) {
@@ -249,5 +426,35 @@ class AnalyticsCacheServiceTest {
                 .status(RunStatus.RUNNING)
                 .build();
     }
+    @Test
+    void bump_expiresGenerationHashAfterLongestEntryTtl() {
+        service.onRunCompleted(new RunCompletedEvent(run("calc-1", "tenant-a")));
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("obs:analytics:gen:calc-1")), eq("all"),
+                eq(String.valueOf(AnalyticsCacheService.GENERATION_TTL.toMillis())), anyString());
+        assertThat(AnalyticsCacheService.GENERATION_TTL)
+                .isGreaterThan(Duration.ofMinutes(5).plus(AnalyticsCacheService.LOCAL_GENERATION_TTL));
+    }
+
+    @Test
+    void bump_dropsOnlyTheBumpedCalculatorsLocalGenerations() {
+        service.currentGeneration("run-perf", "calc-1");
+        service.currentGeneration("card", "calc-1");
+        service.currentGeneration("run-perf", "calc-2");
+        verify(hashOperations, times(3)).multiGet(anyString(), anyCollection());
+
+        service.process(new RunChange(RunChange.COMPLETED, 1L, true, Instant.now(), run("calc-1", "tenant-a")));
+        service.currentGeneration("run-perf", "calc-1");
+        service.currentGeneration("card", "calc-1");
+        service.currentGeneration("run-perf", "calc-2");
+
+        // calc-1 re-read for both prefixes (2 + 2); calc-2 still held locally
+        verify(hashOperations, times(4)).multiGet(eq("obs:analytics:gen:calc-1"), anyCollection());
+        verify(hashOperations, times(1)).multiGet(eq("obs:analytics:gen:calc-2"), anyCollection());
+    }
+
+    private void verifyBumped(String generationKey, String field) {
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(generationKey)), eq(field), any(), any());
+    }
 }
 
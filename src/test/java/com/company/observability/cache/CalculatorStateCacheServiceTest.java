@@ -15,6 +15,8 @@ import org.springframework.data.redis.core.ValueOperations;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +40,7 @@ class CalculatorStateCacheServiceTest {
     private static final LocalDate DATE  = LocalDate.of(2026, 5, 1);   // old reporting date (> 3 days ago)
     private static final LocalDate TODAY = LocalDate.now();            // current cycle
     private static final String    FREQ  = "DAILY";
+    private static final Map<String, Long> VERSIONS = Map.of();
 
     @BeforeEach
     void setUp() {
@@ -106,9 +109,9 @@ class CalculatorStateCacheServiceTest {
     void putEntries_storesEachWithDynamicTtl() throws Exception {
         CalculatorEntry entry = new CalculatorEntry("cap", null, List.of(runEntry("SUCCESS", null)));
 
-        service.putEntries(DATE, FREQ, null, Map.of("cap", entry));
+        service.putEntries(DATE, FREQ, null, Map.of("cap", entry), VERSIONS);
 
-        String expectedKey = "obs:state:cap:" + DATE + ":DAILY:all";
+        String expectedKey = "obs:state:cap:" + DATE + ":DAILY:all:v0";
         verify(valueOps).set(eq(expectedKey), anyString(), eq(TTL_TERMINAL_CLEAN));
     }
 
@@ -116,42 +119,67 @@ class CalculatorStateCacheServiceTest {
     void putEntries_withRunNumber_includesRunNumberInKey() throws Exception {
         CalculatorEntry entry = new CalculatorEntry("cap", null, List.of(runEntry("SUCCESS", null)));
 
-        service.putEntries(DATE, FREQ, "1", Map.of("cap", entry));
+        service.putEntries(DATE, FREQ, "1", Map.of("cap", entry), VERSIONS);
 
-        String expectedKey = "obs:state:cap:" + DATE + ":DAILY:1";
+        String expectedKey = "obs:state:cap:" + DATE + ":DAILY:1:v0";
         verify(valueOps).set(eq(expectedKey), anyString(), eq(TTL_TERMINAL_CLEAN));
     }
 
     @Test
     void getEntries_cacheHit_returnsEntry() throws Exception {
-        String key = "obs:state:cap:" + DATE + ":DAILY:all";
+        String key = "obs:state:cap:" + DATE + ":DAILY:all:v0";
         CalculatorEntry entry = new CalculatorEntry("cap", null, List.of());
-        when(valueOps.get(key)).thenReturn(objectMapper.writeValueAsString(entry));
+        when(valueOps.multiGet(List.of(key))).thenReturn(List.of(objectMapper.writeValueAsString(entry)));
 
-        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap"));
+        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap"), VERSIONS);
 
         assertThat(result).containsKey("cap");
     }
 
     @Test
     void getEntries_cacheMiss_returnsEmptyMap() {
-        when(valueOps.get(anyString())).thenReturn(null);
+        when(valueOps.multiGet(anyList())).thenReturn(Collections.singletonList(null));
 
-        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap"));
+        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap"), VERSIONS);
 
         assertThat(result).isEmpty();
     }
 
     @Test
     void getEntries_redisFailure_swallowedAndReturnsMiss() {
-        when(valueOps.get(anyString())).thenThrow(new RuntimeException("Redis down"));
+        when(valueOps.multiGet(anyList())).thenThrow(new RuntimeException("Redis down"));
 
         // Should not throw — best-effort
-        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap"));
+        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap"), VERSIONS);
 
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getEntries_multipleNames_usesSingleMget() throws Exception {
+        String capKey = "obs:state:cap:" + DATE + ":DAILY:all:v0";
+        String fxKey  = "obs:state:fx:" + DATE + ":DAILY:all:v0";
+        CalculatorEntry cap = new CalculatorEntry("cap", null, List.of());
+        when(valueOps.multiGet(List.of(capKey, fxKey)))
+                .thenReturn(Arrays.asList(objectMapper.writeValueAsString(cap), null));
+
+        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap", "fx"), VERSIONS);
+
+        assertThat(result).containsOnlyKeys("cap");
+        verify(valueOps, never()).get(anyString());
+    }
+
+    @Test
+    void getEntries_afterPut_servedFromHeapWithoutRedisRead() {
+        CalculatorEntry entry = new CalculatorEntry("cap", null, List.of(runEntry("RUNNING", null)));
+        service.putEntries(DATE, FREQ, null, Map.of("cap", entry), VERSIONS);
+
+        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap"), VERSIONS);
+
+        assertThat(result).containsKey("cap");
+        verify(valueOps, never()).multiGet(anyList());
+    }
+
     @Test
     void putEntries_redisFailure_swallowed() {
         CalculatorEntry entry = new CalculatorEntry("cap", null, List.of(runEntry("SUCCESS", null)));
@@ -159,7 +187,29 @@ class CalculatorStateCacheServiceTest {
                 .when(valueOps).set(anyString(), any(), any(Duration.class));
 
         // Should not throw — best-effort
-        service.putEntries(DATE, FREQ, null, Map.of("cap", entry));
+        service.putEntries(DATE, FREQ, null, Map.of("cap", entry), VERSIONS);
+    }
+
+    @Test
+    void getEntries_versionInKey_newVersionMissesOldEntry() {
+        CalculatorEntry entry = new CalculatorEntry("cap", null, List.of(runEntry("RUNNING", null)));
+        service.putEntries(DATE, FREQ, null, Map.of("cap", entry), Map.of("cap", 3L));
+        when(valueOps.multiGet(List.of("obs:state:cap:" + DATE + ":DAILY:all:v4")))
+                .thenReturn(Collections.singletonList(null));
+
+        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap"), Map.of("cap", 4L));
+
+        assertThat(result).isEmpty();
+        verify(valueOps).set(eq("obs:state:cap:" + DATE + ":DAILY:all:v3"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void getEntries_withoutVersions_bypassesCache() {
+        Map<String, CalculatorEntry> result = service.getEntries(DATE, FREQ, null, List.of("cap"), null);
+        service.putEntries(DATE, FREQ, null, Map.of("cap", new CalculatorEntry("cap", null, List.of())), null);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(valueOps);
     }
 
     // ── Helpers ───────────────────────────────────────────────────────────────
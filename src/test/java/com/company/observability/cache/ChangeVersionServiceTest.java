@@ -0,0 +1,109 @@
+package com.company.observability.cache;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.event.RunCompletedEvent;
+import com.company.observability.service.live.RunChange;
+import com.company.observability.service.live.RunChangeStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeVersionServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    private ChangeVersionService service;
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 6);
+
+    @BeforeEach
+    void setUp() {
+        service = new ChangeVersionService(redisTemplate, new SimpleMeterRegistry(), Optional.empty());
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOps);
+    }
+
+    @Test
+    void getVersions_singleMget_missingKeysReadAsZero() {
+        when(valueOps.multiGet(List.of(
+                "obs:version:cap:2026-03-06:DAILY", "obs:version:fx:2026-03-06:DAILY")))
+                .thenReturn(Arrays.asList("7", null));
+
+        assertThat(service.getVersions(DATE, "DAILY", List.of("cap", "fx")))
+                .containsEntry("cap", 7L)
+                .containsEntry("fx", 0L);
+        verify(valueOps, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    void getVersions_redisFailure_returnsNull() {
+        when(valueOps.multiGet(anyList())).thenThrow(new RuntimeException("redis down"));
+
+        assertThat(service.getVersions(DATE, "DAILY", List.of("cap"))).isNull();
+    }
+
+    @Test
+    void onRunCompleted_incrementsVersionWithTtl_seedingFromTheClock() {
+        long before = System.currentTimeMillis();
+
+        service.onRunCompleted(new RunCompletedEvent(run()));
+
+        ArgumentCaptor<Object> seed = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("obs:version:cap:2026-03-06:DAILY")),
+                eq(String.valueOf(ChangeVersionService.VERSION_TTL.toMillis())), seed.capture());
+        assertThat(Long.parseLong((String) seed.getValue())).isGreaterThanOrEqualTo(before);
+        verifyNoInteractions(valueOps);
+    }
+
+    @Test
+    void bump_redisFailure_swallowed() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RuntimeException("redis down"));
+
+        service.onRunCompleted(new RunCompletedEvent(run()));
+    }
+
+    @Test
+    void onRunCompleted_liveStateEnabled_bumpsAndAppendsInOneCall() throws Exception {
+        RunChangeStream changeStream = mock(RunChangeStream.class);
+        service = new ChangeVersionService(redisTemplate, new SimpleMeterRegistry(), Optional.of(changeStream));
+        CalculatorRun run = run();
+
+        service.onRunCompleted(new RunCompletedEvent(run));
+
+        verify(changeStream).bumpAndAppend("obs:version:cap:2026-03-06:DAILY",
+                ChangeVersionService.VERSION_TTL, run, RunChange.COMPLETED);
+        verifyNoInteractions(valueOps);
+    }
+
+    private static CalculatorRun run() {
+        CalculatorRun run = new CalculatorRun();
+        run.setCalculatorName("cap");
+        run.setReportingDate(DATE);
+        run.setFrequency(Frequency.DAILY);
+        return run;
+    }
+}
@@ -0,0 +1,175 @@
+package com.company.observability.cache;
+
+import com.company.observability.config.SnapshotProperties;
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
+import com.company.observability.repository.DaySnapshotRepository;
+import com.company.observability.repository.DaySnapshotRepository.DaySnapshot;
+import com.company.observability.service.live.RunChange;
+import com.company.observability.util.GzipUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DaySnapshotServiceTest {
+
+    @Mock
+    private DaySnapshotRepository repository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private SnapshotProperties properties;
+    private DaySnapshotService service;
+
+    private static final LocalDate SETTLED = LocalDate.now().minusDays(30);
+    private static final String FREQ = "DAILY";
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new SnapshotProperties();
+        service = new DaySnapshotService(repository, properties, redisTemplate, objectMapper, meterRegistry);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        lenient().when(valueOps.multiGet(anyList()))
+                .thenAnswer(inv -> Arrays.asList(new String[((List<?>) inv.getArgument(0)).size()]));
+    }
+
+    @Test
+    void isSettled_onlyPastTheHorizonAndWhenEnabled() {
+        assertThat(service.isSettled(SETTLED)).isTrue();
+        assertThat(service.isSettled(LocalDate.now().minusDays(properties.getSettleDays()))).isFalse();
+
+        properties.setEnabled(false);
+        assertThat(service.isSettled(SETTLED)).isFalse();
+    }
+
+    @Test
+    void getEntries_tableRowAtRequestedVersion_servedAndCopiedToRedis() throws Exception {
+        CalculatorEntry entry = entry("cap", "SUCCESS");
+        when(repository.findSnapshots(SETTLED, FREQ, "all", List.of("cap")))
+                .thenReturn(Map.of("cap", snapshot("cap", 3L, entry)));
+
+        Map<String, CalculatorEntry> result = service.getEntries(SETTLED, FREQ, null, List.of("cap"), Map.of("cap", 3L));
+
+        assertThat(result).containsEntry("cap", entry);
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        assertThat(meterRegistry.counter(SNAPSHOT_HIT, "tier", "table").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getEntries_rowFromOlderVersion_isAMiss() throws Exception {
+        when(repository.findSnapshots(SETTLED, FREQ, "all", List.of("cap")))
+                .thenReturn(Map.of("cap", snapshot("cap", 2L, entry("cap", "FAILED"))));
+
+        Map<String, CalculatorEntry> result = service.getEntries(SETTLED, FREQ, null, List.of("cap"), Map.of("cap", 3L));
+
+        assertThat(result).isEmpty();
+        assertThat(meterRegistry.counter(SNAPSHOT_MISS).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getEntries_withoutVersions_bypassesSnapshots() {
+        assertThat(service.getEntries(SETTLED, FREQ, null, List.of("cap"), null)).isEmpty();
+        verifyNoInteractions(repository, redisTemplate);
+    }
+
+    @Test
+    void getEntries_tableFailure_readsAsMiss() {
+        when(repository.findSnapshots(any(), any(), any(), any())).thenThrow(new RuntimeException("db down"));
+
+        assertThat(service.getEntries(SETTLED, FREQ, "2", List.of("cap"), Map.of())).isEmpty();
+    }
+
+    @Test
+    void putEntries_writesOnlyEntriesWithAllRunsTerminal() {
+        Map<String, CalculatorEntry> entries = Map.of(
+                "done", entry("done", "SUCCESS"),
+                "running", entry("running", "RUNNING"),
+                "pending", entry("pending", "NOT_STARTED"),
+                "empty", new CalculatorEntry("empty", null, List.of()));
+
+        Set<String> written = service.putEntries(SETTLED, FREQ, null, entries, Map.of("done", 5L));
+
+        assertThat(written).containsExactly("done");
+        verify(repository).upsertSnapshots(eq(SETTLED), eq(FREQ), eq("all"),
+                argThat(rows -> rows.size() == 1 && rows.get(0).version() == 5L));
+        assertThat(meterRegistry.counter(SNAPSHOT_WRITE).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void process_lateChangeOnSettledDate_deletesSnapshots() {
+        when(repository.deleteSnapshots("cap", SETTLED, "DAILY")).thenReturn(2);
+
+        assertThat(service.process(change(SETTLED))).isTrue();
+
+        assertThat(meterRegistry.counter(SNAPSHOT_INVALIDATED).count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void process_recentDate_leavesTableAlone() {
+        assertThat(service.process(change(LocalDate.now()))).isTrue();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void process_deleteFailure_leavesChangePending() {
+        when(repository.deleteSnapshots(any(), any(), any())).thenThrow(new RuntimeException("db down"));
+
+        assertThat(service.process(change(SETTLED))).isFalse();
+    }
+
+    private DaySnapshot snapshot(String name, long version, CalculatorEntry entry) throws Exception {
+        return new DaySnapshot(name, version, GzipUtils.gzip(objectMapper.writeValueAsBytes(entry)));
+    }
+
+    private static CalculatorEntry entry(String name, String status) {
+        return new CalculatorEntry(name, name + "-id", List.of(RunEntry.builder()
+                .calculatorName(name)
+                .runId(name + "-r1")
+                .status(status)
+                .isRerun(false)
+                .build()));
+    }
+
+    private static RunChange change(LocalDate reportingDate) {
+        CalculatorRun run = CalculatorRun.builder()
+                .runId("r1")
+                .calculatorName("cap")
+                .reportingDate(reportingDate)
+                .frequency(Frequency.DAILY)
+                .status(RunStatus.SUCCESS)
+                .build();
+        return new RunChange(RunChange.COMPLETED, 1L, true, Instant.now(), run);
+    }
+}
@@ -0,0 +1,63 @@
+package com.company.observability.cache;
+
+import com.company.observability.config.RedisResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.company.observability.util.ObservabilityConstants.CACHE_BREAKER_CALLS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GuardedBinaryRedisTemplateTest {
+
+    private final RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private SimpleMeterRegistry meterRegistry;
+    private RedisCircuitBreaker breaker;
+    private GuardedBinaryRedisTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RedisResilienceProperties properties = new RedisResilienceProperties();
+        properties.getBreaker().setMinimumCalls(2);
+        properties.getBreaker().setSlowCallMs(60_000);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        breaker = new RedisCircuitBreaker(properties, meterRegistry);
+        template = new GuardedBinaryRedisTemplate(connectionFactory, breaker);
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.counter(CACHE_BREAKER_CALLS, "outcome", outcome).count();
+    }
+
+    @Test
+    void valuesPassThroughAsRawBytes() {
+        byte[] payload = {0x1f, (byte) 0x8b, 8, 0};
+        when(connection.get("k".getBytes(StandardCharsets.UTF_8))).thenReturn(payload);
+
+        assertThat(template.opsForValue().get("k")).isEqualTo(payload);
+        assertThat(calls("success")).isEqualTo(1);
+    }
+
+    @Test
+    void sharesTheBreakerWithTheStringTemplate() {
+        GuardedStringRedisTemplate strings = new GuardedStringRedisTemplate(connectionFactory, breaker);
+        strings.afterPropertiesSet();
+        when(connection.get(any())).thenThrow(new QueryTimeoutException("Redis command timed out"));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> strings.opsForValue().get("k")).isInstanceOf(QueryTimeoutException.class);
+        }
+
+        assertThatThrownBy(() -> template.opsForValue().get("k")).isInstanceOf(RedisCircuitOpenException.class);
+        verify(connection, times(2)).get(any());
+    }
+}
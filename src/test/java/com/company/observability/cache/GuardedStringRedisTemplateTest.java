@@ -0,0 +1,77 @@
+package com.company.observability.cache;
+
+import com.company.observability.config.RedisResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+
+import static com.company.observability.util.ObservabilityConstants.CACHE_BREAKER_CALLS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GuardedStringRedisTemplateTest {
+
+    private final RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private SimpleMeterRegistry meterRegistry;
+    private GuardedStringRedisTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RedisResilienceProperties properties = new RedisResilienceProperties();
+        properties.getBreaker().setMinimumCalls(2);
+        properties.getBreaker().setSlowCallMs(60_000);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        template = new GuardedStringRedisTemplate(connectionFactory,
+                new RedisCircuitBreaker(properties, meterRegistry));
+        template.afterPropertiesSet();
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.counter(CACHE_BREAKER_CALLS, "outcome", outcome).count();
+    }
+
+    @Test
+    void operationsPassThroughTheBreaker() {
+        when(connection.get(any())).thenReturn("v".getBytes());
+
+        assertThat(template.opsForValue().get("k")).isEqualTo("v");
+        assertThat(calls("success")).isEqualTo(1);
+    }
+
+    @Test
+    void sessionCountsAsOneCall() {
+        template.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForValue().get("a");
+                ops.opsForValue().get("b");
+                return null;
+            }
+        });
+
+        assertThat(calls("success")).isEqualTo(1);
+    }
+
+    @Test
+    void timeoutsOpenTheBreakerAndLaterCallsSkipRedis() {
+        when(connection.get(any())).thenThrow(new QueryTimeoutException("Redis command timed out"));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> template.opsForValue().get("k")).isInstanceOf(QueryTimeoutException.class);
+        }
+
+        assertThatThrownBy(() -> template.opsForValue().get("k")).isInstanceOf(RedisCircuitOpenException.class);
+        verify(connection, times(2)).get(any());
+        assertThat(calls("failure")).isEqualTo(2);
+    }
+}
@@ -3,6 +3,8 @@ package com.company.observability.cache;
 import com.company.observability.domain.CalculatorRun;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.dto.response.CalculatorStatusResponse;
+import com.company.observability.dto.response.RunStatusInfo;
 import com.company.observability.util.TestFixtures;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -18,9 +20,11 @@ import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -174,6 +178,36 @@ class RedisCalculatorCacheTest {
         }
     }
 
+    // ---------------------------------------------------------------
+    // Status response TTL — longer, but still short, when the change feed drives eviction
+    // ---------------------------------------------------------------
+
+    @Nested
+    class StatusTtl {
+
+        @Test
+        void withoutFeed_shortTtls() {
+            assertThat(cache.statusTtl(status("RUNNING"))).isEqualTo(RedisCalculatorCache.STATUS_TTL_RUNNING);
+            assertThat(cache.statusTtl(status("SUCCESS"))).isEqualTo(RedisCalculatorCache.STATUS_TTL_SETTLED);
+        }
+
+        @Test
+        void withFeed_backstopTtls() {
+            ReflectionTestUtils.setField(cache, "feedInvalidated", true);
+
+            assertThat(cache.statusTtl(status("RUNNING"))).isEqualTo(RedisCalculatorCache.FEED_STATUS_TTL_RUNNING);
+            assertThat(cache.statusTtl(status("SUCCESS"))).isEqualTo(RedisCalculatorCache.FEED_STATUS_TTL_SETTLED);
+            // Still a short backstop: a racing reader's stale re-cache lives at most this long
+            assertThat(cache.statusTtl(status("SUCCESS"))).isLessThanOrEqualTo(Duration.ofMinutes(2));
+        }
+
+        private CalculatorStatusResponse status(String current) {
+            RunStatusInfo info = new RunStatusInfo("run-1", current, Instant.now(), null, null, null,
+                    null, null, null, null, null);
+            return new CalculatorStatusResponse("calc", Instant.now(), info, List.of());
+        }
+    }
+
     // ---------------------------------------------------------------
     // cacheRunOnWrite — running set membership
     // ---------------------------------------------------------------
@@ -0,0 +1,129 @@
+package com.company.observability.cache;
+
+import com.company.observability.config.RedisResilienceProperties;
+import io.lettuce.core.RedisBusyException;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisSystemException;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(150);
+
+    private SimpleMeterRegistry meterRegistry;
+    private long now;
+    private RedisCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RedisResilienceProperties properties = new RedisResilienceProperties();
+        properties.getBreaker().setWindowSize(10);
+        properties.getBreaker().setMinimumCalls(5);
+        properties.getBreaker().setHalfOpenProbes(2);
+        breaker = new RedisCircuitBreaker(properties, meterRegistry, () -> now);
+    }
+
+    private void fail(int calls) {
+        for (int i = 0; i < calls; i++) {
+            breaker.acquire();
+            breaker.onError(SLOW, new QueryTimeoutException("Redis command timed out"));
+        }
+    }
+
+    private void succeed(int calls, long elapsed) {
+        for (int i = 0; i < calls; i++) {
+            breaker.acquire();
+            breaker.onSuccess(elapsed);
+        }
+    }
+
+    private double stateGauge(String state) {
+        return meterRegistry.get(CACHE_BREAKER_STATE).tag("state", state).gauge().value();
+    }
+
+    @Test
+    void opensOnceTheFailureRateReachesTheThreshold() {
+        succeed(3, FAST);
+        fail(2);
+        assertThat(breaker.state()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+
+        fail(1);
+
+        assertThat(breaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(stateGauge("open")).isEqualTo(1);
+        assertThat(stateGauge("closed")).isZero();
+    }
+
+    @Test
+    void opensOnSlowCalls() {
+        succeed(1, FAST);
+        succeed(4, SLOW);
+
+        assertThat(breaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void waitsForMinimumCallsBeforeOpening() {
+        fail(4);
+
+        assertThat(breaker.state()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void openBreakerRejectsWithoutCallingRedis() {
+        fail(5);
+
+        assertThatThrownBy(breaker::acquire).isInstanceOf(RedisCircuitOpenException.class);
+        assertThat(meterRegistry.counter(CACHE_BREAKER_CALLS, "outcome", "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void halfOpenProbesCloseTheBreakerWhenAllSucceed() {
+        fail(5);
+        now += TimeUnit.SECONDS.toNanos(10);
+
+        breaker.acquire();
+        breaker.acquire();
+        assertThat(breaker.state()).isEqualTo(RedisCircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(breaker::acquire).isInstanceOf(RedisCircuitOpenException.class);
+
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        assertThat(breaker.state()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        fail(4);
+        assertThat(breaker.state()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void slowProbeReopensTheBreaker() {
+        fail(5);
+        now += TimeUnit.SECONDS.toNanos(10);
+
+        breaker.acquire();
+        breaker.onSuccess(SLOW);
+
+        assertThat(breaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThatThrownBy(breaker::acquire).isInstanceOf(RedisCircuitOpenException.class);
+        assertThat(meterRegistry.counter(CACHE_BREAKER_TRANSITIONS, "to", "open").count()).isEqualTo(2);
+    }
+
+    @Test
+    void errorRepliesAreNotFailures() {
+        assertThat(RedisCircuitBreaker.isUnavailable(new RedisSystemException("BUSYGROUP",
+                new RedisBusyException("BUSYGROUP Consumer Group name already exists")))).isFalse();
+        assertThat(RedisCircuitBreaker.isUnavailable(new RedisSystemException("timeout",
+                new RedisCommandTimeoutException("Command timed out after 150 millisecond(s)")))).isTrue();
+    }
+}
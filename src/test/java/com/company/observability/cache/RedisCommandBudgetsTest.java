@@ -0,0 +1,47 @@
+package com.company.observability.cache;
+
+import com.company.observability.config.RedisResilienceProperties;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisCommandBudgetsTest {
+
+    private final RedisCommandBudgets budgets = new RedisCommandBudgets(new RedisResilienceProperties());
+
+    private long timeout(CommandType type) {
+        return budgets.getTimeout(new Command<>(type, new StatusOutput<>(StringCodec.UTF8)));
+    }
+
+    /** Every read the cache services, change feed and version bumps issue. */
+    @ParameterizedTest
+    @EnumSource(value = CommandType.class, names = {
+            "GET", "MGET", "HGET", "HMGET", "HGETALL", "SISMEMBER", "SMEMBERS",
+            "ZRANGE", "ZRANGEBYSCORE", "ZREVRANGE", "ZSCORE", "ZCARD",
+            "XREAD", "XRANGE", "XREVRANGE", "XPENDING", "EXISTS"})
+    void readsGetTheReadBudget(CommandType type) {
+        assertThat(timeout(type)).isEqualTo(150);
+    }
+
+    /** Every write the cache services, change feed and version bumps issue. */
+    @ParameterizedTest
+    @EnumSource(value = CommandType.class, names = {
+            "SET", "SETEX", "PSETEX", "INCR", "INCRBY", "DEL", "UNLINK", "EXPIRE", "PEXPIRE",
+            "HSET", "HDEL", "HINCRBY", "SADD", "SREM",
+            "ZADD", "ZREM", "ZREMRANGEBYRANK", "ZREMRANGEBYSCORE",
+            "XADD", "XACK", "XCLAIM", "XREADGROUP", "EVAL", "EVALSHA", "PUBLISH"})
+    void writesGetTheWriteBudget(CommandType type) {
+        assertThat(timeout(type)).isEqualTo(300);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CommandType.class, names = {"XGROUP", "CONFIG"})
+    void adminCommandsKeepTheCommandTimeout(CommandType type) {
+        assertThat(timeout(type)).isEqualTo(2_000);
+    }
+}
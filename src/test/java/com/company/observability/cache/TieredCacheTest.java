@@ -0,0 +1,321 @@
+package com.company.observability.cache;
+
+import com.company.observability.util.GzipUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.company.observability.util.ObservabilityConstants.CACHE_REGION_REQUESTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TieredCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+
+    record Payload(String name) {}
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOps);
+    }
+
+    private TieredCache<Payload> cache(CacheRegion region) {
+        return new TieredCache<>(region, CacheCodec.json(objectMapper, Payload.class),
+                p -> Duration.ofMinutes(1), redisTemplate, meterRegistry);
+    }
+
+    // ── L2 only ───────────────────────────────────────────────────────────────
+
+    @Test
+    void get_redisOnly_decodesL2Value() throws Exception {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+        when(valueOps.get("k")).thenReturn(objectMapper.writeValueAsString(new Payload("a")));
+
+        assertThat(cache.get("k")).isEqualTo(new Payload("a"));
+        assertThat(cache.get("k")).isEqualTo(new Payload("a"));
+        verify(valueOps, times(2)).get("k");
+    }
+
+    @Test
+    void get_redisFailure_returnsNullAndCountsError() {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+        when(valueOps.get("k")).thenThrow(new RuntimeException("redis down"));
+
+        assertThat(cache.get("k")).isNull();
+        assertThat(meterRegistry.counter(CACHE_REGION_REQUESTS,
+                "region", "test", "tier", "l2", "result", "error").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void get_breakerOpen_bypassesRedisAsMiss() {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+        when(valueOps.get("k")).thenThrow(new RedisCircuitOpenException());
+
+        assertThat(cache.getOrLoad("k", () -> new Payload("db"))).isEqualTo(new Payload("db"));
+        assertThat(meterRegistry.counter(CACHE_REGION_REQUESTS,
+                "region", "test", "tier", "l2", "result", "bypass").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void put_writesEncodedValueWithTtl() throws Exception {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+
+        assertThat(cache.put("k", new Payload("a"))).isTrue();
+
+        verify(valueOps).set("k", objectMapper.writeValueAsString(new Payload("a")), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void put_redisFailure_returnsFalse() {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+        doThrow(new RuntimeException("redis down")).when(valueOps).set(anyString(), anyString(), any(Duration.class));
+
+        assertThat(cache.put("k", new Payload("a"))).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void binaryCodec_storesAndReadsRawBytes() throws Exception {
+        BinaryRedisTemplate binaryTemplate = mock(BinaryRedisTemplate.class);
+        ValueOperations<String, byte[]> binaryOps = mock(ValueOperations.class);
+        when(binaryTemplate.opsForValue()).thenReturn(binaryOps);
+        TieredCache<Payload> cache = new TieredCache<>(CacheRegion.redisOnly("test"),
+                BinaryCacheCodec.gzip(CacheCodec.json(objectMapper, Payload.class)),
+                p -> Duration.ofMinutes(1), binaryTemplate, meterRegistry);
+
+        cache.put("k", new Payload("a"));
+
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        verify(binaryOps).set(eq("k"), stored.capture(), eq(Duration.ofMinutes(1)));
+        assertThat(GzipUtils.isGzip(stored.getValue())).isTrue();
+        when(binaryOps.get("k")).thenReturn(stored.getValue());
+        assertThat(cache.get("k")).isEqualTo(new Payload("a"));
+    }
+
+    // ── L1 tier ───────────────────────────────────────────────────────────────
+
+    @Test
+    void get_withL1_secondReadServedFromHeap() throws Exception {
+        TieredCache<Payload> cache = cache(CacheRegion.withL1("test", Duration.ofMinutes(1), 10));
+        when(valueOps.get("k")).thenReturn(objectMapper.writeValueAsString(new Payload("a")));
+
+        cache.get("k");
+        assertThat(cache.get("k")).isEqualTo(new Payload("a"));
+
+        verify(valueOps, times(1)).get("k");
+        assertThat(meterRegistry.counter(CACHE_REGION_REQUESTS,
+                "region", "test", "tier", "l1", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void put_failedL2Write_doesNotLeaveHeapCopy() {
+        TieredCache<Payload> cache = cache(CacheRegion.withL1("test", Duration.ofMinutes(1), 10));
+        doThrow(new RuntimeException("redis down")).when(valueOps).set(anyString(), anyString(), any(Duration.class));
+
+        cache.put("k", new Payload("a"));
+
+        assertThat(cache.get("k")).isNull();
+        verify(valueOps).get("k");
+    }
+
+    @Test
+    void evict_removesFromBothTiers() {
+        TieredCache<Payload> cache = cache(CacheRegion.withL1("test", Duration.ofMinutes(1), 10));
+        cache.put("k", new Payload("a"));
+
+        cache.evict(List.of("k"));
+
+        assertThat(cache.get("k")).isNull();
+        verify(redisTemplate).delete(List.of("k"));
+    }
+
+    @Test
+    void l1_boundedByMaxEntries() {
+        TieredCache<Payload> cache = cache(CacheRegion.withL1("test", Duration.ofMinutes(1), 2));
+        cache.put("a", new Payload("a"));
+        cache.put("b", new Payload("b"));
+        cache.put("c", new Payload("c"));
+
+        assertThat(meterRegistry.get("obs.cache.region.l1.size").gauge().value()).isLessThanOrEqualTo(2.0);
+    }
+
+    // ── Bulk read ─────────────────────────────────────────────────────────────
+
+    @Test
+    void getAll_mixesHeapHitsWithSingleMget() throws Exception {
+        TieredCache<Payload> cache = cache(CacheRegion.withL1("test", Duration.ofMinutes(1), 10));
+        cache.put("a", new Payload("a"));
+        when(valueOps.multiGet(List.of("b", "c")))
+                .thenReturn(Arrays.asList(objectMapper.writeValueAsString(new Payload("b")), null));
+
+        Map<String, Payload> result = cache.getAll(List.of("a", "b", "c"));
+
+        assertThat(result).containsOnlyKeys("a", "b");
+        verify(valueOps, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    void getAll_undecodableValue_skippedOthersReturned() throws Exception {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+        when(valueOps.multiGet(List.of("a", "b")))
+                .thenReturn(Arrays.asList("{broken", objectMapper.writeValueAsString(new Payload("b"))));
+
+        assertThat(cache.getAll(List.of("a", "b"))).containsOnlyKeys("b");
+    }
+
+    // ── Bulk write ────────────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void putAll_writesInOnePipelineAndSkipsUncachedValues() throws Exception {
+        TieredCache<Payload> cache = cache(CacheRegion.withL1("test", Duration.ofMinutes(1), 10));
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(inv -> {
+            ((SessionCallback<Object>) inv.getArgument(0)).execute(redisTemplate);
+            return List.of();
+        });
+
+        cache.putAll(Map.of("a", new Payload("a"), "skip", new Payload("skip")),
+                p -> "skip".equals(p.name()) ? null : Duration.ofMinutes(2));
+
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(valueOps).set("a", objectMapper.writeValueAsString(new Payload("a")), Duration.ofMinutes(2));
+        verify(valueOps, never()).set(eq("skip"), anyString(), any(Duration.class));
+        assertThat(cache.get("a")).isEqualTo(new Payload("a"));
+        verify(valueOps, never()).get(anyString());
+    }
+
+    @Test
+    void putAll_redisFailure_keepsNoHeapCopy() {
+        TieredCache<Payload> cache = cache(CacheRegion.withL1("test", Duration.ofMinutes(1), 10));
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenThrow(new RuntimeException("redis down"));
+
+        cache.putAll(Map.of("a", new Payload("a")), p -> Duration.ofMinutes(1));
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    // ── Loading ───────────────────────────────────────────────────────────────
+
+    @Test
+    void getOrLoad_policyReturnsNull_valueNotCached() {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+
+        Payload result = cache.getOrLoad("k", () -> new Payload("a"), p -> null);
+
+        assertThat(result).isEqualTo(new Payload("a"));
+        verify(valueOps, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void load_loaderThrows_propagates() {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+
+        assertThatThrownBy(() -> cache.load("k", () -> { throw new IllegalStateException("db down"); },
+                p -> Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void load_concurrentCallersForSameKey_shareOneLoaderInvocation() throws Exception {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Payload> leader = pool.submit(() -> cache.load("k", () -> {
+                loads.incrementAndGet();
+                loaderEntered.countDown();
+                await(release);
+                return new Payload("a");
+            }, p -> Duration.ofMinutes(1)));
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<Payload> follower = pool.submit(() -> cache.load("k", () -> {
+                loads.incrementAndGet();
+                return new Payload("b");
+            }, p -> Duration.ofMinutes(1)));
+            // Give the follower time to attach to the in-flight load before releasing it
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(new Payload("a"));
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(new Payload("a"));
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void load_loaderThrowsError_releasesWaitersAndTheKey() throws Exception {
+        TieredCache<Payload> cache = cache(CacheRegion.redisOnly("test"));
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Payload> leader = pool.submit(() -> cache.load("k", () -> {
+                loaderEntered.countDown();
+                await(release);
+                throw new StackOverflowError("deep mapping");
+            }, p -> Duration.ofMinutes(1)));
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<Payload> follower = pool.submit(() -> cache.load("k", () -> new Payload("b"),
+                    p -> Duration.ofMinutes(1)));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+            // The failed load no longer holds the key
+            assertThat(cache.load("k", () -> new Payload("c"), p -> null)).isEqualTo(new Payload("c"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
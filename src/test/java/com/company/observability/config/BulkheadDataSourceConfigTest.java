@@ -0,0 +1,87 @@
+package com.company.observability.config;
+
+import com.company.observability.datasource.Bulkhead;
+import com.company.observability.datasource.ReadReplicas;
+import com.company.observability.datasource.ReadWriteSplittingDataSource;
+import com.company.observability.datasource.RecentWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadDataSourceConfigTest {
+
+    private static DataSourceProperties dataSourceProperties() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:postgresql://localhost:5432/observability");
+        properties.setUsername("postgres");
+        properties.setPassword("postgres");
+        return properties;
+    }
+
+    @Test
+    void buildsEachPoolFromItsBulkheadSettings() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getQuery().setMaximumPoolSize(12);
+        properties.getQuery().setStatementTimeoutMs(45_000);
+
+        try (HikariDataSource pool = BulkheadDataSourceConfig.pool(Bulkhead.QUERY, dataSourceProperties(), properties)) {
+            assertThat(pool.getPoolName()).isEqualTo("obs-query");
+            assertThat(pool.getJdbcUrl()).isEqualTo("jdbc:postgresql://localhost:5432/observability");
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(12);
+            assertThat(pool.getMinimumIdle()).isEqualTo(2);
+            assertThat(pool.getConnectionTimeout()).isEqualTo(5_000);
+            assertThat(pool.getConnectionInitSql()).isEqualTo("SET statement_timeout = 45000");
+            assertThat(pool.getLeakDetectionThreshold()).isEqualTo(60_000);
+        }
+    }
+
+    @Test
+    void registersSaturationGaugesWithoutOpeningConnections() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        ReadReplicaProperties replicaProperties = new ReadReplicaProperties();
+        try (ReadWriteSplittingDataSource dataSource = (ReadWriteSplittingDataSource) new BulkheadDataSourceConfig()
+                .dataSource(dataSourceProperties(), new BulkheadProperties(), replicaProperties,
+                        new StaticListableBeanFactory().getBeanProvider(ReadReplicas.class),
+                        new RecentWrites(replicaProperties), meterRegistry)) {
+            for (Bulkhead bulkhead : Bulkhead.values()) {
+                assertThat(meterRegistry.get(DB_POOL_SATURATION).tag("bulkhead", bulkhead.key()).gauge().value())
+                        .isZero();
+                assertThat(meterRegistry.get(DB_POOL_PENDING).tag("bulkhead", bulkhead.key()).gauge().value())
+                        .isZero();
+            }
+        }
+    }
+
+    @Test
+    void buildsReadOnlyReplicaPoolsSizedLikeTheQueryBulkhead() {
+        ReadReplicaProperties.Endpoint endpoint = new ReadReplicaProperties.Endpoint();
+        endpoint.setName("r1");
+        endpoint.setUrl("jdbc:postgresql://replica-1:5432/observability");
+
+        try (HikariDataSource pool = BulkheadDataSourceConfig.replicaPool(
+                endpoint, dataSourceProperties(), new BulkheadProperties())) {
+            assertThat(pool.getPoolName()).isEqualTo("obs-replica-r1");
+            assertThat(pool.getJdbcUrl()).isEqualTo("jdbc:postgresql://replica-1:5432/observability");
+            assertThat(pool.getUsername()).isEqualTo("postgres");
+            assertThat(pool.isReadOnly()).isTrue();
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(10);
+            assertThat(pool.getConnectionInitSql()).isEqualTo("SET statement_timeout = 60000");
+        }
+    }
+
+    @Test
+    void defaultPoolsKeepTheFormerTotalOfTwenty() {
+        BulkheadProperties properties = new BulkheadProperties();
+        int total = 0;
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            total += properties.pool(bulkhead).getMaximumPoolSize();
+        }
+        assertThat(total).isEqualTo(20);
+    }
+}
@@ -4,6 +4,9 @@ import com.company.observability.config.TestMetricsConfig;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.dto.response.*;
 import com.company.observability.service.AnalyticsService;
+import com.company.observability.service.projection.ResponseTarget;
+import com.company.observability.util.GzipUtils;
+import com.company.observability.util.WireFormat;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -11,19 +14,32 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -128,6 +144,28 @@ class AnalyticsControllerTest {
         verify(analyticsService).getRunPerformanceData("calc-1", 30, Frequency.DAILY);
     }
 
+    @Test
+    void getSlaSummary_ifNoneMatchCurrent_returns304WithoutQuerying() throws Exception {
+        when(analyticsService.getChangeVersion("sla-summary", "calc-1")).thenReturn("g4.0;w1");
+        when(analyticsService.getSlaSummary("calc-1", 14))
+                .thenReturn(new SlaSummaryResponse("calc-1", 14, 2, 10, 2, 2, null, null));
+
+        String etag = mockMvc.perform(get("/api/v1/analytics/calculators/calc-1/sla-summary")
+                        .param("days", "14"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/analytics/calculators/calc-1/sla-summary")
+                        .param("days", "14")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=60")))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+
+        verify(analyticsService, times(1)).getSlaSummary("calc-1", 14);
+    }
+
     @Test
     void getSlaSummary_returnsCacheableResponse() throws Exception {
         when(analyticsService.getSlaSummary("calc-1", 14))
@@ -163,6 +201,59 @@ class AnalyticsControllerTest {
         verify(analyticsService).getTrends("calc-1", 30);
     }
 
+    @Test
+    void getCalculatorCard_returnsAllFourPartsInOnePayload() throws Exception {
+        LocalDate asOf = LocalDate.of(2026, 3, 1);
+        CalculatorCardResponse card = new CalculatorCardResponse("capitalcalc", 14, "DAILY",
+                new RuntimeAnalyticsResponse("capitalcalc", 14, "DAILY", 1000, 900, 1100, 5, 1.0, List.of()),
+                new SlaSummaryResponse("capitalcalc", 14, 2, 10, 2, 2, null, null),
+                new TrendAnalyticsResponse("capitalcalc", 14, List.of()),
+                new RunPerformanceData("capitalcalc", null, "DAILY", 14, 0L, 0, 0, 0, 0, 0, List.of(), null, null));
+        when(analyticsService.getCalculatorCard("capitalcalc", 14, Frequency.DAILY, "1", asOf)).thenReturn(card);
+
+        mockMvc.perform(get("/api/v1/analytics/calculators/capitalcalc/card")
+                        .param("days", "14")
+                        .param("run_number", "1")
+                        .param("data_as_of_date", "2026-03-01"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=60")))
+                .andExpect(jsonPath("$.runtime.avgDurationMs").value(1000))
+                .andExpect(jsonPath("$.slaSummary.totalBreaches").value(2))
+                .andExpect(jsonPath("$.trends.calculatorId").value("capitalcalc"))
+                .andExpect(jsonPath("$.executions.periodDays").value(14));
+
+        verify(analyticsService).getCalculatorCard("capitalcalc", 14, Frequency.DAILY, "1", asOf);
+    }
+
+    @Test
+    void getTrendsBatch_returnsEntriesKeyedInRequestOrder() throws Exception {
+        Map<String, TrendAnalyticsResponse> trends = new LinkedHashMap<>();
+        trends.put("portfoliocalc", new TrendAnalyticsResponse("portfoliocalc", 7, List.of()));
+        trends.put("capitalcalc", new TrendAnalyticsResponse("capitalcalc", 7, List.of()));
+        when(analyticsService.getTrendsBatch(List.of("portfoliocalc", "capitalcalc"), 7)).thenReturn(trends);
+
+        mockMvc.perform(post("/api/v1/analytics/batch/trends")
+                        .param("days", "7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"portfoliocalc\",\"capitalcalc\"]"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=60")))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.portfoliocalc.periodDays").value(7))
+                .andExpect(jsonPath("$.capitalcalc.calculatorId").value("capitalcalc"));
+    }
+
+    @Test
+    void getRuntimeAnalyticsBatch_emptyBody_returns400() throws Exception {
+        mockMvc.perform(post("/api/v1/analytics/batch/runtime")
+                        .param("days", "7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(analyticsService, never()).getRuntimeAnalyticsBatch(any(), anyInt(), any());
+    }
+
     @Test
     void getRunExecutions_returns200WithRawRunRows() throws Exception {
         RunPerformanceData response = new RunPerformanceData(
@@ -265,4 +356,80 @@ class AnalyticsControllerTest {
                         .param("days", "30"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void getRunPerformanceData_longWindow_streamsBodyWithValidator() throws Exception {
+        when(analyticsService.isStreamingWindow(180)).thenReturn(true);
+        when(analyticsService.getChangeVersion("run-perf", "calc-1")).thenReturn("g2.3;w9");
+        doAnswer(inv -> {
+            ResponseTarget target = inv.getArgument(3);
+            target.open(false).write("{\"runs\":[],\"calculatorId\":\"calc-1\",\"periodDays\":180}".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(analyticsService).streamRunPerformanceData(eq("calc-1"), eq(180), eq(Frequency.DAILY), any());
+
+        mockMvc.perform(get("/api/v1/analytics/calculators/calc-1/run-performance")
+                        .param("days", "180"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=60")))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItems(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.periodDays").value(180));
+
+        verify(analyticsService, never()).getRunPerformanceData(any(), anyInt(), any());
+    }
+
+    @Test
+    void getRunExecutions_longWindow_notModified_skipsStreaming() throws Exception {
+        when(analyticsService.isStreamingWindow(365)).thenReturn(true);
+        when(analyticsService.getChangeVersion("executions", "capitalcalc")).thenReturn("g1.1;w2");
+
+        String etag = mockMvc.perform(get("/api/v1/analytics/calculators/capitalcalc/executions")
+                        .param("days", "365"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/analytics/calculators/capitalcalc/executions")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .param("days", "365"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"));
+
+        verify(analyticsService, times(1)).streamRunExecutionsByName(
+                eq("capitalcalc"), eq(365), eq(Frequency.DAILY), isNull(), any(LocalDate.class), any());
+    }
+
+    @Test
+    void getRunPerformanceData_longWindow_negotiatesCborAndPassesGzipThrough() throws Exception {
+        when(analyticsService.isStreamingWindow(180)).thenReturn(true);
+        when(analyticsService.getChangeVersion("run-perf", "calc-1")).thenReturn("g2.3;w9");
+        byte[] gzipped = GzipUtils.gzip("{\"runs\":[]}".getBytes(StandardCharsets.UTF_8));
+        doAnswer(inv -> {
+            ResponseTarget target = inv.getArgument(3);
+            if (target.format() == WireFormat.JSON && target.acceptsGzip()) {
+                target.open(true).write(gzipped);
+            } else {
+                target.open(false).write(target.format().name().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        }).when(analyticsService).streamRunPerformanceData(eq("calc-1"), eq(180), eq(Frequency.DAILY), any());
+
+        mockMvc.perform(get("/api/v1/analytics/calculators/calc-1/run-performance")
+                        .header(HttpHeaders.ACCEPT, "application/cbor")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .param("days", "180"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("CBOR"));
+
+        mockMvc.perform(get("/api/v1/analytics/calculators/calc-1/run-performance")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .param("days", "180"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().bytes(gzipped));
+    }
 }
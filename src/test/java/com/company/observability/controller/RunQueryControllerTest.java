@@ -1,15 +1,19 @@
 package com.company.observability.controller;
 
 import com.company.observability.config.TestMetricsConfig;
+import com.company.observability.config.WireFormatConfig;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse;
 import com.company.observability.dto.response.CalculatorStatusResponse;
 import com.company.observability.dto.response.RunStatusInfo;
+import com.company.observability.service.BatchRunsService;
 import com.company.observability.service.ExpectedRunsService;
 import com.company.observability.service.CalculatorNameResolver;
 import com.company.observability.service.CalculatorStateService;
 import com.company.observability.service.RunQueryService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -29,20 +33,24 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = RunQueryController.class)
 @AutoConfigureMockMvc(addFilters = false)
-@Import(TestMetricsConfig.class)
+@Import({TestMetricsConfig.class, WireFormatConfig.class, BatchRunsService.class})
 class RunQueryControllerTest {
 
     private static final String TENANT_HEADER = "X-Tenant-Id";
@@ -199,7 +207,7 @@ class RunQueryControllerTest {
     void batchRuns_returns200WithMapKeyedByCalculatorName() throws Exception {
         var entry = new CalculatorBatchRunsResponse.CalculatorEntry("capitalcalc", null, List.of());
         when(calculatorStateService.getState(eq(LocalDate.of(2026, 3, 6)),
-                eq(Frequency.DAILY), eq("1"), eq(List.of("capitalcalc"))))
+                eq(Frequency.DAILY), eq("1"), eq(List.of("capitalcalc")), any()))
                 .thenReturn(Map.of("capitalcalc", entry));
 
         mockMvc.perform(get("/api/v1/calculators/batch/runs")
@@ -216,6 +224,30 @@ class RunQueryControllerTest {
                 .andExpect(jsonPath("$.calculators.capitalcalc.runs").isArray());
     }
 
+    @Test
+    void batchRuns_acceptCbor_returnsSameDocumentAsCbor() throws Exception {
+        var entry = new CalculatorBatchRunsResponse.CalculatorEntry("capitalcalc", null, List.of());
+        when(calculatorStateService.getState(eq(LocalDate.of(2026, 3, 6)),
+                eq(Frequency.DAILY), eq("1"), eq(List.of("capitalcalc")), any()))
+                .thenReturn(Map.of("capitalcalc", entry));
+
+        byte[] body = mockMvc.perform(get("/api/v1/calculators/batch/runs")
+                        .param("reporting_date", "2026-03-06")
+                        .param("frequency", "DAILY")
+                        .param("run_number", "1")
+                        .param("keys", "capitalcalc")
+                        .header(HttpHeaders.ACCEPT, "application/cbor")
+                        .header(TENANT_HEADER, "t1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode document = objectMapper.copyWith(new CBORFactory()).readTree(body);
+        assertThat(document.path("reportingDate").asText()).isEqualTo("2026-03-06");
+        assertThat(document.path("calculators").path("capitalcalc").path("calculatorName").asText())
+                .isEqualTo("capitalcalc");
+    }
+
     @Test
     void batchRuns_returns400WhenReportingDateMissing() throws Exception {
         mockMvc.perform(get("/api/v1/calculators/batch/runs")
@@ -227,7 +259,7 @@ class RunQueryControllerTest {
     @Test
     void batchRuns_pipeSeparatedKeysParsedToList() throws Exception {
         when(calculatorStateService.getState(any(), any(), isNull(),
-                eq(List.of("capital", "modelled-exposure", "portfolio"))))
+                eq(List.of("capital", "modelled-exposure", "portfolio")), any()))
                 .thenReturn(Map.of());
 
         mockMvc.perform(get("/api/v1/calculators/batch/runs")
@@ -237,14 +269,14 @@ class RunQueryControllerTest {
                 .andExpect(status().isOk());
 
         verify(calculatorStateService).getState(any(), any(), isNull(),
-                eq(List.of("capital", "modelled-exposure", "portfolio")));
+                eq(List.of("capital", "modelled-exposure", "portfolio")), any());
     }
 
     @Test
     void batchRuns_omittedRunNumberPassesNullToService() throws Exception {
         var entry = new CalculatorBatchRunsResponse.CalculatorEntry("capital", null, List.of());
         when(calculatorStateService.getState(eq(LocalDate.of(2026, 3, 6)),
-                eq(Frequency.DAILY), isNull(), eq(List.of("capital"))))
+                eq(Frequency.DAILY), isNull(), eq(List.of("capital")), any()))
                 .thenReturn(Map.of("capital", entry));
 
         mockMvc.perform(get("/api/v1/calculators/batch/runs")
@@ -254,13 +286,13 @@ class RunQueryControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.runNumber").doesNotExist());
 
-        verify(calculatorStateService).getState(any(), any(), isNull(), any());
+        verify(calculatorStateService).getState(any(), any(), isNull(), any(), any());
     }
 
     @Test
     void batchRuns_acceptsArbitraryRunNumber() throws Exception {
         // @Pattern restriction removed — any run_number value is now accepted (blank→null normalised in service)
-        when(calculatorStateService.getState(any(), any(), eq("3"), any()))
+        when(calculatorStateService.getState(any(), any(), eq("3"), any(), any()))
                 .thenReturn(Map.of());
         mockMvc.perform(get("/api/v1/calculators/batch/runs")
                         .param("reporting_date", "2026-03-06")
@@ -270,6 +302,58 @@ class RunQueryControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void batchRuns_returnsETagFromChangeVersions() throws Exception {
+        when(calculatorStateService.getVersions(any(), any(), eq(List.of("capital"))))
+                .thenReturn(new CalculatorStateService.StateVersions(Map.of("capital", 2L), "capital=2;w1"));
+        when(calculatorStateService.getState(any(), any(), isNull(), any(), eq(Map.of("capital", 2L))))
+                .thenReturn(Map.of());
+
+        mockMvc.perform(get("/api/v1/calculators/batch/runs")
+                        .param("reporting_date", "2026-03-06")
+                        .param("keys", "capital")
+                        .header(TENANT_HEADER, "t1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void batchRuns_ifNoneMatchCurrent_returns304WithoutBuildingState() throws Exception {
+        when(calculatorStateService.getVersions(any(), any(), any()))
+                .thenReturn(new CalculatorStateService.StateVersions(Map.of("capital", 2L), "capital=2;w1"));
+
+        String etag = mockMvc.perform(get("/api/v1/calculators/batch/runs")
+                        .param("reporting_date", "2026-03-06")
+                        .param("keys", "capital"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/calculators/batch/runs")
+                        .param("reporting_date", "2026-03-06")
+                        .param("keys", "capital")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+
+        verify(calculatorStateService, times(1)).getState(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void batchRuns_versionChanged_returns200() throws Exception {
+        when(calculatorStateService.getVersions(any(), any(), any()))
+                .thenReturn(new CalculatorStateService.StateVersions(Map.of("capital", 3L), "capital=3;w1"));
+        when(calculatorStateService.getState(any(), any(), any(), any(), any())).thenReturn(Map.of());
+
+        mockMvc.perform(get("/api/v1/calculators/batch/runs")
+                        .param("reporting_date", "2026-03-06")
+                        .param("keys", "capital")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
     private static CalculatorStatusResponse sampleStatusResponse(String calculatorName) {
         RunStatusInfo current = new RunStatusInfo(
                 "run-1", "RUNNING", Instant.parse("2026-02-22T06:00:00Z"),
@@ -0,0 +1,81 @@
+package com.company.observability.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class BulkheadRoutingDataSourceTest {
+
+    private final Map<Bulkhead, DataSource> pools = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Connection> connections = new EnumMap<>(Bulkhead.class);
+    private BulkheadRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            DataSource pool = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            when(pool.getConnection()).thenReturn(connection);
+            pools.put(bulkhead, pool);
+            connections.put(bulkhead, connection);
+        }
+        dataSource = new BulkheadRoutingDataSource(pools);
+    }
+
+    @AfterEach
+    void clearContext() {
+        BulkheadContext.restore(null);
+    }
+
+    @Test
+    void routesToThePoolOfTheCurrentBulkhead() throws Exception {
+        BulkheadContext.enter(Bulkhead.INGESTION);
+
+        assertThat(dataSource.getConnection()).isSameAs(connections.get(Bulkhead.INGESTION));
+        verifyNoInteractions(pools.get(Bulkhead.QUERY), pools.get(Bulkhead.BACKGROUND));
+    }
+
+    @Test
+    void routesUnmarkedWorkToBackground() throws Exception {
+        assertThat(dataSource.getConnection()).isSameAs(connections.get(Bulkhead.BACKGROUND));
+    }
+
+    @Test
+    void outermostBulkheadWinsUntilRestored() throws Exception {
+        Bulkhead outer = BulkheadContext.enter(Bulkhead.QUERY);
+        Bulkhead inner = BulkheadContext.enter(Bulkhead.INGESTION);
+
+        assertThat(dataSource.getConnection()).isSameAs(connections.get(Bulkhead.QUERY));
+
+        BulkheadContext.restore(inner);
+        assertThat(BulkheadContext.current()).isEqualTo(Bulkhead.QUERY);
+        BulkheadContext.restore(outer);
+        assertThat(BulkheadContext.current()).isNull();
+    }
+
+    @Test
+    void propagatedTaskRunsInTheCallersBulkhead() throws Exception {
+        BulkheadContext.enter(Bulkhead.QUERY);
+        Supplier<Connection> task = BulkheadContext.propagate(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        CompletableFuture<Connection> result = CompletableFuture.supplyAsync(task);
+
+        assertThat(result.get()).isSameAs(connections.get(Bulkhead.QUERY));
+    }
+}
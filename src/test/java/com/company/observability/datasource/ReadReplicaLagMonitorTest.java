@@ -0,0 +1,76 @@
+package com.company.observability.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.company.observability.util.ObservabilityConstants.DB_REPLICA_LAG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReadReplicaLagMonitorTest {
+
+    private final DataSource pool = mock(DataSource.class);
+    private SimpleMeterRegistry meterRegistry;
+    private ReadReplica replica;
+    private ReadReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        replica = new ReadReplica("r1", pool);
+        monitor = new ReadReplicaLagMonitor(new ReadReplicas(List.of(replica)), meterRegistry);
+    }
+
+    private void lagQueryReturns(double lagMs) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(resultSet.getDouble(1)).thenReturn(lagMs);
+    }
+
+    private double lagGauge() {
+        return meterRegistry.get(DB_REPLICA_LAG).tag("replica", "r1").gauge().value();
+    }
+
+    @Test
+    void sampleMarksTheReplicaCaughtUpToSampleStartMinusLag() throws Exception {
+        lagQueryReturns(2_000);
+        Instant before = Instant.now();
+
+        monitor.sample();
+
+        assertThat(Duration.between(replica.caughtUpTo(), before).toMillis()).isBetween(1_900L, 2_100L);
+        assertThat(lagGauge()).isCloseTo(2.0, within(0.5));
+    }
+
+    @Test
+    void failedSampleTakesTheReplicaOutOfRotation() throws Exception {
+        replica.caughtUpTo(Instant.now());
+        when(pool.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        monitor.sample();
+
+        assertThat(replica.caughtUpTo()).isNull();
+        assertThat(lagGauge()).isNaN();
+    }
+}
@@ -0,0 +1,126 @@
+package com.company.observability.datasource;
+
+import com.company.observability.config.ReadReplicaProperties;
+import com.company.observability.domain.CalculatorRun;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.company.observability.util.ObservabilityConstants.DB_READ_ROUTE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection1 = mock(Connection.class);
+    private final Connection replicaConnection2 = mock(Connection.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecentWrites recentWrites;
+    private ReadReplica replica1;
+    private ReadReplica replica2;
+    private ReadReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setEnabled(true);
+        recentWrites = new RecentWrites(properties);
+        replica1 = new ReadReplica("r1", pool(replicaConnection1));
+        replica2 = new ReadReplica("r2", pool(replicaConnection2));
+        dataSource = new ReadReplicaRoutingDataSource(List.of(replica1, replica2), pool(primaryConnection),
+                recentWrites, Duration.ofSeconds(30), meterRegistry);
+        BulkheadContext.enter(Bulkhead.QUERY);
+    }
+
+    @AfterEach
+    void clearContext() {
+        BulkheadContext.restore(null);
+        ReadYourWrites.restore(null);
+    }
+
+    private static DataSource pool(Connection connection) throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(connection);
+        return pool;
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.counter(DB_READ_ROUTE, "target", target, "reason", reason).count();
+    }
+
+    @Test
+    void freshReplicasTakeTurns() throws Exception {
+        replica1.caughtUpTo(Instant.now());
+        replica2.caughtUpTo(Instant.now());
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection()))
+                .containsExactlyInAnyOrder(replicaConnection1, replicaConnection2);
+        assertThat(routed("r1", "replica") + routed("r2", "replica")).isEqualTo(2);
+    }
+
+    @Test
+    void otherWorkloadsReadFromThePrimary() throws Exception {
+        replica1.caughtUpTo(Instant.now());
+        BulkheadContext.restore(null);
+        BulkheadContext.enter(Bulkhead.BACKGROUND);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed("primary", "workload")).isEqualTo(1);
+    }
+
+    @Test
+    void replicaBeyondMaxStalenessFallsBackToThePrimary() throws Exception {
+        replica1.caughtUpTo(Instant.now().minusSeconds(60));
+        // replica2 never sampled or down
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed("primary", "lagging")).isEqualTo(1);
+    }
+
+    @Test
+    void readYourWritesSkipsReplicasThatHaveNotReplayedTheWrite() throws Exception {
+        Instant written = Instant.now();
+        replica1.caughtUpTo(written.minusMillis(200));
+        replica2.caughtUpTo(written.plusMillis(50));
+        recentWrites.record(CalculatorRun.builder().calculatorId("calc-1").calculatorName("capital").build(), written);
+
+        ReadYourWrites.enter(List.of("calc-1"));
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection2);
+
+        replica2.caughtUpTo(written.minusMillis(100));
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed("primary", "read_your_writes")).isEqualTo(1);
+    }
+
+    @Test
+    void writesToOtherCalculatorsDoNotPinTheRead() throws Exception {
+        Instant written = Instant.now();
+        replica1.caughtUpTo(written.minusMillis(200));
+        recentWrites.record(CalculatorRun.builder().calculatorId("calc-2").calculatorName("portfolio").build(), written);
+
+        ReadYourWrites.enter(List.of("capital"));
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection1);
+    }
+
+    @Test
+    void primaryOnlyReadsSkipFreshReplicas() throws Exception {
+        replica1.caughtUpTo(Instant.now());
+        replica2.caughtUpTo(Instant.now());
+
+        ReadYourWrites.enterPrimary();
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routed("primary", "versioned")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,53 @@
+package com.company.observability.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.mockito.Mockito.*;
+
+class ReadWriteSplittingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource readOnly = mock(DataSource.class);
+    private final ReadWriteSplittingDataSource dataSource = new ReadWriteSplittingDataSource(primary, readOnly);
+
+    @Test
+    void readOnlyConnectionIsTakenFromTheReadOnlyTarget() throws Exception {
+        Connection target = mock(Connection.class);
+        when(readOnly.getConnection()).thenReturn(target);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+
+        verify(target).createStatement();
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void writableConnectionIsTakenFromThePrimary() throws Exception {
+        Connection target = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(target);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(target).createStatement();
+        verifyNoInteractions(readOnly);
+    }
+
+    @Test
+    void unusedConnectionTakesNothingFromThePools() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            connection.commit();
+        }
+
+        verifyNoInteractions(primary, readOnly);
+    }
+}
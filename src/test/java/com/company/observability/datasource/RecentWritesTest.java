@@ -0,0 +1,68 @@
+package com.company.observability.datasource;
+
+import com.company.observability.config.ReadReplicaProperties;
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.event.RunCompletedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentWritesTest {
+
+    private static RecentWrites recentWrites(boolean enabled) {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setEnabled(enabled);
+        return new RecentWrites(properties);
+    }
+
+    private static CalculatorRun run(String id, String name) {
+        return CalculatorRun.builder().calculatorId(id).calculatorName(name).build();
+    }
+
+    @Test
+    void recordsByIdAndNameAndKeepsTheLatest() {
+        RecentWrites writes = recentWrites(true);
+        Instant first = Instant.now().minusSeconds(2);
+        Instant second = Instant.now();
+
+        writes.record(run("calc-1", "capital"), second);
+        writes.record(run("calc-1", "capital"), first);
+
+        assertThat(writes.latest(List.of("calc-1"))).isEqualTo(second);
+        assertThat(writes.latest(List.of("capital", "portfolio"))).isEqualTo(second);
+        assertThat(writes.latest(List.of("portfolio"))).isNull();
+    }
+
+    @Test
+    void committedRunsAreRecorded() {
+        RecentWrites writes = recentWrites(true);
+
+        writes.onRunCompleted(new RunCompletedEvent(run("calc-1", "capital")));
+
+        assertThat(writes.latest(List.of("capital"))).isNotNull();
+    }
+
+    @Test
+    void pruneForgetsWritesOlderThanMaxStaleness() {
+        RecentWrites writes = recentWrites(true);
+        writes.record(run("calc-1", "capital"), Instant.now().minusSeconds(60));
+        writes.record(run("calc-2", "portfolio"), Instant.now());
+
+        writes.prune();
+
+        assertThat(writes.latest(List.of("capital"))).isNull();
+        assertThat(writes.latest(List.of("portfolio"))).isNotNull();
+    }
+
+    @Test
+    void nothingIsRecordedWithoutReplicas() {
+        RecentWrites writes = recentWrites(false);
+
+        writes.record(run("calc-1", "capital"), Instant.now());
+
+        assertThat(writes.latest(List.of("capital"))).isNull();
+    }
+}
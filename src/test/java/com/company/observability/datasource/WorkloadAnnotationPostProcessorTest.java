@@ -0,0 +1,79 @@
+package com.company.observability.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkloadAnnotationPostProcessorTest {
+
+    @Workload(Bulkhead.QUERY)
+    static class QueryEndpoint {
+        Bulkhead read() {
+            return BulkheadContext.current();
+        }
+
+        @Workload(Bulkhead.INGESTION)
+        Bulkhead write() {
+            return BulkheadContext.current();
+        }
+
+        Bulkhead callInto(IngestionService service) {
+            return service.ingest();
+        }
+    }
+
+    static class IngestionService {
+        @Workload(Bulkhead.INGESTION)
+        Bulkhead ingest() {
+            return BulkheadContext.current();
+        }
+    }
+
+    static class Unannotated {
+    }
+
+    private final WorkloadAnnotationPostProcessor postProcessor = newPostProcessor();
+
+    private static WorkloadAnnotationPostProcessor newPostProcessor() {
+        WorkloadAnnotationPostProcessor postProcessor = new WorkloadAnnotationPostProcessor();
+        postProcessor.setBeanFactory(new DefaultListableBeanFactory());
+        return postProcessor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T bean) {
+        return (T) postProcessor.postProcessAfterInitialization(bean, bean.getClass().getSimpleName());
+    }
+
+    @Test
+    void classAnnotationSetsTheBulkheadForTheCall() {
+        QueryEndpoint endpoint = proxy(new QueryEndpoint());
+
+        assertThat(endpoint.read()).isEqualTo(Bulkhead.QUERY);
+        assertThat(BulkheadContext.current()).isNull();
+    }
+
+    @Test
+    void methodAnnotationOverridesClassAnnotation() {
+        assertThat(proxy(new QueryEndpoint()).write()).isEqualTo(Bulkhead.INGESTION);
+    }
+
+    @Test
+    void outermostAnnotatedCallWins() {
+        QueryEndpoint endpoint = proxy(new QueryEndpoint());
+        IngestionService service = proxy(new IngestionService());
+
+        assertThat(service.ingest()).isEqualTo(Bulkhead.INGESTION);
+        assertThat(endpoint.callInto(service)).isEqualTo(Bulkhead.QUERY);
+    }
+
+    @Test
+    void unannotatedBeansAreNotProxied() {
+        Unannotated bean = new Unannotated();
+
+        assertThat(proxy(bean)).isSameAs(bean);
+        assertThat(AopUtils.isAopProxy(proxy(new QueryEndpoint()))).isTrue();
+    }
+}
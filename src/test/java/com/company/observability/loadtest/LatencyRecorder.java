@@ -0,0 +1,68 @@
+package com.company.observability.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (HdrHistogram, microsecond resolution up to one minute) and
+ * outcome counts, safe to record into from any number of client threads.
+ */
+public final class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /** Summary of one endpoint; latencies in milliseconds. */
+    public record EndpointStats(long requests, long errors, long notModified, double throughputPerSec,
+                                double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {}
+
+    private static final class Endpoint {
+        final Recorder recorder = new Recorder(MAX_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder notModified = new LongAdder();
+    }
+
+    /**
+     * @param endpoint stable endpoint label, e.g. {@code GET /batch/runs}
+     * @param status   HTTP status, or {@code -1} when the request failed without a response
+     */
+    public void record(String endpoint, long elapsedNanos, int status) {
+        Endpoint e = endpoints.computeIfAbsent(endpoint, k -> new Endpoint());
+        e.recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (status < 0 || status >= 400) {
+            e.errors.increment();
+        } else if (status == 304) {
+            e.notModified.increment();
+        }
+    }
+
+    /** Stats per endpoint over {@code elapsedMs} of traffic, sorted by endpoint label. */
+    public Map<String, EndpointStats> snapshot(long elapsedMs) {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        endpoints.forEach((name, e) -> {
+            Histogram h = e.recorder.getIntervalHistogram();
+            long count = h.getTotalCount();
+            stats.put(name, new EndpointStats(count, e.errors.sum(), e.notModified.sum(),
+                    elapsedMs > 0 ? round(count * 1000.0 / elapsedMs) : 0,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)),
+                    millis(h.getMaxValue())));
+        });
+        return stats;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
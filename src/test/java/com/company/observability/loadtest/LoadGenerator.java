@@ -0,0 +1,265 @@
+package com.company.observability.loadtest;
+
+import com.company.observability.domain.enums.CompletionStatus;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.dto.request.CompleteRunRequest;
+import com.company.observability.dto.request.StartRunRequest;
+import com.company.observability.loadtest.TrafficPlan.PlannedRun;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a {@link TrafficPlan} against a running instance over HTTP: starts and completions at
+ * their planned offsets through a bounded pool (the Airflow worker slots), while dashboard
+ * clients poll {@code /batch/runs} with {@code If-None-Match} and periodically open
+ * {@code /executions}. Every request's latency and outcome go to the {@link LatencyRecorder}.
+ *
+ * <p>Stuck runs are started with a start time back-dated so that their deadline falls
+ * {@code slaLeadSeconds} after the actual start; they are never completed.
+ */
+@Slf4j
+public final class LoadGenerator {
+
+    static final String START = "POST /runs/start";
+    static final String COMPLETE = "POST /runs/{runId}/complete";
+    static final String BATCH_RUNS = "GET /batch/runs";
+    static final String EXECUTIONS = "GET /executions";
+
+    /** Every non-stuck run gets a next-business-day clock deadline, as most DAILY calculators do. */
+    private static final String CLOCK_SLA = "T+1@09:00";
+    private static final String STUCK_SLA = "PT10M";
+
+    private final LoadScenario scenario;
+    private final TrafficPlan plan;
+    private final URI baseUri;
+    private final String authorization;
+    private final ObjectMapper objectMapper;
+    private final long stuckDeadlineMs;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final LocalDate reportingDate = LocalDate.now();
+
+    /**
+     * @param stuckDeadlineMs how far after its start time a {@value #STUCK_SLA} spec puts the deadline
+     *                        (buffered duration plus the late band)
+     */
+    public LoadGenerator(LoadScenario scenario, TrafficPlan plan, URI baseUri, String username, String password,
+                         ObjectMapper objectMapper, long stuckDeadlineMs) {
+        this.scenario = scenario;
+        this.plan = plan;
+        this.baseUri = baseUri;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+        this.stuckDeadlineMs = stuckDeadlineMs;
+    }
+
+    public LatencyRecorder recorder() {
+        return recorder;
+    }
+
+    public LocalDate reportingDate() {
+        return reportingDate;
+    }
+
+    /** Runs the scenario to completion and returns the elapsed traffic time in milliseconds. */
+    public long run() throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        ExecutorService ingest = Executors.newFixedThreadPool(scenario.ingestConcurrency());
+        ExecutorService dashboards = Executors.newFixedThreadPool(Math.max(1, scenario.dashboards()));
+        long durationMs = scenario.durationSeconds() * 1000L;
+        long t0 = System.nanoTime();
+
+        for (PlannedRun run : plan.runs()) {
+            scheduler.schedule(() -> ingest.execute(() -> start(run, scheduler, ingest, t0, durationMs)),
+                    run.startAtMs(), TimeUnit.MILLISECONDS);
+        }
+        for (int d = 0; d < scenario.dashboards(); d++) {
+            Dashboard dashboard = new Dashboard(d, t0 + TimeUnit.MILLISECONDS.toNanos(durationMs));
+            dashboards.execute(dashboard::poll);
+        }
+
+        dashboards.shutdown();
+        dashboards.awaitTermination(durationMs + 60_000, TimeUnit.MILLISECONDS);
+        sleepMillis(durationMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+        scheduler.shutdownNow();
+        ingest.shutdown();
+        if (!ingest.awaitTermination(60, TimeUnit.SECONDS)) {
+            ingest.shutdownNow();
+        }
+        return elapsedMs;
+    }
+
+    private void start(PlannedRun run, ScheduledExecutorService scheduler, ExecutorService ingest,
+                       long t0, long durationMs) {
+        Instant now = Instant.now();
+        StartRunRequest request = StartRunRequest.builder()
+                .runId(run.runId())
+                .calculatorId("id-" + run.calculatorName())
+                .calculatorName(run.calculatorName())
+                .frequency(Frequency.DAILY)
+                .reportingDate(reportingDate)
+                .startTime(run.stuck()
+                        ? now.plusSeconds(scenario.slaLeadSeconds()).minusMillis(stuckDeadlineMs)
+                        : now)
+                .slaTime(run.stuck() ? STUCK_SLA : CLOCK_SLA)
+                .expectedDurationMs((long) scenario.maxRunSeconds() * 1000)
+                .runNumber("1")
+                .region(run.region())
+                .correlationId(run.correlationId())
+                .build();
+        int status = send(START, post("/api/v1/runs/start", request));
+        if (status >= 400 || status < 0 || run.stuck()) {
+            return;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+        if (run.completeAtMs() >= durationMs) {
+            return;
+        }
+        scheduler.schedule(() -> ingest.execute(() -> complete(run)),
+                Math.max(0, run.completeAtMs() - elapsedMs), TimeUnit.MILLISECONDS);
+    }
+
+    private void complete(PlannedRun run) {
+        CompleteRunRequest request = CompleteRunRequest.builder()
+                .reportingDate(reportingDate)
+                .endTime(Instant.now())
+                .status(run.failed() ? CompletionStatus.FAILED : CompletionStatus.SUCCESS)
+                .build();
+        send(COMPLETE, post("/api/v1/runs/" + run.runId() + "/complete", request));
+    }
+
+    /** One operations dashboard: a fixed page of calculators, refreshed on an interval until {@code endNanos}. */
+    private final class Dashboard {
+
+        private final Random random;
+        private final String keys;
+        private final List<String> page;
+        private final long endNanos;
+        private String etag;
+
+        Dashboard(int index, long endNanos) {
+            this.random = new Random(scenario.seed() + index);
+            this.endNanos = endNanos;
+            List<String> calculators = new ArrayList<>(plan.calculators());
+            int size = Math.min(scenario.keysPerPoll(), calculators.size());
+            int offset = calculators.isEmpty() ? 0 : random.nextInt(calculators.size());
+            this.page = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                page.add(calculators.get((offset + i) % calculators.size()));
+            }
+            // Pipe-separated; encoded because java.net.URI rejects a bare |
+            this.keys = URLEncoder.encode(String.join("|", page), StandardCharsets.UTF_8);
+        }
+
+        void poll() {
+            // Stagger the first refresh so dashboards do not poll in lockstep
+            sleepMillis(random.nextInt((int) Math.max(1, scenario.pollIntervalMs())));
+            int polls = 0;
+            while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+                long started = System.nanoTime();
+                pollBatchRuns();
+                if (scenario.executionsEvery() > 0 && ++polls % scenario.executionsEvery() == 0 && !page.isEmpty()) {
+                    String name = page.get(random.nextInt(page.size()));
+                    send(EXECUTIONS, get("/api/v1/analytics/calculators/" + name + "/executions?days=30")
+                            .header("Accept-Encoding", "gzip")
+                            .build());
+                }
+                long spentMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                sleepMillis(scenario.pollIntervalMs() - spentMs);
+            }
+        }
+
+        private void pollBatchRuns() {
+            HttpRequest.Builder request = get("/api/v1/calculators/batch/runs?reporting_date=" + reportingDate
+                    + "&keys=" + keys)
+                    .header("Accept-Encoding", "gzip");
+            if (etag != null) {
+                request.header("If-None-Match", etag);
+            }
+            HttpResponse<Void> response = exchange(BATCH_RUNS, request.build());
+            if (response != null && response.statusCode() == 200) {
+                etag = response.headers().firstValue("ETag").orElse(null);
+            }
+        }
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+    }
+
+    private int send(String endpoint, HttpRequest request) {
+        HttpResponse<Void> response = exchange(endpoint, request);
+        return response != null ? response.statusCode() : -1;
+    }
+
+    private HttpResponse<Void> exchange(String endpoint, HttpRequest request) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.record(endpoint, System.nanoTime() - started, response.statusCode());
+            if (response.statusCode() >= 400) {
+                log.debug("event=loadtest.request outcome=failure endpoint={} status={}", endpoint, response.statusCode());
+            }
+            return response;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - started, -1);
+            log.debug("event=loadtest.request outcome=failure endpoint={} error={}", endpoint, e.toString());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static void sleepMillis(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
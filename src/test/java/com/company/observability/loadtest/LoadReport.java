@@ -0,0 +1,104 @@
+package com.company.observability.loadtest;
+
+import com.company.observability.loadtest.LatencyRecorder.EndpointStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Result of one load-test run, written as JSON so runs of different builds under the same
+ * scenario (same seed, same traffic) can be diffed with {@link #compareTo(LoadReport)}.
+ *
+ * @param build        build label ({@code -Dloadtest.build}, e.g. a commit id)
+ * @param physicalRuns runs in the traffic plan
+ * @param endpoints    per-endpoint throughput and latency
+ * @param slaDetection lag between a stuck run's deadline and the live detection flagging it
+ */
+public record LoadReport(String build, Instant startedAt, LoadScenario scenario, int physicalRuns,
+                         long elapsedMs, Map<String, EndpointStats> endpoints, SlaDetection slaDetection) {
+
+    /**
+     * @param expected stuck runs that should have been flagged
+     * @param detected runs flagged within the detection timeout
+     */
+    public record SlaDetection(long expected, long detected, double p50LagMs, double p99LagMs, double maxLagMs) {
+
+        public long missed() {
+            return expected - detected;
+        }
+    }
+
+    static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    public static LoadReport read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LoadReport.class);
+    }
+
+    /** Human-readable summary, one line per endpoint plus SLA detection. */
+    public List<String> summary() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("scenario=%s build=%s physicalRuns=%d elapsedMs=%d",
+                scenario.name(), build, physicalRuns, elapsedMs));
+        endpoints.forEach((name, s) -> lines.add(String.format(
+                "%-32s requests=%d errors=%d 304=%d rps=%.1f p50=%.1fms p90=%.1fms p99=%.1fms p99.9=%.1fms max=%.1fms",
+                name, s.requests(), s.errors(), s.notModified(), s.throughputPerSec(),
+                s.p50Ms(), s.p90Ms(), s.p99Ms(), s.p999Ms(), s.maxMs())));
+        lines.add(String.format("%-32s expected=%d detected=%d missed=%d p50=%.0fms p99=%.0fms max=%.0fms",
+                "SLA detection lag", slaDetection.expected(), slaDetection.detected(), slaDetection.missed(),
+                slaDetection.p50LagMs(), slaDetection.p99LagMs(), slaDetection.maxLagMs()));
+        return lines;
+    }
+
+    /**
+     * Line-per-metric comparison with a previous report: p50/p99 latency and throughput per
+     * endpoint and the SLA-detection lag, as {@code before -> after (change%)}. Warns first when
+     * the scenarios differ, since the numbers are then not like for like.
+     */
+    public List<String> compareTo(LoadReport before) {
+        List<String> lines = new ArrayList<>();
+        if (!scenario.equals(before.scenario())) {
+            lines.add("WARNING scenarios differ; results are not directly comparable");
+        }
+        lines.add(String.format("comparing build=%s -> build=%s", before.build(), build));
+        TreeSet<String> names = new TreeSet<>(endpoints.keySet());
+        names.addAll(before.endpoints().keySet());
+        for (String name : names) {
+            EndpointStats a = before.endpoints().get(name);
+            EndpointStats b = endpoints.get(name);
+            if (a == null || b == null) {
+                lines.add(String.format("%-32s only in %s", name, a == null ? "current" : "previous"));
+                continue;
+            }
+            lines.add(String.format("%-32s p50 %s  p99 %s  rps %s  errors %d -> %d", name,
+                    delta(a.p50Ms(), b.p50Ms()), delta(a.p99Ms(), b.p99Ms()),
+                    delta(a.throughputPerSec(), b.throughputPerSec()), a.errors(), b.errors()));
+        }
+        SlaDetection a = before.slaDetection();
+        SlaDetection b = slaDetection;
+        lines.add(String.format("%-32s p50 %s  p99 %s  missed %d -> %d", "SLA detection lag",
+                delta(a.p50LagMs(), b.p50LagMs()), delta(a.p99LagMs(), b.p99LagMs()), a.missed(), b.missed()));
+        return lines;
+    }
+
+    private static String delta(double before, double after) {
+        String change = before == 0 ? "n/a" : String.format("%+.1f%%", (after - before) * 100 / before);
+        return String.format("%.1f -> %.1f (%s)", before, after, change);
+    }
+}
@@ -0,0 +1,84 @@
+package com.company.observability.loadtest;
+
+import com.company.observability.loadtest.LatencyRecorder.EndpointStats;
+import com.company.observability.loadtest.LoadReport.SlaDetection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadReportTest {
+
+    private final LoadScenario scenario = LoadScenario.load("smoke", new Properties());
+
+    @Test
+    void recorder_percentilesErrorsAndThroughput() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record("GET /batch/runs", TimeUnit.MILLISECONDS.toNanos(i), i <= 10 ? 304 : 200);
+        }
+        recorder.record("POST /runs/start", TimeUnit.MILLISECONDS.toNanos(5), 503);
+        recorder.record("POST /runs/start", TimeUnit.MILLISECONDS.toNanos(5), -1);
+
+        Map<String, EndpointStats> stats = recorder.snapshot(10_000);
+
+        EndpointStats batch = stats.get("GET /batch/runs");
+        assertThat(batch.requests()).isEqualTo(100);
+        assertThat(batch.notModified()).isEqualTo(10);
+        assertThat(batch.errors()).isZero();
+        assertThat(batch.throughputPerSec()).isEqualTo(10.0);
+        assertThat(batch.p50Ms()).isBetween(49.0, 51.0);
+        assertThat(batch.p99Ms()).isBetween(98.0, 100.1);
+        assertThat(stats.get("POST /runs/start").errors()).isEqualTo(2);
+    }
+
+    @Test
+    void writeAndRead_roundTrips(@TempDir Path dir) throws Exception {
+        LoadReport report = report("abc123", 10.0, 100.0, 2_000);
+        Path file = dir.resolve("smoke-abc123.json");
+
+        report.write(file);
+
+        assertThat(LoadReport.read(file)).isEqualTo(report);
+    }
+
+    @Test
+    void compareTo_reportsChangePerMetric() {
+        LoadReport before = report("old", 10.0, 100.0, 2_000);
+        LoadReport after = report("new", 5.0, 150.0, 1_000);
+
+        List<String> lines = after.compareTo(before);
+
+        assertThat(lines).first().asString().contains("build=old -> build=new");
+        assertThat(lines).anySatisfy(l -> assertThat(l)
+                .startsWith("GET /batch/runs")
+                .contains("p50 10.0 -> 5.0 (-50.0%)")
+                .contains("p99 100.0 -> 150.0 (+50.0%)"));
+        assertThat(lines).anySatisfy(l -> assertThat(l)
+                .startsWith("SLA detection lag")
+                .contains("p50 2000.0 -> 1000.0 (-50.0%)"));
+        assertThat(lines).noneMatch(l -> l.startsWith("WARNING"));
+    }
+
+    @Test
+    void compareTo_differentScenario_warns() {
+        LoadReport before = report("old", 10.0, 100.0, 2_000);
+        LoadReport after = new LoadReport("new", Instant.EPOCH, scenario.withName("other"), 60, 40_000,
+                before.endpoints(), before.slaDetection());
+
+        assertThat(after.compareTo(before)).first().asString().startsWith("WARNING");
+    }
+
+    private LoadReport report(String build, double p50, double p99, double lagP50) {
+        EndpointStats stats = new EndpointStats(1000, 0, 200, 25.0, p50, p50 * 2, p99, p99 * 2, p99 * 3);
+        return new LoadReport(build, Instant.parse("2026-03-06T06:00:00Z"), scenario, 60, 40_000,
+                Map.of("GET /batch/runs", stats), new SlaDetection(2, 2, lagP50, lagP50 * 2, lagP50 * 2));
+    }
+}
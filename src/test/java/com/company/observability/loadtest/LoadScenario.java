@@ -0,0 +1,103 @@
+package com.company.observability.loadtest;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * One load-test scenario profile, bound from {@code loadtest/<name>.yml} on the test classpath
+ * with any {@code -Dloadtest.*} system property taking precedence (e.g.
+ * {@code -Dloadtest.calculators=5000}). The seed makes the traffic plan — and therefore a report
+ * — repeatable, so two builds run under the same scenario are comparable.
+ *
+ * @param calculators           distinct calculator names in the batch
+ * @param regionalRate          share of calculators that run once per region (declared as regions)
+ * @param regions               regions each regional calculator runs in
+ * @param splitRate             share of logical runs that fan out into parallel splits
+ * @param splitsPerRun          physical runs per split group (one correlationId)
+ * @param burstSeconds          window in which every start arrives — the cycle boundary
+ * @param minRunSeconds         shortest simulated run
+ * @param maxRunSeconds         longest simulated run
+ * @param failureRate           share of runs completed as FAILED
+ * @param stuckRate             share of runs never completed; they are started with a deadline
+ *                              {@code slaLeadSeconds} ahead and measure SLA-detection lag
+ * @param slaLeadSeconds        time from start to the deadline of a stuck run
+ * @param ingestConcurrency     concurrent start/complete calls (Airflow worker slots)
+ * @param dashboards            dashboard clients polling {@code /batch/runs}
+ * @param pollIntervalMs        interval between one dashboard's polls
+ * @param keysPerPoll           calculators per {@code /batch/runs} request
+ * @param executionsEvery       every n-th dashboard poll also fetches {@code /executions}
+ * @param durationSeconds       total traffic time, burst included
+ * @param detectionIntervalMs   live SLA detection interval configured into the application
+ * @param detectionTimeoutSeconds how long to wait after traffic for stuck runs to be flagged
+ * @param maxErrorRate          failed requests tolerated per endpoint before the run fails
+ */
+public record LoadScenario(
+        String name,
+        @DefaultValue("42") long seed,
+        @DefaultValue("100") int calculators,
+        @DefaultValue("0.2") double regionalRate,
+        @DefaultValue({"WMAP", "WMDE", "ASIA", "WMUS"}) List<String> regions,
+        @DefaultValue("0.3") double splitRate,
+        @DefaultValue("4") int splitsPerRun,
+        @DefaultValue("30") int burstSeconds,
+        @DefaultValue("5") int minRunSeconds,
+        @DefaultValue("60") int maxRunSeconds,
+        @DefaultValue("0.02") double failureRate,
+        @DefaultValue("0.01") double stuckRate,
+        @DefaultValue("20") int slaLeadSeconds,
+        @DefaultValue("32") int ingestConcurrency,
+        @DefaultValue("10") int dashboards,
+        @DefaultValue("2000") long pollIntervalMs,
+        @DefaultValue("25") int keysPerPoll,
+        @DefaultValue("5") int executionsEvery,
+        @DefaultValue("120") int durationSeconds,
+        @DefaultValue("5000") long detectionIntervalMs,
+        @DefaultValue("60") int detectionTimeoutSeconds,
+        @DefaultValue("0.001") double maxErrorRate
+) {
+
+    static final String PREFIX = "loadtest";
+
+    /** Loads {@code loadtest/<name>.yml}, overlaid with {@code -Dloadtest.*} system properties. */
+    public static LoadScenario load(String name) {
+        return load(name, System.getProperties());
+    }
+
+    static LoadScenario load(String name, Properties overrides) {
+        MutablePropertySources sources = new MutablePropertySources();
+        sources.addFirst(new PropertiesPropertySource("overrides", overrides));
+        ClassPathResource profile = new ClassPathResource(PREFIX + "/" + name + ".yml");
+        if (!profile.exists()) {
+            throw new IllegalArgumentException("Unknown load-test scenario '" + name + "' (no " + profile.getPath() + ")");
+        }
+        try {
+            for (PropertySource<?> source : new YamlPropertySourceLoader().load(name, profile)) {
+                sources.addLast(source);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LoadScenario scenario = new Binder(ConfigurationPropertySources.from(sources))
+                .bindOrCreate(PREFIX, Bindable.of(LoadScenario.class));
+        return scenario.name() != null ? scenario : scenario.withName(name);
+    }
+
+    LoadScenario withName(String name) {
+        return new LoadScenario(name, seed, calculators, regionalRate, regions, splitRate, splitsPerRun,
+                burstSeconds, minRunSeconds, maxRunSeconds, failureRate, stuckRate, slaLeadSeconds,
+                ingestConcurrency, dashboards, pollIntervalMs, keysPerPoll, executionsEvery, durationSeconds,
+                detectionIntervalMs, detectionTimeoutSeconds, maxErrorRate);
+    }
+}
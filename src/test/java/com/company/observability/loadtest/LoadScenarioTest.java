@@ -0,0 +1,46 @@
+package com.company.observability.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadScenarioTest {
+
+    @Test
+    void load_bindsProfileOverDefaults() {
+        LoadScenario scenario = LoadScenario.load("cycle-boundary", new Properties());
+
+        assertThat(scenario.name()).isEqualTo("cycle-boundary");
+        assertThat(scenario.calculators()).isEqualTo(3000);
+        assertThat(scenario.burstSeconds()).isEqualTo(60);
+        assertThat(scenario.ingestConcurrency()).isEqualTo(64);
+        // Not set in the profile → record default
+        assertThat(scenario.seed()).isEqualTo(42);
+        assertThat(scenario.regions()).containsExactly("WMAP", "WMDE", "ASIA", "WMUS");
+    }
+
+    @Test
+    void load_systemPropertiesOverrideProfile() {
+        Properties overrides = new Properties();
+        overrides.setProperty("loadtest.calculators", "5000");
+        overrides.setProperty("loadtest.regions", "EURO,AMER");
+        overrides.setProperty("loadtest.scenario", "ignored-not-a-field");
+
+        LoadScenario scenario = LoadScenario.load("smoke", overrides);
+
+        assertThat(scenario.calculators()).isEqualTo(5000);
+        assertThat(scenario.regions()).isEqualTo(List.of("EURO", "AMER"));
+        assertThat(scenario.durationSeconds()).isEqualTo(40);
+    }
+
+    @Test
+    void load_unknownScenario_throws() {
+        assertThatThrownBy(() -> LoadScenario.load("no-such-scenario", new Properties()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no-such-scenario");
+    }
+}
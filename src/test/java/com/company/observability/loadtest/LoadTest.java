@@ -0,0 +1,172 @@
+package com.company.observability.loadtest;
+
+import com.company.observability.config.SlaProperties;
+import com.company.observability.loadtest.LoadReport.SlaDetection;
+import com.company.observability.loadtest.TrafficPlan.PlannedRun;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: boots the full application on a random port against Testcontainers
+ * Postgres and Redis, replays the scenario's Airflow and dashboard traffic over HTTP, and
+ * writes a {@link LoadReport} to {@code target/loadtest/<scenario>-<build>.json}.
+ *
+ * <p>Excluded from the default build; run with
+ * {@code mvn -Ploadtest test -Dloadtest.scenario=cycle-boundary -Dloadtest.build=$(git rev-parse --short HEAD)}.
+ * Pass {@code -Dloadtest.baseline=<report.json>} to print a comparison with an earlier run.
+ * The client shares the host with the application and the containers, so compare runs made on
+ * the same machine.
+ */
+@Slf4j
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTest {
+
+    private static final int REDIS_PORT = 6379;
+    private static final String USERNAME = "loadtest";
+    private static final String PASSWORD = "loadtest";
+
+    private static final LoadScenario SCENARIO = LoadScenario.load(System.getProperty("loadtest.scenario", "smoke"));
+    private static final TrafficPlan PLAN = TrafficPlan.generate(SCENARIO);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("observability_load")
+            .withUsername("postgres")
+            .withPassword("postgres")
+            .withCommand("postgres", "-c", "max_connections=200");
+
+    @Container
+    @SuppressWarnings("resource")
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(REDIS_PORT);
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.flyway.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.flyway.user", POSTGRES::getUsername);
+        registry.add("spring.flyway.password", POSTGRES::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(REDIS_PORT));
+
+        registry.add("observability.security.basic.username", () -> USERNAME);
+        registry.add("observability.security.basic.password", () -> PASSWORD);
+        registry.add("observability.sla.live-detection.interval-ms", SCENARIO::detectionIntervalMs);
+        registry.add("observability.sla.live-detection.initial-delay-ms", () -> 0);
+        // Regional calculators are declared so /batch/runs pads them like production ones
+        PLAN.regional().forEach((name, regions) ->
+                registry.add("observability.calculator.regions." + name, () -> String.join(",", regions)));
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SlaProperties slaProperties;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    void replayScenario() throws Exception {
+        long stuckDeadlineMs = Math.round(TimeUnit.MINUTES.toMillis(10)
+                * (1 + slaProperties.getDurationThresholdPercent() / 100.0)) + slaProperties.lateBandMs();
+        LoadGenerator generator = new LoadGenerator(SCENARIO, PLAN, URI.create("http://localhost:" + port),
+                USERNAME, PASSWORD, objectMapper, stuckDeadlineMs);
+
+        log.info("event=loadtest.start scenario={} calculators={} physicalRuns={} stuckRuns={}",
+                SCENARIO.name(), PLAN.calculators().size(), PLAN.runs().size(), PLAN.stuckCount());
+        Instant startedAt = Instant.now();
+        long elapsedMs = generator.run();
+
+        SlaDetection detection = awaitSlaDetection(generator.reportingDate());
+        String build = System.getProperty("loadtest.build", "local");
+        LoadReport report = new LoadReport(build, startedAt, SCENARIO, PLAN.runs().size(), elapsedMs,
+                generator.recorder().snapshot(elapsedMs), detection);
+
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "target/loadtest"));
+        Path file = reportDir.resolve(SCENARIO.name() + "-" + build + ".json");
+        report.write(file);
+        report.summary().forEach(line -> log.info("event=loadtest.result {}", line));
+        log.info("event=loadtest.report file={}", file.toAbsolutePath());
+
+        String baseline = System.getProperty("loadtest.baseline");
+        if (baseline != null && Files.exists(Path.of(baseline))) {
+            report.compareTo(LoadReport.read(Path.of(baseline)))
+                    .forEach(line -> log.info("event=loadtest.compare {}", line));
+        }
+
+        report.endpoints().forEach((name, stats) -> assertThat(stats.errors())
+                .as("errors on %s", name)
+                .isLessThanOrEqualTo((long) Math.ceil(stats.requests() * SCENARIO.maxErrorRate())));
+        assertThat(detection.missed()).as("stuck runs never flagged by live SLA detection").isZero();
+    }
+
+    /**
+     * Waits for every stuck run to be flagged (or the timeout) and measures the lag from its
+     * frozen deadline to the detection job's {@code markSlaBreach} write.
+     */
+    private SlaDetection awaitSlaDetection(LocalDate reportingDate) throws InterruptedException {
+        List<String> stuck = PLAN.runs().stream().filter(PlannedRun::stuck).map(PlannedRun::runId).toList();
+        if (stuck.isEmpty()) {
+            return new SlaDetection(0, 0, 0, 0, 0);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("runIds", stuck)
+                .addValue("reportingDate", reportingDate);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SCENARIO.detectionTimeoutSeconds());
+        List<Map<String, Object>> flagged;
+        do {
+            flagged = jdbcTemplate.queryForList("""
+                    SELECT sla_time, updated_at FROM calculator_runs
+                    WHERE reporting_date = :reportingDate AND run_id IN (:runIds) AND sla_band IS NOT NULL
+                    """, params);
+            if (flagged.size() >= stuck.size()) {
+                break;
+            }
+            Thread.sleep(1_000);
+        } while (System.nanoTime() < deadline);
+
+        Histogram lag = new Histogram(3);
+        for (Map<String, Object> row : flagged) {
+            long lagMs = ((Timestamp) row.get("updated_at")).getTime() - ((Timestamp) row.get("sla_time")).getTime();
+            lag.recordValue(Math.max(0, lagMs));
+        }
+        return new SlaDetection(stuck.size(), flagged.size(),
+                lag.getValueAtPercentile(50), lag.getValueAtPercentile(99), lag.getMaxValue());
+    }
+}
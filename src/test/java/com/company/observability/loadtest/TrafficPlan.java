@@ -0,0 +1,79 @@
+package com.company.observability.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The Airflow traffic for one scenario, generated up front from its seed: every physical run
+ * with its start and completion offsets from the beginning of the burst. Regional calculators
+ * start once per region; a share of logical runs fan out into splits that share a
+ * correlationId and start within seconds of each other, as parallel Airflow tasks do.
+ *
+ * @param runs        physical runs, ordered by start offset
+ * @param calculators calculator names, in plan order
+ * @param regional    regional calculator name → its regions
+ */
+public record TrafficPlan(List<PlannedRun> runs, List<String> calculators, Map<String, List<String>> regional) {
+
+    /**
+     * @param completeAtMs offset of the completion call; {@code -1} for a stuck run that never completes
+     * @param failed       completed as FAILED rather than SUCCESS
+     */
+    public record PlannedRun(String runId, String calculatorName, String region, String correlationId,
+                             long startAtMs, long completeAtMs, boolean failed) {
+
+        public boolean stuck() {
+            return completeAtMs < 0;
+        }
+    }
+
+    public static TrafficPlan generate(LoadScenario scenario) {
+        Random random = new Random(scenario.seed());
+        List<PlannedRun> runs = new ArrayList<>();
+        List<String> calculators = new ArrayList<>(scenario.calculators());
+        Map<String, List<String>> regional = new LinkedHashMap<>();
+        long burstMs = scenario.burstSeconds() * 1000L;
+
+        for (int c = 0; c < scenario.calculators(); c++) {
+            String name = String.format("loadcalc%05d", c);
+            calculators.add(name);
+            List<String> regions = random.nextDouble() < scenario.regionalRate() ? scenario.regions() : null;
+            if (regions != null) {
+                regional.put(name, regions);
+            }
+            for (String region : regions != null ? regions : Collections.<String>singletonList(null)) {
+                long startAt = burstMs > 0 ? (long) (random.nextDouble() * burstMs) : 0;
+                boolean split = random.nextDouble() < scenario.splitRate();
+                int physical = split ? scenario.splitsPerRun() : 1;
+                String correlationId = split ? name + "-" + (region != null ? region : "all") + "-corr" : null;
+                for (int s = 0; s < physical; s++) {
+                    String runId = name + "-" + (region != null ? region + "-" : "") + s;
+                    long splitStart = startAt + (split ? random.nextInt(3_000) : 0);
+                    runs.add(plannedRun(scenario, random, runId, name, region, correlationId, splitStart));
+                }
+            }
+        }
+        runs.sort(Comparator.comparingLong(PlannedRun::startAtMs));
+        return new TrafficPlan(List.copyOf(runs), List.copyOf(calculators), regional);
+    }
+
+    private static PlannedRun plannedRun(LoadScenario scenario, Random random, String runId, String name,
+                                         String region, String correlationId, long startAt) {
+        if (random.nextDouble() < scenario.stuckRate()) {
+            return new PlannedRun(runId, name, region, correlationId, startAt, -1, false);
+        }
+        int spread = Math.max(0, scenario.maxRunSeconds() - scenario.minRunSeconds());
+        long runMs = (scenario.minRunSeconds() + (spread > 0 ? random.nextInt(spread + 1) : 0)) * 1000L;
+        boolean failed = random.nextDouble() < scenario.failureRate();
+        return new PlannedRun(runId, name, region, correlationId, startAt, startAt + runMs, failed);
+    }
+
+    public long stuckCount() {
+        return runs.stream().filter(PlannedRun::stuck).count();
+    }
+}
@@ -0,0 +1,67 @@
+package com.company.observability.loadtest;
+
+import com.company.observability.loadtest.TrafficPlan.PlannedRun;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrafficPlanTest {
+
+    private final LoadScenario scenario = LoadScenario.load("cycle-boundary", new Properties());
+
+    @Test
+    void generate_sameSeed_samePlan() {
+        assertThat(TrafficPlan.generate(scenario)).isEqualTo(TrafficPlan.generate(scenario));
+    }
+
+    @Test
+    void generate_startsWithinBurst_orderedAndUnique() {
+        TrafficPlan plan = TrafficPlan.generate(scenario);
+        List<PlannedRun> runs = plan.runs();
+
+        assertThat(plan.calculators()).hasSize(3000);
+        assertThat(runs).extracting(PlannedRun::runId).doesNotHaveDuplicates();
+        assertThat(runs).isSortedAccordingTo((a, b) -> Long.compare(a.startAtMs(), b.startAtMs()));
+        // Split starts may trail the burst by up to 3s
+        assertThat(runs).allMatch(r -> r.startAtMs() < scenario.burstSeconds() * 1000L + 3_000);
+        assertThat(runs).filteredOn(r -> !r.stuck())
+                .allMatch(r -> r.completeAtMs() - r.startAtMs() >= scenario.minRunSeconds() * 1000L
+                        && r.completeAtMs() - r.startAtMs() <= scenario.maxRunSeconds() * 1000L);
+    }
+
+    @Test
+    void generate_splitsShareCorrelationIdAndRegionalRunsCoverRegions() {
+        TrafficPlan plan = TrafficPlan.generate(scenario);
+
+        Map<String, List<PlannedRun>> groups = plan.runs().stream()
+                .filter(r -> r.correlationId() != null)
+                .collect(Collectors.groupingBy(PlannedRun::correlationId));
+        assertThat(groups).isNotEmpty();
+        assertThat(groups.values()).allMatch(g -> g.size() == scenario.splitsPerRun()
+                && g.stream().map(PlannedRun::calculatorName).distinct().count() == 1);
+
+        assertThat(plan.regional()).isNotEmpty();
+        plan.regional().forEach((name, regions) -> assertThat(plan.runs().stream()
+                .filter(r -> r.calculatorName().equals(name))
+                .map(PlannedRun::region)
+                .filter(Objects::nonNull)
+                .distinct())
+                .containsExactlyInAnyOrderElementsOf(regions));
+    }
+
+    @Test
+    void generate_stuckAndFailedShares_matchScenario() {
+        TrafficPlan plan = TrafficPlan.generate(scenario);
+        int total = plan.runs().size();
+
+        assertThat(plan.stuckCount()).isBetween(1L, (long) (total * scenario.stuckRate() * 3));
+        assertThat(plan.runs().stream().filter(PlannedRun::failed).count())
+                .isBetween(1L, (long) (total * scenario.failureRate() * 3));
+    }
+}
@@ -0,0 +1,157 @@
+package com.company.observability.repository;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.RunWithSlaStatus;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.domain.enums.SlaBand;
+import com.company.observability.util.JsonbConverter;
+import com.company.observability.util.LazyJsonbMap;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CalculatorRunRowMapperTest {
+
+    private final JsonbConverter jsonbConverter = new JsonbConverter(new ObjectMapper());
+
+    @Test
+    void mapRow_mapsEveryColumnByIndex() throws Exception {
+        SyntheticResultSet rs = CalculatorRunRows.calculatorRuns(1);
+        rs.next();
+
+        CalculatorRun run = new CalculatorRunRowMapper(jsonbConverter, true).mapRow(rs, 0);
+
+        assertThat(run.getRunId()).isEqualTo("run-0");
+        assertThat(run.getCalculatorName()).isEqualTo("capitalcalc");
+        assertThat(run.getTenantId()).isEqualTo("tenant-1");
+        assertThat(run.getFrequency()).isEqualTo(Frequency.MONTHLY);
+        assertThat(run.getReportingDate()).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(run.getStartTime()).isEqualTo(Instant.parse("2026-01-01T04:00:00Z"));
+        assertThat(run.getEndTime()).isEqualTo(Instant.parse("2026-01-01T04:10:00Z"));
+        assertThat(run.getDurationMs()).isEqualTo(600_000L);
+        assertThat(run.getStatus()).isEqualTo(RunStatus.FAILED);
+        assertThat(run.getExpectedDurationMs()).isEqualTo(540_000L);
+        assertThat(run.getSlaBand()).isEqualTo(SlaBand.LATE);
+        assertThat(run.isSlaBreached()).isTrue();
+        assertThat(run.getRunNumber()).isEqualTo("1");
+        assertThat(run.getRegion()).isEqualTo("WMAP");
+        assertThat(run.getCorrelationId()).isEqualTo("corr-0");
+        assertThat(run.getUpdatedAt()).isEqualTo(Instant.parse("2026-01-01T04:10:00Z"));
+        assertThat(run.getAdditionalAttributes()).containsEntry("airflow_task", "task-0");
+    }
+
+    @Test
+    void mapRow_nullColumns_mapToNullWithoutDefaults() throws Exception {
+        SyntheticResultSet rs = CalculatorRunRows.calculatorRuns(20);
+        for (int i = 0; i < 20; i++) rs.next(); // run-19 is still running
+
+        CalculatorRun run = new CalculatorRunRowMapper(jsonbConverter, false).mapRow(rs, 19);
+
+        assertThat(run.getStatus()).isEqualTo(RunStatus.RUNNING);
+        assertThat(run.getEndTime()).isNull();
+        assertThat(run.getDurationMs()).isNull();
+        assertThat(run.getSlaBand()).isNull();
+        assertThat(run.getRunParameters()).isNull();
+    }
+
+    @Test
+    void mapRow_jsonbDecodedOnFirstAccessOnly() throws Exception {
+        SyntheticResultSet rs = CalculatorRunRows.calculatorRuns(1);
+        rs.next();
+
+        CalculatorRun run = new CalculatorRunRowMapper(jsonbConverter, true).mapRow(rs, 0);
+
+        assertThat(run.getRunParameters()).isInstanceOf(LazyJsonbMap.class);
+        assertThat(((LazyJsonbMap) run.getRunParameters()).isDecoded()).isFalse();
+        assertThat(run.getRunParameters().get("dag_id")).isEqualTo("calc_dag");
+        assertThat(((LazyJsonbMap) run.getRunParameters()).isDecoded()).isTrue();
+        assertThat(run.getRunParameters()).isEqualTo(Map.of(
+                "run_number", "1", "region", "WMAP", "dag_id", "calc_dag", "retries", 0));
+    }
+
+    @Test
+    void mapRow_resolvesOrdinalsAgainForANewResultSet() throws Exception {
+        CalculatorRunRowMapper mapper = new CalculatorRunRowMapper(jsonbConverter, false);
+        SyntheticResultSet first = CalculatorRunRows.calculatorRuns(1);
+        first.next();
+        assertThat(mapper.mapRow(first, 0).getRunId()).isEqualTo("run-0");
+
+        // Same columns, reversed order — ordinals cached for the first result set must not leak
+        SyntheticResultSet source = CalculatorRunRows.calculatorRuns(2);
+        source.next();
+        source.next();
+        String[] labels = CalculatorRunRows.RUN_COLUMNS;
+        String[] reversed = new String[labels.length];
+        Object[] row = new Object[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            reversed[i] = labels[labels.length - 1 - i];
+            row[i] = source.getObject(labels.length - i);
+        }
+        SyntheticResultSet second = new SyntheticResultSet(reversed, List.<Object[]>of(row));
+        second.next();
+
+        CalculatorRun run = mapper.mapRow(second, 0);
+        assertThat(run.getRunId()).isEqualTo("run-1");
+        assertThat(run.getCalculatorName()).isEqualTo("portfoliocalc");
+        assertThat(run.getRunNumber()).isEqualTo("2");
+    }
+
+    @Test
+    void mapRow_nonCanonicalEnumSpellings_fallBackToLenientParsing() throws Exception {
+        String[] labels = CalculatorRunRows.RUN_COLUMNS;
+        SyntheticResultSet source = CalculatorRunRows.calculatorRuns(2);
+        source.next();
+        source.next();
+        Object[] row = new Object[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            row[i] = source.getObject(i + 1);
+        }
+        row[source.findColumn("frequency") - 1] = "m";
+        row[source.findColumn("status") - 1] = "success";
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(row);
+        Object[] unknown = row.clone();
+        unknown[source.findColumn("status") - 1] = "PAUSED";
+        unknown[source.findColumn("sla_band") - 1] = "EARLY";
+        rows.add(unknown);
+
+        SyntheticResultSet rs = new SyntheticResultSet(labels, rows);
+        CalculatorRunRowMapper mapper = new CalculatorRunRowMapper(jsonbConverter, false);
+        rs.next();
+        CalculatorRun run = mapper.mapRow(rs, 0);
+        assertThat(run.getFrequency()).isEqualTo(Frequency.MONTHLY);
+        assertThat(run.getStatus()).isEqualTo(RunStatus.SUCCESS);
+
+        rs.next();
+        assertThatThrownBy(() -> mapper.mapRow(rs, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void runWithSlaStatusMapper_ignoresExtraColumns() throws Exception {
+        SyntheticResultSet rs = CalculatorRunRows.runsWithSlaStatus(3);
+        RunWithSlaStatusRowMapper mapper = new RunWithSlaStatusRowMapper();
+
+        List<RunWithSlaStatus> runs = new ArrayList<>();
+        while (rs.next()) {
+            runs.add(mapper.mapRow(rs, rs.getRow() - 1));
+        }
+
+        assertThat(runs).extracting(RunWithSlaStatus::runId).containsExactly("run-0", "run-1", "run-2");
+        RunWithSlaStatus first = runs.get(0);
+        assertThat(first.frequency()).isEqualTo(Frequency.MONTHLY);
+        assertThat(first.status()).isEqualTo(RunStatus.FAILED);
+        assertThat(first.slaBand()).isEqualTo(SlaBand.LATE);
+        assertThat(first.slaTime()).isEqualTo(Instant.parse("2026-01-01T05:00:00Z"));
+        assertThat(first.expectedDurationMs()).isEqualTo(540_000L);
+        assertThat(runs.get(1).slaBand()).isEqualTo(SlaBand.ON_TIME);
+    }
+}
@@ -0,0 +1,116 @@
+package com.company.observability.repository;
+
+import org.postgresql.util.PGobject;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic {@code calculator_runs} result sets in the column order of the repository's
+ * queries: a handful of calculators with splits, regions and both run numbers, about one run
+ * in eight late and one in twenty still running.
+ */
+public final class CalculatorRunRows {
+
+    /** {@code SELECT_BASE} columns (JSONB included). */
+    public static final String[] RUN_COLUMNS = {
+            "run_id", "calculator_id", "calculator_name", "tenant_id", "frequency", "reporting_date",
+            "start_time", "end_time", "duration_ms",
+            "status", "sla_time", "expected_duration_ms",
+            "estimated_start_time", "estimated_end_time",
+            "sla_band", "sla_breached", "sla_breach_reason",
+            "run_number", "run_type", "region", "correlation_id",
+            "run_parameters", "additional_attributes",
+            "created_at", "updated_at"};
+
+    /** Streaming {@code findRunsWithSlaStatus} columns, including the {@code pos} helper column. */
+    public static final String[] SLA_STATUS_COLUMNS = {
+            "run_id", "calculator_id", "calculator_name", "reporting_date",
+            "start_time", "end_time", "duration_ms",
+            "sla_time", "estimated_start_time", "frequency", "status",
+            "sla_band", "sla_breach_reason", "correlation_id",
+            "run_number", "expected_duration_ms", "pos"};
+
+    private static final String[] CALCULATORS = {"capitalcalc", "portfoliocalc", "grportfoliocalc", "fxcalc"};
+    private static final String[] REGIONS = {"WMAP", "EMEA", "APAC", null};
+    private static final LocalDate FIRST_DATE = LocalDate.of(2026, 1, 1);
+    private static final Instant T0 = Instant.parse("2026-01-01T04:00:00Z");
+
+    private CalculatorRunRows() {}
+
+    public static SyntheticResultSet calculatorRuns(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Instant start = T0.plusSeconds(i * 60L);
+            boolean running = i % 20 == 19;
+            boolean late = i % 8 == 0;
+            String region = REGIONS[i % REGIONS.length];
+            rows.add(new Object[]{
+                    "run-" + i,
+                    "3f2b9c1e-0000-4000-8000-" + String.format("%012d", i % CALCULATORS.length),
+                    CALCULATORS[i % CALCULATORS.length],
+                    "tenant-1",
+                    i % 10 == 0 ? "MONTHLY" : "DAILY",
+                    FIRST_DATE.plusDays(i / 400),
+                    Timestamp.from(start),
+                    running ? null : Timestamp.from(start.plusSeconds(600)),
+                    running ? null : 600_000L,
+                    running ? "RUNNING" : (i % 50 == 0 ? "FAILED" : "SUCCESS"),
+                    Timestamp.from(start.plusSeconds(3600)),
+                    540_000L,
+                    Timestamp.from(start),
+                    Timestamp.from(start.plusSeconds(540)),
+                    running ? null : (late ? "LATE" : "ON_TIME"),
+                    late,
+                    late ? "Finished 12 minutes after the late edge" : null,
+                    String.valueOf(1 + i % 2),
+                    region != null ? "REGIONAL" : null,
+                    region,
+                    i % 3 == 0 ? "corr-" + (i / 3) : null,
+                    jsonb("{\"run_number\":\"" + (1 + i % 2) + "\",\"region\":\"" + region
+                            + "\",\"dag_id\":\"calc_dag\",\"retries\":" + (i % 3) + "}"),
+                    jsonb("{\"airflow_task\":\"task-" + i + "\",\"priority\":\"normal\"}"),
+                    Timestamp.from(start),
+                    Timestamp.from(start.plusSeconds(600))});
+        }
+        return new SyntheticResultSet(RUN_COLUMNS, rows);
+    }
+
+    public static SyntheticResultSet runsWithSlaStatus(int count) {
+        SyntheticResultSet runs = calculatorRuns(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        try {
+            int[] source = new int[SLA_STATUS_COLUMNS.length - 1];
+            for (int c = 0; c < source.length; c++) {
+                source[c] = runs.findColumn(SLA_STATUS_COLUMNS[c]);
+            }
+            long pos = 0;
+            while (runs.next()) {
+                Object[] row = new Object[SLA_STATUS_COLUMNS.length];
+                for (int c = 0; c < source.length; c++) {
+                    row[c] = runs.getObject(source[c]);
+                }
+                row[source.length] = ++pos;
+                rows.add(row);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return new SyntheticResultSet(SLA_STATUS_COLUMNS, rows);
+    }
+
+    public static PGobject jsonb(String json) {
+        try {
+            PGobject pg = new PGobject();
+            pg.setType("jsonb");
+            pg.setValue(json);
+            return pg;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -14,7 +14,9 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -138,14 +140,31 @@ class DailyAggregateRepositoryJdbcTest extends PostgresJdbcIntegrationTestBase {
     }
 
     @Test
-    void findAllProfiles_returnsOneProfilePerCalculatorForFrequency() {
+    void findRecentAggregatesByNames_matchesPerNameQuery() {
+        insertRun("a1", "calc-1", "tenant-1", "DAILY", DATE, 300, 100L, "SUCCESS", false);
+        insertRun("a2", "calc-1", "tenant-1", "DAILY", DATE.minusDays(1), 300, 200L, "SUCCESS", false);
+        insertRun("b1", "calc-2", "tenant-1", "MONTHLY", DATE, 300, 500L, "SUCCESS", false);
+        repository.recomputeForDateRange(DATE.minusDays(2), DATE);
+
+        Map<String, List<DailyAggregate>> byName =
+                repository.findRecentAggregatesByNames(List.of("calc-1", "calc-2", "calc-none"), 3);
+
+        assertThat(byName).containsOnlyKeys("calc-1", "calc-2");
+        assertThat(byName.get("calc-1")).isEqualTo(repository.findRecentAggregates("calc-1", 3));
+        assertThat(byName.get("calc-2")).isEqualTo(repository.findRecentAggregates("calc-2", 3));
+    }
+
+    @Test
+    void streamAllProfiles_returnsOneProfilePerCalculatorForFrequency() {
         insertRun("a1", "calc-A", "tenant-1", "DAILY", DATE, 300, 100L, "SUCCESS", false);
         insertRun("a2", "calc-A", "tenant-1", "DAILY", DATE, 360, 300L, "SUCCESS", false);
         insertRun("b1", "calc-B", "tenant-1", "DAILY", DATE, 300, 50L, "SUCCESS", false);
         repository.recomputeForDateRange(DATE.minusDays(1), DATE);
 
-        List<CalculatorProfile> profiles = repository.findAllProfiles("DAILY", 3);
+        List<CalculatorProfile> profiles = new ArrayList<>();
+        int delivered = repository.streamAllProfiles("DAILY", 3, profiles::add);
 
+        assertThat(delivered).isEqualTo(2);
         assertThat(profiles).hasSize(2);
         assertThat(profiles).extracting(CalculatorProfile::calculatorName)
                 .containsExactlyInAnyOrder("calc-A", "calc-B");
@@ -229,15 +248,41 @@ class DailyAggregateRepositoryJdbcTest extends PostgresJdbcIntegrationTestBase {
 
     /** The nightly third-tier warm query excludes the 'ALL' bucket (covered by blended/scoped keys). */
     @Test
-    void findAllProfilesByRunNumberAndDimension_excludesAllBucket() {
+    void streamAllProfilesByRunNumberAndDimension_excludesAllBucket() {
         insertRunDim("w1", "calc-R", DATE, "WMAP", "1", 100L);
         insertRunDim("n1", "calc-N", DATE, null,   "1", 50L);
         repository.recomputeForDateRange(DATE.minusDays(1), DATE);
 
-        List<CalculatorProfile> profiles = repository.findAllProfilesByRunNumberAndDimension("DAILY", 3);
+        List<CalculatorProfile> profiles = new ArrayList<>();
+        repository.streamAllProfilesByRunNumberAndDimension("DAILY", 3, profiles::add);
 
         assertThat(profiles).extracting(CalculatorProfile::dimensionValue)
                 .contains("WMAP")
                 .doesNotContain("ALL");
     }
+
+    /** The bulk read matches each single-scope finder, scope for scope, in request order. */
+    @Test
+    void findProfiles_mixedLevels_matchSingleScopeFinders() {
+        insertRunDim("w1", "calc-R", DATE, "WMAP", "1", 100L);
+        insertRunDim("w2", "calc-R", DATE, "WMAP", "2", 300L);
+        insertRunDim("d1", "calc-R", DATE, "WMDE", "1", 500L);
+        repository.recomputeForDateRange(DATE.minusDays(1), DATE);
+
+        List<CalculatorProfile> profiles = repository.findProfiles(List.of(
+                new DailyAggregateRepository.ProfileScope("calc-R", "DAILY", 3, "1", "WMAP"),
+                new DailyAggregateRepository.ProfileScope("calc-R", "DAILY", 3, null, "WMAP"),
+                new DailyAggregateRepository.ProfileScope("calc-R", "DAILY", 3, "1", null),
+                new DailyAggregateRepository.ProfileScope("calc-R", "DAILY", 3, null, null),
+                new DailyAggregateRepository.ProfileScope("calc-none", "DAILY", 3, "1", "WMAP")));
+
+        assertThat(profiles).containsExactly(
+                repository.findProfileByRunNumberAndDimension("calc-R", "DAILY", 3, "1", "WMAP"),
+                repository.findProfileByRunNumberAndDimension("calc-R", "DAILY", 3, null, "WMAP"),
+                repository.findProfileByRunNumber("calc-R", "DAILY", 3, "1"),
+                repository.findProfile("calc-R", "DAILY", 3),
+                repository.findProfileByRunNumberAndDimension("calc-none", "DAILY", 3, "1", "WMAP"));
+        assertThat(profiles.get(3).totalRuns()).isEqualTo(3);
+        assertThat(profiles.get(4).totalRuns()).isZero();
+    }
 }
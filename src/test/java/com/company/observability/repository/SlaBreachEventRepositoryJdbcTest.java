@@ -11,8 +11,10 @@ import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Import(SlaBreachEventRepository.class)
 class SlaBreachEventRepositoryJdbcTest extends PostgresJdbcIntegrationTestBase {
@@ -71,6 +73,50 @@ class SlaBreachEventRepositoryJdbcTest extends PostgresJdbcIntegrationTestBase {
         assertEquals(3L, count);
     }
 
+    @Test
+    void summarizeBreaches_rollsUpBandTypeAndWorstDayInOnePass() {
+        jdbcTemplate.update("TRUNCATE TABLE calculator_runs");
+        Instant now = Instant.now();
+        insertRun("run-late", "SUCCESS", "LATE");
+        insertRun("run-failed", "FAILED", null);
+        save("run-late", now.minusSeconds(60));
+        save("run-failed", now.minusSeconds(120));
+        save("run-missing", now.minusSeconds(180));
+
+        SlaBreachEventRepository.BreachRollup rollup = repository.summarizeBreaches("calc-1", 30);
+
+        assertEquals(Map.of("LATE", 1, "FAILED", 1), rollup.byBand());
+        assertEquals(Map.of("TIME_EXCEEDED", 3), rollup.byType());
+        assertEquals(1, rollup.worstBandByDay().size());
+        assertEquals("FAILED", rollup.worstBandByDay().values().iterator().next());
+    }
+
+    @Test
+    void summarizeBreaches_batch_keysRollupsByCalculatorAndFillsEmptyOnes() {
+        jdbcTemplate.update("TRUNCATE TABLE calculator_runs");
+        Instant now = Instant.now();
+        insertRun("run-late", "SUCCESS", "LATE");
+        save("run-late", now.minusSeconds(60));
+        save("run-missing", now.minusSeconds(180));
+
+        Map<String, SlaBreachEventRepository.BreachRollup> rollups =
+                repository.summarizeBreaches(List.of("calc-1", "calc-quiet"), 30);
+
+        assertEquals(repository.summarizeBreaches("calc-1", 30), rollups.get("calc-1"));
+        assertEquals(Map.of("TIME_EXCEEDED", 2), rollups.get("calc-1").byType());
+        assertTrue(rollups.get("calc-quiet").byBand().isEmpty());
+        assertTrue(rollups.get("calc-quiet").worstBandByDay().isEmpty());
+    }
+
+    private void insertRun(String runId, String status, String slaBand) {
+        jdbcTemplate.update("""
+                INSERT INTO calculator_runs (
+                    run_id, calculator_id, calculator_name, tenant_id, frequency, reporting_date,
+                    start_time, status, sla_band)
+                VALUES (?, 'calc-1', 'Calculator 1', 'tenant-1', 'DAILY', CURRENT_DATE, NOW(), ?, ?)
+                """, runId, status, slaBand);
+    }
+
     private void save(String runId, Instant createdAt) {
         repository.save(SlaBreachEvent.builder()
                 .runId(runId)
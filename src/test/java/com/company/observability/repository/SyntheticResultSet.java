@@ -0,0 +1,373 @@
+package com.company.observability.repository;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.*;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Forward-only, in-memory {@link ResultSet} over pre-built column values, for exercising row
+ * mappers without a database. Label lookup mirrors the PostgreSQL driver (hash map, exact
+ * label first, then lower case); accessors return the stored values as the driver would
+ * return them, so what is measured or asserted is the mapper's own work.
+ *
+ * <p>Only the reads the mappers use are supported; everything else throws.
+ */
+public final class SyntheticResultSet implements ResultSet {
+
+    private final String[] labels;
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+    private final List<Object[]> rows;
+    private int cursor = -1;
+    private Object[] row;
+    private boolean wasNull;
+    private boolean closed;
+
+    public SyntheticResultSet(String[] labels, List<Object[]> rows) {
+        this.labels = labels.clone();
+        this.rows = rows;
+        for (int i = 0; i < labels.length; i++) {
+            columnIndex.put(labels[i], i + 1);
+        }
+    }
+
+    /** Rewinds to before the first row, so one instance can be mapped repeatedly. */
+    public void rewind() {
+        cursor = -1;
+        row = null;
+    }
+
+    public String[] labels() {
+        return labels.clone();
+    }
+
+    @Override
+    public boolean next() {
+        if (++cursor < rows.size()) {
+            row = rows.get(cursor);
+            return true;
+        }
+        row = null;
+        return false;
+    }
+
+    @Override
+    public int getRow() {
+        return row != null ? cursor + 1 : 0;
+    }
+
+    @Override
+    public int findColumn(String label) throws SQLException {
+        Integer index = columnIndex.get(label);
+        if (index == null) {
+            index = columnIndex.get(label.toLowerCase(Locale.ROOT));
+        }
+        if (index == null) {
+            throw new SQLException("The column name " + label + " was not found in this ResultSet.");
+        }
+        return index;
+    }
+
+    private Object value(int column) throws SQLException {
+        if (row == null) {
+            throw new SQLException("ResultSet not positioned on a row");
+        }
+        Object value = row[column - 1];
+        wasNull = value == null;
+        return value;
+    }
+
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+
+    @Override
+    public String getString(int column) throws SQLException {
+        Object value = value(column);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public long getLong(int column) throws SQLException {
+        Object value = value(column);
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    @Override
+    public int getInt(int column) throws SQLException {
+        Object value = value(column);
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    @Override
+    public boolean getBoolean(int column) throws SQLException {
+        Object value = value(column);
+        return value != null && (Boolean) value;
+    }
+
+    @Override
+    public Timestamp getTimestamp(int column) throws SQLException {
+        return (Timestamp) value(column);
+    }
+
+    @Override
+    public Object getObject(int column) throws SQLException {
+        return value(column);
+    }
+
+    @Override
+    public <T> T getObject(int column, Class<T> type) throws SQLException {
+        Object value = value(column);
+        if (type == Long.class && value instanceof Number n) {
+            // The driver decodes and boxes on every call
+            return type.cast(Long.valueOf(n.longValue()));
+        }
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        throw new SQLException("Cannot convert " + value.getClass().getName() + " to " + type.getName());
+    }
+
+    @Override
+    public String getString(String label) throws SQLException {
+        return getString(findColumn(label));
+    }
+
+    @Override
+    public long getLong(String label) throws SQLException {
+        return getLong(findColumn(label));
+    }
+
+    @Override
+    public int getInt(String label) throws SQLException {
+        return getInt(findColumn(label));
+    }
+
+    @Override
+    public boolean getBoolean(String label) throws SQLException {
+        return getBoolean(findColumn(label));
+    }
+
+    @Override
+    public Timestamp getTimestamp(String label) throws SQLException {
+        return getTimestamp(findColumn(label));
+    }
+
+    @Override
+    public Object getObject(String label) throws SQLException {
+        return getObject(findColumn(label));
+    }
+
+    @Override
+    public <T> T getObject(String label, Class<T> type) throws SQLException {
+        return getObject(findColumn(label), type);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    private static UnsupportedOperationException unsupported(String method) {
+        return new UnsupportedOperationException("SyntheticResultSet." + method);
+    }
+
+    // ---------------------------------------------------------------
+    // Unsupported
+    // ---------------------------------------------------------------
+
+    @Override public byte getByte(int a0) { throw unsupported("getByte"); }
+    @Override public short getShort(int a0) { throw unsupported("getShort"); }
+    @Override public float getFloat(int a0) { throw unsupported("getFloat"); }
+    @Override public double getDouble(int a0) { throw unsupported("getDouble"); }
+    @Override public BigDecimal getBigDecimal(int a0, int a1) { throw unsupported("getBigDecimal"); }
+    @Override public byte[] getBytes(int a0) { throw unsupported("getBytes"); }
+    @Override public Date getDate(int a0) { throw unsupported("getDate"); }
+    @Override public Time getTime(int a0) { throw unsupported("getTime"); }
+    @Override public InputStream getAsciiStream(int a0) { throw unsupported("getAsciiStream"); }
+    @Override public InputStream getUnicodeStream(int a0) { throw unsupported("getUnicodeStream"); }
+    @Override public InputStream getBinaryStream(int a0) { throw unsupported("getBinaryStream"); }
+    @Override public byte getByte(String a0) { throw unsupported("getByte"); }
+    @Override public short getShort(String a0) { throw unsupported("getShort"); }
+    @Override public float getFloat(String a0) { throw unsupported("getFloat"); }
+    @Override public double getDouble(String a0) { throw unsupported("getDouble"); }
+    @Override public BigDecimal getBigDecimal(String a0, int a1) { throw unsupported("getBigDecimal"); }
+    @Override public byte[] getBytes(String a0) { throw unsupported("getBytes"); }
+    @Override public Date getDate(String a0) { throw unsupported("getDate"); }
+    @Override public Time getTime(String a0) { throw unsupported("getTime"); }
+    @Override public InputStream getAsciiStream(String a0) { throw unsupported("getAsciiStream"); }
+    @Override public InputStream getUnicodeStream(String a0) { throw unsupported("getUnicodeStream"); }
+    @Override public InputStream getBinaryStream(String a0) { throw unsupported("getBinaryStream"); }
+    @Override public SQLWarning getWarnings() { throw unsupported("getWarnings"); }
+    @Override public void clearWarnings() { throw unsupported("clearWarnings"); }
+    @Override public String getCursorName() { throw unsupported("getCursorName"); }
+    @Override public ResultSetMetaData getMetaData() { throw unsupported("getMetaData"); }
+    @Override public Reader getCharacterStream(int a0) { throw unsupported("getCharacterStream"); }
+    @Override public Reader getCharacterStream(String a0) { throw unsupported("getCharacterStream"); }
+    @Override public BigDecimal getBigDecimal(int a0) { throw unsupported("getBigDecimal"); }
+    @Override public BigDecimal getBigDecimal(String a0) { throw unsupported("getBigDecimal"); }
+    @Override public boolean isBeforeFirst() { throw unsupported("isBeforeFirst"); }
+    @Override public boolean isAfterLast() { throw unsupported("isAfterLast"); }
+    @Override public boolean isFirst() { throw unsupported("isFirst"); }
+    @Override public boolean isLast() { throw unsupported("isLast"); }
+    @Override public void beforeFirst() { throw unsupported("beforeFirst"); }
+    @Override public void afterLast() { throw unsupported("afterLast"); }
+    @Override public boolean first() { throw unsupported("first"); }
+    @Override public boolean last() { throw unsupported("last"); }
+    @Override public boolean absolute(int a0) { throw unsupported("absolute"); }
+    @Override public boolean relative(int a0) { throw unsupported("relative"); }
+    @Override public boolean previous() { throw unsupported("previous"); }
+    @Override public void setFetchDirection(int a0) { throw unsupported("setFetchDirection"); }
+    @Override public int getFetchDirection() { throw unsupported("getFetchDirection"); }
+    @Override public void setFetchSize(int a0) { throw unsupported("setFetchSize"); }
+    @Override public int getFetchSize() { throw unsupported("getFetchSize"); }
+    @Override public int getType() { throw unsupported("getType"); }
+    @Override public int getConcurrency() { throw unsupported("getConcurrency"); }
+    @Override public boolean rowUpdated() { throw unsupported("rowUpdated"); }
+    @Override public boolean rowInserted() { throw unsupported("rowInserted"); }
+    @Override public boolean rowDeleted() { throw unsupported("rowDeleted"); }
+    @Override public void updateNull(int a0) { throw unsupported("updateNull"); }
+    @Override public void updateBoolean(int a0, boolean a1) { throw unsupported("updateBoolean"); }
+    @Override public void updateByte(int a0, byte a1) { throw unsupported("updateByte"); }
+    @Override public void updateShort(int a0, short a1) { throw unsupported("updateShort"); }
+    @Override public void updateInt(int a0, int a1) { throw unsupported("updateInt"); }
+    @Override public void updateLong(int a0, long a1) { throw unsupported("updateLong"); }
+    @Override public void updateFloat(int a0, float a1) { throw unsupported("updateFloat"); }
+    @Override public void updateDouble(int a0, double a1) { throw unsupported("updateDouble"); }
+    @Override public void updateBigDecimal(int a0, BigDecimal a1) { throw unsupported("updateBigDecimal"); }
+    @Override public void updateString(int a0, String a1) { throw unsupported("updateString"); }
+    @Override public void updateBytes(int a0, byte[] a1) { throw unsupported("updateBytes"); }
+    @Override public void updateDate(int a0, Date a1) { throw unsupported("updateDate"); }
+    @Override public void updateTime(int a0, Time a1) { throw unsupported("updateTime"); }
+    @Override public void updateTimestamp(int a0, Timestamp a1) { throw unsupported("updateTimestamp"); }
+    @Override public void updateAsciiStream(int a0, InputStream a1, int a2) { throw unsupported("updateAsciiStream"); }
+    @Override public void updateBinaryStream(int a0, InputStream a1, int a2) { throw unsupported("updateBinaryStream"); }
+    @Override public void updateCharacterStream(int a0, Reader a1, int a2) { throw unsupported("updateCharacterStream"); }
+    @Override public void updateObject(int a0, Object a1, int a2) { throw unsupported("updateObject"); }
+    @Override public void updateObject(int a0, Object a1) { throw unsupported("updateObject"); }
+    @Override public void updateNull(String a0) { throw unsupported("updateNull"); }
+    @Override public void updateBoolean(String a0, boolean a1) { throw unsupported("updateBoolean"); }
+    @Override public void updateByte(String a0, byte a1) { throw unsupported("updateByte"); }
+    @Override public void updateShort(String a0, short a1) { throw unsupported("updateShort"); }
+    @Override public void updateInt(String a0, int a1) { throw unsupported("updateInt"); }
+    @Override public void updateLong(String a0, long a1) { throw unsupported("updateLong"); }
+    @Override public void updateFloat(String a0, float a1) { throw unsupported("updateFloat"); }
+    @Override public void updateDouble(String a0, double a1) { throw unsupported("updateDouble"); }
+    @Override public void updateBigDecimal(String a0, BigDecimal a1) { throw unsupported("updateBigDecimal"); }
+    @Override public void updateString(String a0, String a1) { throw unsupported("updateString"); }
+    @Override public void updateBytes(String a0, byte[] a1) { throw unsupported("updateBytes"); }
+    @Override public void updateDate(String a0, Date a1) { throw unsupported("updateDate"); }
+    @Override public void updateTime(String a0, Time a1) { throw unsupported("updateTime"); }
+    @Override public void updateTimestamp(String a0, Timestamp a1) { throw unsupported("updateTimestamp"); }
+    @Override public void updateAsciiStream(String a0, InputStream a1, int a2) { throw unsupported("updateAsciiStream"); }
+    @Override public void updateBinaryStream(String a0, InputStream a1, int a2) { throw unsupported("updateBinaryStream"); }
+    @Override public void updateCharacterStream(String a0, Reader a1, int a2) { throw unsupported("updateCharacterStream"); }
+    @Override public void updateObject(String a0, Object a1, int a2) { throw unsupported("updateObject"); }
+    @Override public void updateObject(String a0, Object a1) { throw unsupported("updateObject"); }
+    @Override public void insertRow() { throw unsupported("insertRow"); }
+    @Override public void updateRow() { throw unsupported("updateRow"); }
+    @Override public void deleteRow() { throw unsupported("deleteRow"); }
+    @Override public void refreshRow() { throw unsupported("refreshRow"); }
+    @Override public void cancelRowUpdates() { throw unsupported("cancelRowUpdates"); }
+    @Override public void moveToInsertRow() { throw unsupported("moveToInsertRow"); }
+    @Override public void moveToCurrentRow() { throw unsupported("moveToCurrentRow"); }
+    @Override public Statement getStatement() { throw unsupported("getStatement"); }
+    @Override public Object getObject(int a0, Map<String, Class<?>> a1) { throw unsupported("getObject"); }
+    @Override public Ref getRef(int a0) { throw unsupported("getRef"); }
+    @Override public Blob getBlob(int a0) { throw unsupported("getBlob"); }
+    @Override public Clob getClob(int a0) { throw unsupported("getClob"); }
+    @Override public Array getArray(int a0) { throw unsupported("getArray"); }
+    @Override public Object getObject(String a0, Map<String, Class<?>> a1) { throw unsupported("getObject"); }
+    @Override public Ref getRef(String a0) { throw unsupported("getRef"); }
+    @Override public Blob getBlob(String a0) { throw unsupported("getBlob"); }
+    @Override public Clob getClob(String a0) { throw unsupported("getClob"); }
+    @Override public Array getArray(String a0) { throw unsupported("getArray"); }
+    @Override public Date getDate(int a0, Calendar a1) { throw unsupported("getDate"); }
+    @Override public Date getDate(String a0, Calendar a1) { throw unsupported("getDate"); }
+    @Override public Time getTime(int a0, Calendar a1) { throw unsupported("getTime"); }
+    @Override public Time getTime(String a0, Calendar a1) { throw unsupported("getTime"); }
+    @Override public Timestamp getTimestamp(int a0, Calendar a1) { throw unsupported("getTimestamp"); }
+    @Override public Timestamp getTimestamp(String a0, Calendar a1) { throw unsupported("getTimestamp"); }
+    @Override public URL getURL(int a0) { throw unsupported("getURL"); }
+    @Override public URL getURL(String a0) { throw unsupported("getURL"); }
+    @Override public void updateRef(int a0, Ref a1) { throw unsupported("updateRef"); }
+    @Override public void updateRef(String a0, Ref a1) { throw unsupported("updateRef"); }
+    @Override public void updateBlob(int a0, Blob a1) { throw unsupported("updateBlob"); }
+    @Override public void updateBlob(String a0, Blob a1) { throw unsupported("updateBlob"); }
+    @Override public void updateClob(int a0, Clob a1) { throw unsupported("updateClob"); }
+    @Override public void updateClob(String a0, Clob a1) { throw unsupported("updateClob"); }
+    @Override public void updateArray(int a0, Array a1) { throw unsupported("updateArray"); }
+    @Override public void updateArray(String a0, Array a1) { throw unsupported("updateArray"); }
+    @Override public RowId getRowId(int a0) { throw unsupported("getRowId"); }
+    @Override public RowId getRowId(String a0) { throw unsupported("getRowId"); }
+    @Override public void updateRowId(int a0, RowId a1) { throw unsupported("updateRowId"); }
+    @Override public void updateRowId(String a0, RowId a1) { throw unsupported("updateRowId"); }
+    @Override public int getHoldability() { throw unsupported("getHoldability"); }
+    @Override public void updateNString(int a0, String a1) { throw unsupported("updateNString"); }
+    @Override public void updateNString(String a0, String a1) { throw unsupported("updateNString"); }
+    @Override public void updateNClob(int a0, NClob a1) { throw unsupported("updateNClob"); }
+    @Override public void updateNClob(String a0, NClob a1) { throw unsupported("updateNClob"); }
+    @Override public NClob getNClob(int a0) { throw unsupported("getNClob"); }
+    @Override public NClob getNClob(String a0) { throw unsupported("getNClob"); }
+    @Override public SQLXML getSQLXML(int a0) { throw unsupported("getSQLXML"); }
+    @Override public SQLXML getSQLXML(String a0) { throw unsupported("getSQLXML"); }
+    @Override public void updateSQLXML(int a0, SQLXML a1) { throw unsupported("updateSQLXML"); }
+    @Override public void updateSQLXML(String a0, SQLXML a1) { throw unsupported("updateSQLXML"); }
+    @Override public String getNString(int a0) { throw unsupported("getNString"); }
+    @Override public String getNString(String a0) { throw unsupported("getNString"); }
+    @Override public Reader getNCharacterStream(int a0) { throw unsupported("getNCharacterStream"); }
+    @Override public Reader getNCharacterStream(String a0) { throw unsupported("getNCharacterStream"); }
+    @Override public void updateNCharacterStream(int a0, Reader a1, long a2) { throw unsupported("updateNCharacterStream"); }
+    @Override public void updateNCharacterStream(String a0, Reader a1, long a2) { throw unsupported("updateNCharacterStream"); }
+    @Override public void updateAsciiStream(int a0, InputStream a1, long a2) { throw unsupported("updateAsciiStream"); }
+    @Override public void updateBinaryStream(int a0, InputStream a1, long a2) { throw unsupported("updateBinaryStream"); }
+    @Override public void updateCharacterStream(int a0, Reader a1, long a2) { throw unsupported("updateCharacterStream"); }
+    @Override public void updateAsciiStream(String a0, InputStream a1, long a2) { throw unsupported("updateAsciiStream"); }
+    @Override public void updateBinaryStream(String a0, InputStream a1, long a2) { throw unsupported("updateBinaryStream"); }
+    @Override public void updateCharacterStream(String a0, Reader a1, long a2) { throw unsupported("updateCharacterStream"); }
+    @Override public void updateBlob(int a0, InputStream a1, long a2) { throw unsupported("updateBlob"); }
+    @Override public void updateBlob(String a0, InputStream a1, long a2) { throw unsupported("updateBlob"); }
+    @Override public void updateClob(int a0, Reader a1, long a2) { throw unsupported("updateClob"); }
+    @Override public void updateClob(String a0, Reader a1, long a2) { throw unsupported("updateClob"); }
+    @Override public void updateNClob(int a0, Reader a1, long a2) { throw unsupported("updateNClob"); }
+    @Override public void updateNClob(String a0, Reader a1, long a2) { throw unsupported("updateNClob"); }
+    @Override public void updateNCharacterStream(int a0, Reader a1) { throw unsupported("updateNCharacterStream"); }
+    @Override public void updateNCharacterStream(String a0, Reader a1) { throw unsupported("updateNCharacterStream"); }
+    @Override public void updateAsciiStream(int a0, InputStream a1) { throw unsupported("updateAsciiStream"); }
+    @Override public void updateBinaryStream(int a0, InputStream a1) { throw unsupported("updateBinaryStream"); }
+    @Override public void updateCharacterStream(int a0, Reader a1) { throw unsupported("updateCharacterStream"); }
+    @Override public void updateAsciiStream(String a0, InputStream a1) { throw unsupported("updateAsciiStream"); }
+    @Override public void updateBinaryStream(String a0, InputStream a1) { throw unsupported("updateBinaryStream"); }
+    @Override public void updateCharacterStream(String a0, Reader a1) { throw unsupported("updateCharacterStream"); }
+    @Override public void updateBlob(int a0, InputStream a1) { throw unsupported("updateBlob"); }
+    @Override public void updateBlob(String a0, InputStream a1) { throw unsupported("updateBlob"); }
+    @Override public void updateClob(int a0, Reader a1) { throw unsupported("updateClob"); }
+    @Override public void updateClob(String a0, Reader a1) { throw unsupported("updateClob"); }
+    @Override public void updateNClob(int a0, Reader a1) { throw unsupported("updateNClob"); }
+    @Override public void updateNClob(String a0, Reader a1) { throw unsupported("updateNClob"); }
+}
@@ -1,24 +1,34 @@
 package com.company.observability.scheduled;
 
 import com.company.observability.config.AggregationProperties;
+import com.company.observability.config.JobCoordinationProperties;
 import com.company.observability.config.SlaProperties;
 import com.company.observability.domain.CalculatorProfile;
 import com.company.observability.repository.DailyAggregateRepository;
+import com.company.observability.repository.JobLeaseRepository;
 import com.company.observability.service.CalculatorProfileService;
+import com.company.observability.service.coordination.JobLeaseService;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
-import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,14 +38,24 @@ class DailyAggregationJobTest {
 
     @Mock private DailyAggregateRepository dailyAggregateRepository;
     @Mock private CalculatorProfileService calculatorProfileService;
+    @Mock private JobLeaseRepository jobLeaseRepository;
 
     private DailyAggregationJob job;
+    private JobCoordinationProperties jobProperties;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
+        // Single-replica behaviour by default; lease tests switch coordination on
+        jobProperties = new JobCoordinationProperties();
+        jobProperties.setEnabled(false);
+        jobProperties.setShardWaitSeconds(0);
+        meterRegistry = new SimpleMeterRegistry();
         job = new DailyAggregationJob(
                 dailyAggregateRepository, calculatorProfileService,
-                new AggregationProperties(), new SlaProperties(), new SimpleMeterRegistry());
+                new AggregationProperties(), new SlaProperties(),
+                new JobLeaseService(jobLeaseRepository, jobProperties, meterRegistry), jobProperties,
+                meterRegistry);
         job.registerGauges();
     }
 
@@ -51,24 +71,170 @@ class DailyAggregationJobTest {
         CalculatorProfile dailyScoped   = new CalculatorProfile("calc-1", "DAILY",   "1",  null, 120L, 0, 0, 5);
         CalculatorProfile dailyDim      = new CalculatorProfile("calc-1", "DAILY",   "1",  "WMAP", 130L, 0, 0, 4);
 
-        when(dailyAggregateRepository.findAllProfiles("DAILY", 30)).thenReturn(List.of(dailyBlended));
-        when(dailyAggregateRepository.findAllProfiles("MONTHLY", 395)).thenReturn(List.of(monthlyBlended));
-        when(dailyAggregateRepository.findAllProfilesByRunNumber(eq("DAILY"), anyInt()))
-                .thenReturn(List.of(dailyScoped));
-        when(dailyAggregateRepository.findAllProfilesByRunNumber(eq("MONTHLY"), anyInt()))
-                .thenReturn(List.of());
-        when(dailyAggregateRepository.findAllProfilesByRunNumberAndDimension(eq("DAILY"), anyInt()))
-                .thenReturn(List.of(dailyDim));
-        when(dailyAggregateRepository.findAllProfilesByRunNumberAndDimension(eq("MONTHLY"), anyInt()))
-                .thenReturn(List.of());
+        stream(dailyAggregateRepository.streamAllProfiles(eq("DAILY"), eq(30), any()), dailyBlended);
+        stream(dailyAggregateRepository.streamAllProfiles(eq("MONTHLY"), eq(395), any()), monthlyBlended);
+        stream(dailyAggregateRepository.streamAllProfilesByRunNumber(eq("DAILY"), anyInt(), any()), dailyScoped);
+        stream(dailyAggregateRepository.streamAllProfilesByRunNumberAndDimension(eq("DAILY"), anyInt(), any()), dailyDim);
 
         job.runDailyAggregation();
 
         verify(dailyAggregateRepository).recomputeForDateRange(eq(from), eq(today));
         // Third warming tier must be invoked for each frequency
-        verify(dailyAggregateRepository, times(2)).findAllProfilesByRunNumberAndDimension(anyString(), anyInt());
+        verify(dailyAggregateRepository, times(2)).streamAllProfilesByRunNumberAndDimension(anyString(), anyInt(), any());
         // Four profiles total warmed: blended daily, blended monthly, scoped daily, dim-scoped daily
-        verify(calculatorProfileService, times(4)).warm(org.mockito.ArgumentMatchers.any());
+        verify(calculatorProfileService, times(4)).warm(any());
         verify(calculatorProfileService).warm(dailyDim);
     }
+
+    @Test
+    void runDailyAggregation_failedScan_keepsWarmedProfilesAndRunsRemainingTiers() {
+        CalculatorProfile first = new CalculatorProfile("calc-1", "DAILY", null, null, 100L, 0, 0, 10);
+        CalculatorProfile dim = new CalculatorProfile("calc-1", "DAILY", "1", "WMAP", 130L, 0, 0, 4);
+
+        // Cursor breaks after the first blended row
+        when(dailyAggregateRepository.streamAllProfiles(eq("DAILY"), anyInt(), any())).thenAnswer(inv -> {
+            Consumer<CalculatorProfile> sink = inv.getArgument(2);
+            sink.accept(first);
+            throw new QueryTimeoutException("cursor closed");
+        });
+        stream(dailyAggregateRepository.streamAllProfilesByRunNumberAndDimension(eq("DAILY"), anyInt(), any()), dim);
+
+        job.runDailyAggregation();
+
+        verify(calculatorProfileService).warm(first);
+        verify(calculatorProfileService).warm(dim);
+        verify(dailyAggregateRepository, times(2)).streamAllProfilesByRunNumber(anyString(), anyInt(), any());
+    }
+
+    @Test
+    void runDailyAggregation_recomputeDoneByAnotherReplica_onlyWarmsUnclaimedShards() {
+        jobProperties.setEnabled(true);
+        String runKey = LocalDate.now(ZoneOffset.UTC).toString();
+        when(jobLeaseRepository.acquire(eq(DailyAggregationJob.RECOMPUTE_JOB), anyString(), any(), eq(runKey)))
+                .thenReturn(OptionalLong.empty());
+        when(jobLeaseRepository.isCompleted(DailyAggregationJob.RECOMPUTE_JOB, runKey)).thenReturn(true);
+        // Another replica already claimed every shard except DAILY.blended
+        when(jobLeaseRepository.acquire(startsWith(DailyAggregationJob.WARM_JOB + "."),
+                anyString(), any(), eq(runKey))).thenReturn(OptionalLong.empty());
+        when(jobLeaseRepository.acquire(eq(DailyAggregationJob.WARM_JOB + ".DAILY.blended"), anyString(), any(), eq(runKey)))
+                .thenReturn(OptionalLong.of(2L));
+        CalculatorProfile blended = new CalculatorProfile("calc-1", "DAILY", null, null, 100L, 0, 0, 10);
+        stream(dailyAggregateRepository.streamAllProfiles(eq("DAILY"), anyInt(), any()), blended);
+
+        job.runDailyAggregation();
+        verify(calculatorProfileService, never()).warm(any());
+        job.warmWhenRecomputed();
+
+        verify(dailyAggregateRepository, never()).recomputeForDateRange(any(), any());
+        verify(calculatorProfileService, times(1)).warm(blended);
+        verify(dailyAggregateRepository, never()).streamAllProfilesByRunNumber(anyString(), anyInt(), any());
+        verify(jobLeaseRepository).complete(DailyAggregationJob.WARM_JOB + ".DAILY.blended", 2L, runKey);
+    }
+
+    @Test
+    void runDailyAggregation_recomputeNotCompletedInTime_skipsWarming() {
+        jobProperties.setEnabled(true);
+        when(jobLeaseRepository.acquire(eq(DailyAggregationJob.RECOMPUTE_JOB), anyString(), any(), anyString()))
+                .thenReturn(OptionalLong.empty());
+
+        job.runDailyAggregation();
+        job.warmWhenRecomputed();
+        job.warmWhenRecomputed();
+
+        verify(dailyAggregateRepository, never()).recomputeForDateRange(any(), any());
+        verify(calculatorProfileService, never()).warm(any());
+        // Given up after the first timed-out check, not re-checked
+        verify(jobLeaseRepository, times(1)).isCompleted(eq(DailyAggregationJob.RECOMPUTE_JOB), anyString());
+        assertThat(meterRegistry.counter("obs.aggregation.execution", "result", "skipped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void warmWhenRecomputed_keepsWaitingOnLaterTicksWithoutBlocking() {
+        jobProperties.setEnabled(true);
+        jobProperties.setShardWaitSeconds(900);
+        String runKey = LocalDate.now(ZoneOffset.UTC).toString();
+        when(jobLeaseRepository.acquire(anyString(), anyString(), any(), eq(runKey)))
+                .thenReturn(OptionalLong.empty());
+        when(jobLeaseRepository.isCompleted(DailyAggregationJob.RECOMPUTE_JOB, runKey)).thenReturn(false, true);
+        when(jobLeaseRepository.isHeld(DailyAggregationJob.RECOMPUTE_JOB)).thenReturn(true);
+
+        job.runDailyAggregation();
+        job.warmWhenRecomputed();
+        verify(jobLeaseRepository, never()).acquire(startsWith(DailyAggregationJob.WARM_JOB + "."), anyString(), any(), any());
+
+        job.warmWhenRecomputed();
+        verify(jobLeaseRepository, times(6)).acquire(startsWith(DailyAggregationJob.WARM_JOB + "."), anyString(), any(), eq(runKey));
+
+        // Nothing pending any more: no further lease-table reads
+        job.warmWhenRecomputed();
+        verify(jobLeaseRepository, times(2)).isCompleted(DailyAggregationJob.RECOMPUTE_JOB, runKey);
+    }
+
+    @Test
+    void warmWhenRecomputed_recomputeReleasedByFailedHolder_retriesItHere() {
+        jobProperties.setEnabled(true);
+        jobProperties.setShardWaitSeconds(900);
+        String runKey = LocalDate.now(ZoneOffset.UTC).toString();
+        // Held elsewhere at the cron tick; the holder's recompute then fails and releases the lease
+        when(jobLeaseRepository.acquire(eq(DailyAggregationJob.RECOMPUTE_JOB), anyString(), any(), eq(runKey)))
+                .thenReturn(OptionalLong.empty(), OptionalLong.of(7L));
+        when(jobLeaseRepository.isCompleted(DailyAggregationJob.RECOMPUTE_JOB, runKey)).thenReturn(false);
+        when(jobLeaseRepository.isHeld(DailyAggregationJob.RECOMPUTE_JOB)).thenReturn(false);
+        when(jobLeaseRepository.fence(DailyAggregationJob.RECOMPUTE_JOB, 7L)).thenReturn(true);
+        when(jobLeaseRepository.acquire(startsWith(DailyAggregationJob.WARM_JOB + "."), anyString(), any(), eq(runKey)))
+                .thenReturn(OptionalLong.of(8L));
+
+        job.runDailyAggregation();
+        verify(dailyAggregateRepository, never()).recomputeForDateRange(any(), any());
+
+        job.warmWhenRecomputed();
+
+        verify(dailyAggregateRepository).recomputeForDateRange(any(), any());
+        verify(jobLeaseRepository).complete(DailyAggregationJob.RECOMPUTE_JOB, 7L, runKey);
+        verify(dailyAggregateRepository, times(2)).streamAllProfilesByRunNumberAndDimension(anyString(), anyInt(), any());
+    }
+
+    @Test
+    void runDailyAggregation_failedScan_releasesShardInsteadOfCompletingIt() {
+        jobProperties.setEnabled(true);
+        String runKey = LocalDate.now(ZoneOffset.UTC).toString();
+        when(jobLeaseRepository.acquire(eq(DailyAggregationJob.RECOMPUTE_JOB), anyString(), any(), eq(runKey)))
+                .thenReturn(OptionalLong.of(3L));
+        when(jobLeaseRepository.fence(DailyAggregationJob.RECOMPUTE_JOB, 3L)).thenReturn(true);
+        when(jobLeaseRepository.acquire(startsWith(DailyAggregationJob.WARM_JOB + "."), anyString(), any(), eq(runKey)))
+                .thenReturn(OptionalLong.of(5L));
+        when(dailyAggregateRepository.streamAllProfiles(anyString(), anyInt(), any()))
+                .thenThrow(new QueryTimeoutException("cursor closed"));
+
+        job.runDailyAggregation();
+
+        verify(jobLeaseRepository).release(DailyAggregationJob.WARM_JOB + ".DAILY.blended", 5L);
+        verify(jobLeaseRepository, never()).complete(eq(DailyAggregationJob.WARM_JOB + ".DAILY.blended"), anyLong(), any());
+        verify(jobLeaseRepository).complete(DailyAggregationJob.WARM_JOB + ".DAILY.dimension", 5L, runKey);
+    }
+
+    @Test
+    void runDailyAggregationNow_usesItsOwnRunKeySoACompletedNightlyRunDoesNotSkipIt() {
+        jobProperties.setEnabled(true);
+        String today = LocalDate.now(ZoneOffset.UTC).toString();
+        when(jobLeaseRepository.acquire(anyString(), anyString(), any(), startsWith(today + "#manual-")))
+                .thenReturn(OptionalLong.of(4L));
+        when(jobLeaseRepository.fence(DailyAggregationJob.RECOMPUTE_JOB, 4L)).thenReturn(true);
+
+        job.runDailyAggregationNow();
+
+        verify(dailyAggregateRepository).recomputeForDateRange(any(), any());
+        verify(dailyAggregateRepository, times(2)).streamAllProfilesByRunNumberAndDimension(anyString(), anyInt(), any());
+    }
+
+    /** Stubs a streaming scan to hand each profile to the sink and report the count. */
+    private static void stream(int scan, CalculatorProfile... profiles) {
+        when(scan).thenAnswer(inv -> {
+            Consumer<CalculatorProfile> sink = inv.getArgument(2);
+            for (CalculatorProfile profile : profiles) {
+                sink.accept(profile);
+            }
+            return profiles.length;
+        });
+    }
 }
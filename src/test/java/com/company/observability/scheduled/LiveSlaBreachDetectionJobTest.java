@@ -6,7 +6,9 @@ import com.company.observability.domain.enums.Frequency;
 import com.company.observability.domain.enums.RunStatus;
 import com.company.observability.domain.enums.SlaBand;
 import com.company.observability.event.SlaBreachedEvent;
+import com.company.observability.config.JobCoordinationProperties;
 import com.company.observability.repository.CalculatorRunRepository;
+import com.company.observability.service.coordination.JobLeaseService;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
@@ -36,6 +39,7 @@ class LiveSlaBreachDetectionJobTest {
     @Mock private SlaMonitoringCache slaMonitoringCache;
     @Mock private CalculatorRunRepository runRepository;
     @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private JobLeaseService jobLeases;
 
     private LiveSlaBreachDetectionJob job;
 
@@ -44,12 +48,35 @@ class LiveSlaBreachDetectionJobTest {
         job = new LiveSlaBreachDetectionJob(
                 slaMonitoringCache, runRepository, eventPublisher, new SimpleMeterRegistry(),
                 new com.company.observability.logging.LifecycleLogger(),
-                new com.company.observability.config.SlaProperties());
+                new com.company.observability.config.SlaProperties(), jobLeases, new JobCoordinationProperties());
         job.registerGauges();
+        lenient().when(jobLeases.lead(anyString(), any())).thenReturn(true);
         // lenient: only called by breach-detection tests that reach recordMetrics, not early-warning tests
         lenient().when(slaMonitoringCache.getMonitoredRunCount()).thenReturn(0L);
     }
 
+    // ---------------------------------------------------------------
+    // Job lease — only the lease holder runs
+    // ---------------------------------------------------------------
+
+    @Test
+    void detectBreaches_leaseHeldByAnotherReplica_skipsTick() {
+        when(jobLeases.lead(eq(LiveSlaBreachDetectionJob.DETECTION_JOB), any())).thenReturn(false);
+
+        job.detectLiveSlaBreaches();
+
+        verify(slaMonitoringCache, never()).getBreachedRuns();
+    }
+
+    @Test
+    void detectApproachingSla_leaseHeldByAnotherReplica_skipsTick() {
+        when(jobLeases.lead(eq(LiveSlaBreachDetectionJob.EARLY_WARNING_JOB), any())).thenReturn(false);
+
+        job.detectApproachingSla();
+
+        verify(slaMonitoringCache, never()).getApproachingSlaRuns(anyInt());
+    }
+
     // ---------------------------------------------------------------
     // detectLiveSlaBreaches — guard conditions (skip logic)
     // ---------------------------------------------------------------
@@ -1,6 +1,8 @@
 package com.company.observability.service;
 
 import com.company.observability.cache.AnalyticsCacheService;
+import com.company.observability.config.AnalyticsProperties;
+import com.company.observability.datasource.ReadYourWrites;
 import com.company.observability.domain.DailyAggregate;
 import com.company.observability.domain.RunWithSlaStatus;
 import com.company.observability.domain.SlaBreachEvent;
@@ -8,24 +10,34 @@ import com.company.observability.domain.enums.BreachType;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.domain.enums.RunStatus;
 import com.company.observability.domain.enums.SlaBand;
+import com.company.observability.dto.response.CalculatorCardResponse;
 import com.company.observability.dto.response.PagedResponse;
 import com.company.observability.dto.response.RunPerformanceData;
+import com.company.observability.dto.response.RuntimeAnalyticsResponse;
 import com.company.observability.dto.response.SlaBreachDetailResponse;
 import com.company.observability.dto.response.SlaSummaryResponse;
 import com.company.observability.dto.response.TrendAnalyticsResponse;
 import com.company.observability.repository.CalculatorRunRepository;
 import com.company.observability.repository.DailyAggregateRepository;
 import com.company.observability.repository.SlaBreachEventRepository;
+import com.company.observability.util.GzipUtils;
+import com.company.observability.util.WireFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -50,6 +62,9 @@ class AnalyticsServiceTest {
 
     private AnalyticsService service;
 
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final AnalyticsProperties analyticsProperties = new AnalyticsProperties();
+
     // Passthrough resolver — any unknown name maps to itself (no aliases configured)
     private final CalculatorNameResolver passthroughResolver = passthroughResolver();
 
@@ -62,7 +77,10 @@ class AnalyticsServiceTest {
                 cacheService,
                 calculatorProfileService,
                 new com.company.observability.config.SlaProperties(),
-                passthroughResolver
+                passthroughResolver,
+                objectMapper,
+                analyticsProperties,
+                Runnable::run
         );
     }
 
@@ -121,12 +139,9 @@ class AnalyticsServiceTest {
 
         when(dailyAggregateRepository.findRecentAggregates("calc-1", 30))
                 .thenReturn(List.of(aggregate));
-        when(slaBreachEventRepository.countByBand("calc-1", 30))
-                .thenReturn(Map.of("VERY_LATE", 2));
-        when(slaBreachEventRepository.countByType("calc-1", 30))
-                .thenReturn(Map.of("TIME_EXCEEDED", 2));
-        when(slaBreachEventRepository.findWorstDayHealthByDay("calc-1", 30))
-                .thenReturn(Map.of(day, "VERY_LATE"));
+        when(slaBreachEventRepository.summarizeBreaches("calc-1", 30))
+                .thenReturn(new SlaBreachEventRepository.BreachRollup(
+                        Map.of("VERY_LATE", 2), Map.of("TIME_EXCEEDED", 2), Map.of(day, "VERY_LATE")));
 
         SlaSummaryResponse response = service.getSlaSummary("calc-1", 30);
 
@@ -143,12 +158,9 @@ class AnalyticsServiceTest {
 
         when(dailyAggregateRepository.findRecentAggregates("calc-1", 7))
                 .thenReturn(List.of(aggregate));
-        when(slaBreachEventRepository.countByBand("calc-1", 7))
-                .thenReturn(Map.of("LATE", 1));
-        when(slaBreachEventRepository.countByType("calc-1", 7))
-                .thenReturn(Map.of("TIME_EXCEEDED", 1));
-        when(slaBreachEventRepository.findWorstDayHealthByDay("calc-1", 7))
-                .thenReturn(Map.of(day, "LATE"));
+        when(slaBreachEventRepository.summarizeBreaches("calc-1", 7))
+                .thenReturn(new SlaBreachEventRepository.BreachRollup(
+                        Map.of("LATE", 1), Map.of("TIME_EXCEEDED", 1), Map.of(day, "LATE")));
 
         TrendAnalyticsResponse response = service.getTrends("calc-1", 7);
 
@@ -156,6 +168,248 @@ class AnalyticsServiceTest {
         assertEquals("AMBER", response.trends().get(0).slaStatus());
     }
 
+    @Test
+    void getSlaSummary_executorSaturated_readsBreachRollupInline() {
+        AnalyticsService saturated = new AnalyticsService(
+                dailyAggregateRepository,
+                slaBreachEventRepository,
+                calculatorRunRepository,
+                cacheService,
+                calculatorProfileService,
+                new com.company.observability.config.SlaProperties(),
+                passthroughResolver(),
+                objectMapper,
+                analyticsProperties,
+                task -> { throw new java.util.concurrent.RejectedExecutionException("queue full"); }
+        );
+        when(dailyAggregateRepository.findRecentAggregates("calc-1", 30)).thenReturn(List.of());
+        when(slaBreachEventRepository.summarizeBreaches("calc-1", 30))
+                .thenReturn(new SlaBreachEventRepository.BreachRollup(
+                        Map.of("LATE", 3), Map.of("TIME_EXCEEDED", 3), Map.of()));
+
+        SlaSummaryResponse response = saturated.getSlaSummary("calc-1", 30);
+
+        assertEquals(3, response.totalBreaches());
+    }
+
+    @Test
+    void getCalculatorCard_cacheMiss_readsEachSourceOnceAndBuildsAllParts() {
+        LocalDate day = LocalDate.of(2026, 2, 20);
+        LocalDate asOf = LocalDate.of(2026, 2, 21);
+        DailyAggregate aggregate = new DailyAggregate(
+                "cap", day,
+                5, 4, 1, 1200L, 360, 390, null);
+        when(dailyAggregateRepository.findRecentAggregates("cap", 30))
+                .thenReturn(List.of(aggregate));
+        when(slaBreachEventRepository.summarizeBreaches("cap", 30))
+                .thenReturn(new SlaBreachEventRepository.BreachRollup(
+                        Map.of("VERY_LATE", 2), Map.of("TIME_EXCEEDED", 2), Map.of(day, "VERY_LATE")));
+        when(calculatorRunRepository.findRunsByName("cap", Frequency.DAILY, 30, null, asOf))
+                .thenReturn(List.of());
+
+        CalculatorCardResponse card = service.getCalculatorCard("cap", 30, Frequency.DAILY, null, asOf);
+
+        assertEquals(240L, card.runtime().avgDurationMs());
+        assertEquals(2, card.slaSummary().totalBreaches());
+        assertEquals(1, card.slaSummary().redDays());
+        assertEquals("RED", card.trends().trends().get(0).slaStatus());
+        assertEquals("cap", card.executions().calculatorId());
+        verify(dailyAggregateRepository, times(1)).findRecentAggregates("cap", 30);
+        verify(slaBreachEventRepository, times(1)).summarizeBreaches("cap", 30);
+        verify(cacheService).putInCache(
+                eq("card"), eq("cap"), eq("DAILY"), eq(30), isNull(), eq(asOf), same(card));
+    }
+
+    @Test
+    void getCalculatorCard_cacheMiss_readsFromPrimaryOnEveryThread() {
+        LocalDate asOf = LocalDate.of(2026, 2, 21);
+        java.util.concurrent.ExecutorService pool = java.util.concurrent.Executors.newFixedThreadPool(2);
+        AnalyticsService concurrent = new AnalyticsService(
+                dailyAggregateRepository,
+                slaBreachEventRepository,
+                calculatorRunRepository,
+                cacheService,
+                calculatorProfileService,
+                new com.company.observability.config.SlaProperties(),
+                passthroughResolver,
+                objectMapper,
+                analyticsProperties,
+                pool
+        );
+        List<Boolean> primaryOnly = new java.util.concurrent.CopyOnWriteArrayList<>();
+        when(dailyAggregateRepository.findRecentAggregates("cap", 30)).thenAnswer(inv -> {
+            primaryOnly.add(ReadYourWrites.primaryOnly());
+            return List.of();
+        });
+        when(slaBreachEventRepository.summarizeBreaches("cap", 30)).thenAnswer(inv -> {
+            primaryOnly.add(ReadYourWrites.primaryOnly());
+            return new SlaBreachEventRepository.BreachRollup(Map.of(), Map.of(), Map.of());
+        });
+        when(calculatorRunRepository.findRunsByName("cap", Frequency.DAILY, 30, null, asOf)).thenAnswer(inv -> {
+            primaryOnly.add(ReadYourWrites.primaryOnly());
+            return List.of();
+        });
+
+        try {
+            concurrent.getCalculatorCard("cap", 30, Frequency.DAILY, null, asOf);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // The card is cached under the current generation, so no part of it may come from a replica
+        assertEquals(List.of(true, true, true), primaryOnly);
+        assertFalse(ReadYourWrites.primaryOnly());
+    }
+
+    @Test
+    void getCalculatorCard_cacheHit_skipsAllReads() {
+        LocalDate asOf = LocalDate.of(2026, 2, 21);
+        CalculatorCardResponse cached = new CalculatorCardResponse("cap", 30, "DAILY", null, null, null, null);
+        when(cacheService.getFromCache("card", "cap", "DAILY", 30, "2", asOf, CalculatorCardResponse.class))
+                .thenReturn(cached);
+
+        assertSame(cached, service.getCalculatorCard("cap", 30, Frequency.DAILY, "2", asOf));
+        verifyNoInteractions(dailyAggregateRepository, slaBreachEventRepository, calculatorRunRepository);
+    }
+
+    @Test
+    void getRuntimeAnalyticsBatch_servesHitsAndComputesMissesWithOneQuery() {
+        LocalDate day = LocalDate.of(2026, 2, 20);
+        RuntimeAnalyticsResponse cachedB = new RuntimeAnalyticsResponse(
+                "b", 30, "DAILY", 1L, 1L, 1L, 1, 1.0, List.of());
+        when(cacheService.getAllFromCache(eq("runtime"), anyCollection(), eq("DAILY"), eq(30),
+                eq(RuntimeAnalyticsResponse.class)))
+                .thenReturn(Map.of("b", cachedB));
+        when(dailyAggregateRepository.findRecentAggregatesByNames(List.of("c", "a"), 30))
+                .thenReturn(Map.of("a", List.of(new DailyAggregate("a", day, 2, 2, 0, 600L, 0, 0, null))));
+
+        Map<String, RuntimeAnalyticsResponse> result =
+                service.getRuntimeAnalyticsBatch(List.of("c", "b", "a", "c"), 30, Frequency.DAILY);
+
+        assertEquals(List.of("c", "b", "a"), List.copyOf(result.keySet()));
+        assertSame(cachedB, result.get("b"));
+        assertEquals(300L, result.get("a").avgDurationMs());
+        assertEquals(0, result.get("c").totalRuns());
+        verify(dailyAggregateRepository, times(1)).findRecentAggregatesByNames(anyCollection(), anyInt());
+        verify(dailyAggregateRepository, never()).findRecentAggregates(anyString(), anyInt());
+        verify(cacheService).putAllInCache(eq("runtime"),
+                argThat(built -> built.keySet().equals(java.util.Set.of("a", "c"))),
+                eq("DAILY"), eq(30), eq(RuntimeAnalyticsResponse.class));
+    }
+
+    @Test
+    void getTrendsBatch_coreDataMisses_shareOneRollupAndOneAggregateQuery() {
+        LocalDate day = LocalDate.of(2026, 2, 20);
+        when(dailyAggregateRepository.findRecentAggregatesByNames(List.of("a", "b"), 30))
+                .thenReturn(Map.of(
+                        "a", List.of(new DailyAggregate("a", day, 1, 1, 1, 60L, 0, 0, null)),
+                        "b", List.of(new DailyAggregate("b", day, 1, 1, 0, 60L, 0, 0, null))));
+        when(slaBreachEventRepository.summarizeBreaches(List.of("a", "b"), 30))
+                .thenReturn(Map.of(
+                        "a", new SlaBreachEventRepository.BreachRollup(
+                                Map.of("LATE", 1), Map.of("TIME_EXCEEDED", 1), Map.of(day, "LATE")),
+                        "b", new SlaBreachEventRepository.BreachRollup(Map.of(), Map.of(), Map.of())));
+
+        Map<String, TrendAnalyticsResponse> result = service.getTrendsBatch(List.of("a", "b"), 30);
+
+        assertEquals("AMBER", result.get("a").trends().get(0).slaStatus());
+        assertEquals("GREEN", result.get("b").trends().get(0).slaStatus());
+        verify(slaBreachEventRepository, never()).summarizeBreaches(anyString(), anyInt());
+        verify(dailyAggregateRepository, never()).findRecentAggregates(anyString(), anyInt());
+        verify(cacheService).putAllInCache(eq("sla-core"), anyMap(), eq(30), any());
+        verify(cacheService).putAllInCache(eq("trends"), anyMap(), eq(30), eq(TrendAnalyticsResponse.class));
+    }
+
+    @Test
+    void getSlaSummaryBatch_multiAlias_mergesRealCalculatorsUnderRequestedKey() {
+        CalculatorProperties props = new CalculatorProperties();
+        props.setAliases(Map.of("capital", List.of("capitalcalc", "capitalcalcmedium")));
+        AnalyticsService aliasService = new AnalyticsService(
+                dailyAggregateRepository,
+                slaBreachEventRepository,
+                calculatorRunRepository,
+                cacheService,
+                calculatorProfileService,
+                new com.company.observability.config.SlaProperties(),
+                new CalculatorNameResolver(props),
+                objectMapper,
+                analyticsProperties,
+                Runnable::run
+        );
+        LocalDate day = LocalDate.of(2026, 2, 20);
+        List<String> realNames = List.of("capitalcalc", "capitalcalcmedium", "other");
+        when(dailyAggregateRepository.findRecentAggregatesByNames(realNames, 30))
+                .thenReturn(Map.of(
+                        "capitalcalc", List.of(new DailyAggregate("capitalcalc", day, 1, 1, 1, 60L, 0, 0, null)),
+                        "capitalcalcmedium", List.of(new DailyAggregate("capitalcalcmedium", day, 1, 1, 1, 60L, 0, 0, null))));
+        when(slaBreachEventRepository.summarizeBreaches(realNames, 30))
+                .thenReturn(Map.of(
+                        "capitalcalc", new SlaBreachEventRepository.BreachRollup(
+                                Map.of("LATE", 1), Map.of("TIME_EXCEEDED", 1), Map.of(day, "LATE")),
+                        "capitalcalcmedium", new SlaBreachEventRepository.BreachRollup(
+                                Map.of("FAILED", 1), Map.of("TIME_EXCEEDED", 1), Map.of(day, "FAILED")),
+                        "other", new SlaBreachEventRepository.BreachRollup(Map.of(), Map.of(), Map.of())));
+
+        Map<String, SlaSummaryResponse> result = aliasService.getSlaSummaryBatch(List.of("capital", "other"), 30);
+
+        assertEquals(List.of("capital", "other"), List.copyOf(result.keySet()));
+        SlaSummaryResponse capital = result.get("capital");
+        assertEquals("capital", capital.calculatorId());
+        assertEquals(2, capital.totalBreaches());
+        assertEquals(1, capital.redDays());
+        assertEquals(Map.of("TIME_EXCEEDED", 2), capital.breachesByType());
+        assertEquals(0, result.get("other").totalBreaches());
+    }
+
+    @Test
+    void getRuntimeAnalytics_multiAlias_sumsRealCalculatorsPerDay() {
+        CalculatorProperties props = new CalculatorProperties();
+        props.setAliases(Map.of("capital", List.of("capitalcalc", "capitalcalcmedium")));
+        AnalyticsService aliasService = new AnalyticsService(
+                dailyAggregateRepository,
+                slaBreachEventRepository,
+                calculatorRunRepository,
+                cacheService,
+                calculatorProfileService,
+                new com.company.observability.config.SlaProperties(),
+                new CalculatorNameResolver(props),
+                objectMapper,
+                analyticsProperties,
+                Runnable::run
+        );
+        LocalDate older = LocalDate.of(2026, 2, 19);
+        LocalDate newer = LocalDate.of(2026, 2, 20);
+        when(dailyAggregateRepository.findRecentAggregatesByNames(List.of("capitalcalc", "capitalcalcmedium"), 30))
+                .thenReturn(Map.of(
+                        "capitalcalc", List.of(
+                                new DailyAggregate("capitalcalc", newer, 1, 1, 0, 100L, 0, 0, null),
+                                new DailyAggregate("capitalcalc", older, 1, 1, 0, 100L, 0, 0, null)),
+                        "capitalcalcmedium", List.of(
+                                new DailyAggregate("capitalcalcmedium", newer, 3, 2, 0, 500L, 0, 0, null))));
+
+        RuntimeAnalyticsResponse result = aliasService.getRuntimeAnalytics("capital", 30, Frequency.DAILY);
+
+        assertEquals("capital", result.calculatorId());
+        assertEquals(5, result.totalRuns());
+        assertEquals(List.of(newer, older), result.dataPoints().stream()
+                .map(RuntimeAnalyticsResponse.DailyDataPoint::date).toList());
+        assertEquals(150L, result.dataPoints().get(0).avgDurationMs());
+        assertEquals(4, result.dataPoints().get(0).totalRuns());
+        verify(dailyAggregateRepository, never()).findRecentAggregates(anyString(), anyInt());
+        verify(cacheService).putInCache(eq("runtime"), eq("capital"), eq("DAILY"), eq(30), same(result));
+    }
+
+    @Test
+    void getSlaSummaryBatch_allCached_skipsDatabase() {
+        SlaSummaryResponse cached = new SlaSummaryResponse("a", 30, 0, 1, 0, 0, Map.of(), Map.of());
+        when(cacheService.getAllFromCache(eq("sla-summary"), anyCollection(), eq(30), eq(SlaSummaryResponse.class)))
+                .thenReturn(Map.of("a", cached));
+
+        assertSame(cached, service.getSlaSummaryBatch(List.of("a"), 30).get("a"));
+        verifyNoInteractions(dailyAggregateRepository, slaBreachEventRepository);
+        verify(cacheService, never()).putAllInCache(anyString(), anyMap(), anyInt(), any());
+    }
+
     @Test
     void getRunPerformanceData_includesRunningRows_butExcludesThemFromSlaCounts() {
         LocalDate day = LocalDate.of(2026, 2, 21);
@@ -440,7 +694,10 @@ class AnalyticsServiceTest {
                 cacheService,
                 calculatorProfileService,
                 new com.company.observability.config.SlaProperties(),
-                new CalculatorNameResolver(props)
+                new CalculatorNameResolver(props),
+                objectMapper,
+                analyticsProperties,
+                Runnable::run
         );
 
         when(cacheService.getFromCache(any(), eq("capital"), any(), anyInt(), any(), any(), any()))
@@ -486,7 +743,10 @@ class AnalyticsServiceTest {
                 cacheService,
                 calculatorProfileService,
                 new com.company.observability.config.SlaProperties(),
-                new CalculatorNameResolver(props)
+                new CalculatorNameResolver(props),
+                objectMapper,
+                analyticsProperties,
+                Runnable::run
         );
 
         when(cacheService.getFromCache(any(), eq("portfolio"), any(), anyInt(), any(), any(), any()))
@@ -501,6 +761,145 @@ class AnalyticsServiceTest {
         verify(cacheService).putInCache(eq("executions"), eq("portfolio"), any(), anyInt(), any(), any(LocalDate.class), any());
     }
 
+    // ── Streamed variants ─────────────────────────────────────────────────────
+
+    @Test
+    void isStreamingWindow_usesConfiguredThreshold() {
+        analyticsProperties.setStreamingMinDays(90);
+
+        assertFalse(service.isStreamingWindow(89));
+        assertTrue(service.isStreamingWindow(90));
+    }
+
+    @Test
+    void streamRunPerformanceData_writesSameDocumentAsMaterialisedPath_andCachesIt() throws Exception {
+        LocalDate day = LocalDate.of(2026, 2, 21);
+        Instant start = Instant.parse("2026-02-21T04:00:00Z");
+        Instant mid = Instant.parse("2026-02-21T04:03:00Z");
+        Instant end = Instant.parse("2026-02-21T04:09:00Z");
+        Instant slaTime = Instant.parse("2026-02-21T06:15:00Z");
+
+        RunWithSlaStatus splitA = new RunWithSlaStatus(
+                "run-1", "calc-1", "Calculator One", day, start, mid, 180000L,
+                slaTime, start, Frequency.DAILY, RunStatus.SUCCESS, null, null, "corr-1", null, null);
+        RunWithSlaStatus standalone = new RunWithSlaStatus(
+                "run-2", "calc-1", "Calculator One", day, start, end, 540000L,
+                slaTime, start, Frequency.DAILY, RunStatus.SUCCESS, SlaBand.LATE, "late", null, null, null);
+        RunWithSlaStatus splitB = new RunWithSlaStatus(
+                "run-3", "calc-1", "Calculator One", day, mid, end, 360000L,
+                slaTime, start, Frequency.DAILY, RunStatus.FAILED, SlaBand.VERY_LATE, "late", "corr-1", null, null);
+        RunWithSlaStatus running = new RunWithSlaStatus(
+                "run-4", "calc-1", "Calculator One", day.plusDays(1), start, null, null,
+                slaTime.plusSeconds(86400), start, Frequency.DAILY, RunStatus.RUNNING, null, null, null, null, null);
+
+        when(calculatorRunRepository.findRunsWithSlaStatus("calc-1", Frequency.DAILY, 120))
+                .thenReturn(List.of(splitA, standalone, splitB, running));
+        // Streaming query order: splits of one correlation contiguous, groups by first split
+        when(calculatorRunRepository.streamRunsWithSlaStatus(eq("calc-1"), eq(Frequency.DAILY), eq(120), any()))
+                .thenAnswer(inv -> {
+                    Consumer<RunWithSlaStatus> consumer = inv.getArgument(3);
+                    List.of(splitA, splitB, standalone, running).forEach(consumer);
+                    return running;
+                });
+
+        RunPerformanceData materialised = service.getRunPerformanceData("calc-1", 120, Frequency.DAILY);
+
+        RecordingResponseTarget target = RecordingResponseTarget.json();
+        service.streamRunPerformanceData("calc-1", 120, Frequency.DAILY, target);
+
+        assertEquals(materialised, objectMapper.readValue(target.bytes(), RunPerformanceData.class));
+        assertEquals(Boolean.FALSE, target.gzipEncoded);
+        ArgumentCaptor<byte[]> cached = ArgumentCaptor.forClass(byte[].class);
+        verify(cacheService).putCompressedInCache(eq("run-perf"), eq("calc-1"), eq("DAILY"), eq(120), cached.capture());
+        assertArrayEquals(target.bytes(), GzipUtils.gunzip(cached.getValue()));
+
+        // CBOR carries the same document; it is not cached (the cache holds JSON only)
+        RecordingResponseTarget cbor = new RecordingResponseTarget(WireFormat.CBOR, true);
+        service.streamRunPerformanceData("calc-1", 120, Frequency.DAILY, cbor);
+
+        assertEquals(materialised, cborMapper().readValue(cbor.bytes(), RunPerformanceData.class));
+        assertEquals(Boolean.FALSE, cbor.gzipEncoded);
+        verify(cacheService, times(1)).putCompressedInCache(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void streamRunPerformanceData_cacheHit_writesStoredGzipWithoutQuerying() throws Exception {
+        byte[] stored = GzipUtils.gzip("{\"runs\":[]}".getBytes(StandardCharsets.UTF_8));
+        when(cacheService.getCompressedFromCache("run-perf", "calc-1", "DAILY", 120)).thenReturn(stored);
+
+        RecordingResponseTarget gzipped = new RecordingResponseTarget(WireFormat.JSON, true);
+        service.streamRunPerformanceData("calc-1", 120, Frequency.DAILY, gzipped);
+        assertArrayEquals(stored, gzipped.bytes());
+        assertEquals(Boolean.TRUE, gzipped.gzipEncoded);
+
+        RecordingResponseTarget plain = RecordingResponseTarget.json();
+        service.streamRunPerformanceData("calc-1", 120, Frequency.DAILY, plain);
+        assertEquals("{\"runs\":[]}", new String(plain.bytes(), StandardCharsets.UTF_8));
+        assertEquals(Boolean.FALSE, plain.gzipEncoded);
+
+        RecordingResponseTarget cbor = new RecordingResponseTarget(WireFormat.CBOR, true);
+        service.streamRunPerformanceData("calc-1", 120, Frequency.DAILY, cbor);
+        assertEquals(objectMapper.readTree("{\"runs\":[]}"), cborMapper().readTree(cbor.bytes()));
+        assertEquals(Boolean.FALSE, cbor.gzipEncoded);
+
+        verifyNoInteractions(calculatorRunRepository);
+        verify(cacheService, never()).putCompressedInCache(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void streamRunPerformanceData_oversizedDocument_isServedButNotCached() throws Exception {
+        analyticsProperties.setStreamingCacheMaxBytes(16);
+        when(calculatorRunRepository.streamRunsWithSlaStatus(eq("calc-1"), eq(Frequency.DAILY), eq(120), any()))
+                .thenReturn(null);
+
+        RecordingResponseTarget target = RecordingResponseTarget.json();
+        service.streamRunPerformanceData("calc-1", 120, Frequency.DAILY, target);
+
+        RunPerformanceData result = objectMapper.readValue(target.bytes(), RunPerformanceData.class);
+        assertTrue(result.runs().isEmpty());
+        assertNull(result.calculatorName());
+        verify(cacheService, never()).putCompressedInCache(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void streamRunExecutionsByName_writesSameDocumentAsMaterialisedPath() throws Exception {
+        LocalDate asOf = LocalDate.of(2026, 5, 12);
+        Instant start = Instant.parse("2026-05-11T04:00:00Z");
+        Instant end = Instant.parse("2026-05-11T04:10:00Z");
+        Instant slaTime = Instant.parse("2026-05-11T06:30:00Z");
+
+        RunWithSlaStatus first = new RunWithSlaStatus(
+                "run-1", "calc-1", "cap", asOf.minusDays(1), start, end, 600000L,
+                slaTime, start, Frequency.DAILY, RunStatus.SUCCESS, null, null, null, "1", 500000L);
+        RunWithSlaStatus second = new RunWithSlaStatus(
+                "run-2", "calc-1", "cap", asOf, start.plusSeconds(86400), null, null,
+                slaTime.plusSeconds(86400), start, Frequency.DAILY, RunStatus.RUNNING, null, null, null, "1", 500000L);
+
+        when(calculatorRunRepository.findRunsByName("cap", Frequency.DAILY, 120, "1", asOf))
+                .thenReturn(List.of(first, second));
+        when(calculatorRunRepository.streamRunsByNames(eq(List.of("cap")), eq(Frequency.DAILY), eq(120), eq("1"), eq(asOf), any()))
+                .thenAnswer(inv -> {
+                    Consumer<RunWithSlaStatus> consumer = inv.getArgument(5);
+                    consumer.accept(first);
+                    consumer.accept(second);
+                    return second;
+                });
+        when(calculatorProfileService.getProfile("cap", Frequency.DAILY))
+                .thenReturn(new com.company.observability.domain.CalculatorProfile("cap", "DAILY", null, null, 0, 0, 0, 0));
+
+        RunPerformanceData materialised = service.getRunExecutionsByName("cap", 120, Frequency.DAILY, "1", asOf);
+
+        RecordingResponseTarget target = RecordingResponseTarget.json();
+        service.streamRunExecutionsByName("cap", 120, Frequency.DAILY, "1", asOf, target);
+
+        assertEquals(materialised, objectMapper.readValue(target.bytes(), RunPerformanceData.class));
+        verify(cacheService).putCompressedInCache(eq("executions"), eq("cap"), eq("DAILY"), eq(120), eq("1"), eq(asOf), any());
+    }
+
+    private ObjectMapper cborMapper() {
+        return objectMapper.copyWith(new CBORFactory());
+    }
+
     private SlaBreachEvent breach(long breachId, Instant createdAt) {
         return SlaBreachEvent.builder()
                 .breachId(breachId)
@@ -5,6 +5,8 @@ import com.company.observability.config.SlaProperties;
 import com.company.observability.domain.CalculatorProfile;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.repository.DailyAggregateRepository;
+import com.company.observability.repository.DailyAggregateRepository.ProfileScope;
+import com.company.observability.service.CalculatorProfileService.ProfileKey;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,17 +14,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -214,4 +223,75 @@ class CalculatorProfileServiceTest {
 
         verify(valueOps).set(eq(DIM_KEY), eq(json(dimProfile)), any(Duration.class));
     }
+
+    // ── Bulk lookup ───────────────────────────────────────────────────────
+
+    private static final String DIM_WMDE_KEY = "obs:profile:calc-1:DAILY:1:WMDE";
+
+    private static final ProfileKey WMAP = new ProfileKey("calc-1", Frequency.DAILY, "1", "WMAP");
+    private static final ProfileKey WMDE = new ProfileKey("calc-1", Frequency.DAILY, "1", "WMDE");
+
+    @Test
+    void getProfiles_allHit_oneMgetCoversEveryLevelAndNoDbCall() {
+        ProfileKey blendedKey = new ProfileKey("calc-1", Frequency.DAILY, null, null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.multiGet(List.of(DIM_KEY, SCOPED_KEY, BLENDED_KEY)))
+                .thenReturn(List.of(json(dimProfile), json(scoped), json(blended)));
+
+        Map<ProfileKey, CalculatorProfile> result = service.getProfiles(List.of(WMAP, blendedKey));
+
+        assertThat(result).containsEntry(WMAP, dimProfile).containsEntry(blendedKey, blended);
+        verify(valueOps, times(1)).multiGet(anyList());
+        verifyNoInteractions(dailyAggregateRepository);
+    }
+
+    @Test
+    void getProfiles_thinDimensions_fallBackToCachedScopedProfile() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.multiGet(List.of(DIM_KEY, SCOPED_KEY, BLENDED_KEY, DIM_WMDE_KEY)))
+                .thenReturn(Arrays.asList(null, json(scoped), json(blended), null));
+        when(dailyAggregateRepository.findProfiles(List.of(
+                new ProfileScope("calc-1", "DAILY", 30, "1", "WMAP"),
+                new ProfileScope("calc-1", "DAILY", 30, "1", "WMDE"))))
+                .thenReturn(List.of(new CalculatorProfile("calc-1", "DAILY", "1", "WMAP", 0, 0, 0, 0),
+                        new CalculatorProfile("calc-1", "DAILY", "1", "WMDE", 0, 0, 0, 0)));
+
+        Map<ProfileKey, CalculatorProfile> result = service.getProfiles(List.of(WMAP, WMDE));
+
+        assertThat(result).containsEntry(WMAP, scoped).containsEntry(WMDE, scoped);
+        verify(valueOps, times(1)).multiGet(anyList());
+        // Thin dimension profiles are not written back
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void getProfiles_missesAcrossLevels_oneDbQueryAndOneWriteBack() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.multiGet(anyList())).thenReturn(Arrays.asList(null, null, null, null));
+        when(dailyAggregateRepository.findProfiles(anyList())).thenAnswer(inv -> {
+            List<ProfileScope> scopes = inv.getArgument(0);
+            return scopes.stream().map(s -> "WMAP".equals(s.dimensionValue()) ? dimProfile
+                    : s.dimensionValue() != null ? new CalculatorProfile("calc-1", "DAILY", "1", "WMDE", 0, 0, 0, 0)
+                    : s.runNumber() != null ? scoped : blended).toList();
+        });
+
+        Map<ProfileKey, CalculatorProfile> result = service.getProfiles(List.of(WMAP, WMDE));
+
+        assertThat(result).containsEntry(WMAP, dimProfile).containsEntry(WMDE, scoped);
+        verify(dailyAggregateRepository, times(1)).findProfiles(anyList());
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void getProfiles_redisDown_resolvesFromDb() {
+        ProfileKey scopedKey = new ProfileKey("calc-1", Frequency.DAILY, "1", null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.multiGet(anyList())).thenThrow(new RuntimeException("redis down"));
+        when(dailyAggregateRepository.findProfiles(anyList())).thenReturn(List.of(
+                new CalculatorProfile("calc-1", "DAILY", "1", null, 0, 0, 0, 0), blended));
+
+        Map<ProfileKey, CalculatorProfile> result = service.getProfiles(List.of(scopedKey));
+
+        assertThat(result).containsEntry(scopedKey, blended);
+    }
 }
@@ -1,14 +1,20 @@
 package com.company.observability.service;
 
 import com.company.observability.cache.CalculatorStateCacheService;
+import com.company.observability.cache.ChangeVersionService;
+import com.company.observability.cache.DaySnapshotService;
 import com.company.observability.config.SlaProperties;
+import com.company.observability.datasource.ReadYourWrites;
 import com.company.observability.domain.CalculatorProfile;
 import com.company.observability.domain.CalculatorRun;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.domain.enums.SlaBand;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
 import com.company.observability.repository.CalculatorRunRepository;
+import com.company.observability.service.CalculatorProfileService.ProfileKey;
+import com.company.observability.service.live.LiveRunStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,10 +23,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,9 +44,23 @@ class CalculatorStateServiceTest {
     @Mock
     CalculatorProfileService profileService;
 
+    @Mock
+    ChangeVersionService changeVersions;
+
+    @Mock
+    LiveRunStore liveRuns;
+
+    @Mock
+    DaySnapshotService snapshots;
+
     // Real SlaProperties — still needed for getMinSampleSize() (profile estimation path).
     CalculatorStateService service;
 
+    private record LatestKey(String name, Frequency frequency, String runNumber) {}
+
+    private final Map<ProfileKey, CalculatorProfile> profiles = new HashMap<>();
+    private final Map<LatestKey, CalculatorRun> latestRuns = new HashMap<>();
+
     private static final LocalDate DATE = LocalDate.of(2026, 3, 6);
     private static final Frequency FREQ = Frequency.DAILY;
     private static final String FREQ_NAME = "DAILY";
@@ -58,15 +78,30 @@ class CalculatorStateServiceTest {
     void setUp() {
         service = new CalculatorStateService(
                 runRepository, new SlaProperties(),
-                stateCache, profileService);
+                stateCache, profileService, changeVersions, liveRuns, snapshots);
         // Default: cache returns no hits (all misses) so DB is called — matches all pre-existing tests
-        lenient().when(stateCache.getEntries(any(), anyString(), any(), any()))
+        lenient().when(stateCache.getEntries(any(), anyString(), any(), any(), any()))
                 .thenReturn(new HashMap<>());
-        // Default: no profile history and no fallback run — empty-runs case returns empty entry
-        lenient().when(profileService.getProfile(anyString(), any(Frequency.class), any()))
-                .thenReturn(NO_HISTORY_PROFILE);
-        lenient().when(runRepository.findLatestRunEstimatesByName(anyString(), any(Frequency.class), any()))
-                .thenReturn(Optional.empty());
+        // Default: no profile history and no fallback run — empty-runs case returns empty entry.
+        // Bulk lookups answer from the per-test stubs below.
+        lenient().when(profileService.getProfiles(anyCollection())).thenAnswer(inv -> {
+            Map<ProfileKey, CalculatorProfile> resolved = new HashMap<>();
+            for (ProfileKey key : inv.<Collection<ProfileKey>>getArgument(0)) {
+                resolved.put(key, profiles.getOrDefault(key, NO_HISTORY_PROFILE));
+            }
+            return resolved;
+        });
+        lenient().when(runRepository.findLatestRunEstimatesByNames(anyCollection(), any(Frequency.class), any()))
+                .thenAnswer(inv -> {
+                    Map<String, CalculatorRun> found = new HashMap<>();
+                    for (String name : inv.<Collection<String>>getArgument(0)) {
+                        CalculatorRun run = latestRuns.get(new LatestKey(name, inv.getArgument(1), inv.getArgument(2)));
+                        if (run != null) {
+                            found.put(name, run);
+                        }
+                    }
+                    return found;
+                });
     }
 
     @Test
@@ -114,6 +149,30 @@ class CalculatorStateServiceTest {
         assertThat(entries.get(0).isRerun()).isTrue();
     }
 
+    @Test
+    void interleavedRows_groupedByCorrelationAndDimension_latestAttemptAndEarliestSplitWin() {
+        CalculatorRun wmapRetry = buildRun("cap", "r-wmap-2", RunStatus.SUCCESS, "WMAP", "EOD", "1", null, T_MINUS_1, NOW, SLA_TIME);
+        CalculatorRun splitLate = buildRun("cap", "r-s2", RunStatus.SUCCESS, "WMDE", null, "1", "corr-1", T_MINUS_2, NOW, SLA_TIME);
+        CalculatorRun wmapFirst = buildRun("cap", "r-wmap-1", RunStatus.FAILED, "WMAP", "EOD", "1", null, T_MINUS_3, T_MINUS_2, SLA_TIME);
+        CalculatorRun wmapOtherType = buildRun("cap", "r-wmap-sod", RunStatus.SUCCESS, "WMAP", "SOD", "1", null, T_MINUS_3, T_MINUS_2, SLA_TIME);
+        CalculatorRun splitEarly = buildRun("cap", "r-s1", RunStatus.SUCCESS, "WMDE", null, "1", "corr-1", T_MINUS_3, T_MINUS_1, SLA_TIME);
+        splitLate.setSlaBand(SlaBand.LATE);
+        splitLate.setSlaBreachReason("late");
+
+        when(runRepository.findAllRunsByDateAndDimension(eq(DATE), eq(FREQ), eq("1"), any()))
+                .thenReturn(List.of(wmapRetry, splitLate, wmapFirst, wmapOtherType, splitEarly));
+
+        var entries = service.getState(DATE, FREQ, "1", List.of("cap")).get("cap").runs();
+
+        assertThat(entries).extracting(CalculatorBatchRunsResponse.RunEntry::runId)
+                .containsExactly("r-s1", "r-wmap-2", "r-wmap-sod");
+        assertThat(entries.get(0).slaStatus()).isEqualTo("LATE");
+        assertThat(entries.get(0).slaBreachReason()).isEqualTo("late");
+        assertThat(entries.get(0).endTime()).isEqualTo(NOW);
+        assertThat(entries.get(1).isRerun()).isTrue();
+        assertThat(entries.get(2).isRerun()).isFalse();
+    }
+
     @Test
     void regionalRunsGroupedUnderOneCalculatorId() {
         List<CalculatorRun> dbRuns = List.of(
@@ -229,7 +288,7 @@ class CalculatorStateServiceTest {
     @Test
     void fullCacheHit_skipsDbCall() {
         CalculatorEntry cachedEntry = new CalculatorEntry("cap", null, List.of());
-        when(stateCache.getEntries(eq(DATE), eq(FREQ_NAME), isNull(), eq(List.of("cap"))))
+        when(stateCache.getEntries(eq(DATE), eq(FREQ_NAME), isNull(), eq(List.of("cap")), any()))
                 .thenReturn(Map.of("cap", cachedEntry));
 
         Map<String, CalculatorEntry> result = service.getState(DATE, FREQ, null, List.of("cap"));
@@ -244,7 +303,7 @@ class CalculatorStateServiceTest {
                 null, T_MINUS_3, T_MINUS_1, SLA_TIME);
         CalculatorEntry cachedEntry = new CalculatorEntry("cap", null, List.of());
 
-        when(stateCache.getEntries(eq(DATE), eq(FREQ_NAME), eq("1"), eq(List.of("cap", "other"))))
+        when(stateCache.getEntries(eq(DATE), eq(FREQ_NAME), eq("1"), eq(List.of("cap", "other")), any()))
                 .thenReturn(new HashMap<>(Map.of("cap", cachedEntry)));
         when(runRepository.findAllRunsByDateAndDimension(eq(DATE), eq(FREQ), eq("1"), eq(List.of("other"))))
                 .thenReturn(List.of(run));
@@ -266,7 +325,7 @@ class CalculatorStateServiceTest {
 
         // The empty-runs entry must be stored so a subsequent request hits cache, not DB
         verify(stateCache).putEntries(eq(DATE), eq(FREQ_NAME), isNull(), argThat(m ->
-                m.containsKey("missing-calc") && m.get("missing-calc").runs().isEmpty()));
+                m.containsKey("missing-calc") && m.get("missing-calc").runs().isEmpty()), any());
     }
 
     @Test
@@ -277,10 +336,118 @@ class CalculatorStateServiceTest {
         service.getState(DATE, FREQ, "  ", List.of("calc"));
 
         // Blank must normalise to null before reaching cache and repo
-        verify(stateCache).getEntries(eq(DATE), eq(FREQ_NAME), isNull(), any());
+        verify(stateCache).getEntries(eq(DATE), eq(FREQ_NAME), isNull(), any(), any());
         verify(runRepository).findAllRunsByDateAndDimension(eq(DATE), eq(FREQ), isNull(), any());
     }
 
+    @Test
+    void versionedFill_readsFromThePrimary_unversionedFill_getsReadYourWrites() {
+        List<Boolean> primaryOnly = new java.util.ArrayList<>();
+        List<Collection<String>> scopes = new java.util.ArrayList<>();
+        when(runRepository.findAllRunsByDateAndDimension(any(), any(), any(), any())).thenAnswer(inv -> {
+            primaryOnly.add(ReadYourWrites.primaryOnly());
+            scopes.add(ReadYourWrites.current());
+            return List.of();
+        });
+
+        service.getState(DATE, FREQ, "1", List.of("cap"), Map.of("cap", 4L));
+        service.getState(DATE, FREQ, "1", List.of("other"), null);
+
+        assertThat(primaryOnly).containsExactly(true, false);
+        assertThat(scopes.get(1)).containsExactly("other");
+        assertThat(ReadYourWrites.current()).isNull();
+    }
+
+    // ── Change versions ─────────────────────────────────────────────────────
+
+    @Test
+    void getVersions_tokenChangesWhenAnyVersionChanges() {
+        when(changeVersions.getVersions(DATE, FREQ_NAME, List.of("a", "b")))
+                .thenReturn(Map.of("a", 1L, "b", 0L), Map.of("a", 1L, "b", 1L));
+
+        var before = service.getVersions(DATE, FREQ, List.of("a", "b"));
+        var after = service.getVersions(DATE, FREQ, List.of("a", "b"));
+
+        assertThat(before.byName()).containsEntry("a", 1L);
+        assertThat(before.token()).isNotEqualTo(after.token());
+    }
+
+    @Test
+    void getVersions_redisUnavailable_returnsNullAndStateBypassesCacheVersions() {
+        when(changeVersions.getVersions(any(), anyString(), any())).thenReturn(null);
+        when(runRepository.findAllRunsByDateAndDimension(any(), any(), any(), any())).thenReturn(List.of());
+
+        assertThat(service.getVersions(DATE, FREQ, List.of("calc"))).isNull();
+        service.getState(DATE, FREQ, null, List.of("calc"));
+
+        verify(stateCache).getEntries(eq(DATE), eq(FREQ_NAME), isNull(), any(), isNull());
+    }
+
+    // ── Live store ──────────────────────────────────────────────────────────
+
+    @Test
+    void getState_hotDate_answersFromLiveStoreAndLeavesRestToCache() {
+        Map<String, Long> versions = Map.of("live", 3L, "other", 1L);
+        when(liveRuns.covers(DATE)).thenReturn(true);
+        when(liveRuns.findRuns(DATE, FREQ, null, versions)).thenReturn(Map.of("live", List.of(
+                buildRun("live", "r1", RunStatus.SUCCESS, "WMAP", "ETD", "1", null, T_MINUS_3, T_MINUS_2, SLA_TIME))));
+        when(runRepository.findAllRunsByDateAndDimension(DATE, FREQ, null, List.of("other")))
+                .thenReturn(List.of(buildRun("other", "r2", RunStatus.RUNNING, "WMAP", "ETD", "1", null, T_MINUS_1, null, SLA_TIME)));
+
+        Map<String, CalculatorEntry> result = service.getState(DATE, FREQ, null, List.of("live", "other"), versions);
+
+        assertThat(result.get("live").runs()).singleElement()
+                .satisfies(entry -> assertThat(entry.runId()).isEqualTo("r1"));
+        assertThat(result.get("other").runs()).singleElement()
+                .satisfies(entry -> assertThat(entry.runId()).isEqualTo("r2"));
+        verify(stateCache).getEntries(DATE, FREQ_NAME, null, List.of("other"), versions);
+        verify(stateCache).putEntries(eq(DATE), eq(FREQ_NAME), isNull(),
+                argThat(entries -> entries.keySet().equals(java.util.Set.of("other"))), eq(versions));
+    }
+
+    @Test
+    void getState_versionsUnavailable_skipsLiveStore() {
+        when(runRepository.findAllRunsByDateAndDimension(any(), any(), any(), any())).thenReturn(List.of());
+
+        service.getState(DATE, FREQ, null, List.of("calc"), null);
+
+        verify(liveRuns, never()).findRuns(any(), any(), any(), any());
+    }
+
+    @Test
+    void getState_settledDate_servesSnapshotsAndSkipsLiveStore() {
+        Map<String, Long> versions = Map.of("snap", 4L);
+        CalculatorEntry snapshot = new CalculatorEntry("snap", "snap-id", List.of());
+        when(snapshots.isSettled(DATE)).thenReturn(true);
+        when(snapshots.getEntries(DATE, FREQ_NAME, null, List.of("snap"), versions))
+                .thenReturn(Map.of("snap", snapshot));
+
+        Map<String, CalculatorEntry> result = service.getState(DATE, FREQ, null, List.of("snap"), versions);
+
+        assertThat(result.get("snap")).isSameAs(snapshot);
+        verifyNoInteractions(liveRuns);
+        verify(stateCache, never()).getEntries(any(), anyString(), any(), any(), any());
+        verify(runRepository, never()).findAllRunsByDateAndDimension(any(), any(), any(), any());
+    }
+
+    @Test
+    void getState_settledDateMiss_snapshotsBuiltEntriesAndCachesTheRest() {
+        Map<String, Long> versions = Map.of("ran", 2L, "absent", 0L);
+        when(snapshots.isSettled(DATE)).thenReturn(true);
+        when(snapshots.getEntries(any(), anyString(), any(), any(), any())).thenReturn(new HashMap<>());
+        when(runRepository.findAllRunsByDateAndDimension(DATE, FREQ, null, List.of("ran", "absent")))
+                .thenReturn(List.of(buildRun("ran", "r1", RunStatus.SUCCESS, "WMAP", "ETD", "1", null, T_MINUS_3, T_MINUS_2, SLA_TIME)));
+        when(snapshots.putEntries(eq(DATE), eq(FREQ_NAME), isNull(), any(), eq(versions)))
+                .thenReturn(java.util.Set.of("ran"));
+
+        service.getState(DATE, FREQ, null, List.of("ran", "absent"), versions);
+
+        verify(snapshots).putEntries(eq(DATE), eq(FREQ_NAME), isNull(),
+                argThat(entries -> entries.keySet().equals(java.util.Set.of("ran", "absent"))), eq(versions));
+        verify(stateCache).putEntries(eq(DATE), eq(FREQ_NAME), isNull(),
+                argThat(entries -> entries.keySet().equals(java.util.Set.of("absent"))), eq(versions));
+    }
+
     // ── Not-started business-day anchoring (bug fix) ────────────────────────
 
     /**
@@ -293,7 +460,7 @@ class CalculatorStateServiceTest {
     void notStartedEntry_anchorsEstimatesToNextBusinessDay() {
         LocalDate friday = LocalDate.of(2026, 2, 20);
         CalculatorProfile profile = new CalculatorProfile("calc", "DAILY", null, null, 3_600_000L, 480, 540, 10);
-        when(profileService.getProfile(eq("calc"), eq(FREQ), eq("1"))).thenReturn(profile);
+        profiles.put(new ProfileKey("calc", FREQ, "1", null), profile);
         when(runRepository.findAllRunsByDateAndDimension(eq(friday), eq(FREQ), eq("1"), any()))
                 .thenReturn(List.of());
 
@@ -317,7 +484,7 @@ class CalculatorStateServiceTest {
     void notStartedEntry_profilePath_carriesProjectedSlaFromLatestRun() {
         // Profile has samples → estimates sourced from profile
         CalculatorProfile profile = new CalculatorProfile("calc", "DAILY", null, null, 3_600_000L, 540, 600, 10);
-        when(profileService.getProfile(eq("calc"), eq(FREQ), eq("1"))).thenReturn(profile);
+        profiles.put(new ProfileKey("calc", FREQ, "1", null), profile);
 
         // Latest run has a frozen SLA well in the future
         CalculatorRun latest = new CalculatorRun();
@@ -328,8 +495,7 @@ class CalculatorStateServiceTest {
         latest.setExpectedDurationMs(3_600_000L);
         when(runRepository.findAllRunsByDateAndDimension(eq(DATE), eq(FREQ), eq("1"), any()))
                 .thenReturn(List.of());
-        when(runRepository.findLatestRunEstimatesByName(eq("calc"), eq(FREQ), eq("1")))
-                .thenReturn(Optional.of(latest));
+        latestRuns.put(new LatestKey("calc", FREQ, "1"), latest);
 
         var entries = service.getState(DATE, FREQ, "1", List.of("calc")).get("calc").runs();
 
@@ -350,7 +516,7 @@ class CalculatorStateServiceTest {
     @Test
     void notStartedEntry_noEstimates_butHasSla_returnsEntryWithSlaOnly() {
         // Profile insufficient
-        when(profileService.getProfile(eq("calc"), eq(FREQ), isNull())).thenReturn(NO_HISTORY_PROFILE);
+        profiles.put(new ProfileKey("calc", FREQ, null, null), NO_HISTORY_PROFILE);
 
         // Latest run: no estimate data, but has SLA
         CalculatorRun latest = new CalculatorRun();
@@ -362,8 +528,7 @@ class CalculatorStateServiceTest {
 
         when(runRepository.findAllRunsByDateAndDimension(eq(DATE), eq(FREQ), isNull(), any()))
                 .thenReturn(List.of());
-        when(runRepository.findLatestRunEstimatesByName(eq("calc"), eq(FREQ), isNull()))
-                .thenReturn(Optional.of(latest));
+        latestRuns.put(new LatestKey("calc", FREQ, null), latest);
 
         var entries = service.getState(DATE, FREQ, null, List.of("calc")).get("calc").runs();
 
@@ -378,10 +543,10 @@ class CalculatorStateServiceTest {
      */
     @Test
     void notStartedEntry_noProfileNoLatestRun_returnsEmptyEntry() {
-        when(profileService.getProfile(eq("new-calc"), eq(FREQ), isNull())).thenReturn(NO_HISTORY_PROFILE);
+        profiles.put(new ProfileKey("new-calc", FREQ, null, null), NO_HISTORY_PROFILE);
         when(runRepository.findAllRunsByDateAndDimension(eq(DATE), eq(FREQ), isNull(), any()))
                 .thenReturn(List.of());
-        // findLatestRunEstimatesByName already returns Optional.empty() from setUp
+        // No latest run stubbed — the bulk lookup finds nothing
 
         var entries = service.getState(DATE, FREQ, null, List.of("new-calc")).get("new-calc").runs();
 
@@ -395,7 +560,7 @@ class CalculatorStateServiceTest {
      */
     @Test
     void notStartedEntry_daily_derivesOffsetFromLatestRunDistance() {
-        when(profileService.getProfile(eq("calc"), eq(FREQ), eq("2"))).thenReturn(NO_HISTORY_PROFILE);
+        profiles.put(new ProfileKey("calc", FREQ, "2", null), NO_HISTORY_PROFILE);
 
         CalculatorRun latest = new CalculatorRun();
         latest.setCalculatorId("calc-id");
@@ -405,8 +570,7 @@ class CalculatorStateServiceTest {
 
         when(runRepository.findAllRunsByDateAndDimension(eq(DATE), eq(FREQ), eq("2"), any()))
                 .thenReturn(List.of());
-        when(runRepository.findLatestRunEstimatesByName(eq("calc"), eq(FREQ), eq("2")))
-                .thenReturn(Optional.of(latest));
+        latestRuns.put(new LatestKey("calc", FREQ, "2"), latest);
 
         var entries = service.getState(DATE, FREQ, "2", List.of("calc")).get("calc").runs();
 
@@ -421,13 +585,37 @@ class CalculatorStateServiceTest {
      */
     @Test
     void notStartedEntry_scopesLatestRunLookupByRunNumber() {
-        when(profileService.getProfile(eq("calc"), eq(FREQ), eq("1"))).thenReturn(NO_HISTORY_PROFILE);
+        profiles.put(new ProfileKey("calc", FREQ, "1", null), NO_HISTORY_PROFILE);
         when(runRepository.findAllRunsByDateAndDimension(eq(DATE), eq(FREQ), eq("1"), any()))
                 .thenReturn(List.of());
 
         service.getState(DATE, FREQ, "1", List.of("calc"));
 
-        verify(runRepository).findLatestRunEstimatesByName("calc", FREQ, "1");
+        verify(runRepository).findLatestRunEstimatesByNames(List.of("calc"), FREQ, "1");
+    }
+
+    @Test
+    void notStartedEntries_readLatestRunsAndProfilesInOneBulkLookup() {
+        CalculatorRun latest = new CalculatorRun();
+        latest.setCalculatorId("calc-b-id");
+        latest.setCalculatorName("calc-b");
+        latest.setSlaTime(Instant.parse("2026-03-10T15:00:00Z"));
+        latestRuns.put(new LatestKey("calc-b", FREQ, "1"), latest);
+        CalculatorRun started = buildRun("calc-c", "r-c", RunStatus.RUNNING, null, null, "1", null, T_MINUS_1, null, SLA_TIME);
+        when(runRepository.findAllRunsByDateAndDimension(eq(DATE), eq(FREQ), eq("1"), any()))
+                .thenReturn(List.of(started));
+
+        var result = service.getState(DATE, FREQ, "1", List.of("calc-a", "calc-b", "calc-c"));
+
+        verify(runRepository, times(1)).findLatestRunEstimatesByNames(List.of("calc-a", "calc-b"), FREQ, "1");
+        verify(profileService, times(1)).getProfiles(List.of(
+                new ProfileKey("calc-a", FREQ, "1", null), new ProfileKey("calc-b", FREQ, "1", null)));
+        assertThat(result.get("calc-a").runs()).isEmpty();
+        assertThat(result.get("calc-b").calculatorId()).isEqualTo("calc-b-id");
+        assertThat(result.get("calc-b").runs()).singleElement()
+                .extracting(CalculatorBatchRunsResponse.RunEntry::status).isEqualTo("NOT_STARTED");
+        assertThat(result.get("calc-c").runs()).singleElement()
+                .extracting(CalculatorBatchRunsResponse.RunEntry::status).isEqualTo("RUNNING");
     }
 
     /**
@@ -439,7 +627,7 @@ class CalculatorStateServiceTest {
         LocalDate eom = LocalDate.of(2026, 2, 28);
         // Profile avg start = 1320 min UTC (22:00); 10 samples → trusted.
         CalculatorProfile profile = new CalculatorProfile("calc", "MONTHLY", null, null, 3_600_000L, 1320, 1380, 10);
-        when(profileService.getProfile(eq("calc"), eq(Frequency.MONTHLY), eq("1"))).thenReturn(profile);
+        profiles.put(new ProfileKey("calc", Frequency.MONTHLY, "1", null), profile);
 
         CalculatorRun latest = new CalculatorRun();
         latest.setCalculatorId("calc-id");
@@ -448,8 +636,7 @@ class CalculatorStateServiceTest {
 
         when(runRepository.findAllRunsByDateAndDimension(eq(eom), eq(Frequency.MONTHLY), eq("1"), any()))
                 .thenReturn(List.of());
-        when(runRepository.findLatestRunEstimatesByName(eq("calc"), eq(Frequency.MONTHLY), eq("1")))
-                .thenReturn(Optional.of(latest));
+        latestRuns.put(new LatestKey("calc", Frequency.MONTHLY, "1"), latest);
 
         var entries = service.getState(eom, Frequency.MONTHLY, "1", List.of("calc")).get("calc").runs();
 
@@ -6,23 +6,26 @@ import com.company.observability.domain.CalculatorProfile;
 import com.company.observability.domain.enums.Frequency;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
 import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
+import com.company.observability.service.CalculatorProfileService.ProfileKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ExpectedRunsServiceTest {
@@ -40,6 +43,7 @@ class ExpectedRunsServiceTest {
             new CalculatorProfile("capital", "DAILY", "2", null, 0, 0, 0, 0);
 
     @Mock private CalculatorProfileService profileService;
+    private final Map<ProfileKey, CalculatorProfile> profiles = new HashMap<>();
 
     private final SlaProperties slaProps = new SlaProperties();
     private CalculatorProperties props;
@@ -51,8 +55,13 @@ class ExpectedRunsServiceTest {
         props.setRegions(Map.of("capital", ALL_REGIONS));
         props.setRunTypes(Map.of("modelled-exposure", ALL_TYPES));
         // Default: no dimension-specific history — falls back to template/bare
-        lenient().when(profileService.getProfile(anyString(), any(Frequency.class), anyString(), anyString()))
-                .thenReturn(NO_HISTORY);
+        lenient().when(profileService.getProfiles(anyCollection())).thenAnswer(inv -> {
+            Map<ProfileKey, CalculatorProfile> resolved = new HashMap<>();
+            for (ProfileKey key : inv.<Collection<ProfileKey>>getArgument(0)) {
+                resolved.put(key, profiles.getOrDefault(key, NO_HISTORY));
+            }
+            return resolved;
+        });
         service = new ExpectedRunsService(props, profileService, slaProps);
     }
 
@@ -266,7 +275,7 @@ class ExpectedRunsServiceTest {
         // WMAP has a dimension profile with known avg start (480 min UTC = 08:00)
         CalculatorProfile wmapProfile = new CalculatorProfile(
                 "capital", "DAILY", "2", "WMAP", 3_600_000L, 480, 540, 8);
-        when(profileService.getProfile("capital", FREQ, "2", "WMAP")).thenReturn(wmapProfile);
+        profiles.put(new ProfileKey("capital", FREQ, "2", "WMAP"), wmapProfile);
 
         CalculatorEntry existing = new CalculatorEntry("capital", "calc-id",
                 List.of(realRegionEntry("WMDE")));
@@ -281,6 +290,21 @@ class ExpectedRunsServiceTest {
         assertThat(wmapPlaceholder.estimatedEndTime()).isNotNull();
     }
 
+    @Test
+    void placeholderProfiles_acrossAliases_readInOneBulkLookup() {
+        CalculatorEntry capital = new CalculatorEntry("capital", "calc-id", List.of(realRegionEntry("WMDE")));
+        CalculatorEntry exposure = new CalculatorEntry("modelled-exposure", "me-id", List.of());
+
+        pad(Map.of("capital", capital, "modelled-exposure", exposure));
+
+        ArgumentCaptor<Collection<ProfileKey>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(profileService, times(1)).getProfiles(keys.capture());
+        assertThat(keys.getValue()).hasSize(ALL_REGIONS.size() - 1 + ALL_TYPES.size())
+                .contains(new ProfileKey("capital", FREQ, RUN_NUMBER, "WMAP"),
+                        new ProfileKey("modelled-exposure", FREQ, RUN_NUMBER, "SFT"))
+                .doesNotContain(new ProfileKey("capital", FREQ, RUN_NUMBER, "WMDE"));
+    }
+
     @Test
     void partialBatch_noDeadlineNoProfile_usesEstEndFallback() {
         Instant estEnd = Instant.now().minusSeconds(500);  // past
@@ -0,0 +1,53 @@
+package com.company.observability.service;
+
+import com.company.observability.service.projection.ResponseTarget;
+import com.company.observability.util.WireFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+/** {@link ResponseTarget} that keeps the body in memory and records how it was opened. */
+class RecordingResponseTarget implements ResponseTarget {
+
+    private final WireFormat format;
+    private final boolean acceptsGzip;
+    private final OutputStream body;
+    Boolean gzipEncoded;
+
+    RecordingResponseTarget(WireFormat format, boolean acceptsGzip) {
+        this(format, acceptsGzip, new ByteArrayOutputStream());
+    }
+
+    RecordingResponseTarget(WireFormat format, boolean acceptsGzip, OutputStream body) {
+        this.format = format;
+        this.acceptsGzip = acceptsGzip;
+        this.body = body;
+    }
+
+    static RecordingResponseTarget json() {
+        return new RecordingResponseTarget(WireFormat.JSON, false);
+    }
+
+    @Override
+    public WireFormat format() {
+        return format;
+    }
+
+    @Override
+    public boolean acceptsGzip() {
+        return acceptsGzip;
+    }
+
+    @Override
+    public OutputStream open(boolean gzipEncoded) {
+        if (this.gzipEncoded != null) {
+            throw new IllegalStateException("opened twice");
+        }
+        this.gzipEncoded = gzipEncoded;
+        return body;
+    }
+
+    byte[] bytes() {
+        return ((ByteArrayOutputStream) body).toByteArray();
+    }
+}
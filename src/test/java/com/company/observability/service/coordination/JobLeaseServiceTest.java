@@ -0,0 +1,202 @@
+package com.company.observability.service.coordination;
+
+import com.company.observability.config.JobCoordinationProperties;
+import com.company.observability.repository.JobLeaseRepository;
+import com.company.observability.service.coordination.JobLeaseService.Completion;
+import com.company.observability.service.coordination.JobLeaseService.JobLease;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobLeaseServiceTest {
+
+    private static final String OWNER = "1@replica-1";
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final String RUN_KEY = "2026-10-19";
+
+    @Mock
+    private JobLeaseRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobCoordinationProperties properties;
+    private JobLeaseService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new JobCoordinationProperties();
+        properties.setShardWaitSeconds(0);
+        service = new JobLeaseService(repository, properties, meterRegistry, OWNER);
+    }
+
+    @Test
+    void lead_renewalKeepsLeaseAndCountsOneAcquisition() {
+        when(repository.acquire("sla-live-detection", OWNER, TTL, null)).thenReturn(OptionalLong.of(7L));
+
+        assertThat(service.lead("sla-live-detection", TTL)).isTrue();
+        assertThat(service.lead("sla-live-detection", TTL)).isTrue();
+
+        assertThat(meterRegistry.counter(JOB_LEASE_ACQUIRED, "job", "sla-live-detection").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(JOB_LEASE_HELD).tag("job", "sla-live-detection").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void lead_heldElsewhere_skipsAndClearsHeldGauge() {
+        when(repository.acquire("sla-live-detection", OWNER, TTL, null))
+                .thenReturn(OptionalLong.of(7L))
+                .thenReturn(OptionalLong.empty());
+
+        service.lead("sla-live-detection", TTL);
+        assertThat(service.lead("sla-live-detection", TTL)).isFalse();
+
+        assertThat(meterRegistry.get(JOB_LEASE_HELD).tag("job", "sla-live-detection").gauge().value()).isZero();
+        assertThat(meterRegistry.counter(JOB_EXECUTION_SKIPPED, "job", "sla-live-detection", "reason", "lease_held")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void lead_leaseStoreDown_skipsTick() {
+        when(repository.acquire(any(), any(), any(), any())).thenThrow(new RuntimeException("db down"));
+
+        assertThat(service.lead("sla-live-detection", TTL)).isFalse();
+        assertThat(meterRegistry.counter(JOB_EXECUTION_SKIPPED, "job", "sla-live-detection", "reason", "lease_error")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void runOnce_completesRunKeyAfterTask() {
+        when(repository.acquire("daily-aggregation", OWNER, TTL, RUN_KEY)).thenReturn(OptionalLong.of(3L));
+        List<JobLease> seen = new ArrayList<>();
+
+        assertThat(service.runOnce("daily-aggregation", RUN_KEY, TTL, seen::add)).isTrue();
+
+        assertThat(seen).containsExactly(new JobLease("daily-aggregation", 3L, RUN_KEY));
+        verify(repository).complete("daily-aggregation", 3L, RUN_KEY);
+    }
+
+    @Test
+    void runOnce_failedTask_releasesLeaseAndRethrows() {
+        when(repository.acquire("daily-aggregation", OWNER, TTL, RUN_KEY)).thenReturn(OptionalLong.of(3L));
+
+        assertThatThrownBy(() -> service.runOnce("daily-aggregation", RUN_KEY, TTL, lease -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(repository).release("daily-aggregation", 3L);
+        verify(repository, never()).complete(any(), anyLong(), any());
+    }
+
+    @Test
+    void runShards_runsOnlyShardsThisReplicaClaims() {
+        when(repository.acquire(startsWith("profile-warm."), eq(OWNER), eq(TTL), eq(RUN_KEY)))
+                .thenReturn(OptionalLong.empty());
+        when(repository.acquire("profile-warm.b", OWNER, TTL, RUN_KEY)).thenReturn(OptionalLong.of(1L));
+        List<String> ran = new ArrayList<>();
+
+        long total = service.runShards("profile-warm", RUN_KEY, List.of("a", "b", "c"), TTL, shard -> {
+            ran.add(shard);
+            return 10;
+        });
+
+        assertThat(ran).containsExactly("b");
+        assertThat(total).isEqualTo(10);
+        verify(repository).complete("profile-warm.b", 1L, RUN_KEY);
+        assertThat(meterRegistry.counter(JOB_SHARDS_CLAIMED, "job", "profile-warm").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void runShards_failedShard_releasedAndOthersStillRun() {
+        when(repository.acquire(startsWith("profile-warm."), eq(OWNER), eq(TTL), eq(RUN_KEY)))
+                .thenReturn(OptionalLong.of(1L));
+
+        long total = service.runShards("profile-warm", RUN_KEY, List.of("a", "b"), TTL, shard -> {
+            if (shard.equals("a")) {
+                throw new IllegalStateException("scan failed");
+            }
+            return 4;
+        });
+
+        assertThat(total).isEqualTo(4);
+        verify(repository).release("profile-warm.a", 1L);
+        verify(repository).complete("profile-warm.b", 1L, RUN_KEY);
+    }
+
+    @Test
+    void fenced_supersededToken_rejectsWrite() {
+        when(repository.fence("daily-aggregation", 3L)).thenReturn(false);
+        JobLease lease = new JobLease("daily-aggregation", 3L, RUN_KEY);
+
+        assertThatThrownBy(() -> service.fenced(lease, () -> {
+            throw new AssertionError("write must not run");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(meterRegistry.counter(JOB_LEASE_FENCED, "job", "daily-aggregation").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void fenced_currentToken_runsWrite() {
+        when(repository.fence("daily-aggregation", 3L)).thenReturn(true);
+
+        assertThat(service.fenced(new JobLease("daily-aggregation", 3L, RUN_KEY), () -> 42)).isEqualTo(42);
+    }
+
+    @Test
+    void checkCompletion_pendingWithinWaitThenTimesOut() {
+        properties.setShardWaitSeconds(900);
+        when(repository.isHeld("daily-aggregation")).thenReturn(true);
+        Instant since = Instant.now();
+
+        assertThat(service.checkCompletion("daily-aggregation", RUN_KEY, since)).isEqualTo(Completion.PENDING);
+        assertThat(service.checkCompletion("daily-aggregation", RUN_KEY, since.minusSeconds(901)))
+                .isEqualTo(Completion.TIMED_OUT);
+        assertThat(meterRegistry.counter(JOB_EXECUTION_SKIPPED, "job", "daily-aggregation", "reason", "not_ready")
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void checkCompletion_leaseFreeButNotCompleted_reportsReleased() {
+        properties.setShardWaitSeconds(900);
+        when(repository.isHeld("daily-aggregation")).thenReturn(false);
+
+        assertThat(service.checkCompletion("daily-aggregation", RUN_KEY, Instant.now())).isEqualTo(Completion.RELEASED);
+        assertThat(service.checkCompletion("daily-aggregation", RUN_KEY, Instant.now().minusSeconds(901)))
+                .isEqualTo(Completion.TIMED_OUT);
+    }
+
+    @Test
+    void checkCompletion_completedElsewhere() {
+        when(repository.isCompleted("daily-aggregation", RUN_KEY)).thenReturn(true);
+
+        assertThat(service.checkCompletion("daily-aggregation", RUN_KEY, Instant.now().minusSeconds(3600)))
+                .isEqualTo(Completion.COMPLETED);
+    }
+
+    @Test
+    void disabled_grantsEveryLeaseLocallyWithoutTouchingTheTable() {
+        properties.setEnabled(false);
+
+        assertThat(service.lead("sla-live-detection", TTL)).isTrue();
+        assertThat(service.runOnce("daily-aggregation", RUN_KEY, TTL, lease -> {})).isTrue();
+        assertThat(service.fenced(new JobLease("daily-aggregation", 0L, RUN_KEY), () -> 1)).isEqualTo(1);
+        assertThat(service.checkCompletion("daily-aggregation", RUN_KEY, Instant.now())).isEqualTo(Completion.COMPLETED);
+
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,147 @@
+package com.company.observability.service.live;
+
+import com.company.observability.cache.ChangeVersionService;
+import com.company.observability.config.LiveStateProperties;
+import com.company.observability.config.ReadReplicaProperties;
+import com.company.observability.datasource.RecentWrites;
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.repository.CalculatorRunRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.company.observability.util.ObservabilityConstants.LIVE_STREAM_LAG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveRunStoreLoaderTest {
+
+    @Mock
+    private RunChangeStream changeStream;
+
+    @Mock
+    private CalculatorRunRepository runRepository;
+
+    @Mock
+    private ChangeVersionService changeVersions;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LiveRunStore store;
+    private RecentWrites recentWrites;
+    private LiveRunStoreLoader loader;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new LiveRunStore(meterRegistry);
+        ReadReplicaProperties replicaProperties = new ReadReplicaProperties();
+        replicaProperties.setEnabled(true);
+        recentWrites = new RecentWrites(replicaProperties);
+        loader = new LiveRunStoreLoader(store, changeStream, runRepository, changeVersions,
+                recentWrites, new LiveStateProperties(), meterRegistry);
+    }
+
+    @Test
+    void bootstrap_capturesTailBeforeLoadAndReplaysBeforeReady() {
+        when(changeStream.tailId()).thenReturn("5-0");
+        when(runRepository.findRunsFromDate(today.minusDays(3)))
+                .thenReturn(List.of(run("r1", RunStatus.RUNNING)));
+        when(changeVersions.getVersions(eq(today), eq("DAILY"), anyCollection())).thenReturn(Map.of("cap", 1L));
+        // Completed while the DB was being read: version 2 is only servable once replayed
+        when(changeStream.read("5-0", 500)).thenReturn(List.of(
+                new RunChangeStream.Entry("6-0", new RunChange(RunChange.COMPLETED, 2L, false, Instant.now(),
+                        run("r1", RunStatus.SUCCESS)))));
+
+        loader.sync();
+
+        InOrder order = inOrder(changeStream, runRepository);
+        order.verify(changeStream).tailId();
+        order.verify(runRepository).findRunsFromDate(any());
+        order.verify(changeStream).read("5-0", 500);
+        assertThat(store.covers(today)).isTrue();
+        assertThat(store.findRuns(today, Frequency.DAILY, null, Map.of("cap", 2L)).get("cap").get(0).getStatus())
+                .isEqualTo(RunStatus.SUCCESS);
+        assertThat(meterRegistry.timer(LIVE_STREAM_LAG).count()).isEqualTo(1);
+    }
+
+    @Test
+    void sync_pollsFromLastAppliedId() {
+        when(changeStream.tailId()).thenReturn("0-0");
+        when(runRepository.findRunsFromDate(any())).thenReturn(List.of());
+        when(changeStream.read("0-0", 500)).thenReturn(List.of(
+                new RunChangeStream.Entry("7-0", new RunChange(RunChange.STARTED, 1L, true, Instant.now(),
+                        run("r1", RunStatus.RUNNING)))));
+
+        loader.sync();
+        loader.sync();
+
+        verify(changeStream).read("7-0", 500);
+        verify(runRepository, times(1)).findRunsFromDate(any());
+    }
+
+    @Test
+    void sync_recordsAppliedChangesForReadYourWrites() {
+        Instant publishedAt = Instant.now();
+        when(changeStream.tailId()).thenReturn("0-0");
+        when(runRepository.findRunsFromDate(any())).thenReturn(List.of());
+        when(changeStream.read("0-0", 500)).thenReturn(List.of(
+                new RunChangeStream.Entry("7-0", new RunChange(RunChange.STARTED, 1L, true, publishedAt,
+                        run("r1", RunStatus.RUNNING)))));
+
+        loader.sync();
+
+        assertThat(recentWrites.latest(List.of("cap"))).isEqualTo(publishedAt);
+    }
+
+    @Test
+    void sync_failureForcesReloadOnNextTick() {
+        when(changeStream.tailId()).thenReturn("0-0");
+        when(runRepository.findRunsFromDate(any())).thenReturn(List.of());
+        when(changeStream.read(anyString(), anyInt()))
+                .thenReturn(List.of())
+                .thenThrow(new RuntimeException("redis down"))
+                .thenReturn(List.of());
+
+        loader.sync();
+        loader.sync();
+        loader.sync();
+
+        verify(runRepository, times(2)).findRunsFromDate(any());
+    }
+
+    @Test
+    void bootstrap_versionsUnavailable_leavesStoreUnready() {
+        when(changeStream.tailId()).thenReturn("0-0");
+        when(runRepository.findRunsFromDate(any())).thenReturn(List.of(run("r1", RunStatus.RUNNING)));
+        when(changeVersions.getVersions(any(), anyString(), anyCollection())).thenReturn(null);
+
+        loader.sync();
+
+        assertThat(store.covers(today)).isFalse();
+    }
+
+    private CalculatorRun run(String runId, RunStatus status) {
+        return CalculatorRun.builder()
+                .runId(runId)
+                .calculatorName("cap")
+                .reportingDate(today)
+                .frequency(Frequency.DAILY)
+                .status(status)
+                .build();
+    }
+}
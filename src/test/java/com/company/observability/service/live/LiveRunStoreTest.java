@@ -0,0 +1,205 @@
+package com.company.observability.service.live;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.service.live.LiveRunStore.DayKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LiveRunStoreTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 6);
+    private static final DayKey DAY = new DayKey(DATE, Frequency.DAILY);
+    private static final Instant T0 = Instant.parse("2026-03-06T08:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private LiveRunStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new LiveRunStore(meterRegistry);
+    }
+
+    @Test
+    void notReadyUntilBootstrapped() {
+        assertThat(store.covers(DATE)).isFalse();
+
+        store.replace(DATE.minusDays(3), List.of(), Map.of());
+        assertThat(store.covers(DATE)).isFalse();
+
+        store.markReady();
+        assertThat(store.covers(DATE)).isTrue();
+        assertThat(store.covers(DATE.minusDays(4))).isFalse();
+    }
+
+    @Test
+    void findRuns_servesOnlySlotsAtRequestedVersion() {
+        bootstrap(Map.of("cap", 2L), run("cap", "r1", RunStatus.RUNNING, "1"));
+
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 2L))).containsKey("cap");
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 3L))).isEmpty();
+        assertThat(meterRegistry.counter(LIVE_STORE_HIT).count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter(LIVE_STORE_MISS).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findRuns_filtersByRunNumberAndKeepsUnnumberedRuns() {
+        bootstrap(Map.of("cap", 1L),
+                run("cap", "r1", RunStatus.SUCCESS, "1"),
+                run("cap", "r2", RunStatus.SUCCESS, "2"),
+                run("cap", "r3", RunStatus.SUCCESS, null));
+
+        List<CalculatorRun> runs = store.findRuns(DATE, Frequency.DAILY, "1", Map.of("cap", 1L)).get("cap");
+
+        assertThat(runs).extracting(CalculatorRun::getRunId).containsExactly("r1", "r3");
+    }
+
+    @Test
+    void findRuns_returnsCopies() {
+        bootstrap(Map.of("cap", 1L), run("cap", "r1", RunStatus.SUCCESS, "1"));
+
+        store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 1L)).get("cap").get(0).setRerun(true);
+
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 1L)).get("cap").get(0).isRerun())
+                .isFalse();
+    }
+
+    @Test
+    void apply_upsertsByRunIdAndRaisesVersion() {
+        bootstrap(Map.of("cap", 1L), run("cap", "r1", RunStatus.RUNNING, "1"));
+
+        store.apply(new RunChange(RunChange.COMPLETED, 2L, false, T0, run("cap", "r1", RunStatus.SUCCESS, "1")));
+        store.apply(new RunChange(RunChange.STARTED, 3L, false, T0, run("cap", "r2", RunStatus.RUNNING, "2")));
+
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 3L)).get("cap"))
+                .extracting(CalculatorRun::getRunId, CalculatorRun::getStatus)
+                .containsExactly(
+                        tuple("r1", RunStatus.SUCCESS),
+                        tuple("r2", RunStatus.RUNNING));
+    }
+
+    @Test
+    void apply_outOfOrderVersionsFromTwoReplicasDoNotSkipTheGap() {
+        bootstrap(Map.of("cap", 1L), run("cap", "r1", RunStatus.RUNNING, "1"));
+
+        // This replica's own write (version 3) lands before the poller replays version 2 from another replica
+        store.apply(new RunChange(RunChange.STARTED, 3L, false, T0, run("cap", "r2", RunStatus.RUNNING, "2")));
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 3L))).isEmpty();
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 2L))).isEmpty();
+
+        store.apply(new RunChange(RunChange.COMPLETED, 2L, false, T0, run("cap", "r1", RunStatus.SUCCESS, "1")));
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 2L))).containsKey("cap");
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 3L))).isEmpty();
+
+        // The poller then replays version 3 in stream order
+        store.apply(new RunChange(RunChange.STARTED, 3L, false, T0, run("cap", "r2", RunStatus.RUNNING, "2")));
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 3L)).get("cap"))
+                .extracting(CalculatorRun::getRunId, CalculatorRun::getStatus)
+                .containsExactly(
+                        tuple("r1", RunStatus.SUCCESS),
+                        tuple("r2", RunStatus.RUNNING));
+    }
+
+    @Test
+    void apply_newCalculatorClaimsOnlyItsFirstVersion() {
+        bootstrap(Map.of());
+
+        store.apply(new RunChange(RunChange.COMPLETED, 2L, false, T0, run("cap", "r1", RunStatus.SUCCESS, "1")));
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 2L))).isEmpty();
+
+        store.apply(new RunChange(RunChange.STARTED, 1L, true, T0, run("cap", "r1", RunStatus.RUNNING, "1")));
+        store.apply(new RunChange(RunChange.COMPLETED, 2L, false, T0, run("cap", "r1", RunStatus.SUCCESS, "1")));
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 2L)).get("cap").get(0).getStatus())
+                .isEqualTo(RunStatus.SUCCESS);
+    }
+
+    @Test
+    void apply_newCalculatorClaimsItsSeededFirstVersion() {
+        bootstrap(Map.of());
+        long seeded = T0.toEpochMilli() + 1;
+
+        store.apply(new RunChange(RunChange.COMPLETED, seeded + 1, false, T0, run("cap", "r1", RunStatus.SUCCESS, "1")));
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", seeded + 1))).isEmpty();
+
+        store.apply(new RunChange(RunChange.STARTED, seeded, true, T0, run("cap", "r1", RunStatus.RUNNING, "1")));
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", seeded))).containsKey("cap");
+        store.apply(new RunChange(RunChange.COMPLETED, seeded + 1, false, T0, run("cap", "r1", RunStatus.SUCCESS, "1")));
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", seeded + 1)).get("cap").get(0).getStatus())
+                .isEqualTo(RunStatus.SUCCESS);
+    }
+
+    @Test
+    void replace_hidesTheNewWindowUntilReady() {
+        bootstrap(Map.of("cap", 1L), run("cap", "r1", RunStatus.SUCCESS, "1"));
+
+        store.replace(DATE.minusDays(3), List.of(run("cap", "r1", RunStatus.SUCCESS, "1")), Map.of(DAY, Map.of("cap", 1L)));
+
+        assertThat(store.covers(DATE)).isFalse();
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 1L))).isEmpty();
+        store.markReady();
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 1L))).containsKey("cap");
+    }
+
+    @Test
+    void apply_lateStartDoesNotRollBackCompletion() {
+        bootstrap(Map.of("cap", 2L), run("cap", "r1", RunStatus.SUCCESS, "1"));
+
+        store.apply(new RunChange(RunChange.STARTED, 1L, true, T0, run("cap", "r1", RunStatus.RUNNING, "1")));
+
+        assertThat(store.findRuns(DATE, Frequency.DAILY, null, Map.of("cap", 2L)).get("cap").get(0).getStatus())
+                .isEqualTo(RunStatus.SUCCESS);
+    }
+
+    @Test
+    void apply_ignoresDatesOutsideWindow() {
+        bootstrap(Map.of());
+
+        CalculatorRun old = run("cap", "r1", RunStatus.SUCCESS, "1");
+        old.setReportingDate(DATE.minusDays(10));
+        store.apply(new RunChange(RunChange.COMPLETED, 1L, true, T0, old));
+
+        assertThat(store.runCount()).isZero();
+    }
+
+    @Test
+    void gaugesReportRunCountAndFootprint() {
+        bootstrap(Map.of("cap", 1L), run("cap", "r1", RunStatus.SUCCESS, "1"), run("cap", "r2", RunStatus.SUCCESS, "1"));
+
+        assertThat(meterRegistry.get(LIVE_STORE_RUNS).gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get(LIVE_STORE_BYTES).gauge().value())
+                .isGreaterThan(2.0 * LiveRunStore.RUN_BASE_BYTES);
+        assertThat(meterRegistry.get(LIVE_STORE_STALENESS).gauge().value()).isLessThan(5.0);
+    }
+
+    private void bootstrap(Map<String, Long> versions, CalculatorRun... runs) {
+        store.replace(DATE.minusDays(3), List.of(runs), Map.of(DAY, versions));
+        store.markReady();
+    }
+
+    private static CalculatorRun run(String name, String runId, RunStatus status, String runNumber) {
+        return CalculatorRun.builder()
+                .runId(runId)
+                .calculatorId(name + "-id")
+                .calculatorName(name)
+                .reportingDate(DATE)
+                .frequency(Frequency.DAILY)
+                .status(status)
+                .region("WMAP")
+                .runType("ETD")
+                .runNumber(runNumber)
+                .createdAt(T0.plusSeconds(Long.parseLong(runId.substring(1))))
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.company.observability.service.live;
+
+import com.company.observability.config.ChangeFeedProperties;
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.company.observability.util.ObservabilityConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunChangeFeedConsumerTest {
+
+    private static final String GROUP = "obs-cache";
+    private static final String CONSUMER = "replica-1";
+
+    @Mock
+    private RunChangeStream changeStream;
+
+    @Mock
+    private RunChangeProcessor processor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChangeFeedProperties properties;
+    private RunChangeFeedConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ChangeFeedProperties();
+        consumer = new RunChangeFeedConsumer(changeStream, List.of(processor), properties, meterRegistry, CONSUMER);
+        lenient().when(changeStream.readGroup(GROUP, CONSUMER, 200)).thenReturn(List.of());
+    }
+
+    @Test
+    void poll_acksOnlyEntriesEveryProcessorHandled() {
+        RunChange ok = change("r1");
+        RunChange failing = change("r2");
+        when(changeStream.readGroup(GROUP, CONSUMER, 200)).thenReturn(List.of(
+                new RunChangeStream.Entry("1-0", ok),
+                new RunChangeStream.Entry("2-0", failing)));
+        when(processor.process(ok)).thenReturn(true);
+        when(processor.process(failing)).thenReturn(false);
+
+        consumer.poll();
+
+        verify(changeStream).ensureGroup(GROUP);
+        verify(changeStream).ack(GROUP, List.of("1-0"));
+        assertThat(meterRegistry.counter(CHANGE_FEED_PROCESSED, "outcome", "acked").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter(CHANGE_FEED_PROCESSED, "outcome", "retry").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.timer(CHANGE_FEED_LAG).count()).isEqualTo(1);
+    }
+
+    @Test
+    void poll_processorException_leavesEntryPending() {
+        RunChange change = change("r1");
+        when(changeStream.readGroup(GROUP, CONSUMER, 200))
+                .thenReturn(List.of(new RunChangeStream.Entry("1-0", change)));
+        when(processor.process(change)).thenThrow(new RuntimeException("redis timeout"));
+
+        consumer.poll();
+
+        verify(changeStream).ack(GROUP, List.of());
+    }
+
+    @Test
+    void poll_undecodableEntry_ackedAndDropped() {
+        when(changeStream.readGroup(GROUP, CONSUMER, 200))
+                .thenReturn(List.of(new RunChangeStream.Entry("1-0", null)));
+
+        consumer.poll();
+
+        verify(changeStream).ack(GROUP, List.of("1-0"));
+        verifyNoInteractions(processor);
+        assertThat(meterRegistry.counter(CHANGE_FEED_PROCESSED, "outcome", "dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void poll_claimsIdleEntriesAndDropsExhaustedOnes() {
+        Duration idle = Duration.ofMillis(properties.getClaimIdleMs());
+        RunChange change = change("r1");
+        when(changeStream.pendingCount(GROUP)).thenReturn(3L);
+        when(changeStream.pending(GROUP, 200)).thenReturn(List.of(
+                new RunChangeStream.Pending("1-0", 2, idle.plusSeconds(1)),
+                new RunChangeStream.Pending("2-0", 10, idle.plusSeconds(1)),
+                new RunChangeStream.Pending("3-0", 1, Duration.ofSeconds(1))));
+        when(changeStream.claim(GROUP, CONSUMER, idle, List.of("1-0")))
+                .thenReturn(List.of(new RunChangeStream.Entry("1-0", change)));
+        when(processor.process(change)).thenReturn(true);
+
+        consumer.poll();
+
+        verify(changeStream).ack(GROUP, List.of("2-0"));
+        verify(changeStream).ack(GROUP, List.of("1-0"));
+        assertThat(meterRegistry.counter(CHANGE_FEED_RECLAIMED).count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter(CHANGE_FEED_PROCESSED, "outcome", "dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(CHANGE_FEED_PENDING).gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void poll_failure_recreatesGroupOnNextTick() {
+        when(changeStream.readGroup(GROUP, CONSUMER, 200))
+                .thenThrow(new RuntimeException("NOGROUP"))
+                .thenReturn(List.of());
+
+        consumer.poll();
+        consumer.poll();
+        consumer.poll();
+
+        verify(changeStream, times(2)).ensureGroup(GROUP);
+    }
+
+    @Test
+    void poll_fullBatch_keepsReading() {
+        properties.setPollBatchSize(1);
+        RunChange change = change("r1");
+        when(changeStream.readGroup(GROUP, CONSUMER, 1))
+                .thenReturn(List.of(new RunChangeStream.Entry("1-0", change)))
+                .thenReturn(List.of());
+        when(processor.process(change)).thenReturn(true);
+
+        consumer.poll();
+
+        verify(changeStream, times(2)).readGroup(GROUP, CONSUMER, 1);
+        verify(changeStream).ack(eq(GROUP), eq(List.of("1-0")));
+    }
+
+    private static RunChange change(String runId) {
+        CalculatorRun run = CalculatorRun.builder()
+                .runId(runId)
+                .calculatorId("cap-id")
+                .calculatorName("cap")
+                .reportingDate(LocalDate.of(2026, 3, 6))
+                .frequency(Frequency.DAILY)
+                .status(RunStatus.SUCCESS)
+                .build();
+        return new RunChange(RunChange.COMPLETED, 1L, true, Instant.now(), run);
+    }
+}
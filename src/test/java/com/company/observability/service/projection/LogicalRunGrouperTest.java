@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -146,4 +147,64 @@ class LogicalRunGrouperTest {
 
         assertThat(result).hasSize(2);
     }
+
+    @Test
+    void interleavedSplits_aggregatesAcrossGroup_regardlessOfRowOrder() {
+        // A later split started earlier and ended later than the representative
+        RunWithSlaStatus splitA = run("run-A", "corr-1", RunStatus.CANCELLED, T1, T2, SlaBand.LATE);
+        RunWithSlaStatus standalone = run("run-Z", null, RunStatus.SUCCESS, T1, T2, null);
+        RunWithSlaStatus splitB = run("run-B", "corr-1", RunStatus.TIMEOUT, T0, T3, SlaBand.VERY_LATE);
+        RunWithSlaStatus splitC = run("run-C", "corr-1", RunStatus.SUCCESS, T1, T2, SlaBand.ON_TIME);
+
+        List<LogicalRunGrouper.LogicalRun> result =
+                LogicalRunGrouper.groupWithSla(List.of(splitA, standalone, splitB, splitC));
+
+        assertThat(result).extracting(LogicalRunGrouper.LogicalRun::runId).containsExactly("run-A", "run-Z");
+        LogicalRunGrouper.LogicalRun lr = result.get(0);
+        assertThat(lr.status()).isEqualTo("TIMEOUT");
+        assertThat(lr.startTime()).isEqualTo(T0);
+        assertThat(lr.endTime()).isEqualTo(T3);
+        assertThat(lr.wallClockDurationMs()).isEqualTo(T3.toEpochMilli() - T0.toEpochMilli());
+        assertThat(lr.slaStatus()).isEqualTo("VERY_LATE");
+        assertThat(lr.slaBreachReason()).isEqualTo("breached; breached; breached");
+        assertThat(lr.subRunIds()).containsExactly("run-A", "run-B", "run-C");
+    }
+
+    @Test
+    void runningSplitWithBand_countsAsOnTime_butStillBreaches() {
+        RunWithSlaStatus done = run("run-A", "corr-1", RunStatus.SUCCESS, T0, T1, null);
+        RunWithSlaStatus running = run("run-B", "corr-1", RunStatus.RUNNING, T1, null, SlaBand.LATE);
+
+        LogicalRunGrouper.LogicalRun lr = LogicalRunGrouper.groupWithSla(List.of(done, running)).get(0);
+
+        assertThat(lr.slaStatus()).isEqualTo("ON_TIME");
+        assertThat(lr.slaBreached()).isTrue();
+        assertThat(lr.slaBreachReason()).isEqualTo("breached");
+    }
+
+    @Test
+    void contiguous_matchesGroupWithSla_forGroupOrderedInput() {
+        RunWithSlaStatus splitA = run("run-A", "corr-1", RunStatus.SUCCESS, T0, T1, null);
+        RunWithSlaStatus splitB = run("run-B", "corr-1", RunStatus.FAILED, T1, T2, SlaBand.LATE);
+        RunWithSlaStatus standalone = run("run-Z", null, RunStatus.SUCCESS, T1, T3, null);
+        RunWithSlaStatus running = run("run-R", "corr-2", RunStatus.RUNNING, T2, null, null);
+
+        // streamRunsWithSlaStatus order: groups contiguous, in order of first split
+        List<RunWithSlaStatus> rows = List.of(splitA, splitB, standalone, running);
+
+        List<LogicalRunGrouper.LogicalRun> streamed = new ArrayList<>();
+        LogicalRunGrouper.ContiguousGrouper grouper = LogicalRunGrouper.contiguous(streamed::add);
+        rows.forEach(grouper);
+        grouper.finish();
+
+        assertThat(streamed).isEqualTo(LogicalRunGrouper.groupWithSla(rows));
+    }
+
+    @Test
+    void contiguous_finishWithoutRows_emitsNothing() {
+        List<LogicalRunGrouper.LogicalRun> streamed = new ArrayList<>();
+        LogicalRunGrouper.contiguous(streamed::add).finish();
+
+        assertThat(streamed).isEmpty();
+    }
 }
@@ -0,0 +1,66 @@
+package com.company.observability.service.projection;
+
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.domain.enums.SlaBand;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SplitAggregateTest {
+
+    private static final Instant T0 = Instant.parse("2026-05-05T04:00:00Z");
+    private static final Instant T1 = Instant.parse("2026-05-05T04:10:00Z");
+    private static final Instant T2 = Instant.parse("2026-05-05T04:20:00Z");
+
+    @Test
+    void empty_defaultsToSuccessWithNoBand() {
+        SplitAggregate aggregate = new SplitAggregate();
+
+        assertThat(aggregate.size()).isZero();
+        assertThat(aggregate.worstStatus()).isEqualTo(RunStatus.SUCCESS);
+        assertThat(aggregate.worstBand()).isNull();
+        assertThat(aggregate.anyBreached()).isFalse();
+        assertThat(aggregate.breachReason()).isNull();
+    }
+
+    @Test
+    void statusPrecedence_worstWins() {
+        assertThat(worstOf(RunStatus.SUCCESS, RunStatus.CANCELLED)).isEqualTo(RunStatus.CANCELLED);
+        assertThat(worstOf(RunStatus.CANCELLED, RunStatus.TIMEOUT)).isEqualTo(RunStatus.TIMEOUT);
+        assertThat(worstOf(RunStatus.TIMEOUT, RunStatus.FAILED)).isEqualTo(RunStatus.FAILED);
+        assertThat(worstOf(RunStatus.FAILED, RunStatus.RUNNING)).isEqualTo(RunStatus.RUNNING);
+    }
+
+    @Test
+    void minStartMaxEnd_ignoreNulls() {
+        SplitAggregate aggregate = new SplitAggregate();
+        aggregate.add(RunStatus.SUCCESS, T1, T1, null, null);
+        aggregate.add(RunStatus.SUCCESS, T0, null, null, null);
+        aggregate.add(RunStatus.SUCCESS, null, T2, null, null);
+
+        assertThat(aggregate.minStart()).isEqualTo(T0);
+        assertThat(aggregate.maxEnd()).isEqualTo(T2);
+    }
+
+    @Test
+    void bands_runningSplitCountsForBreachButNotSettledBand() {
+        SplitAggregate aggregate = new SplitAggregate();
+        aggregate.add(RunStatus.SUCCESS, T0, T1, SlaBand.LATE, "late");
+        aggregate.add(RunStatus.RUNNING, T0, null, SlaBand.VERY_LATE, " ");
+        aggregate.add(RunStatus.SUCCESS, T0, T1, null, "ungraded");
+
+        assertThat(aggregate.worstBand()).isEqualTo(SlaBand.VERY_LATE);
+        assertThat(aggregate.worstSettledBand()).isEqualTo(SlaBand.LATE);
+        assertThat(aggregate.anyBreached()).isTrue();
+        assertThat(aggregate.breachReason()).isEqualTo("late; ungraded");
+    }
+
+    private RunStatus worstOf(RunStatus a, RunStatus b) {
+        SplitAggregate aggregate = new SplitAggregate();
+        aggregate.add(a, null, null, null, null);
+        aggregate.add(b, null, null, null, null);
+        return aggregate.worstStatus();
+    }
+}
@@ -0,0 +1,293 @@
+package com.company.observability.service.streaming;
+
+import com.company.observability.config.CalculatorProperties;
+import com.company.observability.config.StreamingProperties;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.CalculatorEntry;
+import com.company.observability.dto.response.CalculatorBatchRunsResponse.RunEntry;
+import com.company.observability.exception.ServiceOverloadedException;
+import com.company.observability.service.BatchRunsService;
+import com.company.observability.service.CalculatorNameResolver;
+import com.company.observability.service.streaming.RunUpdateBroadcaster.RunStreamEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RunUpdateBroadcasterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 5, 1);
+
+    private StreamingProperties properties;
+    private CalculatorProperties calculatorProperties;
+    private List<RecordingEmitter> emitters;
+    private BatchRunsService batchRunsService;
+    private List<Runnable> pendingSends;
+    private boolean deferSends;
+    private RunUpdateBroadcaster broadcaster;
+
+    /** Captures what would be written to the socket. */
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> frames = new ArrayList<>();
+        boolean failOnSend;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failOnSend) {
+                throw new IOException("broken pipe");
+            }
+            StringBuilder frame = new StringBuilder();
+            for (DataWithMediaType part : builder.build()) {
+                frame.append(part.getData() instanceof String str ? str : "<" + part.getData() + ">");
+            }
+            frames.add(frame.toString());
+        }
+
+        boolean sawEvent(String name) {
+            return frames.stream().anyMatch(f -> f.contains("event:" + name + "\n"));
+        }
+
+        long runEvents() {
+            return frames.stream().filter(f -> f.contains("event:run\n")).count();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties = new StreamingProperties();
+        properties.setReplayBufferSize(3);
+        calculatorProperties = new CalculatorProperties();
+        calculatorProperties.getAliases().put("capital", List.of("capital-emea", "capital-apac"));
+        emitters = new ArrayList<>();
+        batchRunsService = mock(BatchRunsService.class);
+        when(batchRunsService.getEntries(any(), any(), any(), any(), isNull())).thenAnswer(inv -> {
+            Map<String, List<String>> keys = inv.getArgument(0);
+            String key = keys.keySet().iterator().next();
+            RunEntry run = RunEntry.builder().calculatorName(key).runId("collapsed").status("RUNNING").build();
+            return Map.of(key, new CalculatorEntry(key, null, List.of(run)));
+        });
+        pendingSends = new ArrayList<>();
+        Executor executor = task -> {
+            if (deferSends) {
+                pendingSends.add(task);
+            } else {
+                task.run();
+            }
+        };
+        broadcaster = new RunUpdateBroadcaster(properties, new CalculatorNameResolver(calculatorProperties),
+                batchRunsService, new SimpleMeterRegistry(), executor) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    void freshSubscription_receivesReadyEvent() {
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+
+        assertThat(emitters.get(0).sawEvent("ready")).isTrue();
+    }
+
+    @Test
+    void onUpdate_deliveredOnlyToMatchingSubscriptions() {
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+        broadcaster.subscribe(List.of("calc-b"), DATE, Frequency.DAILY, null, null);
+        broadcaster.subscribe(List.of("calc-a"), DATE.plusDays(1), Frequency.DAILY, null, null);
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, "2", null);
+
+        broadcaster.onUpdate(update(1, "calc-a", "1"));
+
+        assertThat(emitters.get(0).runEvents()).isEqualTo(1);
+        assertThat(emitters.get(1).runEvents()).isZero();
+        assertThat(emitters.get(2).runEvents()).isZero();
+        assertThat(emitters.get(3).runEvents()).isZero();
+    }
+
+    @Test
+    void onUpdate_aliasSubscription_receivesUpdateForMemberCalculator() {
+        broadcaster.subscribe(List.of("capital"), DATE, Frequency.DAILY, null, null);
+
+        broadcaster.onUpdate(update(1, "capital-apac", null));
+
+        assertThat(emitters.get(0).runEvents()).isEqualTo(1);
+        assertThat(emitters.get(0).frames).anyMatch(f -> f.contains("id:1\n"));
+    }
+
+    @Test
+    void onUpdate_pushesCollapsedEntryForSubscribedKey() {
+        broadcaster.subscribe(List.of("capital"), DATE, Frequency.DAILY, null, null);
+
+        broadcaster.onUpdate(update(1, "capital-apac", null));
+
+        // The alias is recomputed as a whole, as /batch/runs would serve it
+        verify(batchRunsService).getEntries(eq(Map.of("capital", List.of("capital-emea", "capital-apac"))),
+                eq(DATE), eq(Frequency.DAILY), isNull(), isNull());
+        assertThat(emitters.get(0).frames).anyMatch(f -> f.contains("calculator=CalculatorEntry[calculatorName=capital")
+                && f.contains("runId=collapsed"));
+    }
+
+    @Test
+    void onUpdate_entryRecomputedOncePerViewAndShared() {
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, "1", null);
+
+        broadcaster.onUpdate(update(1, "calc-a", "1"));
+
+        verify(batchRunsService).getEntries(any(), any(), any(), isNull(), isNull());
+        verify(batchRunsService).getEntries(any(), any(), any(), eq("1"), isNull());
+        assertThat(emitters).allMatch(e -> e.runEvents() == 1);
+    }
+
+    @Test
+    void onUpdate_entryUnavailable_sendsResync() {
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+        doThrow(new IllegalStateException("db down"))
+                .when(batchRunsService).getEntries(any(), any(), any(), any(), isNull());
+
+        broadcaster.onUpdate(update(1, "calc-a", null));
+
+        assertThat(emitters.get(0).sawEvent("resync")).isTrue();
+        assertThat(emitters.get(0).runEvents()).isZero();
+        assertThat(broadcaster.activeSubscriptions()).isEqualTo(1);
+    }
+
+    @Test
+    void onUpdate_handsSendsOffWithoutWriting() {
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+        deferSends = true;
+
+        broadcaster.onUpdate(update(1, "calc-a", null));
+        broadcaster.onUpdate(update(2, "calc-a", null));
+
+        // Nothing written on the listener thread, and one drain task per subscription
+        assertThat(emitters.get(0).runEvents()).isZero();
+        assertThat(pendingSends).hasSize(1);
+
+        pendingSends.remove(0).run();
+
+        assertThat(emitters.get(0).runEvents()).isEqualTo(2);
+    }
+
+    @Test
+    void slowSubscriber_overflowingOutbox_isDroppedWithoutAffectingOthers() {
+        properties.setSendQueueCapacity(3);
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+        deferSends = true;
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+
+        for (int seq = 1; seq <= 3; seq++) {
+            broadcaster.onUpdate(update(seq, "calc-a", null));
+        }
+
+        // Neither is drained; the second also holds its ready frame, so the third update overflows it only
+        assertThat(broadcaster.activeSubscriptions()).isEqualTo(1);
+        pendingSends.forEach(Runnable::run);
+        assertThat(emitters.get(0).runEvents()).isEqualTo(3);
+        assertThat(emitters.get(1).runEvents()).isZero();
+    }
+
+    @Test
+    void resume_replaysOnlyUpdatesAfterLastEventId() {
+        broadcaster.onUpdate(update(1, "calc-a", null));
+        broadcaster.onUpdate(update(2, "calc-a", null));
+        broadcaster.onUpdate(update(3, "calc-a", null));
+
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, 1L);
+
+        // 2 and 3 touch the same calculator: one event, carrying its current entry
+        RecordingEmitter emitter = emitters.get(0);
+        assertThat(emitter.runEvents()).isEqualTo(1);
+        assertThat(emitter.frames).anyMatch(f -> f.contains("id:3\n"));
+        assertThat(emitter.sawEvent("resync")).isFalse();
+    }
+
+    @Test
+    void resume_tokenOlderThanBuffer_sendsResync() {
+        for (int seq = 1; seq <= 5; seq++) {
+            broadcaster.onUpdate(update(seq, "calc-a", null));
+        }
+
+        // Buffer holds 3..5; the client last saw 1 → update 2 is gone
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, 1L);
+
+        RecordingEmitter emitter = emitters.get(0);
+        assertThat(emitter.sawEvent("resync")).isTrue();
+        assertThat(emitter.runEvents()).isZero();
+    }
+
+    @Test
+    void resume_emptyBuffer_sendsResync() {
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, 7L);
+
+        assertThat(emitters.get(0).sawEvent("resync")).isTrue();
+    }
+
+    @Test
+    void localOnlyUpdate_deliveredWithoutIdAndNotBuffered() {
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+
+        broadcaster.onUpdate(update(0, "calc-a", null));
+
+        assertThat(emitters.get(0).runEvents()).isEqualTo(1);
+        assertThat(emitters.get(0).frames).noneMatch(f -> f.contains("id:"));
+        assertThat(broadcaster.latestSequence()).isZero();
+    }
+
+    @Test
+    void brokenConnection_droppedOnNextSend() {
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+        emitters.get(0).failOnSend = true;
+
+        broadcaster.onUpdate(update(1, "calc-a", null));
+
+        assertThat(broadcaster.activeSubscriptions()).isZero();
+    }
+
+    @Test
+    void heartbeat_sentToEverySubscription() {
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+        broadcaster.subscribe(List.of("calc-b"), DATE, Frequency.DAILY, null, null);
+
+        broadcaster.heartbeat();
+
+        assertThat(emitters).allMatch(e -> e.frames.stream().anyMatch(f -> f.contains(":heartbeat")));
+    }
+
+    @Test
+    void subscribe_overLimit_rejectedAsOverloaded() {
+        properties.setMaxSubscriptions(1);
+        broadcaster.subscribe(List.of("calc-a"), DATE, Frequency.DAILY, null, null);
+
+        assertThatThrownBy(() -> broadcaster.subscribe(List.of("calc-b"), DATE, Frequency.DAILY, null, null))
+                .isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    private RunUpdate update(long sequence, String calculatorName, String runNumber) {
+        return new RunUpdate(sequence, RunUpdate.STARTED, calculatorName, DATE, "DAILY", runNumber,
+                null, Instant.parse("2026-05-01T04:00:00Z"), "run-" + sequence);
+    }
+}
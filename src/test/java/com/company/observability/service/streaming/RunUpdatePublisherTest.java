@@ -0,0 +1,80 @@
+package com.company.observability.service.streaming;
+
+import com.company.observability.domain.CalculatorRun;
+import com.company.observability.domain.enums.Frequency;
+import com.company.observability.domain.enums.RunStatus;
+import com.company.observability.event.RunStartedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunUpdatePublisherTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOps;
+    @Mock private RunUpdateBroadcaster broadcaster;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private RunUpdatePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new RunUpdatePublisher(redisTemplate, objectMapper, broadcaster, new SimpleMeterRegistry());
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+    }
+
+    @Test
+    void onRunStarted_publishesSequencedUpdateOnChannel() throws Exception {
+        when(valueOps.increment(RunUpdatePublisher.SEQUENCE_KEY)).thenReturn(42L);
+
+        publisher.onRunStarted(new RunStartedEvent(run()));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RunUpdatePublisher.CHANNEL), payload.capture());
+        RunUpdate update = objectMapper.readValue(payload.getValue(), RunUpdate.class);
+        assertThat(update.sequence()).isEqualTo(42L);
+        assertThat(update.type()).isEqualTo(RunUpdate.STARTED);
+        assertThat(update.calculatorName()).isEqualTo("calc-a");
+        assertThat(update.runId()).isEqualTo("run-1");
+        verifyNoInteractions(broadcaster);
+    }
+
+    @Test
+    void redisUnavailable_deliversLocallyWithoutSequence() {
+        when(valueOps.increment(anyString())).thenThrow(new RuntimeException("redis down"));
+
+        publisher.onRunStarted(new RunStartedEvent(run()));
+
+        ArgumentCaptor<RunUpdate> update = ArgumentCaptor.forClass(RunUpdate.class);
+        verify(broadcaster).onUpdate(update.capture());
+        assertThat(update.getValue().sequence()).isZero();
+    }
+
+    private CalculatorRun run() {
+        return CalculatorRun.builder()
+                .runId("run-1")
+                .calculatorId("id-a")
+                .calculatorName("calc-a")
+                .frequency(Frequency.DAILY)
+                .reportingDate(LocalDate.of(2026, 5, 1))
+                .startTime(Instant.parse("2026-05-01T04:00:00Z"))
+                .status(RunStatus.RUNNING)
+                .build();
+    }
+}
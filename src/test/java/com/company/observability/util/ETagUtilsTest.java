@@ -0,0 +1,50 @@
+package com.company.observability.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static com.company.observability.util.ObservabilityConstants.API_CONDITIONAL_REQUESTS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagUtilsTest {
+
+    @Test
+    void versionETag_isWeakAndStableForSameInputs() {
+        String a = ETagUtils.versionETag("v1", "calc", 30);
+        String b = ETagUtils.versionETag("v1", "calc", 30);
+
+        assertThat(a).startsWith("W/\"").endsWith("\"").isEqualTo(b);
+        assertThat(ETagUtils.versionETag("v2", "calc", 30)).isNotEqualTo(a);
+        assertThat(ETagUtils.versionETag("v1", "calc", 7)).isNotEqualTo(a);
+    }
+
+    @Test
+    void versionETag_nullVersion_returnsNull() {
+        assertThat(ETagUtils.versionETag(null, "calc")).isNull();
+    }
+
+    @Test
+    void matches_handlesListsWildcardAndWeakPrefix() {
+        assertThat(ETagUtils.matches("\"x\", \"abc\"", "\"abc\"")).isTrue();
+        assertThat(ETagUtils.matches("W/\"abc\"", "\"abc\"")).isTrue();
+        assertThat(ETagUtils.matches("*", "\"abc\"")).isTrue();
+        assertThat(ETagUtils.matches("\"abd\"", "\"abc\"")).isFalse();
+    }
+
+    @Test
+    void isNotModified_recordsOutcome() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        assertThat(ETagUtils.isNotModified("\"abc\"", "\"abc\"", registry, "/e")).isTrue();
+        assertThat(ETagUtils.isNotModified("\"old\"", "\"abc\"", registry, "/e")).isFalse();
+        assertThat(ETagUtils.isNotModified(null, "\"abc\"", registry, "/e")).isFalse();
+        assertThat(ETagUtils.isNotModified("\"abc\"", null, registry, "/e")).isFalse();
+
+        assertThat(registry.counter(API_CONDITIONAL_REQUESTS, "endpoint", "/e", "result", "not_modified").count())
+                .isEqualTo(1.0);
+        assertThat(registry.counter(API_CONDITIONAL_REQUESTS, "endpoint", "/e", "result", "modified").count())
+                .isEqualTo(2.0);
+        assertThat(registry.counter(API_CONDITIONAL_REQUESTS, "endpoint", "/e", "result", "unconditional").count())
+                .isEqualTo(1.0);
+    }
+}
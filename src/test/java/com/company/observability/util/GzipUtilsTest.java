@@ -0,0 +1,72 @@
+package com.company.observability.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GzipUtilsTest {
+
+    private static final byte[] PAYLOAD = "{\"runs\":[{\"runId\":\"run-1\"}]}".repeat(50)
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void gzip_roundTripsAndIsRecognised() {
+        byte[] gzipped = GzipUtils.gzip(PAYLOAD);
+
+        assertThat(GzipUtils.isGzip(gzipped)).isTrue();
+        assertThat(GzipUtils.isGzip(PAYLOAD)).isFalse();
+        assertThat(gzipped.length).isLessThan(PAYLOAD.length);
+        assertThat(GzipUtils.gunzip(gzipped)).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    void acceptsGzip_honoursCodingsAndQuality() {
+        assertThat(GzipUtils.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(GzipUtils.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(GzipUtils.acceptsGzip("*")).isTrue();
+        assertThat(GzipUtils.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(GzipUtils.acceptsGzip("br, identity")).isFalse();
+        assertThat(GzipUtils.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void teeOutputStream_passesBytesThroughAndKeepsCompressedCopy() throws Exception {
+        ByteArrayOutputStream delegate = new ByteArrayOutputStream();
+        GzipTeeOutputStream tee = new GzipTeeOutputStream(delegate, 1024 * 1024);
+
+        tee.write(PAYLOAD, 0, 10);
+        tee.write(PAYLOAD[10]);
+        tee.write(PAYLOAD, 11, PAYLOAD.length - 11);
+
+        assertThat(delegate.toByteArray()).isEqualTo(PAYLOAD);
+        assertThat(GzipUtils.gunzip(tee.finishCopy())).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    void teeOutputStream_overLimit_dropsCopyButKeepsWriting() throws Exception {
+        ByteArrayOutputStream delegate = new ByteArrayOutputStream();
+        GzipTeeOutputStream tee = new GzipTeeOutputStream(delegate, 16);
+
+        tee.write(PAYLOAD);
+        tee.write(PAYLOAD);
+
+        assertThat(delegate.size()).isEqualTo(PAYLOAD.length * 2);
+        assertThat(tee.finishCopy()).isNull();
+    }
+
+    @Test
+    void teeOutputStream_closedBeforeFinish_discardsCopyAndKeepsDelegateOpen() throws Exception {
+        ByteArrayOutputStream delegate = new ByteArrayOutputStream();
+        GzipTeeOutputStream tee = new GzipTeeOutputStream(delegate, 1024 * 1024);
+
+        tee.write(PAYLOAD);
+        tee.close();
+        tee.write(PAYLOAD);
+
+        assertThat(delegate.size()).isEqualTo(PAYLOAD.length * 2);
+        assertThat(tee.finishCopy()).isNull();
+    }
+}
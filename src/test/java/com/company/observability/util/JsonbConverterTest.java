@@ -0,0 +1,65 @@
+package com.company.observability.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PGobject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonbConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonbConverter converter = new JsonbConverter(objectMapper);
+
+    @Test
+    void lazyFromJsonb_nullAndBlankDocuments_mapToNull() throws Exception {
+        PGobject blank = new PGobject();
+        blank.setType("jsonb");
+        blank.setValue(" ");
+
+        assertThat(converter.lazyFromJsonb(null)).isNull();
+        assertThat(converter.lazyFromJsonb(blank)).isNull();
+    }
+
+    @Test
+    void lazyFromJsonb_behavesAsDecodedMap() throws Exception {
+        Map<String, Object> lazy = converter.lazyFromJsonb("{\"region\":\"WMAP\",\"retries\":2}");
+        Map<String, Object> eager = converter.fromJsonb("{\"region\":\"WMAP\",\"retries\":2}");
+
+        assertThat(lazy).isEqualTo(eager).hasSameHashCodeAs(eager);
+        lazy.put("extra", true);
+        assertThat(lazy).containsEntry("extra", true).hasSize(3);
+        assertThat(objectMapper.writeValueAsString(converter.lazyFromJsonb("{\"a\":[1,2]}")))
+                .isEqualTo("{\"a\":[1,2]}");
+    }
+
+    @Test
+    void lazyFromJsonb_javaSerializesAsPlainMap() throws Exception {
+        Map<String, Object> lazy = converter.lazyFromJsonb("{\"region\":\"WMAP\"}");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(lazy);
+        }
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = in.readObject();
+        }
+
+        assertThat(copy).isNotInstanceOf(LazyJsonbMap.class).isEqualTo(Map.of("region", "WMAP"));
+    }
+
+    @Test
+    void lazyFromJsonb_malformedDocument_failsOnFirstAccess() {
+        Map<String, Object> lazy = converter.lazyFromJsonb("{not json");
+
+        assertThatThrownBy(lazy::size).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,19 @@
+package com.company.observability.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireFormatTest {
+
+    @Test
+    void negotiate_prefersCborOnlyWhenRequestedExplicitly() {
+        assertThat(WireFormat.negotiate("application/cbor")).isEqualTo(WireFormat.CBOR);
+        assertThat(WireFormat.negotiate("application/cbor, application/json;q=0.9")).isEqualTo(WireFormat.CBOR);
+        assertThat(WireFormat.negotiate("application/json, application/cbor;q=0.5")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("application/cbor;q=0")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("*/*")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate(null)).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("not a media type;;")).isEqualTo(WireFormat.JSON);
+    }
+}